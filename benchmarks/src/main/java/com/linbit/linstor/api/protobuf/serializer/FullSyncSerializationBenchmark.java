@@ -0,0 +1,200 @@
+package com.linbit.linstor.api.protobuf.serializer;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.CtrlSecurityObjects;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.Snapshot;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.SyntheticCluster;
+import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of the full sync messages that the controller sends to all satellites after a restart
+ *
+ * The synthetic cluster has <code>nodeCount</code> nodes with one network interface and one LVM storage pool each,
+ * and <code>rscDfnCount</code> resource definitions with {@link #VLM_COUNT} volumes and {@link #REPLICA_COUNT}
+ * resources on consecutive nodes. The full sync data of every satellite is collected like the
+ * CtrlFullSyncApiCallHandler collects it, which is not part of the measurement.
+ *
+ * The benchmarks serialize the full sync messages of all satellites
+ * <ul>
+ * <li>with a new serializer, so that only the resource definitions and nodes that are shared by the messages of
+ * one round of full syncs are serialized once, as after a controller restart</li>
+ * <li>with the same serializer, whose cached resource definitions and nodes are still valid</li>
+ * <li>with the same serializer after a property of one resource definition was changed</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FullSyncSerializationBenchmark
+{
+    private static final int VLM_COUNT = 2;
+    private static final int REPLICA_COUNT = 3;
+    private static final long VLM_SIZE_KIB = 10L * 1024L * 1024L;
+    private static final long TOTAL_CAPACITY_KIB = 1024L * 1024L * 1024L;
+    private static final int FIRST_TCP_PORT = 7000;
+    private static final String CHANGED_PROP_KEY = ApiConsts.NAMESPC_AUXILIARY + "/benchmark";
+
+    @Param({"10", "100"})
+    public int nodeCount;
+
+    @Param({"100", "1000"})
+    public int rscDfnCount;
+
+    private SyntheticCluster cluster;
+    private AccessContext sysCtx;
+    private CtrlSecurityObjects secObjs;
+    private Props stltConf;
+    private ProtoCtrlStltSerializer serializer;
+
+    private List<SatelliteData> satellites;
+    private List<ResourceDefinition> rscDfns;
+    private int changeIdx;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster();
+        sysCtx = cluster.getSystemContext();
+
+        List<Node> nodes = new ArrayList<>();
+        List<StorPool> storPools = new ArrayList<>();
+        for (int nodeIdx = 0; nodeIdx < nodeCount; ++nodeIdx)
+        {
+            Node node = cluster.createNode("node-" + nodeIdx, Collections.emptyMap());
+            cluster.createNetInterface(node, "default", "10.0." + (nodeIdx / 250) + "." + (nodeIdx % 250 + 1));
+            nodes.add(node);
+            storPools.add(
+                cluster.createStorPool(node, "lvm-pool", DeviceProviderKind.LVM, TOTAL_CAPACITY_KIB, TOTAL_CAPACITY_KIB)
+            );
+        }
+
+        rscDfns = new ArrayList<>();
+        for (int rscIdx = 0; rscIdx < rscDfnCount; ++rscIdx)
+        {
+            ResourceDefinition rscDfn = cluster.createResourceDefinition(
+                "rsc-" + rscIdx,
+                FIRST_TCP_PORT + rscIdx,
+                VLM_COUNT,
+                VLM_SIZE_KIB
+            );
+            for (int replicaIdx = 0; replicaIdx < REPLICA_COUNT; ++replicaIdx)
+            {
+                int nodeIdx = (rscIdx + replicaIdx) % nodeCount;
+                cluster.createResource(rscDfn, nodes.get(nodeIdx), replicaIdx, storPools.get(nodeIdx));
+            }
+            rscDfns.add(rscDfn);
+        }
+
+        secObjs = new CtrlSecurityObjects();
+        stltConf = cluster.getPropsContainerFactory().getInstance("STLTCFG");
+        cluster.commit();
+
+        satellites = new ArrayList<>();
+        for (Node node : nodes)
+        {
+            satellites.add(new SatelliteData(node));
+        }
+
+        serializer = createSerializer();
+        // fill the caches of the serializer, as the first round of full syncs does
+        fullSyncColdCaches();
+    }
+
+    @Benchmark
+    public long fullSyncColdCaches()
+    {
+        return fullSyncAll(createSerializer());
+    }
+
+    @Benchmark
+    public long fullSyncWarmCaches()
+    {
+        return fullSyncAll(serializer);
+    }
+
+    @Benchmark
+    public long fullSyncAfterRscDfnChange() throws Exception
+    {
+        changeIdx = (changeIdx + 1) % rscDfns.size();
+        rscDfns.get(changeIdx).getProps(sysCtx).setProp(CHANGED_PROP_KEY, Integer.toString(changeIdx));
+        cluster.commit();
+
+        return fullSyncAll(serializer);
+    }
+
+    private ProtoCtrlStltSerializer createSerializer()
+    {
+        return new ProtoCtrlStltSerializer(cluster.getErrorReporter(), sysCtx, secObjs, stltConf);
+    }
+
+    private long fullSyncAll(ProtoCtrlStltSerializer serializerRef)
+    {
+        long size = 0;
+        for (SatelliteData satellite : satellites)
+        {
+            size += serializerRef.headerlessBuilder()
+                .fullSync(satellite.nodes, satellite.storPools, satellite.rscs, satellite.snapshots, 1, 0)
+                .build()
+                .length;
+        }
+        return size;
+    }
+
+    private class SatelliteData
+    {
+        private final Set<Node> nodes = new LinkedHashSet<>();
+        private final Set<StorPool> storPools = new LinkedHashSet<>();
+        private final Set<Resource> rscs = new LinkedHashSet<>();
+        private final Set<Snapshot> snapshots = new LinkedHashSet<>();
+
+        SatelliteData(Node satelliteNode) throws Exception
+        {
+            nodes.add(satelliteNode);
+            for (Resource rsc : satelliteNode.streamResources(sysCtx).collect(Collectors.toList()))
+            {
+                rscs.add(rsc);
+                Iterator<Resource> otherRscIt = rsc.getDefinition().iterateResource(sysCtx);
+                while (otherRscIt.hasNext())
+                {
+                    Resource otherRsc = otherRscIt.next();
+                    if (otherRsc != rsc)
+                    {
+                        nodes.add(otherRsc.getNode());
+                    }
+                }
+            }
+            storPools.addAll(satelliteNode.streamStorPools(sysCtx).collect(Collectors.toList()));
+            snapshots.addAll(satelliteNode.getInProgressSnapshots(sysCtx));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.ExhaustedPoolException;
+import com.linbit.linstor.numberpool.BitmapPool;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation of numbers (e.g. TCP ports and DRBD minor numbers) from a {@link BitmapPool}
+ *
+ * The pool is filled with <code>fillRatio * poolSize</code> randomly chosen numbers. Every benchmark allocates
+ * a number and deallocates it again, so that the fill ratio stays constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BitmapPoolBenchmark
+{
+    // fixed seed, so that every run works on the same pool
+    private static final long SEED = 4711;
+
+    @Param({"1000", "65536", "1048576"})
+    public int poolSize;
+
+    @Param({"0.1", "0.5", "0.99"})
+    public double fillRatio;
+
+    private BitmapPool pool;
+    private Random random;
+
+    @Setup
+    public void setUp()
+    {
+        pool = new BitmapPool(poolSize);
+        random = new Random(SEED);
+        int fillCount = (int) (poolSize * fillRatio);
+        int allocated = 0;
+        while (allocated < fillCount)
+        {
+            if (pool.allocate(random.nextInt(poolSize)))
+            {
+                ++allocated;
+            }
+        }
+    }
+
+    @Benchmark
+    public int autoAllocate() throws ExhaustedPoolException
+    {
+        int nr = pool.autoAllocate(0, poolSize - 1);
+        pool.deallocate(nr);
+        return nr;
+    }
+
+    @Benchmark
+    public int autoAllocateFromOffset() throws ExhaustedPoolException
+    {
+        int nr = pool.autoAllocateFromOffset(0, poolSize - 1, random.nextInt(poolSize));
+        pool.deallocate(nr);
+        return nr;
+    }
+
+    @Benchmark
+    public boolean isAllocated()
+    {
+        return pool.isAllocated(random.nextInt(poolSize));
+    }
+}
@@ -0,0 +1,112 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.pojo.NetInterfacePojo;
+import com.linbit.linstor.api.pojo.NodePojo;
+import com.linbit.linstor.api.rest.v1.serializer.Json;
+import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.core.apis.NetInterfaceApi;
+import com.linbit.linstor.core.apis.NodeApi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of the REST node list: conversion of the API objects with {@link Json} and serialization to JSON
+ *
+ * Every one of the <code>nodeCount</code> nodes has two network interfaces and <code>propCount</code>
+ * properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark
+{
+    @Param({"10", "100", "1000"})
+    public int nodeCount;
+
+    @Param({"20"})
+    public int propCount;
+
+    private ObjectMapper objectMapper;
+    private List<NodeApi> nodeApis;
+
+    @Setup
+    public void setUp()
+    {
+        objectMapper = new ObjectMapper();
+
+        // fixed UUIDs, so that every run renders the same output
+        long uuidCtr = 0;
+        nodeApis = new ArrayList<>();
+        for (int nodeIdx = 0; nodeIdx < nodeCount; ++nodeIdx)
+        {
+            List<NetInterfaceApi> netIfs = new ArrayList<>();
+            netIfs.add(
+                new NetInterfacePojo(new UUID(0, ++uuidCtr), "default", "10.0.0." + nodeIdx % 256, 3366, "PLAIN")
+            );
+            netIfs.add(
+                new NetInterfacePojo(new UUID(0, ++uuidCtr), "data", "10.1.0." + nodeIdx % 256, null, null)
+            );
+
+            Map<String, String> props = new HashMap<>();
+            for (int propIdx = 0; propIdx < propCount; ++propIdx)
+            {
+                props.put("Aux/key-" + propIdx, "value-" + propIdx);
+            }
+
+            nodeApis.add(
+                new NodePojo(
+                    new UUID(0, ++uuidCtr),
+                    "node-" + nodeIdx,
+                    "SATELLITE",
+                    0,
+                    netIfs,
+                    netIfs.get(0),
+                    Collections.emptyList(),
+                    props,
+                    ApiConsts.ConnectionStatus.ONLINE,
+                    0L,
+                    0L,
+                    Arrays.asList("DRBD", "STORAGE"),
+                    Arrays.asList("LVM", "LVM_THIN", "DISKLESS"),
+                    Collections.emptyMap(),
+                    Collections.emptyMap()
+                )
+            );
+        }
+    }
+
+    @Benchmark
+    public String listNodes() throws JsonProcessingException
+    {
+        List<JsonGenTypes.Node> nodes = nodeApis.stream()
+            .map(Json::apiToNode)
+            .collect(Collectors.toList());
+        return objectMapper.writeValueAsString(nodes);
+    }
+}
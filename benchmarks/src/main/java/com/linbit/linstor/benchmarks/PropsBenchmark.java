@@ -0,0 +1,133 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.PriorityProps;
+import com.linbit.linstor.dbdrivers.SatellitePropDriver;
+import com.linbit.linstor.propscon.InvalidKeyException;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.propscon.PropsContainerFactory;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in {@link PropsContainer}s and {@link PriorityProps}, as done for every resource when the satellite
+ * renders its DRBD configuration
+ *
+ * Every container holds <code>propCount</code> properties in the DRBD options namespaces. The
+ * {@link PriorityProps} consist of <code>priorityLevels</code> containers (similar to the
+ * resource - resource definition - resource group - node - controller chain), where only the last one contains
+ * the looked up properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropsBenchmark
+{
+    private static final String[] NAMESPACES =
+    {
+        "DrbdOptions/Net",
+        "DrbdOptions/Disk",
+        "DrbdOptions/Resource",
+        "DrbdOptions/PeerDevice"
+    };
+
+    @Param({"10", "100", "1000"})
+    public int propCount;
+
+    @Param({"5"})
+    public int priorityLevels;
+
+    private PropsContainer props;
+    private PriorityProps prioProps;
+    private String[] keys;
+    private String[] namespaces;
+    private int idx;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        TransactionMgr transMgr = new SatelliteTransactionMgr();
+        PropsContainerFactory propsContainerFactory = new PropsContainerFactory(
+            new SatellitePropDriver(),
+            () -> transMgr
+        );
+
+        keys = new String[propCount];
+        namespaces = new String[propCount];
+        props = propsContainerFactory.getInstance("BENCHMARK");
+        for (int propIdx = 0; propIdx < propCount; ++propIdx)
+        {
+            keys[propIdx] = "key-" + propIdx;
+            namespaces[propIdx] = NAMESPACES[propIdx % NAMESPACES.length];
+            props.setProp(keys[propIdx], "value-" + propIdx, namespaces[propIdx]);
+        }
+
+        prioProps = new PriorityProps();
+        for (int level = 1; level < priorityLevels; ++level)
+        {
+            PropsContainer levelProps = propsContainerFactory.getInstance("BENCHMARK-" + level);
+            levelProps.setProp("other-key-" + level, "value", NAMESPACES[0]);
+            prioProps.addProps(levelProps, "level " + level);
+        }
+        prioProps.addProps(props, "level " + priorityLevels);
+
+        // lookups are only served from the containers' snapshots after the changes were committed
+        transMgr.commit();
+    }
+
+    private int nextIdx()
+    {
+        idx = (idx + 1) % propCount;
+        return idx;
+    }
+
+    @Benchmark
+    public String getProp() throws InvalidKeyException
+    {
+        int propIdx = nextIdx();
+        return props.getProp(keys[propIdx], namespaces[propIdx]);
+    }
+
+    @Benchmark
+    public String getPropAbsoluteKey() throws InvalidKeyException
+    {
+        int propIdx = nextIdx();
+        return props.getProp(namespaces[propIdx] + "/" + keys[propIdx]);
+    }
+
+    @Benchmark
+    public String getPropMissing() throws InvalidKeyException
+    {
+        return props.getProp("missing-key", namespaces[nextIdx()]);
+    }
+
+    @Benchmark
+    public String priorityGetProp() throws InvalidKeyException
+    {
+        int propIdx = nextIdx();
+        return prioProps.getProp(keys[propIdx], namespaces[propIdx]);
+    }
+
+    @Benchmark
+    public Map<String, String> priorityRenderRelativeMap()
+    {
+        return prioProps.renderRelativeMap(NAMESPACES[0]);
+    }
+}
@@ -0,0 +1,187 @@
+package com.linbit.linstor.core.apicallhandler.controller.autoplacer;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.strategies.MaximumFreeSpaceStrategy;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.strategies.MinimumReservedSpaceStrategy;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.strategies.MinimumResourceCountStrategy;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.core.objects.SyntheticCluster;
+import com.linbit.linstor.core.repository.SystemConfProtectionRepository;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Candidate lookup and rating of the autoplacer on synthetic clusters
+ *
+ * Every one of the <code>nodeCount</code> nodes has an LVM and a ZFS storage pool with different free capacities
+ * and is in one of <code>siteCount</code> sites (auxiliary property <code>Aux/site</code>). The placement asks for
+ * an LVM storage pool with at least {@link #PLACEMENT_SIZE_KIB} of free capacity in one site, which is looked up
+ * using the {@link StorPoolPlacementIndex} and, for comparison, by visiting every storage pool. The rating uses
+ * all strategies with the same weight, once without changes since the last rating and once after one storage
+ * pool reported a new free capacity.
+ *
+ * The connection checks of the {@link StorPoolFilter} need satellite connections and are not part of this
+ * benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutoplacerBenchmark
+{
+    private static final String SITE_KEY = ApiConsts.NAMESPC_AUXILIARY + "/site";
+    private static final long GIB_IN_KIB = 1024L * 1024L;
+    private static final long TOTAL_CAPACITY_KIB = 1024L * GIB_IN_KIB;
+    private static final long PLACEMENT_SIZE_KIB = 100L * GIB_IN_KIB;
+
+    @Param({"10", "100", "1000"})
+    public int nodeCount;
+
+    @Param({"10"})
+    public int siteCount;
+
+    private SyntheticCluster cluster;
+    private AccessContext sysCtx;
+    private StorPoolPlacementIndex placementIndex;
+    private StrategyHandler strategyHandler;
+
+    private List<StorPool> allStorPools;
+    private Map<String, String> placementSite;
+    private List<DeviceProviderKind> placementProviders;
+    private int reportIdx;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster();
+        sysCtx = cluster.getSystemContext();
+
+        allStorPools = new ArrayList<>();
+        for (int nodeIdx = 0; nodeIdx < nodeCount; ++nodeIdx)
+        {
+            Node node = cluster.createNode(
+                "node-" + nodeIdx,
+                Collections.singletonMap(SITE_KEY, "site-" + (nodeIdx % siteCount))
+            );
+            // spread the free capacities from almost empty to almost full
+            long lvmFree = (nodeIdx * 37L % 1000L + 1) * GIB_IN_KIB;
+            long zfsFree = (nodeIdx * 53L % 1000L + 1) * GIB_IN_KIB;
+            allStorPools.add(
+                cluster.createStorPool(node, "lvm-pool", DeviceProviderKind.LVM, lvmFree, TOTAL_CAPACITY_KIB)
+            );
+            allStorPools.add(
+                cluster.createStorPool(node, "zfs-pool", DeviceProviderKind.ZFS, zfsFree, TOTAL_CAPACITY_KIB)
+            );
+        }
+
+        MaximumFreeSpaceStrategy freeSpaceStrat = new MaximumFreeSpaceStrategy(sysCtx);
+        MinimumReservedSpaceStrategy reservedSpaceStrat = new MinimumReservedSpaceStrategy(sysCtx);
+        MinimumResourceCountStrategy rscCountStrat = new MinimumResourceCountStrategy(sysCtx);
+
+        PropsContainer ctrlConf = cluster.getPropsContainerFactory().getInstance("CTRLCFG");
+        PropsContainer stltConf = cluster.getPropsContainerFactory().getInstance("STLTCFG");
+        for (AutoplaceStrategy strat : new AutoplaceStrategy[] {freeSpaceStrat, reservedSpaceStrat, rscCountStrat})
+        {
+            ctrlConf.setProp(strat.getName(), "1", ApiConsts.NAMESPC_AUTOPLACER_WEIGHTS);
+        }
+        SystemConfProtectionRepository sysCfgRepo = new SystemConfProtectionRepository(ctrlConf, stltConf);
+        sysCfgRepo.setObjectProtection(cluster.getObjProt());
+
+        cluster.commit();
+
+        placementIndex = new StorPoolPlacementIndex(sysCtx, cluster.getStorPoolDfnMap());
+        strategyHandler = new StrategyHandler(
+            sysCfgRepo,
+            sysCtx,
+            freeSpaceStrat,
+            reservedSpaceStrat,
+            rscCountStrat,
+            placementIndex,
+            cluster.getErrorReporter()
+        );
+
+        placementSite = Collections.singletonMap(SITE_KEY, "site-0");
+        placementProviders = Collections.singletonList(DeviceProviderKind.LVM);
+
+        // fill the cache of the rating, as the controller does with its first placement
+        strategyHandler.rate(allStorPools);
+    }
+
+    @Benchmark
+    public List<StorPool> candidatesFromIndex()
+    {
+        return placementIndex.getCandidates(PLACEMENT_SIZE_KIB, placementProviders, null, null, placementSite);
+    }
+
+    @Benchmark
+    public List<StorPool> candidatesFromAllStorPools() throws Exception
+    {
+        List<StorPool> ret = new ArrayList<>();
+        for (StorPoolDefinition storPoolDfn : cluster.getStorPoolDfnMap().values())
+        {
+            Iterator<StorPool> storPoolIt = storPoolDfn.iterateStorPools(sysCtx);
+            while (storPoolIt.hasNext())
+            {
+                StorPool storPool = storPoolIt.next();
+                if (
+                    placementProviders.contains(storPool.getDeviceProviderKind()) &&
+                        storPool.getFreeSpaceTracker().getFreeCapacityLastUpdated(sysCtx).orElse(0L) >=
+                            PLACEMENT_SIZE_KIB &&
+                        placementSite.get(SITE_KEY).equals(storPool.getNode().getProps(sysCtx).getProp(SITE_KEY))
+                )
+                {
+                    ret.add(storPool);
+                }
+            }
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public Collection<?> rateUnchanged() throws Exception
+    {
+        return strategyHandler.rate(allStorPools);
+    }
+
+    @Benchmark
+    public Collection<?> rateAfterFreeSpaceReport() throws Exception
+    {
+        reportIdx = (reportIdx + 1) % allStorPools.size();
+        StorPool storPool = allStorPools.get(reportIdx);
+        long freeCapacity = storPool.getFreeSpaceTracker().getFreeCapacityLastUpdated(sysCtx).get();
+        storPool.getFreeSpaceTracker().setCapacityInfo(
+            sysCtx,
+            freeCapacity % TOTAL_CAPACITY_KIB + GIB_IN_KIB,
+            TOTAL_CAPACITY_KIB
+        );
+        cluster.commit();
+        placementIndex.freeSpaceUpdated(storPool);
+
+        return strategyHandler.rate(allStorPools);
+    }
+}
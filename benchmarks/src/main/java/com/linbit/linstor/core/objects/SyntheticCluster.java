@@ -0,0 +1,482 @@
+package com.linbit.linstor.core.objects;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.FreeSpaceMgrName;
+import com.linbit.linstor.core.identifier.NetInterfaceName;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceGroupName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.types.LsIpAddress;
+import com.linbit.linstor.core.types.NodeId;
+import com.linbit.linstor.dbdrivers.SatelliteCacheLayerDriver;
+import com.linbit.linstor.dbdrivers.SatelliteDrbdLayerDriver;
+import com.linbit.linstor.dbdrivers.SatelliteLuksDriver;
+import com.linbit.linstor.dbdrivers.SatelliteNiDriver;
+import com.linbit.linstor.dbdrivers.SatelliteNodeDriver;
+import com.linbit.linstor.dbdrivers.SatelliteNvmeLayerDriver;
+import com.linbit.linstor.dbdrivers.SatelliteOpenflexLayerDriver;
+import com.linbit.linstor.dbdrivers.SatellitePropDriver;
+import com.linbit.linstor.dbdrivers.SatelliteResDfnDriver;
+import com.linbit.linstor.dbdrivers.SatelliteResDriver;
+import com.linbit.linstor.dbdrivers.SatelliteResourceLayerIdDriver;
+import com.linbit.linstor.dbdrivers.SatelliteRscGrpDriver;
+import com.linbit.linstor.dbdrivers.SatelliteStorPoolDfnDriver;
+import com.linbit.linstor.dbdrivers.SatelliteStorPoolDriver;
+import com.linbit.linstor.dbdrivers.SatelliteStorageLayerDriver;
+import com.linbit.linstor.dbdrivers.SatelliteVolDfnDriver;
+import com.linbit.linstor.dbdrivers.SatelliteVolDriver;
+import com.linbit.linstor.dbdrivers.SatelliteWritecacheLayerDriver;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.logging.StdErrorReporter;
+import com.linbit.linstor.numberpool.SatelliteDynamicNumberPool;
+import com.linbit.linstor.propscon.PropsContainerFactory;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.BenchmarkSecurity;
+import com.linbit.linstor.security.ObjectProtection;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscDfnData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdVlmData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdVlmDfnData;
+import com.linbit.linstor.storage.data.provider.StorageRscData;
+import com.linbit.linstor.storage.data.provider.lvm.LvmData;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscDfnObject.TransportType;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+import com.linbit.linstor.storage.utils.LayerDataFactory;
+import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Provider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory nodes, storage pools, resource definitions and resources for benchmarks
+ *
+ * The objects are created like the controller creates them, but without a database. Changes are registered with
+ * a {@link SatelliteTransactionMgr}, which is committed by {@link #commit()}. Resources are created with a DRBD
+ * layer on top of an LVM storage layer, with the layer data that the satellite has after the resources were
+ * created.
+ */
+public class SyntheticCluster
+{
+    private final AccessContext sysCtx;
+    private final TransactionMgr transMgr;
+    private final Provider<TransactionMgr> transMgrProvider;
+    private final TransactionObjectFactory transObjFactory;
+    private final PropsContainerFactory propsContainerFactory;
+    private final ObjectProtection objProt;
+
+    private final ErrorReporter errorReporter;
+    private final LayerDataFactory layerDataFactory;
+
+    private final CoreModule.NodesMap nodesMap;
+    private final CoreModule.StorPoolDefinitionMap storPoolDfnMap;
+    private final CoreModule.ResourceDefinitionMap rscDfnMap;
+
+    private final SatelliteNodeDriver nodeDriver;
+    private final SatelliteNiDriver netIfDriver;
+    private final SatelliteStorPoolDfnDriver storPoolDfnDriver;
+    private final SatelliteStorPoolDriver storPoolDriver;
+    private final SatelliteResDfnDriver rscDfnDriver;
+    private final SatelliteVolDfnDriver vlmDfnDriver;
+    private final SatelliteResDriver rscDriver;
+    private final SatelliteVolDriver vlmDriver;
+
+    private final ResourceGroup dfltRscGrp;
+
+    private int nextRscLayerId = 0;
+    private int nextMinorNr = 1000;
+
+    public SyntheticCluster() throws Exception
+    {
+        sysCtx = BenchmarkSecurity.getSystemAccessContext();
+        transMgr = new SatelliteTransactionMgr();
+        transMgrProvider = () -> transMgr;
+        transObjFactory = new TransactionObjectFactory(transMgrProvider);
+        propsContainerFactory = new PropsContainerFactory(new SatellitePropDriver(), transMgrProvider);
+        objProt = BenchmarkSecurity.createObjectProtection(sysCtx, transObjFactory, transMgrProvider);
+
+        errorReporter = createErrorReporter();
+        // the satellite number pools only accept the TCP ports and minor numbers that are given explicitly
+        SatelliteDynamicNumberPool numberPool = new SatelliteDynamicNumberPool();
+        layerDataFactory = new LayerDataFactory(
+            new SatelliteResourceLayerIdDriver(),
+            new SatelliteLuksDriver(),
+            new SatelliteDrbdLayerDriver(),
+            new SatelliteStorageLayerDriver(),
+            new SatelliteNvmeLayerDriver(),
+            new SatelliteOpenflexLayerDriver(),
+            new SatelliteWritecacheLayerDriver(),
+            new SatelliteCacheLayerDriver(),
+            numberPool,
+            numberPool,
+            transMgrProvider,
+            transObjFactory
+        );
+
+        nodesMap = new CoreModule.NodesMapImpl(transMgrProvider);
+        storPoolDfnMap = new CoreModule.StorPoolDefinitionMapImpl(transMgrProvider);
+        rscDfnMap = new CoreModule.ResourceDefinitionMapImpl(transMgrProvider);
+
+        nodeDriver = new SatelliteNodeDriver(nodesMap);
+        netIfDriver = new SatelliteNiDriver(sysCtx);
+        storPoolDfnDriver = new SatelliteStorPoolDfnDriver(storPoolDfnMap);
+        storPoolDriver = new SatelliteStorPoolDriver(sysCtx);
+        rscDfnDriver = new SatelliteResDfnDriver(rscDfnMap);
+        vlmDfnDriver = new SatelliteVolDfnDriver();
+        rscDriver = new SatelliteResDriver(sysCtx);
+        vlmDriver = new SatelliteVolDriver();
+
+        dfltRscGrp = new ResourceGroup(
+            UUID.randomUUID(),
+            objProt,
+            new ResourceGroupName(InternalApiConsts.DEFAULT_RSC_GRP_NAME),
+            null,
+            new ArrayList<>(Arrays.asList(DeviceLayerKind.DRBD, DeviceLayerKind.STORAGE)),
+            null,
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            null,
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            null,
+            new TreeMap<>(),
+            new TreeMap<>(),
+            new SatelliteRscGrpDriver(),
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider
+        );
+    }
+
+    /**
+     * Creates an error reporter that only reports errors, for benchmarks that need one
+     */
+    public static ErrorReporter createErrorReporter() throws IOException
+    {
+        return new StdErrorReporter(
+            "benchmark",
+            Files.createTempDirectory("linstor-benchmark"),
+            false,
+            "",
+            "ERROR",
+            null,
+            () -> null
+        );
+    }
+
+    public AccessContext getSystemContext()
+    {
+        return sysCtx;
+    }
+
+    public ObjectProtection getObjProt()
+    {
+        return objProt;
+    }
+
+    public PropsContainerFactory getPropsContainerFactory()
+    {
+        return propsContainerFactory;
+    }
+
+    public CoreModule.NodesMap getNodesMap()
+    {
+        return nodesMap;
+    }
+
+    public CoreModule.StorPoolDefinitionMap getStorPoolDfnMap()
+    {
+        return storPoolDfnMap;
+    }
+
+    public CoreModule.ResourceDefinitionMap getRscDfnMap()
+    {
+        return rscDfnMap;
+    }
+
+    public ErrorReporter getErrorReporter()
+    {
+        return errorReporter;
+    }
+
+    public Node createNode(String nodeNameStr, Map<String, String> props) throws Exception
+    {
+        NodeName nodeName = new NodeName(nodeNameStr);
+        Node node = new Node(
+            UUID.randomUUID(),
+            objProt,
+            nodeName,
+            Node.Type.SATELLITE,
+            0,
+            nodeDriver,
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider
+        );
+        for (Map.Entry<String, String> prop : props.entrySet())
+        {
+            node.getProps(sysCtx).setProp(prop.getKey(), prop.getValue());
+        }
+        nodesMap.put(nodeName, node);
+        return node;
+    }
+
+    public NetInterface createNetInterface(Node node, String netIfNameStr, String address) throws Exception
+    {
+        NetInterface netIf = new NetInterface(
+            UUID.randomUUID(),
+            new NetInterfaceName(netIfNameStr),
+            node,
+            new LsIpAddress(address),
+            null,
+            null,
+            netIfDriver,
+            transObjFactory,
+            transMgrProvider
+        );
+        node.addNetInterface(sysCtx, netIf);
+        return netIf;
+    }
+
+    public StorPoolDefinition getOrCreateStorPoolDfn(String storPoolNameStr) throws Exception
+    {
+        StorPoolName storPoolName = new StorPoolName(storPoolNameStr);
+        StorPoolDefinition storPoolDfn = storPoolDfnMap.get(storPoolName);
+        if (storPoolDfn == null)
+        {
+            storPoolDfn = new StorPoolDefinition(
+                UUID.randomUUID(),
+                objProt,
+                storPoolName,
+                storPoolDfnDriver,
+                propsContainerFactory,
+                transObjFactory,
+                transMgrProvider,
+                new TreeMap<>()
+            );
+            storPoolDfnMap.put(storPoolName, storPoolDfn);
+        }
+        return storPoolDfn;
+    }
+
+    /**
+     * Creates a storage pool with its own free space manager, which reports the given capacities
+     */
+    public StorPool createStorPool(
+        Node node,
+        String storPoolNameStr,
+        DeviceProviderKind providerKind,
+        long freeCapacity,
+        long totalCapacity
+    )
+        throws Exception
+    {
+        StorPoolDefinition storPoolDfn = getOrCreateStorPoolDfn(storPoolNameStr);
+        FreeSpaceMgr freeSpaceMgr = new FreeSpaceMgr(
+            sysCtx,
+            objProt,
+            new FreeSpaceMgrName(node.getName(), storPoolDfn.getName()),
+            transMgrProvider,
+            transObjFactory
+        );
+        StorPool storPool = new StorPool(
+            UUID.randomUUID(),
+            node,
+            storPoolDfn,
+            providerKind,
+            freeSpaceMgr,
+            storPoolDriver,
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider,
+            new TreeMap<>(),
+            new TreeMap<>()
+        );
+        freeSpaceMgr.add(sysCtx, storPool);
+        node.addStorPool(sysCtx, storPool);
+        storPoolDfn.addStorPool(sysCtx, storPool);
+        freeSpaceMgr.setCapacityInfo(sysCtx, freeCapacity, totalCapacity);
+        return storPool;
+    }
+
+    /**
+     * Creates a resource definition with the given number of volume definitions, which all have the given size,
+     * and with the DRBD layer data of the resource definition and its volume definitions
+     */
+    public ResourceDefinition createResourceDefinition(
+        String rscNameStr,
+        int tcpPort,
+        int vlmCount,
+        long vlmSizeKib
+    )
+        throws Exception
+    {
+        ResourceName rscName = new ResourceName(rscNameStr);
+        ResourceDefinition rscDfn = new ResourceDefinition(
+            UUID.randomUUID(),
+            objProt,
+            rscName,
+            null,
+            0,
+            new ArrayList<>(Arrays.asList(DeviceLayerKind.DRBD, DeviceLayerKind.STORAGE)),
+            rscDfnDriver,
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider,
+            new TreeMap<>(),
+            new TreeMap<>(),
+            new TreeMap<>(),
+            new TreeMap<>(),
+            dfltRscGrp
+        );
+        dfltRscGrp.addResourceDefinition(sysCtx, rscDfn);
+        rscDfnMap.put(rscName, rscDfn);
+
+        DrbdRscDfnData<Resource> drbdRscDfnData = layerDataFactory.createDrbdRscDfnData(
+            rscName,
+            null,
+            "",
+            InternalApiConsts.DEFAULT_PEER_COUNT,
+            InternalApiConsts.DEFAULT_AL_STRIPES,
+            InternalApiConsts.DEFAULT_AL_SIZE,
+            tcpPort,
+            TransportType.IP,
+            "secret-" + rscNameStr
+        );
+        rscDfn.setLayerData(sysCtx, drbdRscDfnData);
+
+        for (int vlmNr = 0; vlmNr < vlmCount; ++vlmNr)
+        {
+            VolumeDefinition vlmDfn = new VolumeDefinition(
+                UUID.randomUUID(),
+                rscDfn,
+                new VolumeNumber(vlmNr),
+                vlmSizeKib,
+                0,
+                vlmDfnDriver,
+                propsContainerFactory,
+                transObjFactory,
+                transMgrProvider,
+                new TreeMap<>(),
+                new TreeMap<>()
+            );
+            rscDfn.putVolumeDefinition(sysCtx, vlmDfn);
+            vlmDfn.setLayerData(
+                sysCtx,
+                layerDataFactory.createDrbdVlmDfnData(
+                    vlmDfn,
+                    rscName,
+                    null,
+                    "",
+                    vlmDfn.getVolumeNumber(),
+                    nextMinorNr++,
+                    drbdRscDfnData
+                )
+            );
+        }
+        return rscDfn;
+    }
+
+    /**
+     * Creates a diskful resource with a volume for every volume definition, which is stored in the given LVM
+     * storage pool
+     */
+    public Resource createResource(ResourceDefinition rscDfn, Node node, int nodeId, StorPool storPool)
+        throws Exception
+    {
+        Resource rsc = new Resource(
+            UUID.randomUUID(),
+            objProt,
+            rscDfn,
+            node,
+            0,
+            rscDriver,
+            propsContainerFactory,
+            transObjFactory,
+            transMgrProvider,
+            new TreeMap<>(),
+            new TreeMap<>()
+        );
+        node.addResource(sysCtx, rsc);
+        rscDfn.addResource(sysCtx, rsc);
+
+        DrbdRscDfnData<Resource> drbdRscDfnData = rscDfn.getLayerData(sysCtx, DeviceLayerKind.DRBD, "");
+        DrbdRscData<Resource> drbdRscData = layerDataFactory.createDrbdRscData(
+            nextRscLayerId++,
+            rsc,
+            "",
+            null,
+            drbdRscDfnData,
+            new NodeId(nodeId),
+            null,
+            null,
+            null,
+            0
+        );
+        drbdRscDfnData.getDrbdRscDataList().add(drbdRscData);
+        rsc.setLayerData(sysCtx, drbdRscData);
+
+        StorageRscData<Resource> storRscData = layerDataFactory.createStorageRscData(
+            nextRscLayerId++,
+            drbdRscData,
+            rsc,
+            ""
+        );
+        drbdRscData.getChildren().add(storRscData);
+
+        for (VolumeDefinition vlmDfn : rscDfn.streamVolumeDfn(sysCtx).toArray(VolumeDefinition[]::new))
+        {
+            Volume vlm = new Volume(
+                UUID.randomUUID(),
+                rsc,
+                vlmDfn,
+                0,
+                vlmDriver,
+                new TreeMap<>(),
+                propsContainerFactory,
+                transObjFactory,
+                transMgrProvider
+            );
+            rsc.putVolume(sysCtx, vlm);
+            vlmDfn.putVolume(sysCtx, vlm);
+            vlm.setAllocatedSize(sysCtx, vlmDfn.getVolumeSize(sysCtx));
+
+            VolumeNumber vlmNr = vlmDfn.getVolumeNumber();
+            DrbdVlmDfnData<Resource> drbdVlmDfnData = vlmDfn.getLayerData(sysCtx, DeviceLayerKind.DRBD, "");
+            DrbdVlmData<Resource> drbdVlmData = layerDataFactory.createDrbdVlmData(
+                vlm,
+                null,
+                drbdRscData,
+                drbdVlmDfnData
+            );
+            drbdRscData.putVlmLayerObject(drbdVlmData);
+
+            LvmData<Resource> lvmData = layerDataFactory.createLvmData(vlm, storRscData, storPool);
+            lvmData.setDevicePath(
+                "/dev/" + storPool.getName().displayValue + "/" + rscDfn.getName().displayValue + "_" +
+                    String.format("%05d", vlmNr.value)
+            );
+            storRscData.getVlmLayerObjects().put(vlmNr, lvmData);
+        }
+        return rsc;
+    }
+
+    public void commit() throws Exception
+    {
+        transMgr.commit();
+    }
+}
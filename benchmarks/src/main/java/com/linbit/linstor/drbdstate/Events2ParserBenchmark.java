@@ -0,0 +1,79 @@
+package com.linbit.linstor.drbdstate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of 'drbdsetup events2' lines as done by the {@link DrbdEventsMonitor}
+ *
+ * Each invocation replays the events2 log <code>events2.log</code> next to this class. The log is an events2 trace
+ * of a satellite in a three node cluster: the initial state dump, the creation and initial sync of a resource, a
+ * reconnect with resync, role changes and the removal of a resource. This benchmark is located in the drbdstate
+ * package because the parser is not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Events2ParserBenchmark
+{
+    private static final String EVENTS2_LOG = "events2.log";
+
+    private Events2Parser parser;
+    private byte[][] lines;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        parser = new Events2Parser();
+
+        List<byte[]> lineList = new ArrayList<>();
+        InputStream logStream = Events2ParserBenchmark.class.getResourceAsStream(EVENTS2_LOG);
+        if (logStream == null)
+        {
+            throw new IOException("Missing events2 log '" + EVENTS2_LOG + "'");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(logStream, StandardCharsets.UTF_8)))
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                lineList.add(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        lines = lineList.toArray(new byte[lineList.size()][]);
+    }
+
+    @Benchmark
+    public int replayLog() throws EventsSourceException
+    {
+        int propCount = 0;
+        for (byte[] line : lines)
+        {
+            if (parser.parse(line, 0, line.length))
+            {
+                propCount += parser.getProps().size();
+            }
+        }
+        return propCount;
+    }
+}
@@ -0,0 +1,46 @@
+package com.linbit.linstor.security;
+
+import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Provider;
+
+/**
+ * Security objects for benchmarks, which work on in-memory objects without a security database
+ */
+public class BenchmarkSecurity
+{
+    public static AccessContext getSystemAccessContext()
+    {
+        PrivilegeSet sysPrivs = new PrivilegeSet(Privilege.PRIV_SYS_ALL);
+
+        AccessContext sysCtx = new AccessContext(
+            Identity.SYSTEM_ID,
+            Role.SYSTEM_ROLE,
+            SecurityType.SYSTEM_TYPE,
+            sysPrivs
+        );
+        try
+        {
+            sysCtx.privEffective.enablePrivileges(Privilege.PRIV_SYS_ALL);
+        }
+        catch (AccessDeniedException iAmNotRootExc)
+        {
+            throw new RuntimeException(iAmNotRootExc);
+        }
+        return sysCtx;
+    }
+
+    public static ObjectProtection createObjectProtection(
+        AccessContext accCtx,
+        TransactionObjectFactory transObjFactory,
+        Provider<TransactionMgr> transMgrProvider
+    )
+    {
+        return new ObjectProtection(accCtx, null, null, transObjFactory, transMgrProvider);
+    }
+
+    private BenchmarkSecurity()
+    {
+    }
+}
@@ -0,0 +1,101 @@
+package com.linbit.linstor.storage.layer.adapter.drbd.utils;
+
+import com.linbit.linstor.api.prop.WhitelistProps;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.SyntheticCluster;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of the DRBD resource configuration file of one resource by the {@link ConfFileBuilder}
+ *
+ * The resource has <code>vlmCount</code> volumes and <code>peerCount</code> diskful peers, each on its own node
+ * with one network interface and one LVM storage pool. The properties of all objects are empty and no DRBD options
+ * are whitelisted, so the measurement covers building the sections of the file and looking up the objects, not
+ * the validation of DRBD options.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfFileBuilderBenchmark
+{
+    private static final long VLM_SIZE_KIB = 10L * 1024L * 1024L;
+    private static final long TOTAL_CAPACITY_KIB = 1024L * 1024L * 1024L;
+    private static final int TCP_PORT = 7000;
+
+    @Param({"1", "2", "7"})
+    public int peerCount;
+
+    @Param({"1", "8"})
+    public int vlmCount;
+
+    private ErrorReporter errorReporter;
+    private AccessContext sysCtx;
+    private WhitelistProps whitelistProps;
+
+    private DrbdRscData<Resource> localRscData;
+    private List<DrbdRscData<Resource>> peerRscData;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        SyntheticCluster cluster = new SyntheticCluster();
+        sysCtx = cluster.getSystemContext();
+        errorReporter = cluster.getErrorReporter();
+        whitelistProps = new WhitelistProps(errorReporter);
+
+        ResourceDefinition rscDfn = cluster.createResourceDefinition("rsc", TCP_PORT, vlmCount, VLM_SIZE_KIB);
+        peerRscData = new ArrayList<>();
+        for (int nodeIdx = 0; nodeIdx <= peerCount; ++nodeIdx)
+        {
+            Node node = cluster.createNode("node-" + nodeIdx, Collections.emptyMap());
+            cluster.createNetInterface(node, "default", "10.0.0." + (nodeIdx + 1));
+            Resource rsc = cluster.createResource(
+                rscDfn,
+                node,
+                nodeIdx,
+                cluster.createStorPool(node, "lvm-pool", DeviceProviderKind.LVM, TOTAL_CAPACITY_KIB, TOTAL_CAPACITY_KIB)
+            );
+            DrbdRscData<Resource> drbdRscData = (DrbdRscData<Resource>) rsc.getLayerData(sysCtx);
+            if (nodeIdx == 0)
+            {
+                localRscData = drbdRscData;
+            }
+            else
+            {
+                peerRscData.add(drbdRscData);
+            }
+        }
+        cluster.commit();
+    }
+
+    @Benchmark
+    public String build() throws Exception
+    {
+        return new ConfFileBuilder(errorReporter, sysCtx, localRscData, peerRscData, whitelistProps).build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.linbit.linstor.api.protobuf.internal;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedCache;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedFetcherProto;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.InputStream;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_UPDATE_VLM_ALLOCATED,
+    description = "Satellite reports the allocated sizes of its thin volumes"
+)
+@Singleton
+public class IntUpdateVlmAllocated implements ApiCall
+{
+    private final Provider<Peer> peerProvider;
+    private final VlmAllocatedCache vlmAllocatedCache;
+
+    @Inject
+    public IntUpdateVlmAllocated(
+        Provider<Peer> peerProviderRef,
+        VlmAllocatedCache vlmAllocatedCacheRef
+    )
+    {
+        peerProvider = peerProviderRef;
+        vlmAllocatedCache = vlmAllocatedCacheRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntVlmAllocated updateMsg = MsgIntVlmAllocated.parseDelimitedFrom(msgDataIn);
+
+        Node node = peerProvider.get().getNode();
+        if (node != null)
+        {
+            VlmAllocatedFetcherProto.parseVlmAllocated(node.getName(), updateMsg).forEach(vlmAllocatedCache::update);
+        }
+    }
+}
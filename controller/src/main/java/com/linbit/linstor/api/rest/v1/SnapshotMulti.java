@@ -0,0 +1,116 @@
+package com.linbit.linstor.api.rest.v1;
+
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.api.rest.v1.utils.ApiCallRcRestUtils;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlSnapshotCrtApiCallHandler;
+
+import javax.inject.Inject;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.glassfish.grizzly.http.server.Request;
+import reactor.core.publisher.Flux;
+
+@Path("actions/snapshot/multi")
+@Produces(MediaType.APPLICATION_JSON)
+public class SnapshotMulti
+{
+    private final ObjectMapper objectMapper;
+    private final RequestHelper requestHelper;
+    private final CtrlSnapshotCrtApiCallHandler ctrlSnapshotCrtApiCallHandler;
+
+    @Inject
+    public SnapshotMulti(
+        RequestHelper requestHelperRef,
+        CtrlSnapshotCrtApiCallHandler ctrlSnapshotCrtApiCallHandlerRef
+    )
+    {
+        requestHelper = requestHelperRef;
+        ctrlSnapshotCrtApiCallHandler = ctrlSnapshotCrtApiCallHandlerRef;
+
+        objectMapper = new ObjectMapper();
+    }
+
+    @POST
+    public void createMultiSnapshot(
+        @Context Request request,
+        @Suspended final AsyncResponse asyncResponse,
+        String jsonData
+    )
+    {
+        try
+        {
+            JsonGenTypes.CreateMultiSnapshotRequest snapData = objectMapper.readValue(
+                jsonData,
+                JsonGenTypes.CreateMultiSnapshotRequest.class
+            );
+
+            String invalidInput = null;
+            long invalidInputRetCode = ApiConsts.API_CALL_PARSE_ERROR;
+            Map<String, List<String>> nodeNamesByRsc = new LinkedHashMap<>();
+            if (snapData.name == null || snapData.name.isEmpty())
+            {
+                invalidInput = "No snapshot name given.";
+                invalidInputRetCode = ApiConsts.FAIL_INVLD_SNAPSHOT_NAME;
+            }
+            else
+            if (snapData.resources == null || snapData.resources.isEmpty())
+            {
+                // a malformed request rather than an invalid name, ApiConsts has no generic invalid-argument code
+                invalidInput = "No resources given.";
+            }
+            else
+            {
+                for (JsonGenTypes.MultiSnapshotResource snapRsc : snapData.resources)
+                {
+                    if (snapRsc.resource_name == null || snapRsc.resource_name.isEmpty())
+                    {
+                        invalidInput = "Resource without resource_name given.";
+                        invalidInputRetCode = ApiConsts.FAIL_INVLD_RSC_NAME;
+                        break;
+                    }
+                    if (nodeNamesByRsc.put(snapRsc.resource_name, snapRsc.nodes) != null)
+                    {
+                        invalidInput = "Resource '" + snapRsc.resource_name + "' given more than once.";
+                        break;
+                    }
+                }
+            }
+
+            if (invalidInput == null)
+            {
+                Flux<ApiCallRc> responses = ctrlSnapshotCrtApiCallHandler.createSnapshots(
+                        nodeNamesByRsc,
+                        snapData.name
+                    )
+                    .subscriberContext(requestHelper.createContext(ApiConsts.API_CRT_SNAPSHOT, request));
+
+                requestHelper.doFlux(
+                    asyncResponse,
+                    ApiCallRcRestUtils.mapToMonoResponse(responses, Response.Status.CREATED)
+                );
+            }
+            else
+            {
+                ApiCallRcRestUtils.handleInvalidInput(invalidInputRetCode, invalidInput, asyncResponse);
+            }
+        }
+        catch (IOException ioExc)
+        {
+            ApiCallRcRestUtils.handleJsonParseException(ioExc, asyncResponse);
+        }
+    }
+}
@@ -86,10 +86,11 @@ public class StoragePools
         @Suspended final AsyncResponse asyncResponse,
         @PathParam("nodeName") String nodeName,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
-        listStoragePools(request, asyncResponse, nodeName, null, limit, offset);
+        listStoragePools(request, asyncResponse, nodeName, null, limit, offset, fresh);
     }
 
     @GET
@@ -100,7 +101,8 @@ public class StoragePools
         @PathParam("nodeName") String nodeName,
         @PathParam("storPoolName") String storPoolName,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
         List<String> nodeNames = new ArrayList<>();
@@ -135,7 +137,7 @@ public class StoragePools
             if (nodeCheck == null)
             {
                 Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler
-                    .listStorPools(nodeNames, storPoolNames, Collections.emptyList())
+                    .listStorPools(nodeNames, storPoolNames, Collections.emptyList(), fresh)
                     .subscriberContext(requestHelper.createContext(ApiConsts.API_LST_STOR_POOL, request));
 
                 requestHelper.doFlux(
@@ -3,6 +3,7 @@ package com.linbit.linstor.api.rest.v1;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.rest.v1.serializer.Json;
 import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.api.rest.v1.utils.ApiCallRcRestUtils;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
@@ -22,11 +23,13 @@ import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.Request;
@@ -59,6 +62,13 @@ public class View
     }
 
 
+    /**
+     * Lists resources with their volumes.
+     *
+     * Paging is done while assembling the list, so only the requested page is converted and serialized.
+     * Besides limit/offset, a stable cursor can be given with the resource and node name of the last entry
+     * of the previous page, which stays correct even if resources are added or removed between two requests.
+     */
     @GET
     @Path("resources")
     public void viewResources(
@@ -69,61 +79,70 @@ public class View
         @QueryParam("storage_pools") List<String> storagePools,
         @QueryParam("props") List<String> propFilters,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @QueryParam("cursor_resource") String cursorRsc,
+        @QueryParam("cursor_node") String cursorNode
     )
     {
         List<String> nodesFilter = nodes != null ? nodes : Collections.emptyList();
         List<String> storagePoolsFilter = storagePools != null ? storagePools : Collections.emptyList();
         List<String> resourcesFilter = resources != null ? resources : Collections.emptyList();
 
-        RequestHelper.safeAsyncResponse(asyncResponse, () ->
+        if (cursorNode != null && cursorRsc == null)
         {
-            Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters)
-                .subscriberContext(requestHelper.createContext(ApiConsts.API_LST_VLM, request));
-
-            requestHelper.doFlux(
-                asyncResponse,
-                listVolumesApiCallRcWithToResponse(flux, limit, offset)
+            // ignoring the node cursor would return the first page again, so that a client could loop forever.
+            // The parameters are inconsistent rather than an invalid name, so the request is rejected as malformed
+            ApiCallRcRestUtils.handleInvalidInput(
+                ApiConsts.API_CALL_PARSE_ERROR,
+                "cursor_node can only be used together with cursor_resource.",
+                asyncResponse
             );
-        });
+        }
+        else
+        {
+            RequestHelper.safeAsyncResponse(asyncResponse, () ->
+            {
+                Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
+                    nodesFilter, storagePoolsFilter, resourcesFilter, propFilters, limit, offset, cursorRsc, cursorNode)
+                    .subscriberContext(requestHelper.createContext(ApiConsts.API_LST_VLM, request));
+
+                requestHelper.doFlux(
+                    asyncResponse,
+                    listVolumesApiCallRcWithToResponse(flux)
+                );
+            });
+        }
     }
 
     private Mono<Response> listVolumesApiCallRcWithToResponse(
-        Flux<ResourceList> resourceListFlux,
-        int limit,
-        int offset
+        Flux<ResourceList> resourceListFlux
     )
     {
         return resourceListFlux.flatMap(resourceList ->
         {
-            Response resp;
-
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
-
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
-                .map(rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true))
-                .collect(Collectors.toList());
-
-            try
+            // the list is already limited to the requested page, write it element by element
+            // instead of building the complete json string in memory
+            StreamingOutput output = outStream ->
             {
-                resp = Response
+                try (JsonGenerator jsonGen = objectMapper.getFactory().createGenerator(outStream))
+                {
+                    jsonGen.writeStartArray();
+                    for (ResourceApi rscApi : resourceList.getResources())
+                    {
+                        jsonGen.writeObject(
+                            Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true)
+                        );
+                    }
+                    jsonGen.writeEndArray();
+                }
+            };
+
+            return Mono.just(
+                Response
                     .status(Response.Status.OK)
-                    .entity(objectMapper.writeValueAsString(rscs))
-                    .build();
-            }
-            catch (JsonProcessingException exc)
-            {
-                exc.printStackTrace();
-                resp = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
-            }
-
-            return Mono.just(resp);
+                    .entity(output)
+                    .build()
+            );
         }).next();
     }
 
@@ -136,7 +155,8 @@ public class View
         @QueryParam("storage_pools") List<String> storagePools,
         @QueryParam("props") List<String> propFilters,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
         List<String> nodesFilter = nodes != null ? nodes : Collections.emptyList();
@@ -145,7 +165,7 @@ public class View
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler
-                .listStorPools(nodesFilter, storagePoolsFilter, propFilters)
+                .listStorPools(nodesFilter, storagePoolsFilter, propFilters, fresh)
                 .subscriberContext(requestHelper.createContext(ApiConsts.API_LST_STOR_POOL, request));
 
             requestHelper.doFlux(asyncResponse, storPoolListToResponse(flux, limit, offset));
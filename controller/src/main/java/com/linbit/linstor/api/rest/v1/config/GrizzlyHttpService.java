@@ -15,6 +15,8 @@ import com.linbit.linstor.core.cfg.LinstorConfig;
 import com.linbit.linstor.core.cfg.LinstorConfig.RestAccessLogMode;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.metrics.MetricsExporter;
+import com.linbit.linstor.metrics.MetricsTextWriter;
 
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Context;
@@ -26,6 +28,7 @@ import javax.ws.rs.ext.Provider;
 import java.io.IOException;
 import java.net.SocketException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -66,6 +69,7 @@ public class GrizzlyHttpService implements SystemService
     private Path restAccessLogPath;
     private RestAccessLogMode restAccessLogMode;
     private final ControllerDatabase ctrlDb;
+    private final MetricsExporter metricsExporter;
     private final Map<ServiceName, SystemService> systemServiceMap;
 
     private static final String INDEX_CONTENT = "<html><title>Linstor REST server</title>" +
@@ -90,6 +94,7 @@ public class GrizzlyHttpService implements SystemService
     {
         errorReporter = errorReporterRef;
         ctrlDb = injector.getInstance(ControllerDatabase.class);
+        metricsExporter = injector.getInstance(MetricsExporter.class);
         listenAddress = listenAddressRef;
         listenAddressSecure = listenAddressSecureRef;
         keyStoreFile = keyStoreFileRef;
@@ -129,6 +134,11 @@ public class GrizzlyHttpService implements SystemService
                             response.getWriter().write(INDEX_CONTENT);
                         }
                         else
+                        if (request.getHttpHandlerPath().equals("/metrics"))
+                        {
+                            writeMetrics(response);
+                        }
+                        else
                         if (request.getHttpHandlerPath().equals("/health"))
                         {
                             try
@@ -173,6 +183,15 @@ public class GrizzlyHttpService implements SystemService
         );
     }
 
+    private void writeMetrics(Response response) throws IOException
+    {
+        byte[] metrics = metricsExporter.export().getBytes(StandardCharsets.UTF_8);
+        response.setContentType(MetricsTextWriter.CONTENT_TYPE);
+        response.setContentLength(metrics.length);
+        response.getOutputStream().write(metrics);
+        response.setStatus(HttpStatus.OK_200);
+    }
+
     private void addHTTPSRedirectHandler(HttpServer httpServerRef, int httpsPort)
     {
         httpServerRef.getServerConfiguration().addHttpHandler(
@@ -190,6 +209,11 @@ public class GrizzlyHttpService implements SystemService
                             response.getWriter().write(INDEX_CONTENT);
                         }
                         else
+                        if (request.getHttpHandlerPath().equals("/metrics"))
+                        {
+                            writeMetrics(response);
+                        }
+                        else
                         if (request.getHttpHandlerPath().equals("/health"))
                         {
                             try
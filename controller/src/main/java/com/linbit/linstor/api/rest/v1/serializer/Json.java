@@ -659,6 +659,7 @@ public class Json
 
         volume.device_path = vlmApi.getDevicePath();
         volume.allocated_size_kib = vlmApi.getAllocatedSize().orElse(null);
+        volume.allocated_size_age_ms = vlmApi.getAllocatedSizeAge().orElse(null);
 
         volume.props = vlmApi.getVlmProps();
         volume.flags = FlagsHelper.toStringList(Volume.Flags.class, vlmApi.getFlags());
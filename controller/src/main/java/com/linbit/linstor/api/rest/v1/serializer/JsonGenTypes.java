@@ -589,6 +589,10 @@ public class JsonGenTypes
         public String provider_kind;
         public String device_path;
         public Long allocated_size_kib;
+        /**
+         * milliseconds since the satellite reported allocated_size_kib
+         */
+        public Long allocated_size_age_ms;
         public Long usable_size_kib;
         public Map<String, String> props = Collections.emptyMap();
         public List<String> flags = Collections.emptyList();
@@ -923,6 +927,26 @@ public class JsonGenTypes
         public Long size_kib;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class CreateMultiSnapshotRequest
+    {
+        /**
+         * Name of the snapshot, used for all resources
+         */
+        public String name;
+        public List<MultiSnapshotResource> resources = Collections.emptyList();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class MultiSnapshotResource
+    {
+        public String resource_name;
+        /**
+         * Nodes to take the snapshot on, all diskful resources if empty
+         */
+        public List<String> nodes = Collections.emptyList();
+    }
+
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     public static class SnapshotRestore
     {
@@ -149,6 +149,20 @@ public class ApiCallRcRestUtils
         );
     }
 
+    /**
+     * Resumes the given response with a 400 response for input that was parsed but is invalid
+     */
+    public static void handleInvalidInput(long retCode, String message, AsyncResponse asyncResponse)
+    {
+        asyncResponse.resume(
+            Response
+                .status(Response.Status.BAD_REQUEST)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(toJSON(ApiCallRcImpl.singleApiCallRc(retCode, message)))
+                .build()
+        );
+    }
+
     public static Mono<Response> mapToMonoResponse(Flux<ApiCallRc> fluxApiCalls)
     {
         return mapToMonoResponse(fluxApiCalls, Response.Status.OK);
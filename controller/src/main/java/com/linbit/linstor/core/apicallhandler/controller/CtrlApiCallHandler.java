@@ -1,5 +1,6 @@
 package com.linbit.linstor.core.apicallhandler.controller;
 
+import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.pojo.RscGrpPojo;
@@ -15,6 +16,7 @@ import com.linbit.linstor.core.apis.VolumeDefinitionWtihCreationPayload;
 import com.linbit.linstor.core.apis.VolumeGroupApi;
 import com.linbit.linstor.core.objects.ResourceConnection;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.security.AccessContext;
 import com.linbit.locks.LockGuard;
 import com.linbit.locks.LockGuardFactory;
 
@@ -28,6 +30,7 @@ import static com.linbit.locks.LockGuardFactory.LockType.READ;
 import static com.linbit.locks.LockGuardFactory.LockType.WRITE;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
@@ -64,6 +67,10 @@ public class CtrlApiCallHandler
     private final CtrlVlmGrpApiCallHandler vlmGrpApiCallHandler;
 
     private final LockGuardFactory lockGuardFactory;
+    private final Provider<AccessContext> peerAccCtx;
+
+    private final ReadSnapshot<List<ResourceDefinitionApi>> rscDfnListSnapshot = new ReadSnapshot<>();
+    private final ReadSnapshot<List<SnapshotDefinitionListItemApi>> snapshotDfnListSnapshot = new ReadSnapshot<>();
 
     @Inject
     CtrlApiCallHandler(
@@ -86,7 +93,8 @@ public class CtrlApiCallHandler
         CtrlKvsApiCallHandler kvsApiCallHandlerRef,
         CtrlRscGrpApiCallHandler rscGrpApiCallHandlerRef,
         CtrlVlmGrpApiCallHandler vlmGrpApiCallHandlerRef,
-        LockGuardFactory lockGuardFactoryRef
+        LockGuardFactory lockGuardFactoryRef,
+        @PeerContext Provider<AccessContext> peerAccCtxRef
     )
     {
         ctrlConfApiCallHandler = ctrlConfApiCallHandlerRef;
@@ -109,6 +117,7 @@ public class CtrlApiCallHandler
         rscGrpApiCallHandler = rscGrpApiCallHandlerRef;
         vlmGrpApiCallHandler = vlmGrpApiCallHandlerRef;
         lockGuardFactory = lockGuardFactoryRef;
+        peerAccCtx = peerAccCtxRef;
     }
 
     /**
@@ -280,9 +289,25 @@ public class CtrlApiCallHandler
             List<String> filterRscDfnNames, List<String> propFilters)
     {
         ArrayList<ResourceDefinitionApi> resourceDefinitionList;
-        try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+        if (filterRscDfnNames.isEmpty() && propFilters.isEmpty())
+        {
+            // only complete lists are published, filtered lists only build the api data of the matching objects
+            resourceDefinitionList = new ArrayList<>(
+                rscDfnListSnapshot.get(
+                    peerAccCtx.get(),
+                    () -> lockGuardFactory.build(READ, RSC_DFN_MAP),
+                    () -> Collections.unmodifiableList(
+                        rscDfnApiCallHandler.listResourceDefinitions(filterRscDfnNames, propFilters)
+                    )
+                )
+            );
+        }
+        else
         {
-            resourceDefinitionList = rscDfnApiCallHandler.listResourceDefinitions(filterRscDfnNames, propFilters);
+            try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+            {
+                resourceDefinitionList = rscDfnApiCallHandler.listResourceDefinitions(filterRscDfnNames, propFilters);
+            }
         }
         return resourceDefinitionList;
     }
@@ -1080,10 +1105,25 @@ public class CtrlApiCallHandler
         List<String> nodeNames, List<String> resourceNames)
     {
         ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinitions;
-        try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+        if (nodeNames.isEmpty() && resourceNames.isEmpty())
+        {
+            // only complete lists are published, filtered lists only build the api data of the matching objects
+            listSnapshotDefinitions = new ArrayList<>(
+                snapshotDfnListSnapshot.get(
+                    peerAccCtx.get(),
+                    () -> lockGuardFactory.build(READ, RSC_DFN_MAP),
+                    () -> Collections.unmodifiableList(
+                        snapshotApiCallHandler.listSnapshotDefinitions(nodeNames, resourceNames)
+                    )
+                )
+            );
+        }
+        else
         {
-            listSnapshotDefinitions = snapshotApiCallHandler.listSnapshotDefinitions(
-                nodeNames, resourceNames);
+            try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
+            {
+                listSnapshotDefinitions = snapshotApiCallHandler.listSnapshotDefinitions(nodeNames, resourceNames);
+            }
         }
         return listSnapshotDefinitions;
     }
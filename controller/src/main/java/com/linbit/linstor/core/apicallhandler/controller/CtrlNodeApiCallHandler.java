@@ -19,6 +19,7 @@ import com.linbit.linstor.core.OpenFlexTargetProcessManager;
 import com.linbit.linstor.core.PortAlreadyInUseException;
 import com.linbit.linstor.core.SatelliteConnector;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.StorPoolHelper;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
@@ -100,6 +101,7 @@ public class CtrlNodeApiCallHandler
     private final Scheduler scheduler;
     private final ScopeRunner scopeRunner;
     private final LockGuardFactory lockGuardFactory;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public CtrlNodeApiCallHandler(
@@ -121,7 +123,8 @@ public class CtrlNodeApiCallHandler
         ReconnectorTask reconnectorTaskRef,
         Scheduler schedulerRef,
         ScopeRunner scopeRunnerRef,
-        LockGuardFactory lockGuardFactoryRef
+        LockGuardFactory lockGuardFactoryRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         apiCtx = apiCtxRef;
@@ -143,6 +146,7 @@ public class CtrlNodeApiCallHandler
         scheduler = schedulerRef;
         scopeRunner = scopeRunnerRef;
         lockGuardFactory = lockGuardFactoryRef;
+        placementIndex = placementIndexRef;
     }
 
     Node createNodeImpl(
@@ -434,6 +438,8 @@ public class CtrlNodeApiCallHandler
             checkProperties(apiCallRcs, node, overrideProps);
 
             ctrlTransactionHelper.commit();
+            // the auxiliary properties of the node might have changed
+            placementIndex.invalidate();
 
             responseConverter.addWithOp(apiCallRcs, context, ApiSuccessUtils.defaultModifiedEntry(
                 node.getUuid(), getNodeDescriptionInline(node)));
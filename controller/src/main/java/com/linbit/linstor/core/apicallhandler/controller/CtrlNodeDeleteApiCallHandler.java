@@ -8,6 +8,7 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdater;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
@@ -70,6 +71,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
     private final Provider<AccessContext> peerAccCtx;
     private final LockGuardFactory lockGuardFactory;
     private final CtrlSnapshotDeleteApiCallHandler ctrlSnapshotDeleteApiCallHandler;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public CtrlNodeDeleteApiCallHandler(
@@ -83,7 +85,8 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
         ResponseConverter responseConverterRef,
         LockGuardFactory lockGuardFactoryRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
-        CtrlSnapshotDeleteApiCallHandler ctrlSnapshotDeleteApiCallHandlerRef
+        CtrlSnapshotDeleteApiCallHandler ctrlSnapshotDeleteApiCallHandlerRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         apiCtx = apiCtxRef;
@@ -97,6 +100,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
         lockGuardFactory = lockGuardFactoryRef;
         peerAccCtx = peerAccCtxRef;
         ctrlSnapshotDeleteApiCallHandler = ctrlSnapshotDeleteApiCallHandlerRef;
+        placementIndex = placementIndexRef;
     }
 
     @Override
@@ -182,6 +186,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
 
             if (nodeDeleted)
             {
+                placementIndex.invalidate();
                 Peer nodePeer = getPeerPrivileged(node);
 
                 responses.addEntry(disconnectNode(nodeUuid, nodeDescription, nodePeer));
@@ -308,6 +313,7 @@ public class CtrlNodeDeleteApiCallHandler implements CtrlSatelliteConnectionList
 
             if (nodeDeleted)
             {
+                placementIndex.invalidate();
                 Peer nodePeer = getPeerPrivileged(node);
 
                 ApiCallRcImpl.ApiCallRcEntry response = disconnectNode(nodeUuid, nodeDescription, nodePeer);
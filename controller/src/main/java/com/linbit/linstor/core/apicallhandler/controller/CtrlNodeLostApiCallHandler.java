@@ -12,6 +12,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.OpenFlexTargetProcessManager;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ApiDatabaseException;
@@ -72,6 +73,7 @@ public class CtrlNodeLostApiCallHandler
     private final ResponseConverter responseConverter;
     private final ReadWriteLock nodesMapLock;
     private final Provider<AccessContext> peerAccCtx;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public CtrlNodeLostApiCallHandler(
@@ -86,7 +88,8 @@ public class CtrlNodeLostApiCallHandler
         CtrlSatelliteUpdateCaller ctrlSatelliteUpdateCallerRef,
         ResponseConverter responseConverterRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         apiCtx = apiCtxRef;
@@ -101,6 +104,7 @@ public class CtrlNodeLostApiCallHandler
         responseConverter = responseConverterRef;
         nodesMapLock = nodesMapLockRef;
         peerAccCtx = peerAccCtxRef;
+        placementIndex = placementIndexRef;
     }
 
     /**
@@ -218,6 +222,7 @@ public class CtrlNodeLostApiCallHandler
         removeNodePrivileged(nodeName);
 
         ctrlTransactionHelper.commit();
+        placementIndex.invalidate();
 
         reconnectorTask.removePeer(nodePeer);
 
@@ -39,7 +39,6 @@ import static com.linbit.linstor.core.apicallhandler.controller.CtrlRscDfnApiCal
 import static com.linbit.locks.LockGuardFactory.LockObj.NODES_MAP;
 import static com.linbit.locks.LockGuardFactory.LockObj.RSC_DFN_MAP;
 import static com.linbit.locks.LockGuardFactory.LockObj.STOR_POOL_DFN_MAP;
-import static com.linbit.locks.LockGuardFactory.LockType.WRITE;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -126,10 +125,10 @@ public class CtrlRscApiCallHandler
         return scopeRunner
             .fluxInTransactionalScope(
                 "Modify resource",
-                lockGuardFactory.buildDeferred(
-                    WRITE,
-                    NODES_MAP, RSC_DFN_MAP, STOR_POOL_DFN_MAP
-                ),
+                lockGuardFactory.createDeferred()
+                    .read(NODES_MAP, STOR_POOL_DFN_MAP)
+                    .writeObject(RSC_DFN_MAP, rscNameStr)
+                    .build(),
                 () -> modifyInTransaction(
                     rscUuid,
                     nodeNameStr,
@@ -44,6 +44,7 @@ public class CtrlRscAutoHelper
     {
         private Flux<ApiCallRc> flux;
         private boolean preventUpdateSatellitesForResourceDelete;
+        private boolean tieBreakerCreationDeferred;
 
         private AutoHelperResult()
         {
@@ -58,6 +59,16 @@ public class CtrlRscAutoHelper
         {
             return preventUpdateSatellitesForResourceDelete;
         }
+
+        /**
+         * Whether a new tiebreaker resource is needed, but was not created because tiebreaker creation was not
+         * allowed. The caller has to call {@link CtrlRscAutoHelper#manage} again while holding the lock of the
+         * entire nodes map.
+         */
+        public boolean isTieBreakerCreationDeferred()
+        {
+            return tieBreakerCreationDeferred;
+        }
     }
 
     @Inject
@@ -91,9 +102,36 @@ public class CtrlRscAutoHelper
         ResponseContext context,
         ResourceDefinition rscDfn
     )
+    {
+        return manage(apiCallRcImpl, context, rscDfn, true);
+    }
+
+    /**
+     * Same as {@link #manage(ApiCallRcImpl, ResponseContext, String)}, but does not create a new tiebreaker
+     * resource. The tiebreaker may be placed on any node, so this variant is meant for callers that only hold the
+     * locks of the resource definition and its nodes instead of the lock of the entire nodes map.
+     *
+     * @see AutoHelperResult#isTieBreakerCreationDeferred()
+     */
+    public AutoHelperResult manageWithoutTieBreakerCreation(
+        ApiCallRcImpl apiCallRcImplRef,
+        ResponseContext context,
+        String rscNameStrRef
+    )
+    {
+        return manage(apiCallRcImplRef, context, dataLoader.loadRscDfn(rscNameStrRef, true), false);
+    }
+
+    private AutoHelperResult manage(
+        ApiCallRcImpl apiCallRcImpl,
+        ResponseContext context,
+        ResourceDefinition rscDfn,
+        boolean tieBreakerCreationAllowed
+    )
     {
         AutoHelperResult result = new AutoHelperResult();
         AutoHelperInternalState autoHelperInternalState = new AutoHelperInternalState();
+        autoHelperInternalState.tieBreakerCreationAllowed = tieBreakerCreationAllowed;
 
         for (AutoHelper autohelper : autohelperList)
         {
@@ -138,6 +176,7 @@ public class CtrlRscAutoHelper
 
         result.flux = Flux.merge(autoHelperInternalState.additionalFluxList);
         result.preventUpdateSatellitesForResourceDelete = autoHelperInternalState.preventUpdateSatellitesForResourceDelete;
+        result.tieBreakerCreationDeferred = autoHelperInternalState.tieBreakerCreationDeferred;
         return result;
     }
 
@@ -197,6 +236,9 @@ public class CtrlRscAutoHelper
 
         boolean preventUpdateSatellitesForResourceDelete = false;
 
+        boolean tieBreakerCreationAllowed = true;
+        boolean tieBreakerCreationDeferred = false;
+
         private AutoHelperInternalState()
         {
 
@@ -166,6 +166,12 @@ public class CtrlRscAutoTieBreakerHelper implements CtrlRscAutoHelper.AutoHelper
                             takeover(takeover, autoHelperState, apiCallRcImpl);
                         }
                         else
+                        if (!autoHelperState.tieBreakerCreationAllowed)
+                        {
+                            // the new tiebreaker may be placed on any node, which is not locked by the caller
+                            autoHelperState.tieBreakerCreationDeferred = true;
+                        }
+                        else
                         {
                             Node node = getNodeForTieBreaker(rscDfn);
                             if (node == null)
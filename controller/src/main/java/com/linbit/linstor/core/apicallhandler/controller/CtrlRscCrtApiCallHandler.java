@@ -19,7 +19,9 @@ import com.linbit.linstor.core.apicallhandler.response.ResponseContext;
 import com.linbit.linstor.core.apicallhandler.response.ResponseConverter;
 import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.ResourceWithPayloadApi;
+import com.linbit.linstor.core.identifier.FreeSpaceMgrName;
 import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.Volume;
@@ -125,39 +127,85 @@ public class CtrlRscCrtApiCallHandler
                 ));
             }
 
-            ResponseContext context = makeRscCrtContext(rscApiList, rscNames.get(0));
+            String rscNameStr = rscNames.get(0);
+            ResponseContext context = makeRscCrtContext(rscApiList, rscNameStr);
 
             Set<NodeName> nodeNames = rscApiList.stream()
                 .map(rscWithPayload -> rscWithPayload.getRscApi().getNodeName())
                 .map(LinstorParsingUtils::asNodeName)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(TreeSet::new));
             response = freeCapacityFetcher.fetchThinFreeCapacities(nodeNames)
                 .flatMapMany(thinFreeCapacities ->
-                    scopeRunner
-                    .fluxInTransactionalScope(
-                        "Create resource",
-                        lockGuardFactory.buildDeferred(
-                            LockType.WRITE,
-                            LockObj.NODES_MAP, LockObj.RSC_DFN_MAP, LockObj.STOR_POOL_DFN_MAP
-                        ),
-                        () -> createResourceInTransaction(rscApiList, context, thinFreeCapacities)
-                    )
+                    createResource(rscApiList, rscNameStr, nodeNames, context, thinFreeCapacities)
                     .transform(responses -> responseConverter.reportingExceptions(context, responses)));
         }
 
         return response;
     }
 
+    /**
+     * Creates the resources while only locking the resource definition, the nodes of the new resources and the
+     * shared storage pools of these nodes. The shared storage pools have to be looked up in a separate scope
+     * before, as their names have to be known when the locks are acquired.
+     */
+    private Flux<ApiCallRc> createResource(
+        List<ResourceWithPayloadApi> rscApiList,
+        String rscNameStr,
+        Set<NodeName> nodeNames,
+        ResponseContext context,
+        Map<StorPool.Key, Long> thinFreeCapacities
+    )
+    {
+        return scopeRunner
+            .fluxInTransactionlessScope(
+                "Find shared storage pools",
+                lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP),
+                () -> Flux.just(getSharedFreeSpaceMgrNames(nodeNames))
+            )
+            .concatMap(sharedFreeSpaceMgrNames -> scopeRunner
+                .fluxInTransactionalScope(
+                    "Create resource",
+                    lockGuardFactory.createDeferred()
+                        .read(LockObj.STOR_POOL_DFN_MAP)
+                        .writeObject(LockObj.NODES_MAP, toNameArray(nodeNames))
+                        .writeObject(LockObj.RSC_DFN_MAP, rscNameStr)
+                        .writeObject(
+                            LockObj.FREE_SPACE_MGR_MAP,
+                            sharedFreeSpaceMgrNames.toArray(new String[sharedFreeSpaceMgrNames.size()])
+                        )
+                        .build(),
+                    () -> createResourceInTransaction(
+                        rscApiList,
+                        rscNameStr,
+                        nodeNames,
+                        sharedFreeSpaceMgrNames,
+                        context,
+                        thinFreeCapacities
+                    )
+                )
+            );
+    }
+
     /**
      * @param rscApiList Resources to create; at least one; all must belong to the same resource definition
-     * @param layerStackStrListRef
+     * @param lockedFreeSpaceMgrNames the shared free space managers locked by the caller
      */
     private Flux<ApiCallRc> createResourceInTransaction(
         List<ResourceWithPayloadApi> rscApiList,
+        String rscNameStr,
+        Set<NodeName> nodeNames,
+        Set<String> lockedFreeSpaceMgrNames,
         ResponseContext context,
         Map<StorPool.Key, Long> thinFreeCapacities
     )
     {
+        if (!lockedFreeSpaceMgrNames.containsAll(getSharedFreeSpaceMgrNames(nodeNames)))
+        {
+            // the storage pools of the nodes were changed after the shared storage pools were looked up.
+            // Nothing was modified yet, so simply start over with the current shared storage pools
+            return createResource(rscApiList, rscNameStr, nodeNames, context, thinFreeCapacities);
+        }
+
         ApiCallRcImpl responses = new ApiCallRcImpl();
 
         Set<String> rscNameStrsForAutoHelper = new TreeSet<>();
@@ -187,10 +235,18 @@ public class CtrlRscCrtApiCallHandler
             }
         }
 
-        for (String rscNameStr : rscNameStrsForAutoHelper)
+        for (String rscNameStrForAutoHelper : rscNameStrsForAutoHelper)
         {
-            AutoHelperResult autoHelperResult = autoHelper.manage(responses, context, rscNameStr);
+            AutoHelperResult autoHelperResult = autoHelper.manageWithoutTieBreakerCreation(
+                responses,
+                context,
+                rscNameStrForAutoHelper
+            );
             autoFlux.add(autoHelperResult.getFlux());
+            if (autoHelperResult.isTieBreakerCreationDeferred())
+            {
+                autoFlux.add(createTieBreaker(rscNameStrForAutoHelper, context));
+            }
         }
         ctrlTransactionHelper.commit();
 
@@ -214,7 +270,7 @@ public class CtrlRscCrtApiCallHandler
 
         return Flux.<ApiCallRc>just(responses)
             .concatWith(deploymentResponses)
-            .concatWith(setInitialized(deployedResources, context))
+            .concatWith(setInitialized(deployedResources, rscNameStr, context))
             .concatWith(Flux.merge(autoFlux))
             .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty())
             .onErrorResume(EventStreamTimeoutException.class,
@@ -223,15 +279,89 @@ public class CtrlRscCrtApiCallHandler
                 ignored -> Flux.just(ctrlRscCrtApiHelper.makeEventStreamDisappearedUnexpectedlyMessage(context)));
     }
 
-    private Flux<ApiCallRc> setInitialized(Set<Resource> deployedResourcesRef, ResponseContext context)
+    /**
+     * Runs the auto helpers again in a separate transaction that is allowed to create the tiebreaker resource.
+     * The node of the tiebreaker is not known in advance, so this section locks the entire nodes map.
+     */
+    private Flux<ApiCallRc> createTieBreaker(String rscNameStr, ResponseContext context)
+    {
+        return scopeRunner
+            .fluxInTransactionalScope(
+                "Create tiebreaker",
+                lockGuardFactory.createDeferred()
+                    .write(LockObj.NODES_MAP)
+                    .read(LockObj.STOR_POOL_DFN_MAP)
+                    .writeObject(LockObj.RSC_DFN_MAP, rscNameStr)
+                    .build(),
+                () -> createTieBreakerInTransaction(rscNameStr, context)
+            );
+    }
+
+    private Flux<ApiCallRc> createTieBreakerInTransaction(String rscNameStr, ResponseContext context)
+    {
+        ApiCallRcImpl responses = new ApiCallRcImpl();
+        AutoHelperResult autoHelperResult = autoHelper.manage(responses, context, rscNameStr);
+        ctrlTransactionHelper.commit();
+
+        return Flux.<ApiCallRc>just(responses)
+            .concatWith(autoHelperResult.getFlux());
+    }
+
+    /**
+     * Returns the names of the free space managers that the storage pools of the given nodes may share with the
+     * storage pools of other nodes. Volumes of a resource on one node modify these free space managers as well, so
+     * they have to be locked in addition to the nodes.
+     */
+    private Set<String> getSharedFreeSpaceMgrNames(Set<NodeName> nodeNames)
+    {
+        Set<String> sharedFreeSpaceMgrNames = new TreeSet<>();
+        AccessContext peerCtx = peerCtxProvider.get();
+        try
+        {
+            for (NodeName nodeName : nodeNames)
+            {
+                Node node = dataLoader.loadNode(nodeName, false);
+                if (node != null)
+                {
+                    Iterator<StorPool> storPoolIt = node.iterateStorPools(peerCtx);
+                    while (storPoolIt.hasNext())
+                    {
+                        FreeSpaceMgrName freeSpaceMgrName = storPoolIt.next().getFreeSpaceTracker().getName();
+                        if (freeSpaceMgrName.isSharedName())
+                        {
+                            sharedFreeSpaceMgrNames.add(freeSpaceMgrName.value);
+                        }
+                    }
+                }
+            }
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ApiAccessDeniedException(exc, "access storage pools", ApiConsts.FAIL_ACC_DENIED_STOR_POOL);
+        }
+        return sharedFreeSpaceMgrNames;
+    }
+
+    private static String[] toNameArray(Set<NodeName> nodeNames)
+    {
+        return nodeNames.stream()
+            .map(nodeName -> nodeName.value)
+            .toArray(String[]::new);
+    }
+
+    private Flux<ApiCallRc> setInitialized(
+        Set<Resource> deployedResourcesRef,
+        String rscNameStr,
+        ResponseContext context
+    )
     {
+        // only the DRBD data of the new resources is updated, which is owned by their resource definition
         return scopeRunner
             .fluxInTransactionalScope(
                 "Create resource",
-                lockGuardFactory.buildDeferred(
-                    LockType.WRITE,
-                    LockObj.NODES_MAP, LockObj.RSC_DFN_MAP, LockObj.STOR_POOL_DFN_MAP
-                ),
+                lockGuardFactory.createDeferred()
+                    .writeObject(LockObj.RSC_DFN_MAP, rscNameStr)
+                    .build(),
                 () -> setInitializedInTransaction(deployedResourcesRef, context)
             );
     }
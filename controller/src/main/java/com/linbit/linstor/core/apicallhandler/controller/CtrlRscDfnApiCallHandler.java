@@ -17,6 +17,7 @@ import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallRcImpl.ApiCallRcEntry;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.CoreModule.ResourceDefinitionMap;
 import com.linbit.linstor.core.CoreModule.ResourceDefinitionMapExtName;
 import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
@@ -69,11 +70,14 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -442,37 +446,40 @@ public class CtrlRscDfnApiCallHandler
         return Flux.just((ApiCallRc) apiCallRcs).concatWith(flux);
     }
 
+    /**
+     * Lists the resource definitions the peer has access to that match the given names and property filters.
+     * Requires the resource definition map read lock.
+     *
+     * The filters are checked on the resource definitions themselves, so that the api data is only built for
+     * the matching ones.
+     */
     ArrayList<ResourceDefinitionApi> listResourceDefinitions(List<String> rscDfnNames, List<String> propFilters)
     {
         ArrayList<ResourceDefinitionApi> rscdfns = new ArrayList<>();
         final Set<ResourceName> rscDfnsFilter =
-            rscDfnNames.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toSet());
+            rscDfnNames.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toCollection(TreeSet::new));
 
         try
         {
-            resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(rscDfn ->
-                    (
-                        rscDfnsFilter.isEmpty() ||
-                        rscDfnsFilter.contains(rscDfn.getName())
-                    )
-                )
-                .forEach(rscDfn ->
+            ResourceDefinitionMap rscDfnMap = resourceDefinitionRepository.getMapForView(peerAccCtx.get());
+            Collection<ResourceDefinition> candidates = rscDfnsFilter.isEmpty() ?
+                rscDfnMap.values() :
+                rscDfnsFilter.stream().map(rscDfnMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+            for (ResourceDefinition rscDfn : candidates)
+            {
+                try
+                {
+                    final Props props = rscDfn.getProps(peerAccCtx.get());
+                    if (props.contains(propFilters))
                     {
-                        try
-                        {
-                            final Props props = rscDfn.getProps(peerAccCtx.get());
-                            if (props.contains(propFilters))
-                            {
-                                rscdfns.add(rscDfn.getApiData(peerAccCtx.get()));
-                            }
-                        }
-                        catch (AccessDeniedException accDeniedExc)
-                        {
-                            // don't add resource definition without access
-                        }
+                        rscdfns.add(rscDfn.getApiData(peerAccCtx.get()));
                     }
-                );
+                }
+                catch (AccessDeniedException accDeniedExc)
+                {
+                    // don't add resource definition without access
+                }
+            }
         }
         catch (AccessDeniedException accDeniedExc)
         {
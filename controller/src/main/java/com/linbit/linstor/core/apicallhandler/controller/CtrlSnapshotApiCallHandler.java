@@ -3,6 +3,7 @@ package com.linbit.linstor.core.apicallhandler.controller;
 import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.CoreModule.ResourceDefinitionMap;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
 import com.linbit.linstor.core.apicallhandler.response.ResponseContext;
 import com.linbit.linstor.core.apis.SnapshotDefinitionListItemApi;
@@ -22,11 +23,14 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -46,15 +50,16 @@ public class CtrlSnapshotApiCallHandler
     }
 
     private boolean shouldIncludeSnapshot(
-        final SnapshotDefinitionListItemApi snapItem, final List<String> nodeNameFilter)
+        final SnapshotDefinition snapshotDfn, final List<String> nodeNameFilter)
+        throws AccessDeniedException
     {
         if (!nodeNameFilter.isEmpty())
         {
             for(final String node : nodeNameFilter)
             {
-                for(final String snapNode : snapItem.getNodeNames())
+                for(final Snapshot snapshot : snapshotDfn.getAllSnapshots(peerAccCtx.get()))
                 {
-                    if (node.equalsIgnoreCase(snapNode))
+                    if (node.equalsIgnoreCase(snapshot.getNodeName().displayValue))
                     {
                         return true;
                     }
@@ -65,34 +70,40 @@ public class CtrlSnapshotApiCallHandler
         return true;
     }
 
+    /**
+     * Lists the snapshot definitions the peer has access to that match the given node and resource names.
+     * Requires the resource definition map read lock.
+     *
+     * The filters are checked on the snapshot definitions themselves, so that the api data is only built for
+     * the matching ones.
+     */
     ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinitions(List<String> nodeNames, List<String> resourceNames)
     {
         ArrayList<SnapshotDefinitionListItemApi> snapshotDfns = new ArrayList<>();
         final Set<ResourceName> rscDfnsFilter =
-            resourceNames.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toSet());
+            resourceNames.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toCollection(TreeSet::new));
 
         try
         {
-            for (ResourceDefinition rscDfn : resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values())
+            ResourceDefinitionMap rscDfnMap = resourceDefinitionRepository.getMapForView(peerAccCtx.get());
+            Collection<ResourceDefinition> candidates = rscDfnsFilter.isEmpty() ?
+                rscDfnMap.values() :
+                rscDfnsFilter.stream().map(rscDfnMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+            for (ResourceDefinition rscDfn : candidates)
             {
-                if (rscDfnsFilter.isEmpty() || rscDfnsFilter.contains(rscDfn.getName()))
+                for (SnapshotDefinition snapshotDfn : rscDfn.getSnapshotDfns(peerAccCtx.get()))
                 {
-                    for (SnapshotDefinition snapshotDfn : rscDfn.getSnapshotDfns(peerAccCtx.get()))
+                    try
                     {
-                        try
+                        if (shouldIncludeSnapshot(snapshotDfn, nodeNames))
                         {
-                            final SnapshotDefinitionListItemApi snapItem =
-                                snapshotDfn.getListItemApiData(peerAccCtx.get());
-                            if (shouldIncludeSnapshot(snapItem, nodeNames))
-                            {
-                                snapshotDfns.add(snapItem);
-                            }
-                        }
-                        catch (AccessDeniedException accDeniedExc)
-                        {
-                            // don't add snapshot definition without access
+                            snapshotDfns.add(snapshotDfn.getListItemApiData(peerAccCtx.get()));
                         }
                     }
+                    catch (AccessDeniedException accDeniedExc)
+                    {
+                        // don't add snapshot definition without access
+                    }
                 }
             }
         }
@@ -72,6 +72,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
 import reactor.util.function.Tuple2;
@@ -155,6 +156,40 @@ public class CtrlSnapshotCrtApiCallHandler
             snapshotNameStr
         );
 
+        return createSnapshots(Collections.singletonMap(rscNameStr, nodeNameStrs), snapshotNameStr, context);
+    }
+
+    /**
+     * Create snapshots with the same name of several resources, e.g. of all volumes used by one application.
+     * <p>
+     * All resources pass through the stages described in {@link #createSnapshot(List, String, String)} together.
+     * The satellites are updated for all resources at once in each stage, so IO of all resources is suspended
+     * in a single window and all snapshots are taken in parallel.
+     *
+     * @param nodeNameStrsByRsc the nodes to take the snapshot on by resource name, an empty list for all diskful
+     *     resources of the resource definition
+     */
+    public Flux<ApiCallRc> createSnapshots(
+        Map<String, List<String>> nodeNameStrsByRsc,
+        String snapshotNameStr
+    )
+    {
+        ResponseContext context = makeSnapshotContext(
+            ApiOperation.makeCreateOperation(),
+            Collections.emptyList(),
+            String.join(", ", nodeNameStrsByRsc.keySet()),
+            snapshotNameStr
+        );
+
+        return createSnapshots(nodeNameStrsByRsc, snapshotNameStr, context);
+    }
+
+    private Flux<ApiCallRc> createSnapshots(
+        Map<String, List<String>> nodeNameStrsByRsc,
+        String snapshotNameStr,
+        ResponseContext context
+    )
+    {
         return scopeRunner
             .fluxInTransactionalScope(
                 "Create snapshot",
@@ -162,21 +197,74 @@ public class CtrlSnapshotCrtApiCallHandler
                     .read(LockObj.NODES_MAP)
                     .write(LockObj.RSC_DFN_MAP)
                     .buildDeferred(),
-                () -> createSnapshotInTransaction(nodeNameStrs, rscNameStr, snapshotNameStr)
+                () -> createSnapshotsInTransaction(nodeNameStrsByRsc, snapshotNameStr)
             )
             .transform(responses -> responseConverter.reportingExceptions(context, responses));
     }
 
-    private Flux<ApiCallRc> createSnapshotInTransaction(
+    private Flux<ApiCallRc> createSnapshotsInTransaction(
+        Map<String, List<String>> nodeNameStrsByRsc,
+        String snapshotNameStr
+    )
+    {
+        if (nodeNameStrsByRsc.isEmpty())
+        {
+            throw new ApiRcException(ApiCallRcImpl.simpleEntry(
+                ApiConsts.FAIL_NOT_FOUND_RSC_DFN, "No resource definitions given for snapshotting"
+            ));
+        }
+
+        SnapshotName snapshotName = LinstorParsingUtils.asSnapshotName(snapshotNameStr);
+        List<ResourceName> rscNames = new ArrayList<>();
+        ApiCallRcImpl responses = new ApiCallRcImpl();
+        List<SnapshotDefinition> snapshotDfns = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : nodeNameStrsByRsc.entrySet())
+        {
+            SnapshotDefinition snapshotDfn = createSnapshotObjects(entry.getValue(), entry.getKey(), snapshotName);
+            snapshotDfns.add(snapshotDfn);
+            rscNames.add(snapshotDfn.getResourceName());
+
+            responses.addEntry(ApiSuccessUtils.defaultRegisteredEntry(
+                snapshotDfn.getUuid(), getSnapshotDescriptionInline(entry.getValue(), entry.getKey(), snapshotNameStr)
+            ));
+        }
+
+        ctrlTransactionHelper.commit();
+
+        List<Flux<ApiCallRc>> satelliteUpdateResponses = new ArrayList<>();
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            ResourceDefinition rscDfn = snapshotDfn.getResourceDefinition();
+            satelliteUpdateResponses.add(
+                ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
+                    .concatWith(ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, notConnectedError(), Flux.empty()))
+                    .transform(updateResponses -> CtrlResponseUtils.combineResponses(
+                        updateResponses,
+                        rscDfn.getName(),
+                        "Suspended IO of {1} on {0} for snapshot"
+                    ))
+            );
+        }
+
+        return Flux
+            .<ApiCallRc>just(responses)
+            .concatWith(mergeSatelliteUpdates(satelliteUpdateResponses))
+            .concatWith(takeSnapshot(rscNames, snapshotName))
+            .onErrorResume(exception -> abortSnapshot(rscNames, snapshotName, exception))
+            .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty());
+    }
+
+    /**
+     * Adds the snapshot objects of one resource definition and suspends IO of its resources
+     */
+    private SnapshotDefinition createSnapshotObjects(
         List<String> nodeNameStrs,
         String rscNameStr,
-        String snapshotNameStr
+        SnapshotName snapshotName
     )
     {
         final ResourceDefinition rscDfn = ctrlApiDataLoader.loadRscDfn(rscNameStr, true);
-        final ResourceName rscName = rscDfn.getName();
 
-        SnapshotName snapshotName = LinstorParsingUtils.asSnapshotName(snapshotNameStr);
         SnapshotDefinition snapshotDfn = createSnapshotDfnData(
             rscDfn,
             snapshotName,
@@ -253,33 +341,11 @@ public class CtrlSnapshotCrtApiCallHandler
             setSuspend(rsc, true);
         }
 
-        ctrlTransactionHelper.commit();
-
-        ApiCallRcImpl responses = new ApiCallRcImpl();
-
-        responses.addEntry(ApiSuccessUtils.defaultRegisteredEntry(
-            snapshotDfn.getUuid(), getSnapshotDescriptionInline(nodeNameStrs, rscNameStr, snapshotNameStr)
-        ));
-
-        Flux<ApiCallRc> satelliteUpdateResponses =
-            ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
-                .concatWith(ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, notConnectedError(), Flux.empty()))
-                .transform(updateResponses -> CtrlResponseUtils.combineResponses(
-                    updateResponses,
-                    rscName,
-                    "Suspended IO of {1} on {0} for snapshot"
-                ));
-
-        return Flux
-            .<ApiCallRc>just(responses)
-            .concatWith(satelliteUpdateResponses)
-            .concatWith(takeSnapshot(rscName, snapshotName))
-            .onErrorResume(exception -> abortSnapshot(rscName, snapshotName, exception))
-            .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty());
+        return snapshotDfn;
     }
 
     private Flux<ApiCallRc> abortSnapshot(
-        ResourceName rscName,
+        List<ResourceName> rscNames,
         SnapshotName snapshotName,
         Throwable exception
     )
@@ -291,41 +357,48 @@ public class CtrlSnapshotCrtApiCallHandler
                     .read(LockObj.NODES_MAP)
                     .write(LockObj.RSC_DFN_MAP)
                     .buildDeferred(),
-                () -> abortSnapshotInTransaction(rscName, snapshotName, exception)
+                () -> abortSnapshotInTransaction(rscNames, snapshotName, exception)
             );
     }
 
     private Flux<ApiCallRc> abortSnapshotInTransaction(
-        ResourceName rscName,
+        List<ResourceName> rscNames,
         SnapshotName snapshotName,
         Throwable exception
     )
     {
-        SnapshotDefinition snapshotDfn = ctrlApiDataLoader.loadSnapshotDfn(rscName, snapshotName, true);
-
         SnapshotDefinition.Flags flag = exception instanceof CtrlResponseUtils.DelayedApiRcException &&
             isFailNotConnected((CtrlResponseUtils.DelayedApiRcException) exception) ?
                 SnapshotDefinition.Flags.FAILED_DISCONNECT : SnapshotDefinition.Flags.FAILED_DEPLOYMENT;
 
-        enableFlagPrivileged(snapshotDfn, flag);
-        unsetInCreationPrivileged(snapshotDfn);
+        List<SnapshotDefinition> snapshotDfns = loadSnapshotDfns(rscNames, snapshotName);
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            enableFlagPrivileged(snapshotDfn, flag);
+            unsetInCreationPrivileged(snapshotDfn);
+        }
 
         ctrlTransactionHelper.commit();
 
-        Flux<ApiCallRc> satelliteUpdateResponses =
-            ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedCannotAbort())
-                .transform(responses -> CtrlResponseUtils.combineResponses(
-                    responses,
-                    rscName,
-                    "Aborted snapshot of {1} on {0}"
-                ))
-                .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty());
+        List<Flux<ApiCallRc>> satelliteUpdateResponses = new ArrayList<>();
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            satelliteUpdateResponses.add(
+                ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedCannotAbort())
+                    .transform(responses -> CtrlResponseUtils.combineResponses(
+                        responses,
+                        snapshotDfn.getResourceName(),
+                        "Aborted snapshot of {1} on {0}"
+                    ))
+                    .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty())
+            );
+        }
 
-        return satelliteUpdateResponses
+        return Flux.merge(satelliteUpdateResponses)
             .concatWith(Flux.error(exception));
     }
 
-    private Flux<ApiCallRc> takeSnapshot(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> takeSnapshot(List<ResourceName> rscNames, SnapshotName snapshotName)
     {
         return scopeRunner
             .fluxInTransactionalScope(
@@ -334,34 +407,41 @@ public class CtrlSnapshotCrtApiCallHandler
                     .read(LockObj.NODES_MAP)
                     .write(LockObj.RSC_DFN_MAP)
                     .buildDeferred(),
-                () -> takeSnapshotInTransaction(rscName, snapshotName)
+                () -> takeSnapshotInTransaction(rscNames, snapshotName)
             );
     }
 
-    private Flux<ApiCallRc> takeSnapshotInTransaction(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> takeSnapshotInTransaction(List<ResourceName> rscNames, SnapshotName snapshotName)
     {
-        SnapshotDefinition snapshotDfn = ctrlApiDataLoader.loadSnapshotDfn(rscName, snapshotName, true);
-
-        for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
+        List<SnapshotDefinition> snapshotDfns = loadSnapshotDfns(rscNames, snapshotName);
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
         {
-            setTakeSnapshotPrivileged(snapshot, true);
+            for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
+            {
+                setTakeSnapshotPrivileged(snapshot, true);
+            }
         }
 
         ctrlTransactionHelper.commit();
 
-        Flux<ApiCallRc> satelliteUpdateResponses =
-            ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
-                .transform(responses -> CtrlResponseUtils.combineResponses(
-                    responses,
-                    rscName,
-                    "Took snapshot of {1} on {0}"
-                ));
+        List<Flux<ApiCallRc>> satelliteUpdateResponses = new ArrayList<>();
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            satelliteUpdateResponses.add(
+                ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
+                    .transform(responses -> CtrlResponseUtils.combineResponses(
+                        responses,
+                        snapshotDfn.getResourceName(),
+                        "Took snapshot of {1} on {0}"
+                    ))
+            );
+        }
 
-        return satelliteUpdateResponses
-            .concatWith(resumeResource(rscName, snapshotName));
+        return mergeSatelliteUpdates(satelliteUpdateResponses)
+            .concatWith(resumeResource(rscNames, snapshotName));
     }
 
-    private Flux<ApiCallRc> resumeResource(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> resumeResource(List<ResourceName> rscNames, SnapshotName snapshotName)
     {
         return scopeRunner
             .fluxInTransactionalScope(
@@ -370,38 +450,45 @@ public class CtrlSnapshotCrtApiCallHandler
                     .read(LockObj.NODES_MAP)
                     .write(LockObj.RSC_DFN_MAP)
                     .buildDeferred(),
-                () -> resumeResourceInTransaction(rscName, snapshotName)
+                () -> resumeResourceInTransaction(rscNames, snapshotName)
             );
     }
 
-    private Flux<ApiCallRc> resumeResourceInTransaction(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> resumeResourceInTransaction(List<ResourceName> rscNames, SnapshotName snapshotName)
     {
-        SnapshotDefinition snapshotDfn = ctrlApiDataLoader.loadSnapshotDfn(rscName, snapshotName, true);
-
-        for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
+        List<SnapshotDefinition> snapshotDfns = loadSnapshotDfns(rscNames, snapshotName);
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
         {
-            unsetSuspendResourcePrivileged(snapshot);
-        }
+            for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
+            {
+                unsetSuspendResourcePrivileged(snapshot);
+            }
 
-        ResourceDefinition rscDfn = ctrlApiDataLoader.loadRscDfn(rscName, true);
-        resumeIoPrivileged(rscDfn);
+            resumeIoPrivileged(snapshotDfn.getResourceDefinition());
+        }
 
         ctrlTransactionHelper.commit();
 
-        Flux<ApiCallRc> satelliteUpdateResponses =
-            ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
-                .concatWith(ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, notConnectedError(), Flux.empty()))
-                .transform(responses -> CtrlResponseUtils.combineResponses(
-                    responses,
-                    rscName,
-                    "Resumed IO of {1} on {0} after snapshot"
-                ));
+        List<Flux<ApiCallRc>> satelliteUpdateResponses = new ArrayList<>();
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            ResourceDefinition rscDfn = snapshotDfn.getResourceDefinition();
+            satelliteUpdateResponses.add(
+                ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
+                    .concatWith(ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, notConnectedError(), Flux.empty()))
+                    .transform(responses -> CtrlResponseUtils.combineResponses(
+                        responses,
+                        rscDfn.getName(),
+                        "Resumed IO of {1} on {0} after snapshot"
+                    ))
+            );
+        }
 
-        return satelliteUpdateResponses
-            .concatWith(removeInProgressSnapshots(rscName, snapshotName));
+        return mergeSatelliteUpdates(satelliteUpdateResponses)
+            .concatWith(removeInProgressSnapshots(rscNames, snapshotName));
     }
 
-    private Flux<ApiCallRc> removeInProgressSnapshots(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> removeInProgressSnapshots(List<ResourceName> rscNames, SnapshotName snapshotName)
     {
         return scopeRunner
             .fluxInTransactionalScope(
@@ -410,30 +497,74 @@ public class CtrlSnapshotCrtApiCallHandler
                     .read(LockObj.NODES_MAP)
                     .write(LockObj.RSC_DFN_MAP)
                     .buildDeferred(),
-                () -> removeInProgressSnapshotsInTransaction(rscName, snapshotName)
+                () -> removeInProgressSnapshotsInTransaction(rscNames, snapshotName)
             );
     }
 
-    private Flux<ApiCallRc> removeInProgressSnapshotsInTransaction(ResourceName rscName, SnapshotName snapshotName)
+    private Flux<ApiCallRc> removeInProgressSnapshotsInTransaction(
+        List<ResourceName> rscNames,
+        SnapshotName snapshotName
+    )
     {
-        SnapshotDefinition snapshotDfn = ctrlApiDataLoader.loadSnapshotDfn(rscName, snapshotName, true);
+        List<SnapshotDefinition> snapshotDfns = loadSnapshotDfns(rscNames, snapshotName);
+        for (SnapshotDefinition snapshotDfn : snapshotDfns)
+        {
+            unsetInCreationPrivileged(snapshotDfn);
 
-        unsetInCreationPrivileged(snapshotDfn);
+            for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
+            {
+                setTakeSnapshotPrivileged(snapshot, false);
+            }
 
-        for (Snapshot snapshot : getAllSnapshotsPrivileged(snapshotDfn))
-        {
-            setTakeSnapshotPrivileged(snapshot, false);
+            enableFlagPrivileged(snapshotDfn, SnapshotDefinition.Flags.SUCCESSFUL);
         }
 
-        enableFlagPrivileged(snapshotDfn, SnapshotDefinition.Flags.SUCCESSFUL);
-
         ctrlTransactionHelper.commit();
 
-        return ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError())
+        return Flux.fromIterable(snapshotDfns)
+            .flatMap(snapshotDfn -> ctrlSatelliteUpdateCaller.updateSatellites(snapshotDfn, notConnectedError()))
             // ensure that the individual node update fluxes are subscribed to, but ignore responses from cleanup
             .flatMap(Tuple2::getT2).thenMany(Flux.empty());
     }
 
+    private List<SnapshotDefinition> loadSnapshotDfns(List<ResourceName> rscNames, SnapshotName snapshotName)
+    {
+        List<SnapshotDefinition> snapshotDfns = new ArrayList<>();
+        for (ResourceName rscName : rscNames)
+        {
+            snapshotDfns.add(ctrlApiDataLoader.loadSnapshotDfn(rscName, snapshotName, true));
+        }
+        return snapshotDfns;
+    }
+
+    /**
+     * Merges the satellite updates of several resource definitions, so that they are sent out in parallel.
+     * Failures reported as {@link CtrlResponseUtils.DelayedApiRcException} are delayed until all updates
+     * completed, so that the next stage or the abort only starts once every satellite answered.
+     */
+    private static Flux<ApiCallRc> mergeSatelliteUpdates(List<Flux<ApiCallRc>> satelliteUpdateResponses)
+    {
+        List<ApiRcException> errors = Collections.synchronizedList(new ArrayList<>());
+        return Flux
+            .merge(
+                satelliteUpdateResponses.stream()
+                    .map(updateResponses -> updateResponses.onErrorResume(
+                        CtrlResponseUtils.DelayedApiRcException.class,
+                        delayedExc ->
+                        {
+                            errors.addAll(delayedExc.getErrors());
+                            return Flux.empty();
+                        }
+                    ))
+                    .collect(Collectors.toList())
+            )
+            .concatWith(Flux.defer(() ->
+                errors.isEmpty() ?
+                    Flux.empty() :
+                    Flux.error(new CtrlResponseUtils.DelayedApiRcException(errors))
+            ));
+    }
+
     private void createSnapshotOnNode(
         SnapshotDefinition snapshotDfn,
         Collection<SnapshotVolumeDefinition> snapshotVolumeDefinitions,
@@ -8,6 +8,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.prop.LinStorObject;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.StorPoolHelper;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
@@ -60,6 +61,7 @@ public class CtrlStorPoolApiCallHandler
     private final Provider<AccessContext> peerAccCtx;
     private final ScopeRunner scopeRunner;
     private final LockGuardFactory lockGuardFactory;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public CtrlStorPoolApiCallHandler(
@@ -71,7 +73,8 @@ public class CtrlStorPoolApiCallHandler
         Provider<Peer> peerRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
         ScopeRunner scopeRunnerRef,
-        LockGuardFactory lockGuardFactoryRef
+        LockGuardFactory lockGuardFactoryRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         ctrlTransactionHelper = ctrlTransactionHelperRef;
@@ -83,6 +86,7 @@ public class CtrlStorPoolApiCallHandler
         peerAccCtx = peerAccCtxRef;
         scopeRunner = scopeRunnerRef;
         lockGuardFactory = lockGuardFactoryRef;
+        placementIndex = placementIndexRef;
     }
 
     public Flux<ApiCallRc> modify(
@@ -293,6 +297,7 @@ public class CtrlStorPoolApiCallHandler
                 final Node storPoolNode = storPool.getNode();
                 delete(storPool);
                 ctrlTransactionHelper.commit();
+                placementIndex.invalidate();
 
                 responseConverter.addWithOp(apiCallRcs, context, ApiSuccessUtils.defaultDeletedEntry(
                     storPoolUuid, getStorPoolDescription(nodeNameStr, storPoolNameStr)));
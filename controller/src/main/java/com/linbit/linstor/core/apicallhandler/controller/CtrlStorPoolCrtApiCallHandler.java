@@ -10,6 +10,7 @@ import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.prop.LinStorObject;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.StorPoolHelper;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
@@ -49,6 +50,7 @@ public class CtrlStorPoolCrtApiCallHandler
     private final CtrlSatelliteUpdateCaller ctrlSatelliteUpdateCaller;
     private final ResponseConverter responseConverter;
     private final Provider<AccessContext> peerAccCtx;
+    private final StorPoolPlacementIndex placementIndex;
     private final LockGuardFactory lockGuardFactory;
     private final StorPoolHelper storPoolHelper;
 
@@ -63,7 +65,8 @@ public class CtrlStorPoolCrtApiCallHandler
         CtrlSatelliteUpdateCaller ctrlSatelliteUpdateCallerRef,
         ResponseConverter responseConverterRef,
         LockGuardFactory lockGuardFactoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         apiCtx = apiCtxRef;
@@ -76,6 +79,7 @@ public class CtrlStorPoolCrtApiCallHandler
         responseConverter = responseConverterRef;
         lockGuardFactory = lockGuardFactoryRef;
         peerAccCtx = peerAccCtxRef;
+        placementIndex = placementIndexRef;
     }
 
     public Flux<ApiCallRc> createStorPool(
@@ -161,6 +165,7 @@ public class CtrlStorPoolCrtApiCallHandler
             updateStorPoolDfnMap(storPool);
 
             ctrlTransactionHelper.commit();
+            placementIndex.invalidate();
 
             Flux<ApiCallRc> updateResponses = ctrlSatelliteUpdateCaller
                 .updateSatellite(storPool)
@@ -13,6 +13,7 @@ import com.linbit.linstor.core.apis.StorPoolApi;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
 import com.linbit.linstor.core.repository.StorPoolDefinitionRepository;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.propscon.Props;
@@ -28,8 +29,11 @@ import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import reactor.core.publisher.Flux;
 import reactor.util.function.Tuple2;
@@ -64,7 +68,8 @@ public class CtrlStorPoolListApiCallHandler
     public Flux<List<StorPoolApi>> listStorPools(
         List<String> nodeNames,
         List<String> storPoolNames,
-        List<String> propFilters
+        List<String> propFilters,
+        boolean forceRefresh
     )
     {
         Flux<List<StorPoolApi>> flux;
@@ -73,7 +78,7 @@ public class CtrlStorPoolListApiCallHandler
         final Set<NodeName> nodesFilter =
             nodeNames.stream().map(LinstorParsingUtils::asNodeName).collect(Collectors.toSet());
 
-        flux = freeCapacityFetcher.fetchThinFreeSpaceInfo(nodesFilter)
+        flux = freeCapacityFetcher.fetchThinFreeSpaceInfo(nodesFilter, forceRefresh)
             .flatMapMany(freeCapacityAnswers ->
                 scopeRunner.fluxInTransactionlessScope(
                     "Assemble storage pool list",
@@ -95,19 +100,17 @@ public class CtrlStorPoolListApiCallHandler
         ArrayList<StorPoolApi> storPools = new ArrayList<>();
         try
         {
-            storPoolDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(
-                    storPoolDfn -> storPoolsFilter.isEmpty() ||
-                    storPoolsFilter.contains(storPoolDfn.getName())
-                )
+            Map<StorPoolName, StorPoolDefinition> storPoolDfnMap =
+                storPoolDefinitionRepository.getMapForView(peerAccCtx.get());
+            Stream<StorPoolDefinition> storPoolDfnStream = storPoolsFilter.isEmpty() ?
+                storPoolDfnMap.values().stream() :
+                new TreeSet<>(storPoolsFilter).stream().map(storPoolDfnMap::get).filter(Objects::nonNull);
+            storPoolDfnStream
                 .forEach(storPoolDfn ->
                     {
                         try
                         {
-                            for (StorPool storPool : storPoolDfn.streamStorPools(peerAccCtx.get())
-                                .filter(storPool -> nodesFilter.isEmpty() ||
-                                    nodesFilter.contains(storPool.getNode().getName()))
-                                .collect(toList()))
+                            for (StorPool storPool : getStorPools(storPoolDfn, nodesFilter))
                             {
                                 Props props = storPool.getProps(peerAccCtx.get());
                                 if (!props.contains(propFilters))
@@ -181,4 +184,31 @@ public class CtrlStorPoolListApiCallHandler
 
         return Flux.just(storPools);
     }
+
+    /**
+     * Returns the storage pools of the given definition, looked up by node name if a node filter is given
+     * instead of visiting the storage pools of every node
+     */
+    private List<StorPool> getStorPools(StorPoolDefinition storPoolDfn, Set<NodeName> nodesFilter)
+        throws AccessDeniedException
+    {
+        List<StorPool> storPoolList;
+        if (nodesFilter.isEmpty())
+        {
+            storPoolList = storPoolDfn.streamStorPools(peerAccCtx.get()).collect(toList());
+        }
+        else
+        {
+            storPoolList = new ArrayList<>();
+            for (NodeName nodeName : new TreeSet<>(nodesFilter))
+            {
+                StorPool storPool = storPoolDfn.getStorPool(peerAccCtx.get(), nodeName);
+                if (storPool != null)
+                {
+                    storPoolList.add(storPool);
+                }
+            }
+        }
+        return storPoolList;
+    }
 }
@@ -1,6 +1,7 @@
 package com.linbit.linstor.core.apicallhandler.controller;
 
 import com.linbit.linstor.core.apicallhandler.response.ApiTransactionException;
+import com.linbit.linstor.metrics.LinstorMetrics;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 
@@ -12,18 +13,22 @@ import javax.inject.Singleton;
 public class CtrlTransactionHelper
 {
     private final Provider<TransactionMgr> transMgrProvider;
+    private final LinstorMetrics metrics;
 
     @Inject
-    public CtrlTransactionHelper(Provider<TransactionMgr> transMgrProviderRef)
+    public CtrlTransactionHelper(Provider<TransactionMgr> transMgrProviderRef, LinstorMetrics metricsRef)
     {
         transMgrProvider = transMgrProviderRef;
+        metrics = metricsRef;
     }
 
     public void commit()
     {
         try
         {
+            long startNanos = System.nanoTime();
             transMgrProvider.get().commit();
+            metrics.getDbCommitLatency().recordSince(startNanos);
         }
         catch (TransactionException sqlExc)
         {
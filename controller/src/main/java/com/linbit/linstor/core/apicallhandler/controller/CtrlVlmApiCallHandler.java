@@ -25,7 +25,6 @@ import com.linbit.locks.LockGuardFactory;
 import static com.linbit.locks.LockGuardFactory.LockObj.NODES_MAP;
 import static com.linbit.locks.LockGuardFactory.LockObj.RSC_DFN_MAP;
 import static com.linbit.locks.LockGuardFactory.LockObj.STOR_POOL_DFN_MAP;
-import static com.linbit.locks.LockGuardFactory.LockType.WRITE;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -92,10 +91,10 @@ public class CtrlVlmApiCallHandler
         return scopeRunner
             .fluxInTransactionalScope(
                 "Modify volume",
-                lockGuardFactory.buildDeferred(
-                    WRITE,
-                    NODES_MAP, RSC_DFN_MAP, STOR_POOL_DFN_MAP
-                ),
+                lockGuardFactory.createDeferred()
+                    .read(NODES_MAP, STOR_POOL_DFN_MAP)
+                    .writeObject(RSC_DFN_MAP, rscNameStr)
+                    .build(),
                 () -> modifyInTransaction(
                     vlmUuid,
                     nodeNameStr,
@@ -2,7 +2,9 @@ package com.linbit.linstor.core.apicallhandler.controller;
 
 import static java.util.stream.Collectors.toList;
 
+import com.linbit.ImplementationError;
 import com.linbit.linstor.LinstorParsingUtils;
+import com.linbit.linstor.annotation.ApiContext;
 import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
@@ -16,6 +18,8 @@ import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.repository.NodeRepository;
@@ -27,6 +31,7 @@ import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.utils.LayerUtils;
 import com.linbit.locks.LockGuardFactory;
@@ -38,12 +43,17 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import reactor.core.publisher.Flux;
 
@@ -57,6 +67,8 @@ public class CtrlVlmListApiCallHandler
     private final NodeRepository nodeRepository;
     private final LockGuardFactory lockGuardFactory;
     private final Provider<AccessContext> peerAccCtx;
+    private final AccessContext apiCtx;
+    private final ResourcePropIndex resourcePropIndex;
 
     @Inject
     public CtrlVlmListApiCallHandler(
@@ -66,7 +78,9 @@ public class CtrlVlmListApiCallHandler
         ResourceDefinitionRepository resourceDefinitionRepositoryRef,
         NodeRepository nodeRepositoryRef,
         LockGuardFactory lockGuardFactoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        @ApiContext AccessContext apiCtxRef,
+        ResourcePropIndex resourcePropIndexRef
     )
     {
         errorReporter = errorReporterRef;
@@ -76,6 +90,8 @@ public class CtrlVlmListApiCallHandler
         nodeRepository = nodeRepositoryRef;
         lockGuardFactory = lockGuardFactoryRef;
         peerAccCtx = peerAccCtxRef;
+        apiCtx = apiCtxRef;
+        resourcePropIndex = resourcePropIndexRef;
     }
 
     public Flux<ResourceList> listVlms(
@@ -84,6 +100,32 @@ public class CtrlVlmListApiCallHandler
         List<String> resources,
         List<String> propFilters
     )
+    {
+        return listVlms(nodeNames, storPools, resources, propFilters, 0, 0, null, null);
+    }
+
+    /**
+     * Lists the volumes of all resources matching the given filters.
+     *
+     * Resources are visited ordered by resource name and node name, which allows paging through the
+     * list either by offset or by a cursor (the resource and node name of the last entry of the
+     * previous page). Only the resources of the requested page are converted into api data.
+     *
+     * @param limit maximum number of resources to return, 0 for all
+     * @param offset number of matching resources to skip (only used if limit is greater than 0)
+     * @param cursorRscName if not null, only resources after the given resource / node pair are listed
+     * @param cursorNodeName node name part of the cursor, may be null to skip the whole resource
+     */
+    public Flux<ResourceList> listVlms(
+        List<String> nodeNames,
+        List<String> storPools,
+        List<String> resources,
+        List<String> propFilters,
+        int limit,
+        int offset,
+        String cursorRscName,
+        String cursorNodeName
+    )
     {
         final Set<NodeName> nodesFilter =
             nodeNames.stream().map(LinstorParsingUtils::asNodeName).collect(Collectors.toSet());
@@ -91,13 +133,25 @@ public class CtrlVlmListApiCallHandler
             storPools.stream().map(LinstorParsingUtils::asStorPoolName).collect(Collectors.toSet());
         final Set<ResourceName> resourceFilter =
             resources.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toSet());
+        final ResourceName cursorRsc = cursorRscName == null ? null : LinstorParsingUtils.asRscName(cursorRscName);
+        final NodeName cursorNode = cursorNodeName == null ? null : LinstorParsingUtils.asNodeName(cursorNodeName);
 
         return vlmAllocatedFetcher.fetchVlmAllocated(nodesFilter, storPoolsFilter, resourceFilter)
             .flatMapMany(vlmAllocatedAnswers ->
                 scopeRunner.fluxInTransactionlessScope(
                     "Assemble volume list",
                     lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP, LockObj.RSC_DFN_MAP),
-                    () -> assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, vlmAllocatedAnswers)
+                    () -> assembleList(
+                        nodesFilter,
+                        storPoolsFilter,
+                        resourceFilter,
+                        propFilters,
+                        vlmAllocatedAnswers,
+                        limit,
+                        offset,
+                        cursorRsc,
+                        cursorNode
+                    )
                 )
             );
     }
@@ -107,109 +161,113 @@ public class CtrlVlmListApiCallHandler
         Set<StorPoolName> storPoolsFilter,
         Set<ResourceName> resourceFilter,
         List<String> propFilters,
-        final Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+        final Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers,
+        int limit,
+        int offset,
+        ResourceName cursorRsc,
+        NodeName cursorNode
     )
     {
         ResourceList rscList = new ResourceList();
+        int skip = limit > 0 ? offset : 0;
+        int remaining = limit > 0 ? limit : Integer.MAX_VALUE;
+        Set<NodeName> listedNodes = new HashSet<>();
         try
         {
-            resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(rscDfn -> resourceFilter.isEmpty() || resourceFilter.contains(rscDfn.getName()))
-                .forEach(rscDfn ->
+            Iterator<Resource> rscIt = iterateCandidates(nodesFilter, storPoolsFilter, resourceFilter, propFilters);
+            while (remaining > 0 && rscIt.hasNext())
+            {
+                Resource rsc = rscIt.next();
+                ResourceDefinition rscDfn = rsc.getDefinition();
+                ResourceName rscName = rscDfn.getName();
+                NodeName nodeName = rsc.getNode().getName();
+                if ((!resourceFilter.isEmpty() && !resourceFilter.contains(rscName)) ||
+                    (!nodesFilter.isEmpty() && !nodesFilter.contains(nodeName)) ||
+                    (cursorRsc != null && (rscName.compareTo(cursorRsc) < 0 ||
+                        (rscName.equals(cursorRsc) && (cursorNode == null || nodeName.compareTo(cursorNode) <= 0)))))
                 {
-                    try
+                    continue;
+                }
+                try
+                {
+                    // same access check as iterating the resources of the resource definition
+                    rscDfn.getResource(peerAccCtx.get(), nodeName);
+
+                    // prop filter
+                    final Props props = rsc.getProps(peerAccCtx.get());
+                    if (!props.contains(propFilters))
+                        continue;
+
+                    // create our api object ourselves to filter the volumes by storage pools
+
+                    // build volume list filtered by storage pools (if provided)
+                    List<Volume> filteredVlms = getVolumesInStorPools(rsc, storPoolsFilter);
+                    if (filteredVlms.isEmpty())
                     {
-                        for (Resource rsc : rscDfn.streamResource(peerAccCtx.get())
-                            .filter(rsc -> nodesFilter.isEmpty() ||
-                                nodesFilter.contains(rsc.getNode().getName()))
-                            .collect(toList()))
+                        continue;
+                    }
+                    if (skip > 0)
+                    {
+                        // resources of previous pages are only counted, not serialized
+                        --skip;
+                        continue;
+                    }
+
+                    List<VolumeApi> volumes = new ArrayList<>();
+                    for (Volume vlm : filteredVlms)
+                    {
+                        VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
+                        if (vlmAllocResult != null)
                         {
-                            // prop filter
-                            final Props props = rsc.getProps(peerAccCtx.get());
-                            if (!props.contains(propFilters))
-                                continue;
-
-                            // create our api object ourselves to filter the volumes by storage pools
-
-                            // build volume list filtered by storage pools (if provided)
-                            List<VolumeApi> volumes = new ArrayList<>();
-                            List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils
-                                .getChildLayerDataByKind(
-                                rsc.getLayerData(peerAccCtx.get()),
-                                DeviceLayerKind.STORAGE
-                            );
-                            Iterator<Volume> itVolumes = rsc.iterateVolumes();
-                            while (itVolumes.hasNext())
-                            {
-                                Volume vlm = itVolumes.next();
-                                boolean addToList = storPoolsFilter.isEmpty();
-                                if (!addToList)
-                                {
-                                    VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
-                                    for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
-                                    {
-                                        if (storPoolsFilter.contains(
-                                            storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName())
-                                        )
-                                        {
-                                            addToList = true;
-                                            break;
-                                        }
-                                    }
-                                }
-                                if (addToList)
-                                {
-                                    VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
-                                    if (vlmAllocResult != null)
-                                    {
-                                        vlm.clearReports();
-                                        vlm.addReports(vlmAllocResult.getApiCallRc());
-                                    }
-                                    volumes.add(vlm.getApiData(
-                                        getAllocated(vlmAllocatedAnswers, vlm),
-                                        peerAccCtx.get()
-                                    ));
-                                }
-                            }
-
-                            List<ResourceConnectionApi> rscConns = new ArrayList<>();
-                            for (ResourceConnection rscConn : rsc.streamAbsResourceConnections(peerAccCtx.get())
-                                    .collect(toList()))
-                            {
-                                rscConns.add(rscConn.getApiData(peerAccCtx.get()));
-                            }
-
-                            if (!volumes.isEmpty())
-                            {
-                                RscPojo filteredRscVlms = new RscPojo(
-                                    rscDfn.getName().getDisplayName(),
-                                    rsc.getNode().getName().getDisplayName(),
-                                    rsc.getNode().getUuid(),
-                                    rscDfn.getApiData(peerAccCtx.get()),
-                                    rsc.getUuid(),
-                                    rsc.getStateFlags().getFlagsBits(peerAccCtx.get()),
-                                    rsc.getProps(peerAccCtx.get()).map(),
-                                    volumes,
-                                    null,
-                                    rscConns,
-                                    null,
-                                    null,
-                                    rsc.getLayerData(peerAccCtx.get()).asPojo(peerAccCtx.get())
-                                );
-                                rscList.addResource(filteredRscVlms);
-                            }
+                            vlm.clearReports();
+                            vlm.addReports(vlmAllocResult.getApiCallRc());
                         }
+                        volumes.add(vlm.getApiData(
+                            getAllocated(vlmAllocatedAnswers, vlm),
+                            vlmAllocResult == null ? null : vlmAllocResult.getAgeMillis(),
+                            peerAccCtx.get()
+                        ));
                     }
-                    catch (AccessDeniedException accDeniedExc)
+
+                    List<ResourceConnectionApi> rscConns = new ArrayList<>();
+                    for (ResourceConnection rscConn : rsc.streamAbsResourceConnections(peerAccCtx.get())
+                            .collect(toList()))
                     {
-                        // don't add rsc without access
+                        rscConns.add(rscConn.getApiData(peerAccCtx.get()));
                     }
+
+                    RscPojo filteredRscVlms = new RscPojo(
+                        rscDfn.getName().getDisplayName(),
+                        rsc.getNode().getName().getDisplayName(),
+                        rsc.getNode().getUuid(),
+                        rscDfn.getApiData(peerAccCtx.get()),
+                        rsc.getUuid(),
+                        rsc.getStateFlags().getFlagsBits(peerAccCtx.get()),
+                        rsc.getProps(peerAccCtx.get()).map(),
+                        volumes,
+                        null,
+                        rscConns,
+                        null,
+                        null,
+                        rsc.getLayerData(peerAccCtx.get()).asPojo(peerAccCtx.get())
+                    );
+                    rscList.addResource(filteredRscVlms);
+                    listedNodes.add(nodeName);
+                    --remaining;
                 }
-                );
+                catch (AccessDeniedException accDeniedExc)
+                {
+                    // don't add rsc without access
+                }
+            }
 
-            // get resource states of all nodes
+            // get resource states of the nodes of the listed resources
             for (final Node node : nodeRepository.getMapForView(peerAccCtx.get()).values())
             {
+                if (!listedNodes.contains(node.getName()))
+                {
+                    continue;
+                }
                 final Peer satellite = node.getPeer(peerAccCtx.get());
                 if (satellite != null)
                 {
@@ -240,6 +298,176 @@ public class CtrlVlmListApiCallHandler
         return Flux.just(rscList);
     }
 
+    /**
+     * Returns the resources that may match the given filters, ordered by resource name and node name.
+     *
+     * If any filter is given, the candidates are taken from the smallest of the matching indexes (resource
+     * definitions by name, resources by node, volumes by storage pool and resources by property) instead of
+     * visiting every resource. The candidates still have to be checked against all filters and for access.
+     */
+    private Iterator<Resource> iterateCandidates(
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolsFilter,
+        Set<ResourceName> resourceFilter,
+        List<String> propFilters
+    )
+        throws AccessDeniedException
+    {
+        Map<ResourceName, ResourceDefinition> rscDfnMap = resourceDefinitionRepository.getMapForView(peerAccCtx.get());
+        Map<NodeName, Node> nodesMap = nodeRepository.getMapForView(peerAccCtx.get());
+
+        Collection<Resource> candidates = null;
+        if (!resourceFilter.isEmpty())
+        {
+            candidates = new ArrayList<>();
+            for (ResourceName rscName : resourceFilter)
+            {
+                ResourceDefinition rscDfn = rscDfnMap.get(rscName);
+                if (rscDfn != null)
+                {
+                    candidates.addAll(rscDfn.streamResource(apiCtx).collect(toList()));
+                }
+            }
+        }
+        if (!storPoolsFilter.isEmpty())
+        {
+            candidates = smaller(candidates, getResourcesInStorPools(nodesMap, nodesFilter, storPoolsFilter));
+        }
+        else
+        if (!nodesFilter.isEmpty())
+        {
+            List<Resource> nodeRscs = new ArrayList<>();
+            for (NodeName nodeName : nodesFilter)
+            {
+                Node node = nodesMap.get(nodeName);
+                if (node != null)
+                {
+                    nodeRscs.addAll(node.streamResources(apiCtx).collect(toList()));
+                }
+            }
+            candidates = smaller(candidates, nodeRscs);
+        }
+        for (String propFilter : propFilters)
+        {
+            candidates = smaller(candidates, resourcePropIndex.getResources(propFilter));
+        }
+
+        Iterator<Resource> rscIt;
+        if (candidates == null)
+        {
+            // no filter, visit all resources lazily as only a page of them might be requested
+            rscIt = rscDfnMap.values().stream()
+                .flatMap(this::streamResources)
+                .iterator();
+        }
+        else
+        {
+            // resources on several volumes of the same storage pool are collected multiple times
+            TreeSet<Resource> sortedCandidates = new TreeSet<>(
+                Comparator.comparing((Resource rsc) -> rsc.getDefinition().getName())
+                    .thenComparing(rsc -> rsc.getNode().getName())
+            );
+            sortedCandidates.addAll(candidates);
+            rscIt = sortedCandidates.iterator();
+        }
+        return rscIt;
+    }
+
+    private Collection<Resource> getResourcesInStorPools(
+        Map<NodeName, Node> nodesMap,
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolsFilter
+    )
+        throws AccessDeniedException
+    {
+        Collection<Node> nodes;
+        if (nodesFilter.isEmpty())
+        {
+            nodes = nodesMap.values();
+        }
+        else
+        {
+            nodes = new ArrayList<>();
+            for (NodeName nodeName : nodesFilter)
+            {
+                Node node = nodesMap.get(nodeName);
+                if (node != null)
+                {
+                    nodes.add(node);
+                }
+            }
+        }
+
+        List<Resource> rscs = new ArrayList<>();
+        for (Node node : nodes)
+        {
+            for (StorPoolName storPoolName : storPoolsFilter)
+            {
+                StorPool storPool = node.getStorPool(apiCtx, storPoolName);
+                if (storPool != null)
+                {
+                    for (VlmProviderObject<Resource> vlmData : storPool.getVolumes(apiCtx))
+                    {
+                        rscs.add(vlmData.getRscLayerObject().getAbsResource());
+                    }
+                }
+            }
+        }
+        return rscs;
+    }
+
+    private static Collection<Resource> smaller(Collection<Resource> candidates, Collection<Resource> indexed)
+    {
+        return candidates == null || indexed.size() < candidates.size() ? indexed : candidates;
+    }
+
+    private Stream<Resource> streamResources(ResourceDefinition rscDfn)
+    {
+        try
+        {
+            return rscDfn.streamResource(apiCtx);
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+    }
+
+    private List<Volume> getVolumesInStorPools(Resource rsc, Set<StorPoolName> storPoolsFilter)
+        throws AccessDeniedException
+    {
+        List<Volume> volumes = new ArrayList<>();
+        List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils.getChildLayerDataByKind(
+            rsc.getLayerData(peerAccCtx.get()),
+            DeviceLayerKind.STORAGE
+        );
+        Iterator<Volume> itVolumes = rsc.iterateVolumes();
+        while (itVolumes.hasNext())
+        {
+            Volume vlm = itVolumes.next();
+            boolean addToList = storPoolsFilter.isEmpty();
+            if (!addToList)
+            {
+                VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
+                for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
+                {
+                    if (storPoolsFilter.contains(
+                        storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName())
+                    )
+                    {
+                        addToList = true;
+                        break;
+                    }
+                }
+            }
+            if (addToList)
+            {
+                volumes.add(vlm);
+            }
+        }
+        return volumes;
+    }
+
     private Long getAllocated(
         Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities,
         Volume vlm
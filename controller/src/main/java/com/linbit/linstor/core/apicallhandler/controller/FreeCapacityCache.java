@@ -0,0 +1,54 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.objects.StorPool;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Free space of the storage pools as last reported by the satellites
+ *
+ * Satellites push the free space of their storage pools after the device manager modified them and in a
+ * configurable interval. As long as those values are not older than the configured maximum age, the
+ * {@link FreeCapacityFetcherProto} uses them instead of querying the satellites.
+ */
+@Singleton
+public class FreeCapacityCache extends TimestampedCache<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>
+{
+    @Inject
+    public FreeCapacityCache(CtrlConfig ctrlCfgRef)
+    {
+        this(TimeUnit.SECONDS.toNanos(ctrlCfgRef.getFreeSpaceMaxAgeSecs()), System::nanoTime);
+    }
+
+    FreeCapacityCache(long maxAgeNanosRef, LongSupplier nanoClockRef)
+    {
+        super(StorPool.Key::getNodeName, maxAgeNanosRef, nanoClockRef);
+    }
+
+    public void update(StorPool.Key storPoolKey, SpaceInfo spaceInfo, List<ApiCallRc> reports)
+    {
+        put(storPoolKey, Tuples.of(spaceInfo, reports));
+    }
+
+    /**
+     * Returns the cached free space of the given storage pools, or <code>null</code> if any of them is not
+     * cached or its cached value is older than the maximum age.
+     */
+    public Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> getFresh(Collection<StorPool.Key> storPoolKeys)
+    {
+        return getFresh(storPoolKeys, (cached, ageNanos) -> cached);
+    }
+}
@@ -16,5 +16,12 @@ public interface FreeCapacityFetcher
 {
     Mono<Map<StorPool.Key, Long>> fetchThinFreeCapacities(Set<NodeName> nodesFilter);
 
-    Mono<Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchThinFreeSpaceInfo(Set<NodeName> nodesFilter);
+    /**
+     * @param forceRefresh Query the satellites even if the cached free space of their storage pools
+     *     is recent enough, see {@link FreeCapacityCache}
+     */
+    Mono<Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchThinFreeSpaceInfo(
+        Set<NodeName> nodesFilter,
+        boolean forceRefresh
+    );
 }
@@ -11,6 +11,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.StorPoolName;
@@ -58,6 +59,8 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
     private final CtrlApiDataLoader ctrlApiDataLoader;
     private final NodeRepository nodeRepository;
     private final Provider<AccessContext> peerAccCtx;
+    private final FreeCapacityCache freeCapacityCache;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public FreeCapacityFetcherProto(
@@ -67,7 +70,9 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         LockGuardFactory lockGuardFactoryRef,
         CtrlApiDataLoader ctrlApiDataLoaderRef,
         NodeRepository nodeRepositoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        FreeCapacityCache freeCapacityCacheRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         apiCtx = apiCtxRef;
@@ -77,12 +82,14 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         ctrlApiDataLoader = ctrlApiDataLoaderRef;
         nodeRepository = nodeRepositoryRef;
         peerAccCtx = peerAccCtxRef;
+        freeCapacityCache = freeCapacityCacheRef;
+        placementIndex = placementIndexRef;
     }
 
     @Override
     public Mono<Map<StorPool.Key, Long>> fetchThinFreeCapacities(Set<NodeName> nodesFilter)
     {
-        return fetchThinFreeSpaceInfo(nodesFilter).map(
+        return fetchThinFreeSpaceInfo(nodesFilter, false).map(
             freeSpaceInfo -> freeSpaceInfo.entrySet().stream().collect(Collectors.toMap(
                 Map.Entry::getKey,
                 entry -> entry.getValue().getT1().freeCapacity
@@ -91,12 +98,15 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
     }
 
     @Override
-    public Mono<Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchThinFreeSpaceInfo(Set<NodeName> nodesFilter)
+    public Mono<Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchThinFreeSpaceInfo(
+        Set<NodeName> nodesFilter,
+        boolean forceRefresh
+    )
     {
         return scopeRunner.fluxInTransactionalScope(
             "Fetch thin capacity info",
             lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP, LockObj.STOR_POOL_DFN_MAP),
-            () -> assembleRequests(nodesFilter).flatMap(this::parseFreeSpaces)
+            () -> fetchFreeSpaces(nodesFilter, forceRefresh)
         )
             .collectMap(
             t -> t.getT1(),
@@ -104,16 +114,64 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         );
     }
 
-    private Flux<Tuple2<NodeName, ByteArrayInputStream>> assembleRequests(Set<NodeName> nodesFilter)
+    private Flux<Tuple2<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchFreeSpaces(
+        Set<NodeName> nodesFilter,
+        boolean forceRefresh
+    )
         throws AccessDeniedException
     {
         Stream<Node> nodeStream = nodesFilter.isEmpty() ?
             nodeRepository.getMapForView(peerAccCtx.get()).values().stream() :
             nodesFilter.stream().map(nodeName -> ctrlApiDataLoader.loadNode(nodeName, true));
 
-        Stream<Node> nodeWithThinStream = nodeStream.filter(this::hasThinPools);
+        List<Tuple2<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> cachedFreeSpaces = new ArrayList<>();
+        List<Node> nodesToQuery = new ArrayList<>();
+        for (Node node : nodeStream.filter(this::hasThinPools).collect(Collectors.toList()))
+        {
+            Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> cached = forceRefresh ?
+                null : getCachedFreeSpaces(node);
+            if (cached == null)
+            {
+                nodesToQuery.add(node);
+            }
+            else
+            {
+                cached.forEach((storPoolKey, freeSpace) -> cachedFreeSpaces.add(Tuples.of(storPoolKey, freeSpace)));
+            }
+        }
+
+        return Flux.fromIterable(cachedFreeSpaces)
+            .concatWith(assembleRequests(nodesToQuery).flatMap(this::parseFreeSpaces));
+    }
+
+    /**
+     * Returns the cached free space of all thin storage pools of the given node, or <code>null</code> if the
+     * satellite has to be queried
+     */
+    private Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> getCachedFreeSpaces(Node node)
+    {
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> cached = null;
+        Peer peer = getPeer(node);
+        if (peer != null && peer.isConnected())
+        {
+            cached = freeCapacityCache.getFresh(
+                streamStorPools(node)
+                    .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
+                    .map(StorPool.Key::new)
+                    .collect(Collectors.toList())
+            );
+        }
+        else
+        {
+            // the satellite cannot push updates while it is disconnected
+            freeCapacityCache.invalidate(node.getName());
+        }
+        return cached;
+    }
 
-        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
+    private Flux<Tuple2<NodeName, ByteArrayInputStream>> assembleRequests(List<Node> nodes)
+    {
+        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodes.stream()
             .map(node -> Tuples.of(node.getName(), prepareFreeSpaceApiCall(node)))
             .collect(Collectors.toList());
 
@@ -225,21 +283,17 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
                 long freeCapacity = freeSpaceInfo.getFreeCapacity();
                 long totalCapacity = freeSpaceInfo.getTotalCapacity();
 
-                ret.add(
-                    Tuples.of(
-                        new StorPool.Key(nodeName, storPoolName),
-                        Tuples.of(
-                            new SpaceInfo(totalCapacity, freeCapacity),
-                            apiCallRcs
-                        )
-                    )
-                );
+                StorPool.Key storPoolKey = new StorPool.Key(nodeName, storPoolName);
+                SpaceInfo spaceInfo = new SpaceInfo(totalCapacity, freeCapacity);
+                ret.add(Tuples.of(storPoolKey, Tuples.of(spaceInfo, apiCallRcs)));
+                freeCapacityCache.update(storPoolKey, spaceInfo, apiCallRcs);
 
                 // also update storage pool's freespacemanager
                 StorPool storPool = nodeRepository.get(apiCtx, nodeName).getStorPool(apiCtx, storPoolName);
                 storPool.getFreeSpaceTracker().setCapacityInfo(apiCtx, freeCapacity, totalCapacity);
 
                 ctrlTransactionHelper.commit();
+                placementIndex.freeSpaceUpdated(storPool);
             }
         }
         catch (IOException | InvalidNameException | AccessDeniedException exc)
@@ -0,0 +1,139 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.Identity;
+import com.linbit.linstor.security.Privilege;
+import com.linbit.linstor.security.Role;
+import com.linbit.linstor.security.SecurityLevel;
+import com.linbit.linstor.security.SecurityType;
+import com.linbit.linstor.transaction.TransactionObjectCollection;
+import com.linbit.locks.LockGuard;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Latest published result of a read-only API call, e.g. a list of api data objects
+ *
+ * The result is assembled while holding the locks that protect the listed objects and published together with
+ * the change generation of the transaction objects (see {@link TransactionObjectCollection#getChangeGeneration()})
+ * observed under those locks. As long as no transaction commits or rolls back modifications, the published
+ * result is returned without taking any lock, so readers neither wait for writers nor hold them off.
+ *
+ * A result is published per access context (identity, role, domain and effective privileges) and security
+ * level, as the access checks while assembling it decide which objects are included.
+ *
+ * Only results that are derived entirely from transaction objects may be published this way. Data that changes
+ * without a transaction, like connection states or values queried from the satellites, must not be part of it.
+ *
+ * Thread safe.
+ *
+ * @param <T> Type of the published result, which must not be modified by the callers
+ */
+public class ReadSnapshot<T>
+{
+    private final LongSupplier generationSupplier;
+    private final ConcurrentMap<AccessKey, Published<T>> publishedMap = new ConcurrentHashMap<>();
+
+    public ReadSnapshot()
+    {
+        this(TransactionObjectCollection::getChangeGeneration);
+    }
+
+    ReadSnapshot(LongSupplier generationSupplierRef)
+    {
+        generationSupplier = generationSupplierRef;
+    }
+
+    /**
+     * Returns the published result for the given access context, or assembles and publishes a new one if any
+     * transaction changed objects since the last one was published
+     *
+     * @param lockSupplier acquires the locks protecting all objects the result is derived from
+     * @param assembler assembles the result, called while holding the locks
+     */
+    public T get(AccessContext accCtx, Supplier<LockGuard> lockSupplier, Supplier<T> assembler)
+    {
+        AccessKey accessKey = new AccessKey(accCtx);
+        Published<T> published = publishedMap.get(accessKey);
+
+        T result;
+        if (published != null && published.generation == generationSupplier.getAsLong())
+        {
+            result = published.result;
+        }
+        else
+        {
+            try (LockGuard lockGuard = lockSupplier.get())
+            {
+                // writers commit while holding the locks, so no change can slip in between these two lines
+                long generation = generationSupplier.getAsLong();
+                result = assembler.get();
+
+                publishedMap.merge(
+                    accessKey,
+                    new Published<>(generation, result),
+                    (oldPublished, newPublished) ->
+                        oldPublished.generation > newPublished.generation ? oldPublished : newPublished
+                );
+            }
+        }
+        return result;
+    }
+
+    private static class Published<T>
+    {
+        private final long generation;
+        private final T result;
+
+        private Published(long generationRef, T resultRef)
+        {
+            generation = generationRef;
+            result = resultRef;
+        }
+    }
+
+    private static class AccessKey
+    {
+        private final Identity identity;
+        private final Role role;
+        private final SecurityType domain;
+        private final List<Privilege> privileges;
+        private final SecurityLevel securityLevel;
+
+        private AccessKey(AccessContext accCtx)
+        {
+            identity = accCtx.getIdentity();
+            role = accCtx.getRole();
+            domain = accCtx.getDomain();
+            privileges = accCtx.getEffectivePrivs().getEnabledPrivileges();
+            securityLevel = SecurityLevel.get();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(identity, role, domain, privileges, securityLevel);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            boolean eq = obj instanceof AccessKey;
+            if (eq)
+            {
+                AccessKey other = (AccessKey) obj;
+                eq = Objects.equals(identity, other.identity) &&
+                    Objects.equals(role, other.role) &&
+                    Objects.equals(domain, other.domain) &&
+                    Objects.equals(privileges, other.privileges) &&
+                    securityLevel == other.securityLevel;
+            }
+            return eq;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.ApiContext;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.TransactionIndex;
+import com.linbit.linstor.transaction.TransactionObjectFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resources by the values of their properties, used to select the candidates of property filtered list queries
+ * (e.g. "Aux/site=a") without visiting every resource
+ *
+ * The index of a property key is built by the first query filtering on that key. Afterwards it is updated by
+ * every modification of that property in the same transaction as the modification, and rolling back the
+ * transaction also reverts the index (see {@link TransactionIndex}). Repeated label selector queries therefore
+ * only cost in proportion to the number of matching resources.
+ *
+ * Building an index registers every existing resource using {@link #track(Resource)}, resources created later
+ * are registered by the {@link com.linbit.linstor.core.objects.ResourceControllerFactory}.
+ *
+ * Callers must hold the read locks of the nodes map and the resource definition map. The index is built using
+ * the API context, so callers still have to check their access to the returned resources.
+ */
+@Singleton
+public class ResourcePropIndex
+{
+    private final AccessContext apiCtx;
+    private final ResourceDefinitionRepository resourceDefinitionRepository;
+    private final TransactionObjectFactory transObjFactory;
+
+    private final Map<String, TransactionIndex<String, Resource>> indexMap = new HashMap<>();
+
+    @Inject
+    public ResourcePropIndex(
+        @ApiContext AccessContext apiCtxRef,
+        ResourceDefinitionRepository resourceDefinitionRepositoryRef,
+        TransactionObjectFactory transObjFactoryRef
+    )
+    {
+        apiCtx = apiCtxRef;
+        resourceDefinitionRepository = resourceDefinitionRepositoryRef;
+        transObjFactory = transObjFactoryRef;
+    }
+
+    /**
+     * Registers the given resource, so that modifications of its properties update the index
+     */
+    public void track(Resource rsc)
+    {
+        try
+        {
+            rsc.getProps(apiCtx).setChangeListener(
+                (key, oldValue, newValue) -> propChanged(rsc, key, oldValue, newValue)
+            );
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+    }
+
+    /**
+     * Returns the resources matching the given property filter, in no particular order
+     *
+     * @param propFilter either "key" for all resources having the property set or "key=value", in the same
+     *     format as used by {@link com.linbit.linstor.propscon.Props#contains(List)}
+     */
+    public synchronized List<Resource> getResources(String propFilter)
+    {
+        String[] split = propFilter.split("=", 2);
+        // the change listener reports normalized keys, but the filter may also be given as e.g. "/Aux/site"
+        String key = PropsContainer.normalizeKey(split[0]);
+        TransactionIndex<String, Resource> index = indexMap.get(key);
+        if (index == null)
+        {
+            index = buildIndex(key);
+            indexMap.put(key, index);
+        }
+
+        return new ArrayList<>(split.length > 1 ? index.get(split[1]) : index.values());
+    }
+
+    private synchronized void propChanged(Resource rsc, String key, String oldValue, String newValue)
+    {
+        TransactionIndex<String, Resource> index = indexMap.get(key);
+        if (index != null)
+        {
+            if (oldValue != null)
+            {
+                index.remove(oldValue, rsc);
+            }
+            if (newValue != null)
+            {
+                index.add(newValue, rsc);
+            }
+        }
+    }
+
+    private TransactionIndex<String, Resource> buildIndex(String key)
+    {
+        Map<String, Set<Resource>> valueMap = new HashMap<>();
+        try
+        {
+            for (ResourceDefinition rscDfn : resourceDefinitionRepository.getMapForView(apiCtx).values())
+            {
+                Iterator<Resource> rscIt = rscDfn.iterateResource(apiCtx);
+                while (rscIt.hasNext())
+                {
+                    Resource rsc = rscIt.next();
+                    track(rsc);
+                    String value = rsc.getProps(apiCtx).getProp(key);
+                    if (value != null)
+                    {
+                        valueMap.computeIfAbsent(value, ignored -> new HashSet<>()).add(rsc);
+                    }
+                }
+            }
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        return transObjFactory.createTransactionIndex(valueMap);
+    }
+}
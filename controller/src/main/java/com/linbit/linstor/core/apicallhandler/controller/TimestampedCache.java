@@ -0,0 +1,119 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.core.identifier.NodeName;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Values reported by the satellites together with the time they were received
+ *
+ * Values are only returned while they are not older than the maximum age. A maximum age of 0 disables the cache.
+ * Every key belongs to a node, so that all values of a node can be dropped when the node loses its connection.
+ * Values of keys that are not updated anymore, e.g. of deleted storage pools or volumes, are dropped by the
+ * next update after they expired.
+ *
+ * Thread safe.
+ *
+ * @param <K> Type of the keys, e.g. storage pool or volume keys
+ * @param <V> Type of the cached values, which must be immutable
+ */
+public abstract class TimestampedCache<K, V>
+{
+    private final ConcurrentMap<K, Entry<V>> cache = new ConcurrentHashMap<>();
+    private final Function<K, NodeName> nodeNameGetter;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastPruneTimestamp;
+
+    protected TimestampedCache(Function<K, NodeName> nodeNameGetterRef, long maxAgeNanosRef, LongSupplier nanoClockRef)
+    {
+        nodeNameGetter = nodeNameGetterRef;
+        maxAgeNanos = maxAgeNanosRef;
+        nanoClock = nanoClockRef;
+        lastPruneTimestamp = new AtomicLong(nanoClockRef.getAsLong());
+    }
+
+    protected void put(K key, V value)
+    {
+        if (maxAgeNanos > 0)
+        {
+            long now = nanoClock.getAsLong();
+            cache.put(key, new Entry<>(value, now));
+            pruneExpired(now);
+        }
+    }
+
+    /**
+     * Drops all expired values. Only done once per maximum age, as every value lives at least that long anyway.
+     */
+    private void pruneExpired(long now)
+    {
+        long lastPrune = lastPruneTimestamp.get();
+        if (now - lastPrune > maxAgeNanos && lastPruneTimestamp.compareAndSet(lastPrune, now))
+        {
+            // only removes the entries that are still expired, concurrently updated ones are kept
+            cache.values().removeIf(entry -> now - entry.updateTimestamp > maxAgeNanos);
+        }
+    }
+
+    /**
+     * Returns the cached values of the given keys, converted together with their age in nanoseconds by the given
+     * mapper, or <code>null</code> if any of them is not cached or its cached value is older than the maximum age.
+     */
+    protected <R> Map<K, R> getFresh(Collection<K> keys, AgedValueMapper<V, R> mapper)
+    {
+        Map<K, R> ret = new HashMap<>();
+        long now = nanoClock.getAsLong();
+        for (K key : keys)
+        {
+            Entry<V> entry = cache.get(key);
+            long ageNanos = entry == null ? 0 : now - entry.updateTimestamp;
+            if (entry == null || ageNanos > maxAgeNanos)
+            {
+                ret = null;
+                break;
+            }
+            ret.put(key, mapper.map(entry.value, ageNanos));
+        }
+        return ret;
+    }
+
+    /**
+     * Drops the cached values of the given node, i.e. because the node lost its connection
+     */
+    public void invalidate(NodeName nodeName)
+    {
+        cache.keySet().removeIf(key -> nodeNameGetter.apply(key).equals(nodeName));
+    }
+
+    // package private for tests
+    int size()
+    {
+        return cache.size();
+    }
+
+    @FunctionalInterface
+    protected interface AgedValueMapper<V, R>
+    {
+        R map(V value, long ageNanos);
+    }
+
+    private static class Entry<V>
+    {
+        private final V value;
+        private final long updateTimestamp;
+
+        private Entry(V valueRef, long updateTimestampRef)
+        {
+            value = valueRef;
+            updateTimestamp = updateTimestampRef;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.objects.Volume;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Allocated sizes of thinly provisioned volumes as last reported by the satellites
+ *
+ * The allocated sizes are updated whenever a satellite applied a resource and by the satellite's periodic
+ * sweep over its thin volumes. As long as those values are not older than the configured maximum age,
+ * the {@link VlmAllocatedFetcherProto} uses them instead of querying the satellites.
+ */
+@Singleton
+public class VlmAllocatedCache extends TimestampedCache<Volume.Key, VlmAllocatedResult>
+{
+    @Inject
+    public VlmAllocatedCache(CtrlConfig ctrlCfgRef)
+    {
+        this(TimeUnit.SECONDS.toNanos(ctrlCfgRef.getVlmAllocatedMaxAgeSecs()), System::nanoTime);
+    }
+
+    VlmAllocatedCache(long maxAgeNanosRef, LongSupplier nanoClockRef)
+    {
+        super(Volume.Key::getNodeName, maxAgeNanosRef, nanoClockRef);
+    }
+
+    public void update(Volume.Key vlmKey, VlmAllocatedResult vlmAllocated)
+    {
+        put(vlmKey, vlmAllocated);
+    }
+
+    /**
+     * Returns the cached allocated sizes of the given volumes together with their age, or <code>null</code>
+     * if any of them is not cached or its cached value is older than the maximum age.
+     */
+    public Map<Volume.Key, VlmAllocatedResult> getFresh(Collection<Volume.Key> vlmKeys)
+    {
+        return getFresh(
+            vlmKeys,
+            (cached, ageNanos) -> new VlmAllocatedResult(
+                cached.getAllocatedSize(),
+                cached.getApiCallRc(),
+                TimeUnit.NANOSECONDS.toMillis(ageNanos)
+            )
+        );
+    }
+}
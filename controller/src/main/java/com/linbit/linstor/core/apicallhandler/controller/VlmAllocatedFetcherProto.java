@@ -39,6 +39,7 @@ import javax.inject.Singleton;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -64,6 +65,7 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
     private final CtrlApiDataLoader ctrlApiDataLoader;
     private final NodeRepository nodeRepository;
     private final Provider<AccessContext> peerAccCtx;
+    private final VlmAllocatedCache vlmAllocatedCache;
 
     @Inject
     public VlmAllocatedFetcherProto(
@@ -74,7 +76,8 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         CtrlApiDataLoader ctrlApiDataLoaderRef,
         NodeRepository nodeRepositoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        VlmAllocatedCache vlmAllocatedCacheRef
     )
     {
         scopeRunner = scopeRunnerRef;
@@ -85,6 +88,7 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         ctrlApiDataLoader = ctrlApiDataLoaderRef;
         nodeRepository = nodeRepositoryRef;
         peerAccCtx = peerAccCtxRef;
+        vlmAllocatedCache = vlmAllocatedCacheRef;
     }
 
     @Override
@@ -99,13 +103,12 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
                 "Fetch volume allocated",
                 LockGuard.createDeferred(
                     nodesMapLock.readLock(), rscDfnMapLock.readLock(), storPoolDfnMapLock.readLock()),
-                () -> requestVlmAllocated(nodesFilter, storPoolFilter, resourceFilter)
+                () -> fetchVlmAllocatedInScope(nodesFilter, storPoolFilter, resourceFilter)
             )
-            .collect(Collectors.toList())
-            .map(this::parseVlmAllocated);
+            .collectMap(Tuple2::getT1, Tuple2::getT2);
     }
 
-    private Flux<Tuple2<NodeName, ByteArrayInputStream>> requestVlmAllocated(
+    private Flux<Tuple2<Volume.Key, VlmAllocatedResult>> fetchVlmAllocatedInScope(
         Set<NodeName> nodesFilter,
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
@@ -116,9 +119,68 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
             nodeRepository.getMapForView(peerAccCtx.get()).values().stream() :
             nodesFilter.stream().map(nodeName -> ctrlApiDataLoader.loadNode(nodeName, true));
 
-        Stream<Node> nodeWithThinStream = nodeStream.filter(node -> hasThinVlms(node, storPoolFilter, resourceFilter));
+        List<Tuple2<Volume.Key, VlmAllocatedResult>> cachedVlmAllocated = new ArrayList<>();
+        List<Node> nodesToQuery = new ArrayList<>();
+        for (Node node : nodeStream
+            .filter(node -> hasThinVlms(node, storPoolFilter, resourceFilter))
+            .collect(Collectors.toList()))
+        {
+            Map<Volume.Key, VlmAllocatedResult> cached = getCachedVlmAllocated(node, storPoolFilter, resourceFilter);
+            if (cached == null)
+            {
+                nodesToQuery.add(node);
+            }
+            else
+            {
+                cached.forEach((vlmKey, vlmAllocated) -> cachedVlmAllocated.add(Tuples.of(vlmKey, vlmAllocated)));
+            }
+        }
+
+        return Flux.fromIterable(cachedVlmAllocated)
+            .concatWith(
+                requestVlmAllocated(nodesToQuery, storPoolFilter, resourceFilter)
+                    .flatMapIterable(this::parseAndCacheVlmAllocated)
+            );
+    }
 
-        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
+    /**
+     * Returns the cached allocated sizes of all matching thin volumes of the given node, or <code>null</code>
+     * if the satellite has to be queried
+     */
+    private Map<Volume.Key, VlmAllocatedResult> getCachedVlmAllocated(
+        Node node,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter
+    )
+    {
+        Map<Volume.Key, VlmAllocatedResult> cached = null;
+        Peer peer = getPeer(node);
+        if (peer != null && peer.isConnected())
+        {
+            cached = vlmAllocatedCache.getFresh(
+                streamThinVlms(node, storPoolFilter)
+                    .map(vlmData -> (Volume) vlmData.getVolume())
+                    .filter(vlm -> resourceFilter.isEmpty() ||
+                        resourceFilter.contains(vlm.getResourceDefinition().getName()))
+                    .map(Volume::getKey)
+                    .collect(Collectors.toList())
+            );
+        }
+        else
+        {
+            // the satellite cannot report updates while it is disconnected
+            vlmAllocatedCache.invalidate(node.getName());
+        }
+        return cached;
+    }
+
+    private Flux<Tuple2<NodeName, ByteArrayInputStream>> requestVlmAllocated(
+        List<Node> nodes,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter
+    )
+    {
+        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodes.stream()
             .map(node -> Tuples.of(node.getName(), requestVlmAllocatedOnNode(node, storPoolFilter, resourceFilter)))
             .collect(Collectors.toList());
 
@@ -135,15 +197,20 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         Set<ResourceName> resourceFilter
     )
     {
-        return streamStorPools(node)
-            .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
-            .filter(storPool -> storPoolFilter.isEmpty() || storPoolFilter.contains(storPool.getName()))
-            .flatMap(this::streamVolumes)
+        return streamThinVlms(node, storPoolFilter)
             .map(vlmData -> vlmData.getVolume().getResourceDefinition())
             .map(ResourceDefinition::getName)
             .anyMatch(rscName -> resourceFilter.isEmpty() || resourceFilter.contains(rscName));
     }
 
+    private Stream<VlmProviderObject<Resource>> streamThinVlms(Node node, Set<StorPoolName> storPoolFilter)
+    {
+        return streamStorPools(node)
+            .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
+            .filter(storPool -> storPoolFilter.isEmpty() || storPoolFilter.contains(storPool.getName()))
+            .flatMap(this::streamVolumes);
+    }
+
     private Flux<ByteArrayInputStream> requestVlmAllocatedOnNode(
         Node node,
         Set<StorPoolName> storPoolFilter,
@@ -223,44 +290,67 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         return peer;
     }
 
-    private Map<Volume.Key, VlmAllocatedResult> parseVlmAllocated(
-        List<Tuple2<NodeName, ByteArrayInputStream>> vlmAllocatedAnswers)
+    private List<Tuple2<Volume.Key, VlmAllocatedResult>> parseAndCacheVlmAllocated(
+        Tuple2<NodeName, ByteArrayInputStream> vlmAllocatedAnswer
+    )
+    {
+        List<Tuple2<Volume.Key, VlmAllocatedResult>> vlmAllocatedList = new ArrayList<>();
+        try
+        {
+            Map<Volume.Key, VlmAllocatedResult> nodeVlmAllocated = parseVlmAllocated(
+                vlmAllocatedAnswer.getT1(),
+                MsgIntVlmAllocated.parseDelimitedFrom(vlmAllocatedAnswer.getT2())
+            );
+            for (Map.Entry<Volume.Key, VlmAllocatedResult> entry : nodeVlmAllocated.entrySet())
+            {
+                vlmAllocatedCache.update(entry.getKey(), entry.getValue());
+                vlmAllocatedList.add(Tuples.of(entry.getKey(), entry.getValue()));
+            }
+        }
+        catch (IOException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        return vlmAllocatedList;
+    }
+
+    /**
+     * Converts the allocated sizes reported by the satellite of the given node, either as answer to a query or
+     * as an unsolicited update
+     */
+    public static Map<Volume.Key, VlmAllocatedResult> parseVlmAllocated(
+        NodeName nodeName,
+        MsgIntVlmAllocated nodeVlmAllocated
+    )
     {
         Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities = new HashMap<>();
 
         try
         {
-            for (Tuple2<NodeName, ByteArrayInputStream> vlmAllocatedAnswer : vlmAllocatedAnswers)
+            for (VlmAllocated vlmAllocated : nodeVlmAllocated.getAllocatedCapacitiesList())
             {
-                NodeName nodeName = vlmAllocatedAnswer.getT1();
-                ByteArrayInputStream vlmAllocatedMsgDataIn = vlmAllocatedAnswer.getT2();
-
-                MsgIntVlmAllocated nodeVlmAllocated = MsgIntVlmAllocated.parseDelimitedFrom(vlmAllocatedMsgDataIn);
-                for (VlmAllocated vlmAllocated : nodeVlmAllocated.getAllocatedCapacitiesList())
+                ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+                for (ApiCallResponse msgApiCallResponse : vlmAllocated.getErrorsList())
                 {
-                    ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
-                    for (ApiCallResponse msgApiCallResponse : vlmAllocated.getErrorsList())
-                    {
-                        apiCallRc.addEntry(ProtoDeserializationUtils.parseApiCallRc(
-                            msgApiCallResponse,
-                            "Node: '" + nodeName +
-                                "', resource: '" + vlmAllocated.getRscName() +
-                                "', volume: " + vlmAllocated.getVlmNr() + " - "
-                        ));
-                    }
-
-                    vlmAllocatedCapacities.put(
-                        new Volume.Key(
-                            nodeName,
-                            new ResourceName(vlmAllocated.getRscName()),
-                            new VolumeNumber(vlmAllocated.getVlmNr())
-                        ),
-                        new VlmAllocatedResult(vlmAllocated.getAllocated(), apiCallRc)
-                    );
+                    apiCallRc.addEntry(ProtoDeserializationUtils.parseApiCallRc(
+                        msgApiCallResponse,
+                        "Node: '" + nodeName +
+                            "', resource: '" + vlmAllocated.getRscName() +
+                            "', volume: " + vlmAllocated.getVlmNr() + " - "
+                    ));
                 }
+
+                vlmAllocatedCapacities.put(
+                    new Volume.Key(
+                        nodeName,
+                        new ResourceName(vlmAllocated.getRscName()),
+                        new VolumeNumber(vlmAllocated.getVlmNr())
+                    ),
+                    new VlmAllocatedResult(vlmAllocated.getAllocated(), apiCallRc)
+                );
             }
         }
-        catch (IOException | InvalidNameException | ValueOutOfRangeException exc)
+        catch (InvalidNameException | ValueOutOfRangeException exc)
         {
             throw new ImplementationError(exc);
         }
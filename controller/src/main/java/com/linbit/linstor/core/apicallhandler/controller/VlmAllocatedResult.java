@@ -6,14 +6,25 @@ public class VlmAllocatedResult
 {
     private long allocatedSize;
     private ApiCallRc apiCallRc;
+    private long ageMillis;
 
     public VlmAllocatedResult(
         long allocatedSizeRef,
         ApiCallRc apiCallRcRef
     )
+    {
+        this(allocatedSizeRef, apiCallRcRef, 0);
+    }
+
+    public VlmAllocatedResult(
+        long allocatedSizeRef,
+        ApiCallRc apiCallRcRef,
+        long ageMillisRef
+    )
     {
         allocatedSize = allocatedSizeRef;
         apiCallRc = apiCallRcRef;
+        ageMillis = ageMillisRef;
     }
 
     public long getAllocatedSize()
@@ -30,4 +41,12 @@ public class VlmAllocatedResult
     {
         return !apiCallRc.isEmpty();
     }
+
+    /**
+     * Returns how long ago the satellite reported the allocated size
+     */
+    public long getAgeMillis()
+    {
+        return ageMillis;
+    }
 }
@@ -52,7 +52,11 @@ public class Autoplacer
         try
         {
             long start = System.currentTimeMillis();
-            ArrayList<StorPool> availableStorPools = filter.listAvailableStorPools();
+            ArrayList<StorPool> availableStorPools = filter.listAvailableStorPools(
+                selectFilter,
+                rscDfnRef,
+                rscSize
+            );
 
             // 1: filter storage pools
             long startFilter = System.currentTimeMillis();
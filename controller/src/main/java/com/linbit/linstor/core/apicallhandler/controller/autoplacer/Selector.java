@@ -9,7 +9,6 @@ import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.logging.ErrorReporter;
-import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.data.RscLayerSuffixes;
@@ -22,6 +21,7 @@ import com.linbit.linstor.storage.utils.LayerUtils;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -247,6 +247,16 @@ class Selector
         private HashMap<String, String> sameProps = new HashMap<>();
         private HashMap<String, List<String>> diffProps = new HashMap<>();
 
+        /*
+         * Changes of the temporary maps made by each select(), in selection order. The search always unselects
+         * the most recently selected storage pool, so these changes can simply be reverted instead of
+         * rebuilding the temporary maps from all selected nodes.
+         */
+        private final ArrayDeque<SelectUndo> undoStack = new ArrayDeque<>();
+
+        // node properties looked up during this selection, to avoid repeated lookups in the nodes' props
+        private final HashMap<Node, HashMap<String, String>> nodePropCache = new HashMap<>();
+
 
         public SelectionManger(
             AutoSelectFilterApi selectFilterRef,
@@ -304,7 +314,6 @@ class Selector
         private boolean chooseIfAllowed(StorPoolWithScore currentSpWithScoreRef) throws AccessDeniedException
         {
             Node node = currentSpWithScoreRef.storPool.getNode();
-            Props nodeProps = node.getProps(apiCtx);
 
             boolean isAllowed = !selectedNodes.contains(node);
 
@@ -343,7 +352,7 @@ class Selector
                 String samePropValue = sameProp.getValue();
                 if (samePropValue != null)
                 {
-                    String nodePropValue = nodeProps.getProp(sameProp.getKey());
+                    String nodePropValue = getNodeProp(node, sameProp.getKey());
                     // if the node does not have the property, do not allow selecting this storage pool
                     isAllowed = nodePropValue != null && nodePropValue.equals(samePropValue);
                     if (!isAllowed) {
@@ -366,7 +375,7 @@ class Selector
             {
                 Entry<String, List<String>> diffProp = diffPropEntrySetIterator.next();
 
-                String nodePropValue = nodeProps.getProp(diffProp.getKey());
+                String nodePropValue = getNodeProp(node, diffProp.getKey());
                 if (nodePropValue != null)
                 {
                     List<String> diffPropValue = diffProp.getValue();
@@ -397,7 +406,8 @@ class Selector
         private void select(StorPoolWithScore currentSpWithScoreRef) throws AccessDeniedException
         {
             StorPool currentStorPool = currentSpWithScoreRef.storPool;
-            Props nodeProps = currentStorPool.getNode().getProps(apiCtx);
+            Node node = currentStorPool.getNode();
+            SelectUndo undo = new SelectUndo();
 
             errorReporter.logTrace(
                 "Autoplacer.Selector: Adding StorPool '%s' on Node '%s' to current selection",
@@ -417,10 +427,11 @@ class Selector
                 if (sameProp.getValue() == null)
                 {
                     String key = sameProp.getKey();
-                    String propValue = nodeProps.getProp(key);
+                    String propValue = getNodeProp(node, key);
                     if (propValue != null)
                     {
                         updateEntriesForSameProps.put(key, propValue);
+                        undo.fixedSameKeys.add(key);
                     }
                 }
             }
@@ -430,15 +441,17 @@ class Selector
             for (Entry<String, List<String>> diffProp : diffProps.entrySet())
             {
                 String key = diffProp.getKey();
-                String propValue = nodeProps.getProp(key);
+                String propValue = getNodeProp(node, key);
                 if (propValue != null)
                 {
                     diffProp.getValue().add(propValue);
+                    undo.extendedDiffLists.add(diffProp.getValue());
                 }
             }
 
             selectedStorPoolWithScoreSet.add(currentSpWithScoreRef);
-            selectedNodes.add(currentStorPool.getNode());
+            selectedNodes.add(node);
+            undoStack.push(undo);
         }
 
         private void unselect(StorPoolWithScore currentSpWithScoreRef) throws AccessDeniedException
@@ -461,12 +474,41 @@ class Selector
                 currentSpWithScoreRef.storPool.getNode().getName().displayValue
             );
 
-            rebuildTemporaryMaps();
+            SelectUndo undo = undoStack.pop();
+            for (String key : undo.fixedSameKeys)
+            {
+                sameProps.put(key, null);
+            }
+            for (List<String> diffList : undo.extendedDiffLists)
+            {
+                diffList.remove(diffList.size() - 1);
+            }
+        }
+
+        private String getNodeProp(Node node, String key) throws AccessDeniedException
+        {
+            HashMap<String, String> nodeProps = nodePropCache.get(node);
+            if (nodeProps == null)
+            {
+                nodeProps = new HashMap<>();
+                nodePropCache.put(node, nodeProps);
+            }
+            String value;
+            if (nodeProps.containsKey(key))
+            {
+                value = nodeProps.get(key);
+            }
+            else
+            {
+                value = node.getProps(apiCtx).getProp(key);
+                nodeProps.put(key, value);
+            }
+            return value;
         }
 
         /*
-         * This method could be implemented much more performant. However this would need
-         * a bit more clever strategy for rolling back those maps
+         * Builds the temporary maps from the already deployed nodes. Only called when a new search starts,
+         * single selections are reverted using the undoStack.
          */
         private void rebuildTemporaryMaps() throws AccessDeniedException
         {
@@ -489,7 +531,7 @@ class Selector
                         selectedValue = null;
                         for (Node selectedNode : selectedNodes)
                         {
-                            String selectedNodeValue = selectedNode.getProps(apiCtx).getProp(key);
+                            String selectedNodeValue = getNodeProp(selectedNode, key);
                             if (selectedNodeValue != null)
                             {
                                 selectedValue = selectedNodeValue;
@@ -525,7 +567,7 @@ class Selector
                     }
                     for (Node selectedNode : selectedNodes)
                     {
-                        String selectedNodeValue = selectedNode.getProps(apiCtx).getProp(key);
+                        String selectedNodeValue = getNodeProp(selectedNode, key);
                         if (selectedNodeValue != null)
                         {
                             list.add(selectedNodeValue);
@@ -544,8 +586,17 @@ class Selector
             selectedProviderKind = null;
 
             selectedStorPoolWithScoreSet.clear();
+            undoStack.clear();
             rebuildTemporaryMaps();
         }
     }
+
+    private static class SelectUndo
+    {
+        // keys of sameProps that were fixed to the value of the selected node
+        private final List<String> fixedSameKeys = new ArrayList<>(2);
+        // lists of diffProps the value of the selected node was appended to
+        private final List<List<String>> extendedDiffLists = new ArrayList<>(2);
+    }
 }
 
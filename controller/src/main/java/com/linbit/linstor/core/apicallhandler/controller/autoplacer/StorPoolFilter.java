@@ -6,7 +6,6 @@ import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
-import com.linbit.linstor.core.CoreModule.StorPoolDefinitionMap;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
@@ -43,20 +42,20 @@ class StorPoolFilter
 {
     private final AccessContext apiAccCtx;
     private final Provider<AccessContext> peerAccCtx;
-    private final StorPoolDefinitionMap storPoolDfnMap;
+    private final StorPoolPlacementIndex placementIndex;
     private final ErrorReporter errorReporter;
 
     @Inject
     public StorPoolFilter(
         @SystemContext AccessContext apiAccCtxRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
-        StorPoolDefinitionMap storPoolDfnMapRef,
+        StorPoolPlacementIndex placementIndexRef,
         ErrorReporter errorReporterRef
     )
     {
         apiAccCtx = apiAccCtxRef;
         peerAccCtx = peerAccCtxRef;
-        storPoolDfnMap = storPoolDfnMapRef;
+        placementIndex = placementIndexRef;
         errorReporter = errorReporterRef;
     }
 
@@ -68,33 +67,52 @@ class StorPoolFilter
      * <li>online</li>
      * </ul>
      *
+     * Only the candidates of the {@link StorPoolPlacementIndex} for the given filter and size are checked, i.e.
+     * storage pools that cannot pass {@link #filter(AutoSelectFilterApi, List, ResourceDefinition, long)} anyways
+     * might already be skipped.
+     *
      * @return
      */
-    public ArrayList<StorPool> listAvailableStorPools()
+    public ArrayList<StorPool> listAvailableStorPools(
+        AutoSelectFilterApi selectFilter,
+        ResourceDefinition rscDfnRef,
+        long sizeInKib
+    )
     {
         ArrayList<StorPool> ret = new ArrayList<>();
         try
         {
             AccessContext peerCtx = peerAccCtx.get();
-            for (StorPoolDefinition storPoolDfn : storPoolDfnMap.values())
+            List<StorPool> candidates = placementIndex.getCandidates(
+                sizeInKib,
+                selectFilter.getProviderList(),
+                selectFilter.getNodeNameList(),
+                selectFilter.getStorPoolNameList(),
+                extractFixedMatchingProperties(
+                    selectFilter.getReplicasOnSameList(),
+                    getAlreadyDeployedNodesProps(rscDfnRef)
+                )
+            );
+            Map<StorPoolDefinition, Boolean> storPoolDfnAccessMap = new HashMap<>();
+            for (StorPool storPool : candidates)
             {
-                // check storPoolDfn access
-                if (storPoolDfn.getObjProt().queryAccess(peerCtx).hasAccess(AccessType.USE))
+                StorPoolDefinition storPoolDfn = storPool.getDefinition(apiAccCtx);
+                Boolean storPoolDfnAccess = storPoolDfnAccessMap.get(storPoolDfn);
+                if (storPoolDfnAccess == null)
                 {
-                    Iterator<StorPool> storPoolsIt = storPoolDfn.iterateStorPools(apiAccCtx);
-                    while (storPoolsIt.hasNext())
-                    {
-                        StorPool storPool = storPoolsIt.next();
+                    // check storPoolDfn access
+                    storPoolDfnAccess = storPoolDfn.getObjProt().queryAccess(peerCtx).hasAccess(AccessType.USE);
+                    storPoolDfnAccessMap.put(storPoolDfn, storPoolDfnAccess);
+                }
 
-                        if (
-                            storPool.getDeviceProviderKind().hasBackingDevice() && // diskful
-                                storPool.getNode().getObjProt().queryAccess(peerCtx).hasAccess(AccessType.USE) && // access
-                                storPool.getNode().getPeer(apiAccCtx).isConnected() // online
-                        )
-                        {
-                            ret.add(storPool);
-                        }
-                    }
+                if (
+                    storPoolDfnAccess &&
+                        storPool.getDeviceProviderKind().hasBackingDevice() && // diskful
+                        storPool.getNode().getObjProt().queryAccess(peerCtx).hasAccess(AccessType.USE) && // access
+                        storPool.getNode().getPeer(apiAccCtx).isConnected() // online
+                )
+                {
+                    ret.add(storPool);
                 }
             }
         }
@@ -141,15 +159,7 @@ class StorPoolFilter
 
         Map<Node, Boolean> nodeMatchesMap = new HashMap<>();
 
-        ArrayList<Props> alreadyDeployedNodesProps = new ArrayList<>();
-        if (rscDfnRef != null)
-        {
-            Iterator<Resource> rscIt = rscDfnRef.iterateResource(apiAccCtx);
-            while (rscIt.hasNext())
-            {
-                alreadyDeployedNodesProps.add(rscIt.next().getNode().getProps(apiAccCtx));
-            }
-        }
+        ArrayList<Props> alreadyDeployedNodesProps = getAlreadyDeployedNodesProps(rscDfnRef);
 
         List<String> filterNodeNameList = selectFilter.getNodeNameList();
         List<String> filterStorPoolNameList = selectFilter.getStorPoolNameList();
@@ -406,6 +416,21 @@ class StorPoolFilter
         return filteredList;
     }
 
+    private ArrayList<Props> getAlreadyDeployedNodesProps(ResourceDefinition rscDfnRef)
+        throws AccessDeniedException
+    {
+        ArrayList<Props> alreadyDeployedNodesProps = new ArrayList<>();
+        if (rscDfnRef != null)
+        {
+            Iterator<Resource> rscIt = rscDfnRef.iterateResource(apiAccCtx);
+            while (rscIt.hasNext())
+            {
+                alreadyDeployedNodesProps.add(rscIt.next().getNode().getProps(apiAccCtx));
+            }
+        }
+        return alreadyDeployedNodesProps;
+    }
+
     /**
      * The input is a List of String, where each element could be a simple key (i.e. "key") but also a
      * pair of key-value (i.e. "key=value").
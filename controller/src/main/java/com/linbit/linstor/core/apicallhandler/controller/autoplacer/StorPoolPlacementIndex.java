@@ -0,0 +1,367 @@
+package com.linbit.linstor.core.apicallhandler.controller.autoplacer;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.SystemContext;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.CoreModule.StorPoolDefinitionMap;
+import com.linbit.linstor.core.objects.FreeSpaceTracker;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the diskful storage pools that are considered by the {@link Autoplacer}
+ *
+ * The storage pools are bucketed by their device provider kind, by the class of their last reported free
+ * capacity (the bit length of the free capacity in KiB) and by the values of the auxiliary properties of their
+ * nodes. The autoplacer only visits the storage pools of the smallest bucket that matches its filter instead of
+ * every storage pool of the cluster. The {@link StorPoolFilter} still checks every candidate, which means that
+ * the candidates only need to include all storage pools that could match.
+ *
+ * The controller reports free capacity updates using {@link #freeSpaceUpdated(StorPool)}, which moves the
+ * affected storage pools to their new free capacity class. Changes of the set of storage pools or of node
+ * properties are reported using {@link #invalidate()}, after which the index is rebuilt by the next lookup.
+ * Both are to be called after the change was committed.
+ */
+@Singleton
+public class StorPoolPlacementIndex
+{
+    private static final String AUX_PREFIX = ApiConsts.NAMESPC_AUXILIARY + "/";
+
+    private final AccessContext apiCtx;
+    private final StorPoolDefinitionMap storPoolDfnMap;
+
+    private boolean valid = false;
+
+    private final Map<DeviceProviderKind, Set<StorPool>> byProviderKind = new EnumMap<>(DeviceProviderKind.class);
+    private final TreeMap<Integer, Set<StorPool>> byFreeSpaceClass = new TreeMap<>();
+    // key: auxiliary property key, value: storage pools by property value
+    private final Map<String, Map<String, Set<StorPool>>> byAuxProp = new HashMap<>();
+    // key: upper case node name
+    private final Map<String, Set<StorPool>> byNodeName = new HashMap<>();
+    // key: upper case storage pool name
+    private final Map<String, Set<StorPool>> byStorPoolName = new HashMap<>();
+    private final Map<StorPool, Integer> freeSpaceClasses = new HashMap<>();
+    private final Map<FreeSpaceTracker, List<StorPool>> storPoolsByTracker = new HashMap<>();
+    // incremented for every free capacity report of a storage pool
+    private final Map<StorPool, Long> freeSpaceReportCounts = new HashMap<>();
+
+    @Inject
+    public StorPoolPlacementIndex(
+        @SystemContext AccessContext apiCtxRef,
+        StorPoolDefinitionMap storPoolDfnMapRef
+    )
+    {
+        apiCtx = apiCtxRef;
+        storPoolDfnMap = storPoolDfnMapRef;
+    }
+
+    /**
+     * Drops the index after storage pools were created or deleted or after node properties were changed
+     */
+    public synchronized void invalidate()
+    {
+        valid = false;
+        byProviderKind.clear();
+        byFreeSpaceClass.clear();
+        byAuxProp.clear();
+        byNodeName.clear();
+        byStorPoolName.clear();
+        freeSpaceClasses.clear();
+        storPoolsByTracker.clear();
+        // forget the report counts of deleted storage pools. The counts of the remaining storage pools have to be
+        // kept, as the StrategyHandler would not notice a report that brings a reset count back to its old value
+        freeSpaceReportCounts.keySet().removeIf(storPool -> !isRegistered(storPool));
+    }
+
+    /**
+     * Moves the given storage pool and all storage pools sharing its free space tracker to the free space class
+     * of their current free capacity
+     */
+    public synchronized void freeSpaceUpdated(StorPool storPoolRef)
+    {
+        if (valid)
+        {
+            List<StorPool> sharingStorPools = storPoolsByTracker.get(storPoolRef.getFreeSpaceTracker());
+            if (sharingStorPools != null)
+            {
+                for (StorPool storPool : sharingStorPools)
+                {
+                    Integer oldClass = freeSpaceClasses.get(storPool);
+                    int newClass = getFreeSpaceClass(storPool);
+                    if (oldClass != null && oldClass != newClass)
+                    {
+                        Set<StorPool> oldBucket = byFreeSpaceClass.get(oldClass);
+                        oldBucket.remove(storPool);
+                        if (oldBucket.isEmpty())
+                        {
+                            byFreeSpaceClass.remove(oldClass);
+                        }
+                        addToBucket(byFreeSpaceClass, newClass, storPool);
+                        freeSpaceClasses.put(storPool, newClass);
+                    }
+                }
+            }
+        }
+        // a late report of a deleted storage pool must not add its count again
+        if (isRegistered(storPoolRef))
+        {
+            freeSpaceReportCounts.merge(storPoolRef, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Returns the number of free capacity reports of the given storage pool. Used by the {@link StrategyHandler}
+     * to detect changes of the reported allocated sizes of the volumes of the storage pool.
+     */
+    synchronized long getFreeSpaceReportCount(StorPool storPoolRef)
+    {
+        return freeSpaceReportCounts.getOrDefault(storPoolRef, 0L);
+    }
+
+    /**
+     * Returns the diskful storage pools that are not deleted and that may have
+     * <ul>
+     * <li>at least the given free capacity</li>
+     * <li>one of the given device provider kinds, unless the list is null or empty</li>
+     * <li>one of the given node names, unless the list is null or empty</li>
+     * <li>one of the given storage pool names, unless the list is null or empty</li>
+     * <li>the given values of the node properties, where a null value matches every value</li>
+     * </ul>
+     */
+    synchronized List<StorPool> getCandidates(
+        long sizeInKib,
+        List<DeviceProviderKind> providerList,
+        List<String> nodeNameList,
+        List<String> storPoolNameList,
+        Map<String, String> nodePropsMatch
+    )
+    {
+        if (!valid)
+        {
+            rebuild();
+        }
+
+        List<Collection<Set<StorPool>>> restrictions = new ArrayList<>();
+
+        restrictions.add(byFreeSpaceClass.tailMap(getFreeSpaceClass(sizeInKib), true).values());
+        if (providerList != null && !providerList.isEmpty())
+        {
+            List<Set<StorPool>> buckets = new ArrayList<>();
+            for (DeviceProviderKind kind : providerList)
+            {
+                addIfNotNull(buckets, byProviderKind.get(kind));
+            }
+            restrictions.add(buckets);
+        }
+        if (nodeNameList != null && !nodeNameList.isEmpty())
+        {
+            restrictions.add(getBucketsByName(byNodeName, nodeNameList));
+        }
+        if (storPoolNameList != null && !storPoolNameList.isEmpty())
+        {
+            restrictions.add(getBucketsByName(byStorPoolName, storPoolNameList));
+        }
+        if (nodePropsMatch != null)
+        {
+            for (Map.Entry<String, String> propEntry : nodePropsMatch.entrySet())
+            {
+                String key = propEntry.getKey();
+                if (key.startsWith(AUX_PREFIX))
+                {
+                    Map<String, Set<StorPool>> byValue = byAuxProp.getOrDefault(key, Collections.emptyMap());
+                    String value = propEntry.getValue();
+                    if (value == null)
+                    {
+                        restrictions.add(byValue.values());
+                    }
+                    else
+                    {
+                        List<Set<StorPool>> buckets = new ArrayList<>();
+                        addIfNotNull(buckets, byValue.get(value));
+                        restrictions.add(buckets);
+                    }
+                }
+            }
+        }
+
+        // iterate the smallest restriction, look up the storage pools in all other restrictions
+        Collection<Set<StorPool>> smallest = null;
+        int smallestSize = Integer.MAX_VALUE;
+        for (Collection<Set<StorPool>> restriction : restrictions)
+        {
+            int size = 0;
+            for (Set<StorPool> bucket : restriction)
+            {
+                size += bucket.size();
+            }
+            if (size < smallestSize)
+            {
+                smallest = restriction;
+                smallestSize = size;
+            }
+        }
+
+        List<StorPool> ret = new ArrayList<>(smallestSize);
+        for (Set<StorPool> bucket : smallest)
+        {
+            for (StorPool storPool : bucket)
+            {
+                boolean matches = isRegistered(storPool);
+                for (Collection<Set<StorPool>> restriction : restrictions)
+                {
+                    if (!matches)
+                    {
+                        break;
+                    }
+                    if (restriction != smallest)
+                    {
+                        matches = false;
+                        for (Set<StorPool> otherBucket : restriction)
+                        {
+                            if (otherBucket.contains(storPool))
+                            {
+                                matches = true;
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (matches)
+                {
+                    ret.add(storPool);
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Storage pools whose creation was rolled back are not deleted, but also not known by their node
+     */
+    private boolean isRegistered(StorPool storPool)
+    {
+        boolean registered;
+        try
+        {
+            registered = !storPool.isDeleted() && !storPool.getNode().isDeleted() &&
+                storPool.getNode().getStorPool(apiCtx, storPool.getName()) == storPool;
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        return registered;
+    }
+
+    private void rebuild()
+    {
+        try
+        {
+            for (StorPoolDefinition storPoolDfn : storPoolDfnMap.values())
+            {
+                Iterator<StorPool> storPoolIt = storPoolDfn.iterateStorPools(apiCtx);
+                while (storPoolIt.hasNext())
+                {
+                    StorPool storPool = storPoolIt.next();
+                    if (storPool.getDeviceProviderKind().hasBackingDevice())
+                    {
+                        add(storPool);
+                    }
+                }
+            }
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        valid = true;
+    }
+
+    private void add(StorPool storPool) throws AccessDeniedException
+    {
+        addToBucket(byProviderKind, storPool.getDeviceProviderKind(), storPool);
+
+        int freeSpaceClass = getFreeSpaceClass(storPool);
+        addToBucket(byFreeSpaceClass, freeSpaceClass, storPool);
+        freeSpaceClasses.put(storPool, freeSpaceClass);
+
+        addToBucket(byNodeName, storPool.getNode().getName().value, storPool);
+        addToBucket(byStorPoolName, storPool.getName().value, storPool);
+
+        for (Map.Entry<String, String> propEntry : storPool.getNode().getProps(apiCtx).entrySet())
+        {
+            String key = propEntry.getKey();
+            if (key.startsWith(AUX_PREFIX))
+            {
+                Map<String, Set<StorPool>> byValue = byAuxProp.computeIfAbsent(key, ignored -> new HashMap<>());
+                addToBucket(byValue, propEntry.getValue(), storPool);
+            }
+        }
+
+        storPoolsByTracker.computeIfAbsent(storPool.getFreeSpaceTracker(), ignored -> new ArrayList<>())
+            .add(storPool);
+    }
+
+    private int getFreeSpaceClass(StorPool storPool)
+    {
+        long freeCapacity;
+        try
+        {
+            freeCapacity = storPool.getFreeSpaceTracker().getFreeCapacityLastUpdated(apiCtx).orElse(0L);
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        return getFreeSpaceClass(freeCapacity);
+    }
+
+    /**
+     * A free capacity of at least the given size in KiB can only be in the same or in a higher class
+     */
+    private static int getFreeSpaceClass(long sizeInKib)
+    {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(sizeInKib, 0L));
+    }
+
+    private static List<Set<StorPool>> getBucketsByName(Map<String, Set<StorPool>> byName, List<String> names)
+    {
+        List<Set<StorPool>> buckets = new ArrayList<>();
+        for (String name : names)
+        {
+            addIfNotNull(buckets, byName.get(name.toUpperCase()));
+        }
+        return buckets;
+    }
+
+    private static <K> void addToBucket(Map<K, Set<StorPool>> buckets, K key, StorPool storPool)
+    {
+        buckets.computeIfAbsent(key, ignored -> new HashSet<>()).add(storPool);
+    }
+
+    private static void addIfNotNull(List<Set<StorPool>> buckets, Set<StorPool> bucket)
+    {
+        if (bucket != null)
+        {
+            buckets.add(bucket);
+        }
+    }
+}
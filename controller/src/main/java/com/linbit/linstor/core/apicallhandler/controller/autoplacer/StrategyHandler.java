@@ -15,16 +15,21 @@ import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 
+import org.slf4j.event.Level;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 @Singleton
 class StrategyHandler
@@ -34,7 +39,15 @@ class StrategyHandler
     private final AccessContext apiCtx;
     private final ErrorReporter errorReporter;
 
+    private final StorPoolPlacementIndex placementIndex;
+
     private final Map<AutoplaceStrategy, Double> dfltWeights;
+    /*
+     * The raw values of the strategies only depend on the volumes and the free capacity of the storage pool.
+     * They are reused until one of these changes, so that rating a placement only needs to look at the volumes
+     * of storage pools that changed since the last placement.
+     */
+    private final Map<AutoplaceStrategy, Map<StorPool, CachedValue>> valueCache;
 
     @Inject
     StrategyHandler(
@@ -43,18 +56,23 @@ class StrategyHandler
         MaximumFreeSpaceStrategy freeSpaceStratRef,
         MinimumReservedSpaceStrategy minReservedSpaceStratRef,
         MinimumResourceCountStrategy minRscCountStratRef,
+        StorPoolPlacementIndex placementIndexRef,
         ErrorReporter errorReporterRef
     )
     {
         strategies = Arrays.asList(freeSpaceStratRef, minReservedSpaceStratRef, minRscCountStratRef);
         sysCfgRep = sysCfgRepRef;
         apiCtx = apiCtxRef;
+        placementIndex = placementIndexRef;
         errorReporter = errorReporterRef;
 
         dfltWeights = new HashMap<>();
+        valueCache = new HashMap<>();
         for (AutoplaceStrategy strat : strategies)
         {
             dfltWeights.put(strat, 0.0);
+            // deleted storage pools are dropped by the garbage collector
+            valueCache.put(strat, new WeakHashMap<>());
         }
         dfltWeights.put(freeSpaceStratRef, 1.0);
     }
@@ -68,13 +86,30 @@ class StrategyHandler
 
         Map<AutoplaceStrategy, Double> strategyWeights = getWeights();
 
+        boolean traceEnabled = errorReporter.hasAtLeastLogLevel(Level.TRACE);
+
         Map<StorPool, StorPoolWithScore> lut = new HashMap<>();
+        Map<StorPool, StorPoolState> states = new HashMap<>();
+        for (StorPool sp : storPoolListRef)
+        {
+            lut.put(sp, new StorPoolWithScore(sp, 0));
+            states.put(sp, getState(sp));
+        }
         for (AutoplaceStrategy strat : strategies)
         {
             String stratName = strat.getName();
             double weight = strategyWeights.get(strat);
+            if (weight == 0.0)
+            {
+                // the strategy cannot change any score, skip rating (e.g. counting all resources of all pools)
+                if (traceEnabled)
+                {
+                    errorReporter.logTrace("Autoplacer.Strategy: Skipping strategy '%s' with weight 0", stratName);
+                }
+                continue;
+            }
 
-            Map<StorPool, Double> stratRate = strat.rate(storPoolListRef, additionalInfo);
+            Map<StorPool, Double> stratRate = getValues(strat, storPoolListRef, states, additionalInfo);
 
             double highestValue = Double.NEGATIVE_INFINITY;
             for (Double stratValue : stratRate.values())
@@ -116,21 +151,80 @@ class StrategyHandler
                 }
                 double normalizdWeightedVal = normalizedVal * weight;
                 prevRating.score += normalizdWeightedVal;
-                errorReporter.logTrace(
-                    "Autoplacer.Strategy: Updated score of StorPool '%s' on Node '%s' to %f (%f, %f, %f)",
-                    sp.getName().displayValue,
-                    sp.getNode().getName().displayValue,
-                    prevRating.score,
-                    stratValue,
-                    normalizedVal,
-                    normalizdWeightedVal
-                );
+                if (traceEnabled)
+                {
+                    errorReporter.logTrace(
+                        "Autoplacer.Strategy: Updated score of StorPool '%s' on Node '%s' to %f (%f, %f, %f)",
+                        sp.getName().displayValue,
+                        sp.getNode().getName().displayValue,
+                        prevRating.score,
+                        stratValue,
+                        normalizedVal,
+                        normalizdWeightedVal
+                    );
+                }
             }
         }
 
         return lut.values();
     }
 
+    /**
+     * Returns the raw values of the given strategy, only rating the storage pools whose cached value is outdated
+     */
+    private Map<StorPool, Double> getValues(
+        AutoplaceStrategy strat,
+        List<StorPool> storPoolListRef,
+        Map<StorPool, StorPoolState> states,
+        RatingAdditionalInfo additionalInfo
+    )
+        throws AccessDeniedException
+    {
+        Map<StorPool, Double> ret = new HashMap<>();
+        Map<StorPool, CachedValue> stratCache = valueCache.get(strat);
+        synchronized (stratCache)
+        {
+            List<StorPool> outdatedStorPools = new ArrayList<>();
+            for (StorPool sp : storPoolListRef)
+            {
+                CachedValue cached = stratCache.get(sp);
+                if (cached != null && cached.state.equals(states.get(sp)))
+                {
+                    ret.put(sp, cached.value);
+                }
+                else
+                {
+                    outdatedStorPools.add(sp);
+                }
+            }
+
+            if (!outdatedStorPools.isEmpty())
+            {
+                Map<StorPool, Double> rated = strat.rate(outdatedStorPools, additionalInfo);
+                for (Entry<StorPool, Double> entry : rated.entrySet())
+                {
+                    StorPool sp = entry.getKey();
+                    // uncommitted changes could be rolled back without changing the state
+                    if (!sp.isDirty())
+                    {
+                        stratCache.put(sp, new CachedValue(states.get(sp), entry.getValue()));
+                    }
+                }
+                ret.putAll(rated);
+            }
+        }
+        return ret;
+    }
+
+    private StorPoolState getState(StorPool sp) throws AccessDeniedException
+    {
+        return new StorPoolState(
+            sp.getVolumesModCount(),
+            sp.getFreeSpaceTracker().getFreeCapacityLastUpdated(apiCtx).orElse(-1L),
+            placementIndex.getFreeSpaceReportCount(sp)
+        );
+    }
+
     private Map<AutoplaceStrategy, Double> getWeights() throws AccessDeniedException
     {
         Map<AutoplaceStrategy, Double> weights = new HashMap<>(dfltWeights);
@@ -187,4 +281,54 @@ class StrategyHandler
         }
         return weights;
     }
+
+    /**
+     * Everything the values of the strategies depend on. The volumes are covered by the modification count of the
+     * storage pool, the allocated sizes of the volumes are updated together with the free capacity reports.
+     */
+    private static class StorPoolState
+    {
+        private final long volumesModCount;
+        private final long freeCapacity;
+        private final long freeSpaceReportCount;
+
+        StorPoolState(long volumesModCountRef, long freeCapacityRef, long freeSpaceReportCountRef)
+        {
+            volumesModCount = volumesModCountRef;
+            freeCapacity = freeCapacityRef;
+            freeSpaceReportCount = freeSpaceReportCountRef;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            boolean eq = obj instanceof StorPoolState;
+            if (eq)
+            {
+                StorPoolState other = (StorPoolState) obj;
+                eq = volumesModCount == other.volumesModCount &&
+                    freeCapacity == other.freeCapacity &&
+                    freeSpaceReportCount == other.freeSpaceReportCount;
+            }
+            return eq;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(volumesModCount, freeCapacity, freeSpaceReportCount);
+        }
+    }
+
+    private static class CachedValue
+    {
+        private final StorPoolState state;
+        private final double value;
+
+        CachedValue(StorPoolState stateRef, double valueRef)
+        {
+            state = stateRef;
+            value = valueRef;
+        }
+    }
 }
@@ -10,8 +10,10 @@ import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
 import com.linbit.linstor.core.CtrlAuthenticator;
 import com.linbit.linstor.core.SatelliteConnectorImpl;
+import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.response.ResponseUtils;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
@@ -25,6 +27,9 @@ import com.linbit.linstor.proto.common.ApiCallResponseOuterClass.ApiCallResponse
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.tasks.RetryResourcesTask;
+import com.linbit.locks.LockGuard;
+import com.linbit.locks.LockGuardFactory;
+import com.linbit.locks.LockGuardFactory.LockObj;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -55,6 +60,9 @@ public class CtrlSatelliteUpdateCaller
     private final Provider<RetryResourcesTask> retryResourceTaskProvider;
     private final SatelliteConnectorImpl stltConnector;
     private final Provider<CtrlAuthenticator> ctrlAuthenticator;
+    private final LockGuardFactory lockGuardFactory;
+    private final ScopeRunner scopeRunner;
+    private final boolean pushResourceData;
 
     @Inject
     private CtrlSatelliteUpdateCaller(
@@ -62,7 +70,10 @@ public class CtrlSatelliteUpdateCaller
         CtrlStltSerializer serializerRef,
         Provider<RetryResourcesTask> retryResourceTaskProviderRef,
         SatelliteConnectorImpl stltConnectorRef,
-        Provider<CtrlAuthenticator> ctrlAuthenticatorRef
+        Provider<CtrlAuthenticator> ctrlAuthenticatorRef,
+        LockGuardFactory lockGuardFactoryRef,
+        ScopeRunner scopeRunnerRef,
+        CtrlConfig ctrlCfgRef
     )
     {
         apiCtx = apiCtxRef;
@@ -70,6 +81,9 @@ public class CtrlSatelliteUpdateCaller
         retryResourceTaskProvider = retryResourceTaskProviderRef;
         stltConnector = stltConnectorRef;
         ctrlAuthenticator = ctrlAuthenticatorRef;
+        lockGuardFactory = lockGuardFactoryRef;
+        scopeRunner = scopeRunnerRef;
+        pushResourceData = ctrlCfgRef.isStltPushResourceData();
     }
 
     /**
@@ -289,18 +303,25 @@ public class CtrlSatelliteUpdateCaller
         }
         else
         {
-            response = currentPeer
-                .apiCall(
-                    InternalApiConsts.API_CHANGED_RSC,
-                    internalComSerializer
-                        .headerlessBuilder()
-                        .changedResource(
-                            currentRsc.getUuid(),
-                            currentRsc.getDefinition().getName().displayValue
-                        )
-                        .build()
-                )
-
+            UUID rscUuid = currentRsc.getUuid();
+            String rscNameStr = currentRsc.getDefinition().getName().displayValue;
+            Flux<ByteArrayInputStream> apiCallFlux;
+            if (pushResourceData)
+            {
+                apiCallFlux = scopeRunner.fluxInTransactionlessScope(
+                    "Push resource data",
+                    lockGuardFactory.create()
+                        .read(LockObj.NODES_MAP, LockObj.STOR_POOL_DFN_MAP)
+                        .readObject(LockObj.RSC_DFN_MAP, rscNameStr)
+                        .build(),
+                    () -> pushResource(currentPeer, currentRsc, rscUuid, rscNameStr)
+                );
+            }
+            else
+            {
+                apiCallFlux = changedResource(currentPeer, rscUuid, rscNameStr);
+            }
+            response = apiCallFlux
                 .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
 
                 .onErrorResume(
@@ -313,6 +334,61 @@ public class CtrlSatelliteUpdateCaller
         return response;
     }
 
+    private Flux<ByteArrayInputStream> changedResource(Peer peer, UUID rscUuid, String rscNameStr)
+    {
+        return peer.apiCall(
+            InternalApiConsts.API_CHANGED_RSC,
+            internalComSerializer
+                .headerlessBuilder()
+                .changedResource(rscUuid, rscNameStr)
+                .build()
+        );
+    }
+
+    /**
+     * Sends the resource's data together with the change notification, which saves the satellite the
+     * request for the data.
+     *
+     * Runs when the response is subscribed, so that an update id is only allocated for a message that is
+     * actually sent. A satellite that misses an update id could not apply any later update. The message is sent
+     * while the peer's serializer lock is held, just like the data requested by the satellite, so that a full sync
+     * cannot be sent between the allocation of the update id and the message. The response is replayed to the
+     * subscriber of the returned flux.
+     */
+    private Flux<ByteArrayInputStream> pushResource(
+        Peer peer,
+        Resource rsc,
+        UUID rscUuid,
+        String rscNameStr
+    )
+    {
+        Flux<ByteArrayInputStream> apiCallFlux;
+        try (LockGuard serializerLs = LockGuard.createLocked(peer.getSerializerLock().readLock()))
+        {
+            if (!rsc.isDeleted() && peer.isFullSyncApplied())
+            {
+                long fullSyncId = peer.getFullSyncId();
+                long updateId = peer.getNextSerializerId();
+                apiCallFlux = peer.apiCall(
+                    InternalApiConsts.API_CHANGED_RSC_DATA,
+                    internalComSerializer
+                        .headerlessBuilder()
+                        .resource(rsc, fullSyncId, updateId)
+                        .build()
+                )
+                    // subscribe now to send the message before the serializer lock is released
+                    .replay()
+                    .autoConnect(0);
+            }
+            else
+            {
+                // let the satellite request the current state, which also covers the deletion of the resource
+                apiCallFlux = changedResource(peer, rscUuid, rscNameStr);
+            }
+        }
+        return apiCallFlux;
+    }
+
     private Flux<ApiCallRc> updateSnapshot(Snapshot snapshot, NotConnectedHandler notConnectedHandler)
         throws AccessDeniedException
     {
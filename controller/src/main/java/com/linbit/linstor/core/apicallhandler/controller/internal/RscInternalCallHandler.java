@@ -6,6 +6,7 @@ import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.ApiContext;
 import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.interfaces.RscLayerDataApi;
 import com.linbit.linstor.api.interfaces.VlmLayerDataApi;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
@@ -14,6 +15,9 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.apicallhandler.CtrlRscLayerDataMerger;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiDataLoader;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlTransactionHelper;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedCache;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedResult;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.StorPoolName;
@@ -41,6 +45,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +73,8 @@ public class RscInternalCallHandler
     private final ReadWriteLock storPoolDfnMapLock;
     private final CtrlRscLayerDataMerger layerRscDataMerger;
     private final RetryResourcesTask retryResourceTask;
+    private final VlmAllocatedCache vlmAllocatedCache;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public RscInternalCallHandler(
@@ -82,7 +90,9 @@ public class RscInternalCallHandler
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         CtrlRscLayerDataMerger layerRscDataMergerRef,
         RetryResourcesTask retryResourceTaskRef,
-        CtrlApiDataLoader ctrlApiDataLoader
+        CtrlApiDataLoader ctrlApiDataLoader,
+        VlmAllocatedCache vlmAllocatedCacheRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         errorReporter = errorReporterRef;
@@ -99,6 +109,8 @@ public class RscInternalCallHandler
         layerRscDataMerger = layerRscDataMergerRef;
         retryResourceTask = retryResourceTaskRef;
         apiDataLoader = ctrlApiDataLoader;
+        vlmAllocatedCache = vlmAllocatedCacheRef;
+        placementIndex = placementIndexRef;
     }
 
     public void handleResourceRequest(
@@ -204,6 +216,8 @@ public class RscInternalCallHandler
                 DeviceLayerKind.STORAGE
             );
 
+            Map<Volume.Key, Long> thinVlmAllocated = new HashMap<>();
+            Set<StorPool> updatedStorPools = new HashSet<>();
             Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
             while (iterateVolumes.hasNext())
             {
@@ -216,7 +230,8 @@ public class RscInternalCallHandler
                 {
                     vlm.setDevicePath(apiCtx, vlmLayerDataPojo.getDevicePath());
                     vlm.setUsableSize(apiCtx, vlmLayerDataPojo.getUsableSize());
-                    vlm.setAllocatedSize(apiCtx, ProviderUtils.getAllocatedSize(vlm, apiCtx));
+                    long allocatedSize = ProviderUtils.getAllocatedSize(vlm, apiCtx);
+                    vlm.setAllocatedSize(apiCtx, allocatedSize);
                     vlm.clearReports();
 
                     for (AbsRscLayerObject<Resource> storageRsc : storageResources)
@@ -225,6 +240,11 @@ public class RscInternalCallHandler
                         if (vlmProviderObject != null)
                         {
                             StorPool storPool = vlmProviderObject.getStorPool();
+                            updatedStorPools.add(storPool);
+                            if (storPool.getDeviceProviderKind().usesThinProvisioning())
+                            {
+                                thinVlmAllocated.put(vlm.getKey(), allocatedSize);
+                            }
 
                             CapacityInfoPojo capacityInfo =
                                 storPoolToCapacityInfoMap.get(storPool.getName());
@@ -263,6 +283,17 @@ public class RscInternalCallHandler
             }
             retryResourceTask.remove(rsc);
             ctrlTransactionHelper.commit();
+
+            for (StorPool storPool : updatedStorPools)
+            {
+                placementIndex.freeSpaceUpdated(storPool);
+            }
+
+            // the satellite just (re-)applied the volumes, which makes their allocated sizes the freshest we get
+            thinVlmAllocated.forEach(
+                (vlmKey, allocatedSize) ->
+                    vlmAllocatedCache.update(vlmKey, new VlmAllocatedResult(allocatedSize, new ApiCallRcImpl()))
+            );
         }
         catch (InvalidNameException | AccessDeniedException exc)
         {
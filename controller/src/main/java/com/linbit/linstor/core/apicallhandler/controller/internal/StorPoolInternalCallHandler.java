@@ -8,12 +8,15 @@ import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.pojo.CapacityInfoPojo;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiDataLoader;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlTransactionHelper;
+import com.linbit.linstor.core.apicallhandler.controller.FreeCapacityCache;
+import com.linbit.linstor.core.apicallhandler.controller.autoplacer.StorPoolPlacementIndex;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
@@ -34,6 +37,7 @@ import static com.linbit.linstor.core.apicallhandler.controller.helpers.StorPool
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -52,6 +56,8 @@ public class StorPoolInternalCallHandler
 
     private final ReadWriteLock nodesMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
+    private final FreeCapacityCache freeCapacityCache;
+    private final StorPoolPlacementIndex placementIndex;
 
     @Inject
     public StorPoolInternalCallHandler(
@@ -64,7 +70,9 @@ public class StorPoolInternalCallHandler
         Provider<Peer> peerRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
-        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef
+        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
+        FreeCapacityCache freeCapacityCacheRef,
+        StorPoolPlacementIndex placementIndexRef
     )
     {
         errorReporter = errorReporterRef;
@@ -77,6 +85,8 @@ public class StorPoolInternalCallHandler
         peerAccCtx = peerAccCtxRef;
         nodesMapLock = nodesMapLockRef;
         storPoolDfnMapLock = storPoolDfnMapLockRef;
+        freeCapacityCache = freeCapacityCacheRef;
+        placementIndex = placementIndexRef;
     }
 
     public void handleStorPoolRequest(UUID storPoolUuid, String storPoolNameStr)
@@ -180,6 +190,7 @@ public class StorPoolInternalCallHandler
 
                 try
                 {
+                    List<StorPool> updatedStorPools = new ArrayList<>();
                     for (CapacityInfoPojo capacityInfoPojo : capacityInfoPojoList)
                     {
                         ResponseContext context = CtrlStorPoolApiCallHandler.makeStorPoolContext(
@@ -200,6 +211,7 @@ public class StorPoolInternalCallHandler
                                     capacityInfoPojo.getFreeCapacity(),
                                     capacityInfoPojo.getTotalCapacity()
                                 );
+                                updatedStorPools.add(storPool);
                             }
                             else
                             {
@@ -219,6 +231,20 @@ public class StorPoolInternalCallHandler
                     }
 
                     ctrlTransactionHelper.commit();
+
+                    // each entry was either applied or an exception skipped the commit
+                    for (int idx = 0; idx < updatedStorPools.size(); ++idx)
+                    {
+                        CapacityInfoPojo capacityInfoPojo = capacityInfoPojoList.get(idx);
+                        ApiCallRc errors = capacityInfoPojo.getErrors();
+                        StorPool storPool = updatedStorPools.get(idx);
+                        placementIndex.freeSpaceUpdated(storPool);
+                        freeCapacityCache.update(
+                            new StorPool.Key(storPool),
+                            new SpaceInfo(capacityInfoPojo.getTotalCapacity(), capacityInfoPojo.getFreeCapacity()),
+                            errors.isEmpty() ? Collections.emptyList() : Collections.singletonList(errors)
+                        );
+                    }
                 }
                 catch (ApiRcException exc)
                 {
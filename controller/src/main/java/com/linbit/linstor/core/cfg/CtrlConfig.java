@@ -73,6 +73,13 @@ public class CtrlConfig extends LinstorConfig
      */
     private String masterPassphrase;
 
+    /*
+     * Satellite updates
+     */
+    private boolean stltPushResourceData;
+    private long freeSpaceMaxAgeSecs;
+    private long vlmAllocatedMaxAgeSecs;
+
     public CtrlConfig(String[] args)
     {
         super(args);
@@ -105,6 +112,10 @@ public class CtrlConfig extends LinstorConfig
         setLdapDn("uid={user}");
         setLdapSearchBase("");
         setLdapSearchFilter("");
+
+        setStltPushResourceData(false);
+        setFreeSpaceMaxAgeSecs(90L);
+        setVlmAllocatedMaxAgeSecs(600L);
     }
 
     @Override
@@ -534,4 +545,55 @@ public class CtrlConfig extends LinstorConfig
     {
         return masterPassphrase;
     }
+
+    public void setStltPushResourceData(Boolean stltPushResourceDataRef)
+    {
+        if (stltPushResourceDataRef != null)
+        {
+            stltPushResourceData = stltPushResourceDataRef;
+        }
+    }
+
+    /**
+     * Whether the data of a modified resource is sent to the satellites together with the change
+     * notification, instead of waiting for the satellites to request it
+     */
+    public boolean isStltPushResourceData()
+    {
+        return stltPushResourceData;
+    }
+
+    public void setFreeSpaceMaxAgeSecs(Long freeSpaceMaxAgeSecsRef)
+    {
+        if (freeSpaceMaxAgeSecsRef != null)
+        {
+            freeSpaceMaxAgeSecs = freeSpaceMaxAgeSecsRef;
+        }
+    }
+
+    /**
+     * How long the free space reported by a satellite is used before the satellite is queried again.
+     * 0 disables the cache.
+     */
+    public long getFreeSpaceMaxAgeSecs()
+    {
+        return freeSpaceMaxAgeSecs;
+    }
+
+    public void setVlmAllocatedMaxAgeSecs(Long vlmAllocatedMaxAgeSecsRef)
+    {
+        if (vlmAllocatedMaxAgeSecsRef != null)
+        {
+            vlmAllocatedMaxAgeSecs = vlmAllocatedMaxAgeSecsRef;
+        }
+    }
+
+    /**
+     * How long the allocated size of a thin volume reported by a satellite is used before the satellite is
+     * queried again. 0 disables the cache.
+     */
+    public long getVlmAllocatedMaxAgeSecs()
+    {
+        return vlmAllocatedMaxAgeSecs;
+    }
 }
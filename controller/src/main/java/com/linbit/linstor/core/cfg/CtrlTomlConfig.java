@@ -152,12 +152,27 @@ public class CtrlTomlConfig
         }
     }
 
+    static class SatelliteUpdates
+    {
+        private Boolean push_resource_data;
+        private Long free_space_max_age;
+        private Long vlm_allocated_max_age;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setStltPushResourceData(push_resource_data);
+            cfg.setFreeSpaceMaxAgeSecs(free_space_max_age);
+            cfg.setVlmAllocatedMaxAgeSecs(vlm_allocated_max_age);
+        }
+    }
+
     private HTTP http = new HTTP();
     private HTTPS https = new HTTPS();
     private LDAP ldap = new LDAP();
     private DB db = new DB();
     private Logging logging = new Logging();
     private Encrypt encrypt = new Encrypt();
+    private SatelliteUpdates satellite_updates = new SatelliteUpdates();
 
     /**
      * Getter needed by {@link LinstorConfigTool}
@@ -175,5 +190,6 @@ public class CtrlTomlConfig
         db.applyTo(cfg);
         logging.applyTo(cfg);
         encrypt.applyTo(cfg);
+        satellite_updates.applyTo(cfg);
     }
 }
@@ -20,6 +20,7 @@ import com.linbit.linstor.storage.data.adapter.writecache.WritecacheRscData;
 import com.linbit.linstor.storage.data.adapter.writecache.WritecacheVlmData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -206,8 +207,10 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
     public void persist(CacheVlmData<?> cacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating CacheVlmData %s", getId(cacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, cacheVlmDataRef.getRscLayerId());
             stmt.setInt(2, cacheVlmDataRef.getVlmNr().value);
 
@@ -217,7 +220,7 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
             stmt.setString(4, cacheStorPool.getName().value);
             stmt.setString(5, metaStorPool.getName().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("CacheVlmData created %s", getId(cacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -237,12 +240,14 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
     public void delete(CacheVlmData<?> cacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting CacheVlmData %s", getId(cacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, cacheVlmDataRef.getRscLayerId());
             stmt.setInt(2, cacheVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("CacheVlmData deleted %s", getId(cacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -262,6 +267,11 @@ public class CacheLayerSQLDbDriver implements CacheLayerCtrlDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(CacheRscData<?> cacheRscData)
     {
         return "(LayerRscId=" + cacheRscData.getRscLayerId() +
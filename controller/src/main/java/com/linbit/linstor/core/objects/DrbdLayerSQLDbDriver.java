@@ -36,6 +36,7 @@ import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscDfnObject.Transp
 import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -827,12 +828,11 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     @Override
     public void create(DrbdRscData<?> drbdRscDataRef) throws DatabaseException
     {
-        @SuppressWarnings("resource") // will be done in DbConnectionPool#returnConnection
-        Connection connection = getConnection();
-
         errorReporter.logTrace("Creating DrbdRscData %s", getId(drbdRscDataRef));
-        try (PreparedStatement stmt = connection.prepareStatement(INSERT_RSC))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_RSC);
             stmt.setInt(1, drbdRscDataRef.getRscLayerId());
             stmt.setShort(2, drbdRscDataRef.getPeerSlots());
             stmt.setInt(3, drbdRscDataRef.getAlStripes());
@@ -840,7 +840,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
             stmt.setLong(5, drbdRscDataRef.getFlags().getFlagsBits(dbCtx));
             stmt.setInt(6, drbdRscDataRef.getNodeId().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdRscData created %s", getId(drbdRscDataRef));
         }
         catch (SQLException sqlExc)
@@ -857,8 +857,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdRscDfnData<?> drbdRscDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdRscDfnData %s", getId(drbdRscDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_RSC_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_RSC_DFN);
             stmt.setString(1, drbdRscDfnDataRef.getResourceName().value);
             stmt.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdRscDfnDataRef.getSnapshotName();
@@ -892,7 +894,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 stmt.setNull(9, Types.VARCHAR);
             }
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdRscDfnData created %s", getId(drbdRscDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -905,8 +907,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdVlmData<?> drbdVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdVlmData %s", getId(drbdVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, drbdVlmDataRef.getRscLayerId());
             stmt.setInt(2, drbdVlmDataRef.getVlmNr().value);
             StorPool externalMetaDataStorPool = drbdVlmDataRef.getExternalMetaDataStorPool();
@@ -921,7 +925,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 stmt.setNull(4, Types.VARCHAR);
             }
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdVlmData created %s", getId(drbdVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -934,8 +938,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void persist(DrbdVlmDfnData<?> drbdVlmDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating DrbdVlmDfnData %s", getId(drbdVlmDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM_DFN);
             stmt.setString(1, drbdVlmDfnDataRef.getResourceName().value);
             stmt.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdVlmDfnDataRef.getSnapshotName();
@@ -958,7 +964,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 stmt.setInt(5, minorNr.value);
             }
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdVlmDfnData created %s", getId(drbdVlmDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -971,11 +977,13 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdRscData<?> drbdRscDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdRscDataRef %s", getId(drbdRscDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_RSC);
             stmt.setInt(1, drbdRscDataRef.getRscLayerId());
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdRscDataRef deleted %s", getId(drbdRscDataRef));
         }
         catch (SQLException sqlExc)
@@ -988,8 +996,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdRscDfnData<?> drbdRscDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdRscDfnData %s", getId(drbdRscDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_RSC_DFN);
             stmt.setString(1, drbdRscDfnDataRef.getResourceName().value);
             stmt.setString(2, drbdRscDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdRscDfnDataRef.getSnapshotName();
@@ -1002,7 +1012,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 stmt.setString(3, snapName.value);
             }
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdRscDfnData deleted %s", getId(drbdRscDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -1015,12 +1025,14 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdVlmData<?> drbdVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdVlmData %s", getId(drbdVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, drbdVlmDataRef.getRscLayerId());
             stmt.setInt(2, drbdVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdVlmData deleted %s", getId(drbdVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -1033,8 +1045,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
     public void delete(DrbdVlmDfnData<?> drbdVlmDfnDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting DrbdVlmDfnData %s", getId(drbdVlmDfnDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM_DFN);
             stmt.setString(1, drbdVlmDfnDataRef.getResourceName().value);
             stmt.setString(2, drbdVlmDfnDataRef.getRscNameSuffix());
             SnapshotName snapName = drbdVlmDfnDataRef.getSnapshotName();
@@ -1048,7 +1062,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
             }
             stmt.setInt(4, drbdVlmDfnDataRef.getVolumeNumber().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("DrbdVlmDfnData deleted %s", getId(drbdVlmDfnDataRef));
         }
         catch (SQLException sqlExc)
@@ -1104,6 +1118,11 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(DrbdVlmData<?> drbdVlmData)
     {
         return "(LayerRscId=" + drbdVlmData.getRscLayerId() +
@@ -1157,11 +1176,13 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                     toFlags,
                     getId(drbdRscData)
                 );
-                try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_FLAGS))
+                try
                 {
+                    SQLWriteBatch batch = getWriteBatch();
+                    PreparedStatement stmt = batch.prepare(UPDATE_RSC_FLAGS);
                     stmt.setLong(1, flags);
                     stmt.setLong(2, drbdRscData.getRscLayerId());
-                    stmt.executeUpdate();
+                    batch.addBatch();
                 }
                 catch (SQLException sqlExc)
                 {
@@ -1202,8 +1223,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 toStr,
                 getId(drbdVlmData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_VLM_EXT_STOR_POOL))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_VLM_EXT_STOR_POOL);
                 if (storPool == null)
                 {
                     stmt.setNull(1, Types.VARCHAR);
@@ -1218,7 +1241,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 stmt.setLong(3, drbdVlmData.getRscLayerId());
                 stmt.setInt(4, drbdVlmData.getVlmNr().value);
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -1245,8 +1268,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 secretRef,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_SECRET))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_RSC_DFN_SECRET);
                 stmt.setString(1, secretRef);
                 stmt.setString(2, drbdRscDfnData.getResourceName().value);
                 stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
@@ -1259,7 +1284,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 {
                     stmt.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -1287,8 +1312,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 port,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_TCP_PORT))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_RSC_DFN_TCP_PORT);
                 stmt.setInt(1, port.value);
                 stmt.setString(2, drbdRscDfnData.getResourceName().value);
                 stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
@@ -1301,7 +1328,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 {
                     stmt.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -1328,8 +1355,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 transportType.name(),
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_TRANSPORT_TYPE))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_RSC_DFN_TRANSPORT_TYPE);
                 stmt.setString(1, transportType.name());
                 stmt.setString(2, drbdRscDfnData.getResourceName().value);
                 stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
@@ -1342,7 +1371,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 {
                     stmt.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -1370,8 +1399,10 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 peerSlots,
                 getId(drbdRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_RSC_DFN_PEER_SLOTS))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_RSC_DFN_PEER_SLOTS);
                 stmt.setShort(1, peerSlots);
                 stmt.setString(2, drbdRscDfnData.getResourceName().value);
                 stmt.setString(3, drbdRscDfnData.getRscNameSuffix());
@@ -1384,7 +1415,7 @@ public class DrbdLayerSQLDbDriver implements DrbdLayerCtrlDatabaseDriver
                 {
                     stmt.setString(4, snapName.displayValue);
                 }
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -14,6 +14,7 @@ import com.linbit.linstor.storage.data.adapter.luks.LuksRscData;
 import com.linbit.linstor.storage.data.adapter.luks.LuksVlmData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 
@@ -167,13 +168,15 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     public void persist(LuksVlmData<?> luksVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating LuksVlmData %s", getId(luksVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
             stmt.setInt(2, luksVlmDataRef.getVlmNr().value);
             stmt.setBytes(3, luksVlmDataRef.getEncryptedKey());
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("LuksVlmData created %s", getId(luksVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -193,12 +196,14 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
     public void delete(LuksVlmData<?> luksVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting LuksVlmData %s", getId(luksVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, luksVlmDataRef.getRscLayerObject().getRscLayerId());
             stmt.setInt(2, luksVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("LuksVlmData deleted %s", getId(luksVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -224,6 +229,11 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(LuksVlmData<?> luksVlmDataRef)
     {
         return "(LayerRscId=" + luksVlmDataRef.getRscLayerId() +
@@ -242,13 +252,15 @@ public class LuksLayerSQLDbDriver implements LuksLayerCtrlDatabaseDriver
                 "Updating LuksVlmData's encrypted password %s",
                 getId(luksVlmDataRef)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_VLM_PW))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_VLM_PW);
                 stmt.setBytes(1, encryptedPassword);
                 stmt.setInt(2, luksVlmDataRef.getRscLayerObject().getRscLayerId());
                 stmt.setInt(3, luksVlmDataRef.getVlmNr().value);
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -22,6 +22,7 @@ import com.linbit.linstor.security.ObjectProtectionDatabaseDriver;
 import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -109,14 +110,16 @@ public class NodeGenericDbDriver implements NodeDatabaseDriver
     public void create(Node node) throws DatabaseException
     {
         errorReporter.logTrace("Creating Node %s", getId(node));
-        try (PreparedStatement stmt = getConnection().prepareStatement(NODE_INSERT))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(NODE_INSERT);
             stmt.setString(1, node.getUuid().toString());
             stmt.setString(2, node.getName().value);
             stmt.setString(3, node.getName().displayValue);
             stmt.setLong(4, node.getFlags().getFlagsBits(dbCtx));
             stmt.setLong(5, node.getNodeType(dbCtx).getFlagValue());
-            stmt.executeUpdate();
+            batch.addBatch();
 
             errorReporter.logTrace("Node created %s", getId(node));
         }
@@ -244,11 +247,13 @@ public class NodeGenericDbDriver implements NodeDatabaseDriver
     public void delete(Node node) throws DatabaseException
     {
         errorReporter.logTrace("Deleting node %s", getId(node));
-        try (PreparedStatement stmt = getConnection().prepareStatement(NODE_DELETE))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(NODE_DELETE);
             stmt.setString(1, node.getName().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
         }
         catch (SQLException sqlExc)
         {
@@ -262,6 +267,11 @@ public class NodeGenericDbDriver implements NodeDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     @Override
     public StateFlagsPersistence<Node> getStateFlagPersistence()
     {
@@ -316,12 +326,14 @@ public class NodeGenericDbDriver implements NodeDatabaseDriver
                     toFlags,
                     getId(node)
                 );
-                try (PreparedStatement stmt = getConnection().prepareStatement(NODE_UPDATE_FLAGS))
+                try
                 {
+                    SQLWriteBatch batch = getWriteBatch();
+                    PreparedStatement stmt = batch.prepare(NODE_UPDATE_FLAGS);
                     stmt.setLong(1, flags);
                     stmt.setString(2, node.getName().value);
 
-                    stmt.executeUpdate();
+                    batch.addBatch();
                 }
                 catch (SQLException sqlExc)
                 {
@@ -352,13 +364,12 @@ public class NodeGenericDbDriver implements NodeDatabaseDriver
                     element.name(),
                     getId(parent)
                 );
-                try (PreparedStatement stmt = getConnection().prepareStatement(NODE_UPDATE_TYPE))
-                {
-                    stmt.setLong(1, element.getFlagValue());
-                    stmt.setString(2, parent.getName().value);
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(NODE_UPDATE_TYPE);
+                stmt.setLong(1, element.getFlagValue());
+                stmt.setString(2, parent.getName().value);
 
-                    stmt.executeUpdate();
-                }
+                batch.addBatch();
                 errorReporter.logTrace("Node's NodeType updated from [%s] to [%s] %s",
                     parent.getNodeType(dbCtx).name(),
                     element.name(),
@@ -25,6 +25,7 @@ import com.linbit.linstor.storage.data.adapter.nvme.OpenflexVlmData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -351,8 +352,10 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void create(OpenflexRscDfnData<?> ofRscDfnData) throws DatabaseException
     {
         errorReporter.logTrace("Creating OpenflexRscData %s", getId(ofRscDfnData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_RSC_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_RSC_DFN);
             stmt.setString(1, ofRscDfnData.getResourceName().value);
             stmt.setString(2, ofRscDfnData.getRscNameSuffix());
             if (ofRscDfnData.getNqn() == null)
@@ -364,7 +367,7 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
                 stmt.setString(3, ofRscDfnData.getNqn());
             }
 
-            stmt.executeUpdate();
+            batch.addBatch();
         }
         catch (SQLException sqlExc)
         {
@@ -376,12 +379,14 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void delete(OpenflexRscDfnData<?> ofRscDfnData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting OpenflexRscDfnData %s", getId(ofRscDfnData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_RSC_DFN))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_RSC_DFN);
             stmt.setString(1, ofRscDfnData.getResourceName().value);
             stmt.setString(2, ofRscDfnData.getRscNameSuffix());
 
-            stmt.executeUpdate();
+            batch.addBatch();
         }
         catch (SQLException sqlExc)
         {
@@ -407,15 +412,17 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void persist(OpenflexVlmData<?> ofVlmData) throws DatabaseException
     {
         errorReporter.logTrace("Creating OpenflexVlmData %s", getId(ofVlmData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, ofVlmData.getRscLayerId());
             stmt.setInt(2, ofVlmData.getVlmNr().value);
             StorPool storPool = ofVlmData.getStorPool();
             stmt.setString(3, storPool.getNode().getName().value);
             stmt.setString(4, storPool.getName().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
         }
         catch (SQLException sqlExc)
         {
@@ -428,12 +435,14 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
     public void delete(OpenflexVlmData<?> ofVlmData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting OpenflexVlmData %s", getId(ofVlmData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, ofVlmData.getRscLayerId());
             stmt.setInt(2, ofVlmData.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
         }
         catch (SQLException sqlExc)
         {
@@ -446,6 +455,11 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(OpenflexRscDfnData<?> openflexRscDfnData)
     {
         return "(ResName=" + openflexRscDfnData.getResourceName() +
@@ -497,14 +511,16 @@ public class OpenflexLayerSQLDbDriver implements OpenflexLayerCtrlDatabaseDriver
                 nqn,
                 getId(ofRscDfnData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_NQN))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_NQN);
                 stmt.setString(1, nqn);
 
                 stmt.setString(2, ofRscDfnData.getResourceName().value);
                 stmt.setString(3, ofRscDfnData.getRscNameSuffix());
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException exc)
             {
@@ -2,6 +2,7 @@ package com.linbit.linstor.core.objects;
 
 import com.linbit.ImplementationError;
 import com.linbit.linstor.LinStorDataAlreadyExistsException;
+import com.linbit.linstor.core.apicallhandler.controller.ResourcePropIndex;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceDatabaseDriver;
 import com.linbit.linstor.layer.LayerPayload;
@@ -34,6 +35,7 @@ public class ResourceControllerFactory
     private final TransactionObjectFactory transObjFactory;
     private final Provider<TransactionMgr> transMgrProvider;
     private final CtrlRscLayerDataFactory layerStackHelper;
+    private final ResourcePropIndex resourcePropIndex;
 
     @Inject
     public ResourceControllerFactory(
@@ -42,7 +44,8 @@ public class ResourceControllerFactory
         PropsContainerFactory propsContainerFactoryRef,
         TransactionObjectFactory transObjFactoryRef,
         Provider<TransactionMgr> transMgrProviderRef,
-        CtrlRscLayerDataFactory layerStackHelperRef
+        CtrlRscLayerDataFactory layerStackHelperRef,
+        ResourcePropIndex resourcePropIndexRef
     )
     {
         dbDriver = dbDriverRef;
@@ -51,6 +54,7 @@ public class ResourceControllerFactory
         transObjFactory = transObjFactoryRef;
         transMgrProvider = transMgrProviderRef;
         layerStackHelper = layerStackHelperRef;
+        resourcePropIndex = resourcePropIndexRef;
     }
 
     public Resource create(
@@ -142,6 +146,7 @@ public class ResourceControllerFactory
         dbDriver.create(rscData);
         node.addResource(accCtx, rscData);
         rscDfn.addResource(accCtx, rscData);
+        resourcePropIndex.track(rscData);
         return rscData;
     }
 }
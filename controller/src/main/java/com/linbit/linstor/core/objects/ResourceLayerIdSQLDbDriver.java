@@ -13,6 +13,7 @@ import com.linbit.linstor.storage.AbsRscData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 
 import static com.linbit.linstor.core.objects.ResourceDefinitionDbDriver.DFLT_SNAP_NAME_FOR_RSC;
@@ -147,8 +148,10 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
     public void persist(AbsRscLayerObject<?> rscData) throws DatabaseException
     {
         errorReporter.logTrace("Creating LayerResourceId %s", getId(rscData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT);
             AbsResource<?> absRsc = rscData.getAbsResource();
             stmt.setInt(1, rscData.getRscLayerId());
             stmt.setString(2, absRsc.getNode().getName().value);
@@ -173,7 +176,7 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
             stmt.setString(7, rscData.getResourceNameSuffix());
             stmt.setBoolean(8, rscData.getSuspendIo());
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("LayerResourceId created %s", getId(rscData));
         }
         catch (SQLException sqlExc)
@@ -187,12 +190,14 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
     public void delete(AbsRscLayerObject<?> rscData) throws DatabaseException
     {
         errorReporter.logTrace("Deleting LayerResourceId %s", getId(rscData));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE);
             AbsResource<?> absRsc = rscData.getAbsResource();
             stmt.setInt(1, rscData.getRscLayerId());
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("LayerResourceId deleting %s", getId(rscData));
         }
         catch (SQLException sqlExc)
@@ -228,6 +233,11 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(AbsRscLayerObject<?> rscData)
     {
         return rscData.getLayerKind().name() +
@@ -269,8 +279,10 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
                 newParentData == null ? null : newParentData.getRscLayerId(),
                 getId(rscData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_PARENT_ID))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_PARENT_ID);
                 if (newParentData == null)
                 {
                     stmt.setNull(1, Types.INTEGER);
@@ -282,7 +294,7 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
 
                 stmt.setInt(2, rscData.getRscLayerId());
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -313,12 +325,14 @@ public class ResourceLayerIdSQLDbDriver implements ResourceLayerIdCtrlDatabaseDr
                 newSuspend,
                 getId(rscData)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_SUSPENDED))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_SUSPENDED);
                 stmt.setBoolean(1, newSuspend);
                 stmt.setInt(2, rscData.getRscLayerId());
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
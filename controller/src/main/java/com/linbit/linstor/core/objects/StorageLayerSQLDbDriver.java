@@ -30,6 +30,7 @@ import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObje
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -389,15 +390,17 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
                     "! Use appropriate database driver"
             );
         }
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
             stmt.setInt(2, vlmDataRef.getVlmNr().value);
             stmt.setString(3, providerKind.name());
             stmt.setString(4, vlmDataRef.getStorPool().getNode().getName().value);
             stmt.setString(5, vlmDataRef.getStorPool().getName().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("StorageVolume created %s", getId(vlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -411,12 +414,14 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
     {
         errorReporter.logTrace("Deleting StorageVolume %s", getId(vlmDataRef));
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, vlmDataRef.getRscLayerObject().getRscLayerId());
             stmt.setInt(2, vlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("StorageVolume deleted %s", getId(vlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -436,6 +441,11 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(VlmProviderObject<?> vlmData)
     {
         return vlmData.getProviderKind().name() +
@@ -454,13 +464,15 @@ public class StorageLayerSQLDbDriver implements StorageLayerCtrlDatabaseDriver
                 storPool.getName().displayValue,
                 getId(parent)
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(UPDATE_STOR_POOL))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(UPDATE_STOR_POOL);
                 stmt.setString(1, storPool.getName().value);
                 stmt.setInt(2, parent.getRscLayerObject().getRscLayerId());
                 stmt.setInt(3, parent.getVlmNr().value);
 
-                stmt.executeUpdate();
+                batch.addBatch();
             }
             catch (SQLException sqlExc)
             {
@@ -18,6 +18,7 @@ import com.linbit.linstor.storage.data.adapter.writecache.WritecacheRscData;
 import com.linbit.linstor.storage.data.adapter.writecache.WritecacheVlmData;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.Pair;
 import com.linbit.utils.StringUtils;
@@ -195,8 +196,10 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
     public void persist(WritecacheVlmData<?> writecacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Creating WritecacheVlmData %s", getId(writecacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(INSERT_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(INSERT_VLM);
             stmt.setInt(1, writecacheVlmDataRef.getRscLayerId());
             stmt.setInt(2, writecacheVlmDataRef.getVlmNr().value);
 
@@ -204,7 +207,7 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
             stmt.setString(3, cacheStorPool.getNode().getName().value);
             stmt.setString(4, cacheStorPool.getName().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("WritecacheVlmData created %s", getId(writecacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -224,12 +227,14 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
     public void delete(WritecacheVlmData<?> writecacheVlmDataRef) throws DatabaseException
     {
         errorReporter.logTrace("Deleting WritecacheVlmData %s", getId(writecacheVlmDataRef));
-        try (PreparedStatement stmt = getConnection().prepareStatement(DELETE_VLM))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(DELETE_VLM);
             stmt.setInt(1, writecacheVlmDataRef.getRscLayerId());
             stmt.setInt(2, writecacheVlmDataRef.getVlmNr().value);
 
-            stmt.executeUpdate();
+            batch.addBatch();
             errorReporter.logTrace("WritecacheVlmData deleted %s", getId(writecacheVlmDataRef));
         }
         catch (SQLException sqlExc)
@@ -249,6 +254,11 @@ public class WritecacheLayerSQLDbDriver implements WritecacheLayerCtrlDatabaseDr
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     private String getId(WritecacheRscData<?> writecacheRscData)
     {
         return "(LayerRscId=" + writecacheRscData.getRscLayerId() +
@@ -17,6 +17,7 @@ import com.linbit.linstor.dbcp.migration.LinstorMigration;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.SQLUtils;
+import com.linbit.linstor.transaction.manager.SQLTableDependencies;
 import com.linbit.utils.StringUtils;
 
 import static com.linbit.linstor.DatabaseInfo.DB2_MIN_VERSION;
@@ -78,6 +79,9 @@ public class DbConnectionPool implements ControllerSQLDatabase
 
     private ThreadLocal<List<Connection>> threadLocalConnections;
 
+    // Read from the database on first use, after the migrations were applied
+    private volatile SQLTableDependencies tableDependencies;
+
     private final CtrlConfig linstorConfig;
 
     static
@@ -191,6 +195,33 @@ public class DbConnectionPool implements ControllerSQLDatabase
         }
     }
 
+    @Override
+    public SQLTableDependencies getTableDependencies() throws SQLException
+    {
+        SQLTableDependencies deps = tableDependencies;
+        if (deps == null)
+        {
+            synchronized (this)
+            {
+                deps = tableDependencies;
+                if (deps == null)
+                {
+                    Connection dbConn = getConnection();
+                    try
+                    {
+                        deps = SQLTableDependencies.load(dbConn, DATABASE_SCHEMA_NAME);
+                    }
+                    finally
+                    {
+                        returnConnection(dbConn);
+                    }
+                    tableDependencies = deps;
+                }
+            }
+        }
+        return deps;
+    }
+
     @Override
     public void migrate(String dbType) throws InitializationException
     {
@@ -200,6 +231,8 @@ public class DbConnectionPool implements ControllerSQLDatabase
     public void migrate(String dbType, boolean withStartupVer) throws InitializationException
     {
         setTransactionIsolation(dbType);
+        // migrations may add tables or foreign keys
+        tableDependencies = null;
 
         if (withStartupVer)
         {
@@ -43,6 +43,7 @@ import com.linbit.linstor.dbdrivers.interfaces.NodeConnectionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.NodeCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.NvmeLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.OpenflexLayerCtrlDatabaseDriver;
+import com.linbit.linstor.dbdrivers.interfaces.PropsConDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.CacheLayerCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceConnectionCtrlDatabaseDriver;
 import com.linbit.linstor.dbdrivers.interfaces.ResourceCtrlDatabaseDriver;
@@ -65,6 +66,7 @@ import com.linbit.linstor.dbdrivers.interfaces.WritecacheLayerCtrlDatabaseDriver
 import com.linbit.linstor.layer.LayerPayload;
 import com.linbit.linstor.layer.resource.CtrlRscLayerDataFactory;
 import com.linbit.linstor.layer.snapshot.CtrlSnapLayerDataFactory;
+import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -118,6 +120,8 @@ public class DatabaseLoader implements DatabaseDriver
     }
 
     private final AccessContext dbCtx;
+    private final ErrorReporter errorReporter;
+    private final PropsConDatabaseDriver propsDriver;
     private final ResourceGroupCtrlDatabaseDriver rscGrpDriver;
     private final NodeCtrlDatabaseDriver nodeDriver;
     private final NetInterfaceCtrlDatabaseDriver netIfDriver;
@@ -158,6 +162,8 @@ public class DatabaseLoader implements DatabaseDriver
     @Inject
     public DatabaseLoader(
         @SystemContext AccessContext privCtx,
+        ErrorReporter errorReporterRef,
+        PropsConDatabaseDriver propsDriverRef,
         ResourceGroupCtrlDatabaseDriver rscGrpDriverRef,
         NodeCtrlDatabaseDriver nodeDriverRef,
         NetInterfaceCtrlDatabaseDriver netIfDriverRef,
@@ -196,6 +202,8 @@ public class DatabaseLoader implements DatabaseDriver
     )
     {
         dbCtx = privCtx;
+        errorReporter = errorReporterRef;
+        propsDriver = propsDriverRef;
         rscGrpDriver = rscGrpDriverRef;
         nodeDriver = nodeDriverRef;
         netIfDriver = netIfDriverRef;
@@ -240,11 +248,22 @@ public class DatabaseLoader implements DatabaseDriver
     @Override
     public void loadAll() throws DatabaseException
     {
+        final long loadStartTime = System.currentTimeMillis();
+
+        // every object loads its props container while it is restored. Instead of one query per object, the
+        // props table is read at once on a separate connection, concurrently to the layer ids below
+        propsDriver.prefetchAll();
         try
         {
+            // the layer ids do not depend on any other object, load them while the props are being prefetched
+            long stepStartTime = System.currentTimeMillis();
+            List<? extends RscLayerInfo> rscLayerInfoList = rscLayerObjDriver.loadAllResourceIds();
+            stepStartTime = logLoaded("layer resource ids", rscLayerInfoList.size(), stepStartTime);
+
             // load the resource groups
             Map<ResourceGroup, ResourceGroup.InitMaps> loadedRscGroupsMap =
                 Collections.unmodifiableMap(rscGrpDriver.loadAll(null));
+            stepStartTime = logLoaded("resource groups", loadedRscGroupsMap.size(), stepStartTime);
 
             // temporary map to restore rscDfn <-> rscGroup relations
             Map<ResourceGroupName, ResourceGroup> tmpRscGroups =
@@ -259,14 +278,18 @@ public class DatabaseLoader implements DatabaseDriver
                     vlmGrp
                 );
             }
+            stepStartTime = logLoaded("volume groups", vlmGrpList.size(), stepStartTime);
 
             // load the main objects (nodes, rscDfns, storPoolDfns)
             Map<Node, Node.InitMaps> loadedNodesMap =
                 Collections.unmodifiableMap(nodeDriver.loadAll(null));
+            stepStartTime = logLoaded("nodes", loadedNodesMap.size(), stepStartTime);
             Map<ResourceDefinition, ResourceDefinition.InitMaps> loadedRscDfnsMap =
                 Collections.unmodifiableMap(rscDfnDriver.loadAll(tmpRscGroups));
+            stepStartTime = logLoaded("resource definitions", loadedRscDfnsMap.size(), stepStartTime);
             Map<StorPoolDefinition, StorPoolDefinition.InitMaps> loadedStorPoolDfnsMap =
                 Collections.unmodifiableMap(storPoolDfnDriver.loadAll(null));
+            stepStartTime = logLoaded("storage pool definitions", loadedStorPoolDfnsMap.size(), stepStartTime);
 
             // add the rscDfns into the corresponding rscGroup rscDfn-map
             for (ResourceDefinition rscDfn : loadedRscDfnsMap.keySet())
@@ -297,6 +320,7 @@ public class DatabaseLoader implements DatabaseDriver
                     node.setActiveStltConn(dbCtx, netIf);
                 }
             }
+            stepStartTime = logLoaded("net interfaces", loadedNetIfs.size(), stepStartTime);
 
             List<NodeConnection> loadedNodeConns = nodeConnDriver.loadAllAsList(tmpNodesMap);
             for (NodeConnection nodeConn : loadedNodeConns)
@@ -306,6 +330,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedNodesMap.get(sourceNode).getNodeConnMap().put(targetNode.getName(), nodeConn);
                 loadedNodesMap.get(targetNode).getNodeConnMap().put(sourceNode.getName(), nodeConn);
             }
+            stepStartTime = logLoaded("node connections", loadedNodeConns.size(), stepStartTime);
 
 
             // loading storage pools
@@ -324,6 +349,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedStorPoolDfnsMap.get(storPool.getDefinition(dbCtx)).getStorPoolMap()
                     .put(storPool.getNode().getName(), storPool);
             }
+            stepStartTime = logLoaded("storage pools", loadedStorPools.size(), stepStartTime);
             // loading free space managers
             Map<FreeSpaceMgrName, FreeSpaceMgr> tmpFreeSpaceMgrMap = storPoolDriver.getAllLoadedFreeSpaceMgrs();
 
@@ -345,6 +371,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedRscDfnsMap.get(rsc.getDefinition()).getRscMap()
                     .put(rsc.getNode().getName(), rsc);
             }
+            stepStartTime = logLoaded("resources", loadedResources.size(), stepStartTime);
 
             // temporary resource map
             Map<Pair<NodeName, ResourceName>, Resource> tmpRscMap =
@@ -363,6 +390,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedResources.get(sourceResource).getRscConnMap().put(targetResource.getKey(), rscConn);
                 loadedResources.get(targetResource).getRscConnMap().put(sourceResource.getKey(), rscConn);
             }
+            stepStartTime = logLoaded("resource connections", loadedRscConns.size(), stepStartTime);
 
             // loading volume definitions
             Map<VolumeDefinition, VolumeDefinition.InitMaps> loadedVlmDfnMap =
@@ -373,6 +401,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedRscDfnsMap.get(vlmDfn.getResourceDefinition()).getVlmDfnMap()
                     .put(vlmDfn.getVolumeNumber(), vlmDfn);
             }
+            stepStartTime = logLoaded("volume definitions", loadedVlmDfnMap.size(), stepStartTime);
 
             // temporary volume definition map
             Map<Pair<ResourceName, VolumeNumber>, VolumeDefinition> tmpVlmDfnMap =
@@ -396,6 +425,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedVlmDfnMap.get(vlm.getVolumeDefinition()).getVlmMap()
                     .put(Resource.getStringId(vlm.getAbsResource()), vlm);
             }
+            stepStartTime = logLoaded("volumes", loadedVolumes.size(), stepStartTime);
 
             // temporary volume map
             Map<Triple<NodeName, ResourceName, VolumeNumber>, Volume> tmpVlmMap =
@@ -414,6 +444,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedVolumes.get(sourceVolume).getVolumeConnections().put(targetVolume.getKey(), vlmConn);
                 loadedVolumes.get(targetVolume).getVolumeConnections().put(sourceVolume.getKey(), vlmConn);
             }
+            stepStartTime = logLoaded("volume connections", loadedVlmConns.size(), stepStartTime);
 
             // loading snapshot definitions
             Map<SnapshotDefinition, SnapshotDefinition.InitMaps> loadedSnapshotDfns = snapshotDefinitionDriver.loadAll(
@@ -424,6 +455,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedRscDfnsMap.get(snapshotDfn.getResourceDefinition()).getSnapshotDfnMap()
                     .put(snapshotDfn.getName(), snapshotDfn);
             }
+            stepStartTime = logLoaded("snapshot definitions", loadedSnapshotDfns.size(), stepStartTime);
 
             // temporary snapshot definition map
             Map<Pair<ResourceName, SnapshotName>, SnapshotDefinition> tmpSnapshotDfnMap =
@@ -444,6 +476,11 @@ public class DatabaseLoader implements DatabaseDriver
                     .getSnapshotVolumeDefinitionMap()
                     .put(snapshotVolumeDefinition.getVolumeNumber(), snapshotVolumeDefinition);
             }
+            stepStartTime = logLoaded(
+                "snapshot volume definitions",
+                loadedSnapshotVolumeDefinitions.size(),
+                stepStartTime
+            );
 
             Map<Triple<ResourceName, SnapshotName, VolumeNumber>, SnapshotVolumeDefinition> tmpSnapshotVlmDfnMap =
                 mapByName(loadedSnapshotVolumeDefinitions, snapshotVlmDfn -> new Triple<>(
@@ -464,6 +501,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedSnapshotDfns.get(snapshot.getSnapshotDefinition()).getSnapshotMap()
                     .put(snapshot.getNodeName(), snapshot);
             }
+            stepStartTime = logLoaded("snapshots", loadedSnapshots.size(), stepStartTime);
 
             Map<Triple<NodeName, ResourceName, SnapshotName>, Snapshot> tmpSnapshotMap =
                 mapByName(loadedSnapshots, snapshot -> new Triple<>(
@@ -488,6 +526,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedSnapshotVolumeDefinitions.get(snapshotVolume.getSnapshotVolumeDefinition()).getSnapshotVlmMap()
                     .put(snapshotVolume.getNodeName(), snapshotVolume);
             }
+            stepStartTime = logLoaded("snapshot volumes", loadedSnapshotVolumes.size(), stepStartTime);
 
             // load and put key value store map
             Map<KeyValueStore, KeyValueStore.InitMaps> loadedKeyValueStoreMap =
@@ -495,6 +534,7 @@ public class DatabaseLoader implements DatabaseDriver
             Map<KeyValueStoreName, KeyValueStore> tmpKeyValueStoreMap =
                 mapByName(loadedKeyValueStoreMap, KeyValueStore::getName);
             keyValueStoreMap.putAll(tmpKeyValueStoreMap);
+            stepStartTime = logLoaded("key value stores", loadedKeyValueStoreMap.size(), stepStartTime);
 
             // temporary storPool map
             Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> tmpStorPoolMapForLayers =
@@ -515,7 +555,8 @@ public class DatabaseLoader implements DatabaseDriver
             }
 
             // load layer objects
-            loadLayerObects(tmpRscDfnMap, tmpSnapshotDfnMap, tmpStorPoolMapForLayers);
+            loadLayerObects(tmpRscDfnMap, tmpSnapshotDfnMap, tmpStorPoolMapForLayers, rscLayerInfoList);
+            logLoaded("layer data objects", rscLayerInfoList.size(), stepStartTime);
 
             nodesMap.putAll(tmpNodesMap);
             rscDfnMap.putAll(tmpRscDfnMap);
@@ -543,6 +584,10 @@ public class DatabaseLoader implements DatabaseDriver
                     }
                 }
             }
+            errorReporter.logInfo(
+                "Loaded all core objects in %dms",
+                System.currentTimeMillis() - loadStartTime
+            );
         }
         catch (AccessDeniedException exc)
         {
@@ -552,6 +597,22 @@ public class DatabaseLoader implements DatabaseDriver
         {
             throw new ImplementationError("Invalid hardcoded props key", exc);
         }
+        finally
+        {
+            propsDriver.clearPrefetched();
+        }
+    }
+
+    /**
+     * Logs the duration of a load step
+     *
+     * @return the current time, i.e. the start time of the next step
+     */
+    private long logLoaded(String objDescr, int count, long stepStartTime)
+    {
+        long now = System.currentTimeMillis();
+        errorReporter.logInfo("Loaded %d %s in %dms", count, objDescr, now - stepStartTime);
+        return now;
     }
 
     private <NAME, DATA> TreeMap<NAME, DATA> mapByName(
@@ -565,7 +626,8 @@ public class DatabaseLoader implements DatabaseDriver
     private void loadLayerObects(
         Map<ResourceName, ResourceDefinition> tmpRscDfnMapRef,
         Map<Pair<ResourceName, SnapshotName>, SnapshotDefinition> tmpSnapDfnMapRef,
-        Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> tmpStorPoolMapRef
+        Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> tmpStorPoolMapRef,
+        List<? extends RscLayerInfo> rscLayerInfoList
     )
         throws DatabaseException, AccessDeniedException
     {
@@ -580,6 +642,7 @@ public class DatabaseLoader implements DatabaseDriver
 
         List<Resource> resourcesWithLayerData = loadLayerData(
             tmpStorPoolMapRef,
+            rscLayerInfoList,
             rli ->
             {
                 // snamshotName != null means this is a snapshot, not a resource.
@@ -590,6 +653,7 @@ public class DatabaseLoader implements DatabaseDriver
 
         List<Snapshot> snapshotsWithLayerData = loadLayerData(
             tmpStorPoolMapRef,
+            rscLayerInfoList,
             rli ->{
                 Snapshot snap = null;
                 if (rli.snapshotName != null)
@@ -632,13 +696,12 @@ public class DatabaseLoader implements DatabaseDriver
 
     private <RSC extends AbsResource<RSC>> List<RSC> loadLayerData(
         Map<Pair<NodeName, StorPoolName>, Pair<StorPool, StorPool.InitMaps>> tmpStorPoolMapRef,
+        List<? extends RscLayerInfo> rscLayerInfoList,
         ExceptionThrowingFunction<RscLayerInfo, RSC, AccessDeniedException> getter
     )
         throws DatabaseException, AccessDeniedException, ImplementationError
     {
         // load RscLayerObjects and VlmLayerObjects
-        List<? extends RscLayerInfo> rscLayerInfoList = rscLayerObjDriver.loadAllResourceIds();
-
         Set<Integer> parentIds = null;
         boolean loadNext = true;
         Map<Integer, Pair<AbsRscLayerObject<RSC>, Set<AbsRscLayerObject<RSC>>>> rscLayerObjectChildren = new HashMap<>();
@@ -18,6 +18,7 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.Pair;
@@ -83,13 +84,14 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getInsertStatement(table)))
+        try
         {
             errorReporter.logTrace("Creating %s %s", table.getName(), dataToString.toString(data));
 
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(getInsertStatement(table));
             setValues(setters, stmt, 1, table, ignored -> true, data);
-
-            stmt.executeUpdate();
+            batch.addBatch();
 
             errorReporter.logTrace("%s created %s", table.getName(), dataToString.toString(data));
         }
@@ -156,13 +158,14 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getDeleteStatement(table)))
+        try
         {
             errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
 
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(getDeleteStatement(table));
             setPrimaryValues(setters, stmt, 1, table, data);
-
-            stmt.executeUpdate();
+            batch.addBatch();
 
             errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
         }
@@ -353,6 +356,11 @@ public class SQLEngine implements DbEngine
         return transMgrProvider.get().getConnection();
     }
 
+    SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
     String generateUpdateStatement(Column colToUpdate)
     {
         StringBuilder sql = new StringBuilder();
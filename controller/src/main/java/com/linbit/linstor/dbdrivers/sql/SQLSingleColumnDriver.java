@@ -8,6 +8,7 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.utils.ExceptionThrowingFunction;
 
 import java.sql.PreparedStatement;
@@ -63,13 +64,12 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
                 Objects.toString(elementRef),
                 dataToString.toString(parentRef)
             );
-            try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-            {
-                int idx = fillSetter(stmt, 1, elementRef);
-                sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
+            SQLWriteBatch batch = sqlEngine.getWriteBatch();
+            PreparedStatement stmt = batch.prepare(updateStatement);
+            int idx = fillSetter(stmt, 1, elementRef);
+            sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
 
-                stmt.executeUpdate();
-            }
+            batch.addBatch();
             errorReporter.logTrace(
                 "%s's %s updated from [%s] to [%s] %s",
                 table.getName(),
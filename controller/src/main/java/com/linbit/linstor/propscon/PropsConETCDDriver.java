@@ -52,6 +52,18 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
         return propsMap;
     }
 
+    @Override
+    public void prefetchAll()
+    {
+        // every instance is a separate etcd range request anyways, nothing to prefetch
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        // no-op
+    }
+
     private String getEtcdKey(String instanceName, String key)
     {
         String etcdKey = EtcdUtils.buildKey(GeneratedDatabaseTables.PROPS_CONTAINERS, instanceName);
@@ -70,7 +82,7 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
     }
 
     @Override
-    public void persist(String instanceName, String key, String value) throws DatabaseException
+    public void persist(String instanceName, String key, String value, boolean isNew) throws DatabaseException
     {
         errorReporter.logTrace("Storing property %s", getId(instanceName, key, value));
         /*
@@ -91,7 +103,7 @@ public class PropsConETCDDriver extends BaseEtcdDriver implements PropsConDataba
     {
         for (Entry<String, String> entry : props.entrySet())
         {
-            persist(instanceName, entry.getKey(), entry.getValue());
+            persist(instanceName, entry.getKey(), entry.getValue(), false);
         }
     }
 
@@ -1,9 +1,12 @@
 package com.linbit.linstor.propscon;
 
+import com.linbit.ImplementationError;
+import com.linbit.linstor.dbcp.DbConnectionPool;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.dbdrivers.interfaces.PropsConDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 
 import javax.inject.Inject;
@@ -13,10 +16,18 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Singleton
 public class PropsConSQLDbDriver implements PropsConDatabaseDriver
@@ -26,18 +37,26 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     private static final String COL_KEY = DbConstants.PROP_KEY;
     private static final String COL_VALUE = DbConstants.PROP_VALUE;
 
-    private static final String SELECT_ENTRY_FOR_UPDATE =
-        " SELECT " + COL_INSTANCE + ", " + COL_KEY + ", " + COL_VALUE + "\n" +
-        " FROM " + TBL_PROP + "\n" +
-        " WHERE " + COL_INSTANCE + " = ? AND \n" +
-        "       " + COL_KEY +      " = ? \n" +
-        " FOR UPDATE";
+    private static final String INSERT_ENTRY =
+        " INSERT INTO " + TBL_PROP + "\n" +
+        " (" + COL_INSTANCE + ", " + COL_KEY + ", " + COL_VALUE + ")\n" +
+        " VALUES (?, ?, ?)";
+
+    private static final String UPDATE_ENTRY =
+        " UPDATE " + TBL_PROP + "\n" +
+        "    SET " + COL_VALUE + " = ? \n" +
+        "    WHERE " + COL_INSTANCE + " = ? \n" +
+        "        AND " + COL_KEY + " = ?";
 
     private static final String SELECT_ALL_ENTRIES_BY_INSTANCE =
         " SELECT " + COL_KEY + ", " + COL_VALUE + "\n" +
         " FROM " + TBL_PROP + "\n" +
         " WHERE " + COL_INSTANCE + " = ?";
 
+    private static final String SELECT_ALL_ENTRIES =
+        " SELECT " + COL_INSTANCE + ", " + COL_KEY + ", " + COL_VALUE + "\n" +
+        " FROM " + TBL_PROP;
+
     private static final String REMOVE_ENTRY =
         " DELETE FROM " + TBL_PROP + "\n" +
         "    WHERE " + COL_INSTANCE + " = ? \n" +
@@ -47,66 +66,177 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
         " DELETE FROM " + TBL_PROP + "\n" +
         "    WHERE " + COL_INSTANCE + " = ? ";
 
+    // Number of rows the JDBC driver should fetch per round trip while prefetching
+    private static final int PREFETCH_FETCH_SIZE = 10000;
+
+    // Idle prefetch threads are kept for 60 seconds before they are terminated
+    private static final long PREFETCH_KEEP_ALIVE_SECS = 60;
+
+    private static final AtomicInteger PREFETCH_THREAD_CTR = new AtomicInteger();
+
+    /**
+     * Runs the prefetch queries. A cancelled prefetch may still be blocked in the JDBC driver when the next one
+     * is started, so the pool is not bounded.
+     */
+    private static final ExecutorService PREFETCH_EXECUTOR = new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        PREFETCH_KEEP_ALIVE_SECS,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        runnable ->
+        {
+            Thread thread = new Thread(runnable, "PropsPrefetch-" + PREFETCH_THREAD_CTR.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final DbConnectionPool dbConnPool;
+
+    private FutureTask<Map<String, Map<String, String>>> prefetchTask;
 
     @Inject
     public PropsConSQLDbDriver(
         ErrorReporter errorReporterRef,
-        Provider<TransactionMgrSQL> transMgrProviderRef
+        Provider<TransactionMgrSQL> transMgrProviderRef,
+        DbConnectionPool dbConnPoolRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
+        dbConnPool = dbConnPoolRef;
     }
 
+    /**
+     * Starts reading the whole props table in the background on a separate connection. Until
+     * {@link #clearPrefetched()} is called, {@link #loadAll(String)} is answered from the prefetched rows
+     * instead of running one query per instance.
+     *
+     * The separate connection only sees committed data, so this must only be used when the current transaction
+     * has not modified any properties yet (i.e. during the initial load of the database).
+     */
     @Override
-    public void persist(String instanceName, String key, String value) throws DatabaseException
+    public synchronized void prefetchAll()
     {
-        persistImpl(instanceName, key, value);
+        if (prefetchTask == null)
+        {
+            prefetchTask = new FutureTask<>(this::loadAllInstances);
+            PREFETCH_EXECUTOR.execute(prefetchTask);
+        }
     }
 
     @Override
-    public void persist(String instanceName, Map<String, String> props) throws DatabaseException
+    public synchronized void clearPrefetched()
     {
-        for (Entry<String, String> entry : props.entrySet())
+        if (prefetchTask != null)
         {
-            persistImpl(instanceName, entry.getKey(), entry.getValue());
+            // do not leave the connection of a still running prefetch behind
+            prefetchTask.cancel(true);
+            prefetchTask = null;
         }
     }
 
-    @SuppressWarnings("checkstyle:magicnumber")
-    private void persistImpl(String instanceName, String key, String value) throws DatabaseException
+    private Map<String, Map<String, String>> loadAllInstances() throws DatabaseException
     {
-        errorReporter.logTrace("Storing property %s", getId(instanceName, key, value));
-        try (
-            PreparedStatement stmt = getConnection().prepareStatement(
-                SELECT_ENTRY_FOR_UPDATE,
-                ResultSet.TYPE_SCROLL_SENSITIVE,
-                ResultSet.CONCUR_UPDATABLE
-            )
-        )
+        long startTime = System.currentTimeMillis();
+        Map<String, Map<String, String>> ret = new HashMap<>();
+        int rowCount = 0;
+        Connection connection = null;
+        try
         {
-            String instanceUpper = instanceName.toUpperCase();
-            stmt.setString(1, instanceUpper);
-            stmt.setString(2, key);
-
-            try (ResultSet resultSet = stmt.executeQuery())
+            connection = dbConnPool.getConnection();
+            try (PreparedStatement stmt = connection.prepareStatement(SELECT_ALL_ENTRIES))
             {
-                if (resultSet.next())
+                stmt.setFetchSize(PREFETCH_FETCH_SIZE);
+                try (ResultSet resultSet = stmt.executeQuery())
                 {
-                    resultSet.updateString(3, value);
-                    resultSet.updateRow();
+                    while (resultSet.next())
+                    {
+                        ret.computeIfAbsent(resultSet.getString(1), ignored -> new TreeMap<>())
+                            .put(resultSet.getString(2), resultSet.getString(3));
+                        ++rowCount;
+                    }
                 }
-                else
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
+        finally
+        {
+            dbConnPool.returnConnection(connection);
+        }
+        errorReporter.logDebug(
+            "Prefetched %d properties of %d instances in %dms",
+            rowCount,
+            ret.size(),
+            System.currentTimeMillis() - startTime
+        );
+        return ret;
+    }
+
+    private Map<String, String> getPrefetched(String instanceName) throws DatabaseException
+    {
+        FutureTask<Map<String, Map<String, String>>> task;
+        synchronized (this)
+        {
+            task = prefetchTask;
+        }
+        Map<String, String> ret = null;
+        if (task != null)
+        {
+            try
+            {
+                Map<String, String> prefetched = task.get().get(instanceName.toUpperCase());
+                // the props container takes ownership of the returned map
+                ret = prefetched == null ? new TreeMap<>() : new TreeMap<>(prefetched);
+            }
+            catch (ExecutionException exc)
+            {
+                Throwable cause = exc.getCause();
+                if (cause instanceof DatabaseException)
                 {
-                    resultSet.moveToInsertRow();
-                    resultSet.updateString(1, instanceUpper);
-                    resultSet.updateString(2, key);
-                    resultSet.updateString(3, value);
-                    resultSet.insertRow();
+                    throw (DatabaseException) cause;
                 }
+                throw new ImplementationError("Unexpected exception while prefetching properties", cause);
+            }
+            catch (InterruptedException exc)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseException("Interrupted while waiting for prefetched properties", exc);
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void persist(String instanceName, String key, String value, boolean isNew) throws DatabaseException
+    {
+        errorReporter.logTrace("Storing property %s", getId(instanceName, key, value));
+        try
+        {
+            SQLWriteBatch batch = getWriteBatch();
+            String instanceUpper = instanceName.toUpperCase();
+            if (isNew)
+            {
+                PreparedStatement stmt = batch.prepare(INSERT_ENTRY);
+                stmt.setString(1, instanceUpper);
+                stmt.setString(2, key);
+                stmt.setString(3, value);
+            }
+            else
+            {
+                PreparedStatement stmt = batch.prepare(UPDATE_ENTRY);
+                stmt.setString(1, value);
+                stmt.setString(2, instanceUpper);
+                stmt.setString(3, key);
             }
+            batch.addBatch(getRowKey(instanceUpper));
         }
         catch (SQLException sqlExc)
         {
@@ -115,17 +245,31 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
         errorReporter.logTrace("Property stored %s", getId(instanceName, key, value));
     }
 
+    @Override
+    public void persist(String instanceName, Map<String, String> props) throws DatabaseException
+    {
+        // replace possibly existing entries. All deletes are queued first, so that they and the inserts form
+        // one batch each
+        remove(instanceName, props.keySet());
+        for (Entry<String, String> entry : props.entrySet())
+        {
+            persist(instanceName, entry.getKey(), entry.getValue(), true);
+        }
+    }
+
     @Override
     public void remove(String instanceName, String key) throws DatabaseException
     {
         errorReporter.logTrace("Removing property %s", getId(instanceName, key));
 
-        try (PreparedStatement stmt = getConnection().prepareStatement(REMOVE_ENTRY))
+        try
         {
-            stmt.setString(1, instanceName.toUpperCase());
+            SQLWriteBatch batch = getWriteBatch();
+            String instanceUpper = instanceName.toUpperCase();
+            PreparedStatement stmt = batch.prepare(REMOVE_ENTRY);
+            stmt.setString(1, instanceUpper);
             stmt.setString(2, key);
-
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(instanceUpper));
         }
         catch (SQLException sqlExc)
         {
@@ -138,22 +282,9 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     @Override
     public void remove(String instanceName, Set<String> keys) throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(REMOVE_ENTRY))
+        for (String key : keys)
         {
-            stmt.setString(1, instanceName.toUpperCase());
-            for (String key : keys)
-            {
-                errorReporter.logTrace("Removing property %s", getId(instanceName, key));
-
-                stmt.setString(2, key);
-                stmt.executeUpdate();
-
-                errorReporter.logTrace("Property removed %s", getId(instanceName, key));
-            }
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
+            remove(instanceName, key);
         }
     }
 
@@ -162,50 +293,57 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
     {
         errorReporter.logTrace("Removing all properties by instance %s", getId(instanceName));
 
-        int rowsUpdated;
-        try (
-            PreparedStatement stmt = getConnection()
-                .prepareStatement(REMOVE_ALL_ENTRIES)
-        )
+        try
         {
-            stmt.setString(1, instanceName.toUpperCase());
-            rowsUpdated = stmt.executeUpdate();
+            SQLWriteBatch batch = getWriteBatch();
+            String instanceUpper = instanceName.toUpperCase();
+            PreparedStatement stmt = batch.prepare(REMOVE_ALL_ENTRIES);
+            stmt.setString(1, instanceUpper);
+            batch.addBatch(getRowKey(instanceUpper));
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
-        errorReporter.logTrace(
-            "Removed all (%d) properties by instance %s",
-            rowsUpdated,
-            getId(instanceName)
-        );
+        errorReporter.logTrace("Removed all properties by instance %s", getId(instanceName));
     }
 
     @Override
     public Map<String, String> loadAll(String instanceName) throws DatabaseException
     {
         errorReporter.logTrace("Loading properties for instance %s", getId(instanceName));
-        Map<String, String> ret = new TreeMap<>();
-        Connection connection = getConnection();
-        try (PreparedStatement stmt = connection.prepareStatement(SELECT_ALL_ENTRIES_BY_INSTANCE))
+        Map<String, String> ret = getPrefetched(instanceName);
+        if (ret == null)
         {
-            stmt.setString(1, instanceName.toUpperCase());
-
-            try (ResultSet resultSet = stmt.executeQuery())
+            ret = new TreeMap<>();
+            try
+            {
+                flushIfPending(instanceName);
+            }
+            catch (SQLException sqlExc)
+            {
+                throw new DatabaseException(sqlExc);
+            }
+            Connection connection = getConnection();
+            try (PreparedStatement stmt = connection.prepareStatement(SELECT_ALL_ENTRIES_BY_INSTANCE))
             {
-                while (resultSet.next())
+                stmt.setString(1, instanceName.toUpperCase());
+
+                try (ResultSet resultSet = stmt.executeQuery())
                 {
-                    String key = resultSet.getString(1);
-                    String value = resultSet.getString(2);
+                    while (resultSet.next())
+                    {
+                        String key = resultSet.getString(1);
+                        String value = resultSet.getString(2);
 
-                    ret.put(key, value);
+                        ret.put(key, value);
+                    }
                 }
             }
-        }
-        catch (SQLException sqlExc)
-        {
-            throw new DatabaseException(sqlExc);
+            catch (SQLException sqlExc)
+            {
+                throw new DatabaseException(sqlExc);
+            }
         }
         errorReporter.logTrace(
             "Loaded all (%d) properties for instance %s",
@@ -220,6 +358,28 @@ public class PropsConSQLDbDriver implements PropsConDatabaseDriver
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
+    /**
+     * Executes the pending writes if any of them modify the given instance, e.g. if an object is deleted and
+     * recreated with the same name in one transaction
+     */
+    private void flushIfPending(String instanceName) throws SQLException
+    {
+        SQLWriteBatch batch = getWriteBatch();
+        if (batch.isPending(getRowKey(instanceName.toUpperCase())))
+        {
+            batch.flush();
+        }
+    }
+
+    private static String getRowKey(String instanceUpper)
+    {
+        return TBL_PROP + ":" + instanceUpper;
+    }
 
     private String getId(String instanceName)
     {
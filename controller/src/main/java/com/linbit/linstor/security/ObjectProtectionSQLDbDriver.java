@@ -8,6 +8,7 @@ import com.linbit.linstor.dbdrivers.derby.DbConstants;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 
 import javax.inject.Inject;
@@ -123,14 +124,16 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void insertOp(ObjectProtection objProt) throws DatabaseException
     {
         errorReporter.logTrace("Creating ObjectProtection %s", getObjProtId(objProt.getObjectProtectionPath()));
-        try (PreparedStatement stmt = getConnection().prepareStatement(OP_INSERT))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(OP_INSERT);
             stmt.setString(1, objProt.getObjectProtectionPath());
             stmt.setString(2, objProt.getCreator().name.value);
             stmt.setString(3, objProt.getOwner().name.value);
             stmt.setString(4, objProt.getSecurityType().name.value);
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(objProt.getObjectProtectionPath()));
         }
         catch (SQLException sqlExc)
         {
@@ -143,21 +146,25 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void deleteOp(String objectPath) throws DatabaseException
     {
         errorReporter.logTrace("Deleting ObjectProtection %s", getObjProtId(objectPath));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_DELETE_ALL))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(ACL_DELETE_ALL);
             stmt.setString(1, objectPath);
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(objectPath));
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(sqlExc);
         }
-        try (PreparedStatement stmt = getConnection().prepareStatement(OP_DELETE))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(OP_DELETE);
             stmt.setString(1, objectPath);
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(objectPath));
         }
         catch (SQLException sqlExc)
         {
@@ -173,13 +180,15 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         throws DatabaseException
     {
         errorReporter.logTrace("Creating AccessControl entry %s", getAclTraceId(parent, role, grantedAccess));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_INSERT))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(ACL_INSERT);
             stmt.setString(1, parent.getObjectProtectionPath());
             stmt.setString(2, role.name.value);
             stmt.setLong(3, grantedAccess.getAccessMask());
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
         }
         catch (SQLException sqlExc)
         {
@@ -199,13 +208,15 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
             grantedAccess,
             getAclTraceId(parent, role)
         );
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_UPDATE))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(ACL_UPDATE);
             stmt.setLong(1, grantedAccess.getAccessMask());
             stmt.setString(2, parent.getObjectProtectionPath());
             stmt.setString(3, role.name.value);
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
         }
         catch (SQLException sqlExc)
         {
@@ -223,12 +234,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
     public void deleteAcl(ObjectProtection parent, Role role) throws DatabaseException
     {
         errorReporter.logTrace("Deleting AccessControl entry %s", getAclTraceId(parent, role));
-        try (PreparedStatement stmt = getConnection().prepareStatement(ACL_DELETE))
+        try
         {
+            SQLWriteBatch batch = getWriteBatch();
+            PreparedStatement stmt = batch.prepare(ACL_DELETE);
             stmt.setString(1, parent.getObjectProtectionPath());
             stmt.setString(2, role.name.value);
 
-            stmt.executeUpdate();
+            batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
         }
         catch (SQLException sqlExc)
         {
@@ -245,6 +258,19 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         errorReporter.logTrace("Loading ObjectProtection %s", getObjProtId(objPath));
         ObjectProtection objProt = null;
 
+        try
+        {
+            SQLWriteBatch batch = getWriteBatch();
+            if (batch.isPending(getRowKey(objPath)))
+            {
+                // e.g. the object was deleted and is recreated in the same transaction
+                batch.flush();
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
         try (PreparedStatement opLoadStmt = getConnection().prepareStatement(OP_LOAD))
         {
             opLoadStmt.setString(1, objPath);
@@ -379,6 +405,20 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
         return transMgrProvider.get().getConnection();
     }
 
+    private SQLWriteBatch getWriteBatch()
+    {
+        return transMgrProvider.get().getWriteBatch();
+    }
+
+    /**
+     * Pending writes of the object protection and its ACL are recorded with this key, so that loading the object
+     * protection in the same transaction sees them
+     */
+    private static String getRowKey(String objPath)
+    {
+        return TBL_OP + ":" + objPath;
+    }
+
     private String getAclTraceId(ObjectProtection parent, Role role, AccessType grantedAccess)
     {
         return getAclId(
@@ -439,12 +479,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 creator.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_IDENTITY))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(OP_UPDATE_IDENTITY);
                 stmt.setString(1, creator.name.value);
                 stmt.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
             }
             catch (SQLException sqlExc)
             {
@@ -470,12 +512,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 owner.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_ROLE))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(OP_UPDATE_ROLE);
                 stmt.setString(1, owner.name.value);
                 stmt.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
             }
             catch (SQLException sqlExc)
             {
@@ -501,12 +545,14 @@ public class ObjectProtectionSQLDbDriver implements ObjectProtectionDatabaseDriv
                 secType.name.value,
                 getObjProtId(parent.getObjectProtectionPath())
             );
-            try (PreparedStatement stmt = getConnection().prepareStatement(OP_UPDATE_SEC_TYPE))
+            try
             {
+                SQLWriteBatch batch = getWriteBatch();
+                PreparedStatement stmt = batch.prepare(OP_UPDATE_SEC_TYPE);
                 stmt.setString(1, secType.name.value);
                 stmt.setString(2, parent.getObjectProtectionPath());
 
-                stmt.executeUpdate();
+                batch.addBatch(getRowKey(parent.getObjectProtectionPath()));
             }
             catch (SQLException sqlExc)
             {
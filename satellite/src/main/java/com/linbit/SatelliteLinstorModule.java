@@ -2,6 +2,7 @@ package com.linbit;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.logging.ErrorReporter;
 
 import javax.inject.Named;
@@ -20,9 +21,10 @@ public class SatelliteLinstorModule extends AbstractModule
     @Provides
     @Singleton
     @Named(STLT_WORKER_POOL_NAME)
-    public WorkQueue initializeStltWorkerThreadPool(ErrorReporter errorLog)
+    public WorkQueue initializeStltWorkerThreadPool(ErrorReporter errorLog, StltConfig stltCfg)
     {
         return WorkerPoolInitializer.createDevMgrWorkerThreadPool(
+            stltCfg.getWorkerPoolType(),
             errorLog,
             null,
             "StltWorkerPool"
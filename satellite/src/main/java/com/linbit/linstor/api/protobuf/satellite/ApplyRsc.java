@@ -171,6 +171,7 @@ public class ApplyRsc implements ApiCall
                     vol.getVlmPropsMap(),
                     Optional.empty(),
                     Optional.empty(),
+                    Optional.empty(),
 
                     // protobuf does not support circular imports, which is what we are creating here
                     // therefore, we skip this data. satellite should get the layerData from rsc-level.
@@ -0,0 +1,91 @@
+package com.linbit.linstor.api.protobuf.satellite;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.api.pojo.RscPojo;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.DeviceManager;
+import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandler;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscOuterClass.MsgIntApplyRsc;
+import reactor.core.publisher.Flux;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Combination of {@link ChangedRsc} and {@link ApplyRsc}: the controller sends the modified resource's data
+ * together with the change notification, so the satellite does not have to request it.
+ */
+@ProtobufApiCall(
+    name = InternalApiConsts.API_CHANGED_RSC_DATA,
+    description = "Called by the controller to indicate that a resource was modified, including the resource data"
+)
+@Singleton
+public class ChangedRscData implements ApiCallReactive
+{
+    private final StltApiCallHandler apiCallHandler;
+    private final DeviceManager deviceManager;
+    private final ControllerPeerConnector controllerPeerConnector;
+    private final ResponseSerializer responseSerializer;
+
+    @Inject
+    public ChangedRscData(
+        StltApiCallHandler apiCallHandlerRef,
+        DeviceManager deviceManagerRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        ResponseSerializer responseSerializerRef
+    )
+    {
+        apiCallHandler = apiCallHandlerRef;
+        deviceManager = deviceManagerRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+        responseSerializer = responseSerializerRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntApplyRsc applyMsg = MsgIntApplyRsc.parseDelimitedFrom(msgDataIn);
+        RscPojo rscRawData = ApplyRsc.asRscPojo(
+            applyMsg.getRsc(),
+            applyMsg.getFullSyncId(),
+            applyMsg.getUpdateId()
+        );
+
+        ResourceName rscName;
+        try
+        {
+            rscName = new ResourceName(rscRawData.getName());
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(
+                "Controller sent an illegal resource name: " + rscRawData.getName() + ".",
+                invalidNameExc
+            );
+        }
+
+        // the data has to be applied (or queued, if earlier updates are still missing) before the update
+        // is announced to the device manager, which then only requests the data if it was not applied
+        apiCallHandler.applyResourceChanges(rscRawData);
+
+        return deviceManager.getUpdateTracker()
+            .updatePushedResource(
+                rscRawData.getUuid(),
+                rscName,
+                controllerPeerConnector.getLocalNodeName(),
+                applyMsg.getFullSyncId(),
+                applyMsg.getUpdateId()
+            )
+            .transform(responseSerializer::transform);
+    }
+}
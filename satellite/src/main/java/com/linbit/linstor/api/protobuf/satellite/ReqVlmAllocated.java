@@ -6,6 +6,7 @@ import com.linbit.linstor.api.ApiCallReactive;
 import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.api.protobuf.serializer.ProtoCtrlStltSerializerBuilder;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandlerUtils;
@@ -13,13 +14,9 @@ import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.proto.common.FilterOuterClass;
-import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
-import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
 import com.linbit.locks.LockGuard;
 import com.linbit.utils.Either;
 
-import static com.linbit.linstor.api.protobuf.serializer.ProtoCommonSerializerBuilder.serializeApiCallRc;
-
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -84,25 +81,8 @@ public class ReqVlmAllocated implements ApiCallReactive
         Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedCapacities =
             apiCallHandlerUtils.getVlmAllocatedCapacities(storPoolsFilter, resourceFilter);
 
-        MsgIntVlmAllocated.Builder builder = MsgIntVlmAllocated.newBuilder();
-        for (Map.Entry<Volume.Key, Either<Long, ApiRcException>> entry : vlmAllocatedCapacities.entrySet())
-        {
-            Volume.Key vlmKey = entry.getKey();
-
-            VlmAllocated.Builder vlmAllocatedBuilder = VlmAllocated.newBuilder()
-                .setRscName(vlmKey.getResourceName().displayValue)
-                .setVlmNr(vlmKey.getVolumeNumber().value);
-
-            entry.getValue().consume(
-                vlmAllocatedBuilder::setAllocated,
-                apiRcException -> vlmAllocatedBuilder
-                    .addAllErrors(serializeApiCallRc(apiRcException.getApiCallRc()))
-            );
-
-            builder.addAllocatedCapacities(vlmAllocatedBuilder.build());
-        }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        builder.build().writeDelimitedTo(baos);
+        ProtoCtrlStltSerializerBuilder.buildVlmAllocated(vlmAllocatedCapacities).writeDelimitedTo(baos);
 
         return Flux.just(commonSerializer
             .answerBuilder(InternalApiConsts.API_REQUEST_THIN_FREE_SPACE, apiCallIdProvider.get())
@@ -110,6 +110,12 @@ public final class Satellite
 
     private final StltConfig stltCfg;
 
+    private final StltMetricsService metricsSvc;
+
+    private final StltFreeSpacePushService freeSpacePushSvc;
+
+    private final StltVlmAllocatedPushService vlmAllocatedPushSvc;
+
     @Inject
     public Satellite(
         ErrorReporter errorReporterRef,
@@ -127,7 +133,10 @@ public final class Satellite
         DrbdEventService drbdEventSvcRef,
         SatelliteNetComInitializer satelliteNetComInitializerRef,
         StltCoreObjProtInitializer stltCoreObjProtInitializerRef,
-        StltConfig stltCfgRef
+        StltConfig stltCfgRef,
+        StltMetricsService metricsSvcRef,
+        StltFreeSpacePushService freeSpacePushSvcRef,
+        StltVlmAllocatedPushService vlmAllocatedPushSvcRef
     )
     {
         errorReporter = errorReporterRef;
@@ -144,6 +153,9 @@ public final class Satellite
         satelliteNetComInitializer = satelliteNetComInitializerRef;
         stltCoreObjProtInitializer = stltCoreObjProtInitializerRef;
         stltCfg = stltCfgRef;
+        metricsSvc = metricsSvcRef;
+        freeSpacePushSvc = freeSpacePushSvcRef;
+        vlmAllocatedPushSvc = vlmAllocatedPushSvcRef;
     }
 
     public void start()
@@ -218,6 +230,18 @@ public final class Satellite
                 startOrderlist.add(new ServiceStarter(drbdEventPublisher));
             }
             startOrderlist.add(new ServiceStarter(devMgrService));
+            if (stltCfg.isMetricsEnabled())
+            {
+                startOrderlist.add(new ServiceStarter(metricsSvc));
+            }
+            if (freeSpacePushSvc.isEnabled())
+            {
+                startOrderlist.add(new ServiceStarter(freeSpacePushSvc));
+            }
+            if (vlmAllocatedPushSvc.isEnabled())
+            {
+                startOrderlist.add(new ServiceStarter(vlmAllocatedPushSvc));
+            }
             startOrderlist.add(stltCoreObjProtInitializer);
             errorReporter.logInfo("Initializing main network communications service");
             startOrderlist.add(netComInitializer);
@@ -230,6 +254,18 @@ public final class Satellite
                 systemServicesMap.put(drbdEventPublisher.getInstanceName(), drbdEventPublisher);
             }
             systemServicesMap.put(devMgrService.getInstanceName(), devMgrService);
+            if (stltCfg.isMetricsEnabled())
+            {
+                systemServicesMap.put(metricsSvc.getInstanceName(), metricsSvc);
+            }
+            if (freeSpacePushSvc.isEnabled())
+            {
+                systemServicesMap.put(freeSpacePushSvc.getInstanceName(), freeSpacePushSvc);
+            }
+            if (vlmAllocatedPushSvc.isEnabled())
+            {
+                systemServicesMap.put(vlmAllocatedPushSvc.getInstanceName(), vlmAllocatedPushSvc);
+            }
 
             applicationLifecycleManager.startSystemServices(startOrderlist);
 
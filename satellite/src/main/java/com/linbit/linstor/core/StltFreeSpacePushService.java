@@ -0,0 +1,113 @@
+package com.linbit.linstor.core;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.SatelliteLinstorModule;
+import com.linbit.ServiceName;
+import com.linbit.WorkQueue;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandlerUtils;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.timer.CoreTimer;
+import com.linbit.utils.Either;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Periodically sends the free space of the thin storage pools to the controller
+ *
+ * The controller caches the free space reported by the satellites, so that listing storage pools or
+ * auto-placing resources does not have to query every satellite. The device manager only reports storage
+ * pools it modified, while the free space of thin pools also changes by writing to their volumes.
+ */
+@Singleton
+public class StltFreeSpacePushService extends StltPeriodicPushService
+{
+    public static final ServiceName SERVICE_NAME;
+    public static final String SERVICE_INFO = "Periodic free space updates to the controller";
+
+    private static final String ACTION_ID = "FreeSpacePush";
+
+    private final StltConfig stltCfg;
+    private final StltApiCallHandlerUtils apiCallHandlerUtils;
+    private final CtrlStltSerializer interComSerializer;
+
+    static
+    {
+        try
+        {
+            SERVICE_NAME = new ServiceName("StltFreeSpacePushService");
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(invalidNameExc);
+        }
+    }
+
+    @Inject
+    public StltFreeSpacePushService(
+        ErrorReporter errorReporterRef,
+        StltConfig stltCfgRef,
+        CoreTimer timerRef,
+        @Named(SatelliteLinstorModule.STLT_WORKER_POOL_NAME) WorkQueue workQueueRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        StltApiCallHandlerUtils apiCallHandlerUtilsRef,
+        CtrlStltSerializer interComSerializerRef
+    )
+    {
+        super(
+            SERVICE_NAME,
+            SERVICE_INFO,
+            ACTION_ID,
+            errorReporterRef,
+            timerRef,
+            workQueueRef,
+            controllerPeerConnectorRef
+        );
+        stltCfg = stltCfgRef;
+        apiCallHandlerUtils = apiCallHandlerUtilsRef;
+        interComSerializer = interComSerializerRef;
+    }
+
+    @Override
+    protected long getIntervalSecs()
+    {
+        return stltCfg.getDevMgrFreeSpacePushIntervalSecs();
+    }
+
+    @Override
+    protected void push(Peer ctrlPeer)
+    {
+        Map<StorPool, SpaceInfo> freeSpaces = new TreeMap<>();
+        for (Map.Entry<StorPool, Either<SpaceInfo, ApiRcException>> entry :
+            apiCallHandlerUtils.getAllSpaceInfo(true).entrySet())
+        {
+            // storage pools with errors are left out, the controller queries and reports them on demand
+            entry.getValue().consume(
+                spaceInfo -> freeSpaces.put(entry.getKey(), spaceInfo),
+                ignored -> {}
+            );
+        }
+
+        if (!freeSpaces.isEmpty())
+        {
+            ctrlPeer.sendMessage(
+                interComSerializer
+                    .onewayBuilder(InternalApiConsts.API_UPDATE_FREE_CAPACITY)
+                    .updateFreeCapacities(freeSpaces)
+                    .build()
+            );
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.linbit.linstor.core;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.SatelliteLinstorModule;
+import com.linbit.ServiceName;
+import com.linbit.SystemService;
+import com.linbit.SystemServiceStartException;
+import com.linbit.WorkQueue;
+import com.linbit.WorkQueueStats;
+import com.linbit.extproc.ExtCmd;
+import com.linbit.extproc.ExtCmdStats;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.drbdstate.DrbdEventService;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.metrics.LinstorMetrics;
+import com.linbit.linstor.metrics.MetricsExporter;
+import com.linbit.linstor.metrics.MetricsTextWriter;
+import com.linbit.linstor.storage.utils.InventoryCache;
+import com.linbit.linstor.storage.utils.LvmUtils;
+import com.linbit.linstor.storage.utils.ZfsUtils;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the satellite's metrics at /metrics, see {@link MetricsTextWriter} for the format
+ *
+ * Only started if enabled in the satellite's configuration. Uses the HTTP server of the JRE, which is
+ * sufficient for being polled by a metrics scraper every few seconds.
+ */
+@Singleton
+public class StltMetricsService implements SystemService
+{
+    public static final ServiceName SERVICE_NAME;
+    public static final String SERVICE_INFO = "Satellite metrics HTTP server";
+
+    private static final String METRICS_PATH = "/metrics";
+
+    private final ErrorReporter errorReporter;
+    private final StltConfig stltCfg;
+    private final LinstorMetrics metrics;
+    private final DrbdEventService drbdEventSvc;
+    private final WorkQueue workQueue;
+
+    private ServiceName instanceName;
+    private HttpServer httpServer;
+
+    static
+    {
+        try
+        {
+            SERVICE_NAME = new ServiceName("StltMetricsService");
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(invalidNameExc);
+        }
+    }
+
+    @Inject
+    public StltMetricsService(
+        ErrorReporter errorReporterRef,
+        StltConfig stltCfgRef,
+        LinstorMetrics metricsRef,
+        DrbdEventService drbdEventSvcRef,
+        @Named(SatelliteLinstorModule.STLT_WORKER_POOL_NAME) WorkQueue workQueueRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        stltCfg = stltCfgRef;
+        metrics = metricsRef;
+        drbdEventSvc = drbdEventSvcRef;
+        workQueue = workQueueRef;
+        instanceName = SERVICE_NAME;
+    }
+
+    @Override
+    public ServiceName getServiceName()
+    {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public String getServiceInfo()
+    {
+        return SERVICE_INFO;
+    }
+
+    @Override
+    public ServiceName getInstanceName()
+    {
+        return instanceName;
+    }
+
+    @Override
+    public synchronized boolean isStarted()
+    {
+        return httpServer != null;
+    }
+
+    @Override
+    public void setServiceInstanceName(ServiceName instanceNameRef)
+    {
+        instanceName = instanceNameRef;
+    }
+
+    @Override
+    public synchronized void start() throws SystemServiceStartException
+    {
+        if (httpServer == null)
+        {
+            InetSocketAddress bindAddress = new InetSocketAddress(
+                stltCfg.getMetricsBindAddress(),
+                stltCfg.getMetricsPort()
+            );
+            try
+            {
+                HttpServer server = HttpServer.create(bindAddress, 0);
+                server.createContext(METRICS_PATH, this::handleRequest);
+                server.start();
+                httpServer = server;
+                errorReporter.logInfo("Serving metrics on %s%s", bindAddress, METRICS_PATH);
+            }
+            catch (IOException ioExc)
+            {
+                throw new SystemServiceStartException(
+                    "Unable to start the metrics HTTP server on " + bindAddress,
+                    ioExc,
+                    false
+                );
+            }
+        }
+    }
+
+    @Override
+    public synchronized void shutdown()
+    {
+        if (httpServer != null)
+        {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    @Override
+    public void awaitShutdown(long timeout)
+    {
+        // HttpServer.stop already waits for the server's thread
+    }
+
+    private void handleRequest(HttpExchange exchange) throws IOException
+    {
+        try
+        {
+            if ("GET".equals(exchange.getRequestMethod()))
+            {
+                byte[] body = export().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", MetricsTextWriter.CONTENT_TYPE);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.length);
+                try (OutputStream out = exchange.getResponseBody())
+                {
+                    out.write(body);
+                }
+            }
+            else
+            {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, -1);
+            }
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+    private String export()
+    {
+        MetricsTextWriter writer = new MetricsTextWriter();
+
+        writer.latencyHistograms(
+            "linstor_devmgr_cycle_duration_seconds",
+            "Duration of the device manager's dispatch cycles, while holding the reconfiguration lock",
+            null,
+            Collections.singletonMap(null, metrics.getDevMgrCycleDuration())
+        );
+        writer.latencyHistograms(
+            "linstor_devmgr_dispatch_duration_seconds",
+            "Time the device handler needed to process the resources of a dispatch cycle",
+            null,
+            Collections.singletonMap(null, metrics.getDevMgrDispatchDuration())
+        );
+        writer.counters(
+            "linstor_devmgr_dispatched_resources_total",
+            "Number of resources processed by the device handler",
+            null,
+            Collections.singletonMap(null, metrics.getDevMgrDispatchedResources())
+        );
+
+        ExtCmdStats extCmdStats = ExtCmd.getStats();
+        writer.latencyHistograms(
+            "linstor_ext_cmd_duration_seconds",
+            "Duration of external commands",
+            "command",
+            extCmdStats.getHistograms()
+        );
+        writer.counters(
+            "linstor_ext_cmd_failures_total",
+            "Number of external commands that exited with an error or timed out",
+            "command",
+            extCmdStats.getFailureCounts()
+        );
+
+        writer.counters(
+            "linstor_drbd_events2_lines_total",
+            "Number of lines of 'drbdsetup events2' that were parsed",
+            null,
+            Collections.singletonMap(null, drbdEventSvc.getParsedEventCount())
+        );
+
+        Map<String, Long> inventoryCacheHits = new TreeMap<>();
+        Map<String, Long> inventoryCacheLoads = new TreeMap<>();
+        List<InventoryCache<?>> inventoryCaches = new ArrayList<>(LvmUtils.getInventoryCaches());
+        inventoryCaches.addAll(ZfsUtils.getInventoryCaches());
+        for (InventoryCache<?> cache : inventoryCaches)
+        {
+            inventoryCacheHits.put(cache.getName(), cache.getHitCount());
+            inventoryCacheLoads.put(cache.getName(), cache.getLoadCount());
+        }
+        writer.counters(
+            "linstor_storage_inventory_cache_hits_total",
+            "Number of storage inventory queries answered from the cache instead of an external command",
+            "cache",
+            inventoryCacheHits
+        );
+        writer.counters(
+            "linstor_storage_inventory_cache_loads_total",
+            "Number of storage inventory queries that executed an external command",
+            "cache",
+            inventoryCacheLoads
+        );
+
+        MetricsExporter.writeLockMetrics(writer, metrics);
+
+        WorkQueueStats workQueueStats = workQueue.getStats();
+        writer.gauges(
+            "linstor_worker_queue_depth",
+            "Number of tasks waiting for a worker thread",
+            null,
+            Collections.singletonMap(null, workQueueStats.getQueueDepth())
+        );
+        writer.gauges(
+            "linstor_worker_active_tasks",
+            "Number of tasks that are currently run by a worker thread",
+            null,
+            Collections.singletonMap(null, workQueueStats.getActiveCount())
+        );
+
+        return writer.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.linbit.linstor.core;
+
+import com.linbit.ImplementationError;
+import com.linbit.NegativeTimeException;
+import com.linbit.ServiceName;
+import com.linbit.SystemService;
+import com.linbit.ValueOutOfRangeException;
+import com.linbit.WorkQueue;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.timer.CoreTimer;
+import com.linbit.timer.Action;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class of the services that periodically send data of this satellite to the controller
+ *
+ * The timer only submits the push to the worker pool, as collecting the data usually runs external commands
+ * which themselves rely on the timer for their timeouts. The next push is scheduled after the current one
+ * finished, so pushes never overlap. Nothing is sent while the satellite is not connected to a controller
+ * or not yet authenticated.
+ */
+public abstract class StltPeriodicPushService implements SystemService
+{
+    protected final ErrorReporter errorReporter;
+    private final CoreTimer timer;
+    private final WorkQueue workQueue;
+    private final ControllerPeerConnector controllerPeerConnector;
+
+    private final ServiceName serviceName;
+    private final String serviceInfo;
+    private final String actionId;
+
+    private ServiceName instanceName;
+    private boolean started;
+
+    protected StltPeriodicPushService(
+        ServiceName serviceNameRef,
+        String serviceInfoRef,
+        String actionIdRef,
+        ErrorReporter errorReporterRef,
+        CoreTimer timerRef,
+        WorkQueue workQueueRef,
+        ControllerPeerConnector controllerPeerConnectorRef
+    )
+    {
+        serviceName = serviceNameRef;
+        serviceInfo = serviceInfoRef;
+        actionId = actionIdRef;
+        errorReporter = errorReporterRef;
+        timer = timerRef;
+        workQueue = workQueueRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+        instanceName = serviceNameRef;
+    }
+
+    /**
+     * Returns the configured push interval in seconds, 0 disables the service
+     */
+    protected abstract long getIntervalSecs();
+
+    /**
+     * Collects the data and sends it to the given, connected controller peer
+     */
+    protected abstract void push(Peer ctrlPeer);
+
+    public boolean isEnabled()
+    {
+        return getIntervalSecs() > 0;
+    }
+
+    @Override
+    public ServiceName getServiceName()
+    {
+        return serviceName;
+    }
+
+    @Override
+    public String getServiceInfo()
+    {
+        return serviceInfo;
+    }
+
+    @Override
+    public ServiceName getInstanceName()
+    {
+        return instanceName;
+    }
+
+    @Override
+    public synchronized boolean isStarted()
+    {
+        return started;
+    }
+
+    @Override
+    public void setServiceInstanceName(ServiceName instanceNameRef)
+    {
+        instanceName = instanceNameRef;
+    }
+
+    @Override
+    public synchronized void start()
+    {
+        if (!started)
+        {
+            started = true;
+            schedule();
+        }
+    }
+
+    @Override
+    public synchronized void shutdown()
+    {
+        started = false;
+        timer.cancelAction(actionId);
+    }
+
+    @Override
+    public void awaitShutdown(long timeout)
+    {
+        // a push that is already running finishes on its own
+    }
+
+    private synchronized void schedule()
+    {
+        if (started)
+        {
+            try
+            {
+                timer.addDelayedAction(TimeUnit.SECONDS.toMillis(getIntervalSecs()), new PushAction());
+            }
+            catch (NegativeTimeException | ValueOutOfRangeException exc)
+            {
+                throw new ImplementationError("Bad push interval of " + serviceName.displayValue, exc);
+            }
+        }
+    }
+
+    private void runPush()
+    {
+        try
+        {
+            Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+            if (ctrlPeer != null && ctrlPeer.isConnected(false) && controllerPeerConnector.getLocalNode() != null)
+            {
+                push(ctrlPeer);
+            }
+        }
+        catch (RuntimeException exc)
+        {
+            errorReporter.reportError(exc);
+        }
+        finally
+        {
+            schedule();
+        }
+    }
+
+    private class PushAction implements Action<String>
+    {
+        @Override
+        public void run()
+        {
+            workQueue.submit(StltPeriodicPushService.this::runPush);
+        }
+
+        @Override
+        public String getId()
+        {
+            return actionId;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.SnapshotDefinition;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +78,39 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
                 resourceKey,
                 ignored -> new UpdateNotification(rscUuid)
             );
+            updateNotification.requestRequired = true;
+        }
+        return update(updateNotification);
+    }
+
+    /**
+     * Same as {@link #updateResource(UUID, ResourceName, NodeName)}, but the controller already sent the
+     * resource's data with the given fullSyncId and updateId. The device manager only requests the data
+     * if that update has not been applied by the time it processes this notification.
+     */
+    @Override
+    public Flux<ApiCallRc> updatePushedResource(
+        UUID rscUuid,
+        ResourceName resourceName,
+        NodeName nodeName,
+        long fullSyncId,
+        long updateId
+    )
+    {
+        Resource.ResourceKey resourceKey = new Resource.ResourceKey(nodeName, resourceName);
+        UpdateNotification updateNotification;
+        synchronized (sched)
+        {
+            updateNotification = cachedUpdates.rscUpdates.get(resourceKey);
+            if (updateNotification == null)
+            {
+                updateNotification = new UpdateNotification(rscUuid, fullSyncId, updateId);
+                cachedUpdates.rscUpdates.put(resourceKey, updateNotification);
+            }
+            else
+            {
+                updateNotification.pushed(fullSyncId, updateId);
+            }
         }
         return update(updateNotification);
     }
@@ -186,10 +220,25 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
 
         private final List<FluxSink<ApiCallRc>> responseSinks;
 
+        // false if all notified changes were pushed with their data by the controller
+        private boolean requestRequired;
+        private long pushedFullSyncId;
+        private long pushedUpdateId;
+
         public UpdateNotification(UUID uuidRef)
         {
             uuid = uuidRef;
             responseSinks = new ArrayList<>();
+            requestRequired = true;
+        }
+
+        public UpdateNotification(UUID uuidRef, long pushedFullSyncIdRef, long pushedUpdateIdRef)
+        {
+            uuid = uuidRef;
+            responseSinks = new ArrayList<>();
+            requestRequired = false;
+            pushedFullSyncId = pushedFullSyncIdRef;
+            pushedUpdateId = pushedUpdateIdRef;
         }
 
         public UUID getUuid()
@@ -197,6 +246,25 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
             return uuid;
         }
 
+        void pushed(long fullSyncIdRef, long updateIdRef)
+        {
+            if (fullSyncIdRef != pushedFullSyncId || updateIdRef > pushedUpdateId)
+            {
+                pushedFullSyncId = fullSyncIdRef;
+                pushedUpdateId = updateIdRef;
+            }
+        }
+
+        /**
+         * Returns whether the data of the notified changes is already applied, i.e. whether all changes were
+         * pushed by the controller and the latest of those updates was applied. Otherwise (e.g. if there is
+         * a gap in the received updates) the data has to be requested from the controller.
+         */
+        public boolean isPushedDataApplied(long currentFullSyncId, long awaitedUpdateId)
+        {
+            return !requestRequired && pushedFullSyncId == currentFullSyncId && pushedUpdateId < awaitedUpdateId;
+        }
+
         public void addResponseSink(FluxSink<ApiCallRc> sink)
         {
             responseSinks.add(sink);
@@ -236,6 +304,32 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
             other.snapshotUpdates.putAll(snapshotUpdates);
         }
 
+        /**
+         * Removes the resource update notifications whose data was pushed by the controller and already applied
+         *
+         * @param currentFullSyncId The full sync id of the satellite
+         * @param awaitedUpdateId The id of the next update that the satellite can apply
+         * @return The removed notifications
+         */
+        public Map<Resource.ResourceKey, UpdateNotification> removeAppliedPushedRscUpdates(
+            long currentFullSyncId,
+            long awaitedUpdateId
+        )
+        {
+            Map<Resource.ResourceKey, UpdateNotification> appliedRscUpdates = new TreeMap<>();
+            Iterator<Map.Entry<Resource.ResourceKey, UpdateNotification>> rscUpdIter = rscUpdates.entrySet().iterator();
+            while (rscUpdIter.hasNext())
+            {
+                Map.Entry<Resource.ResourceKey, UpdateNotification> rscUpdEntry = rscUpdIter.next();
+                if (rscUpdEntry.getValue().isPushedDataApplied(currentFullSyncId, awaitedUpdateId))
+                {
+                    appliedRscUpdates.put(rscUpdEntry.getKey(), rscUpdEntry.getValue());
+                    rscUpdIter.remove();
+                }
+            }
+            return appliedRscUpdates;
+        }
+
         /**
          * Indicates whether the UpdateBundle contains any notifications
          *
@@ -0,0 +1,140 @@
+package com.linbit.linstor.core;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.SatelliteLinstorModule;
+import com.linbit.ServiceName;
+import com.linbit.WorkQueue;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.annotation.ApiContext;
+import com.linbit.linstor.api.ApiModule;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.apicallhandler.satellite.StltApiCallHandlerUtils;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.timer.CoreTimer;
+import com.linbit.locks.LockGuard;
+import com.linbit.utils.Either;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.Collections;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+/**
+ * Periodically sends the allocated sizes of the thin volumes to the controller
+ *
+ * The controller caches the allocated sizes, so that listing volumes does not have to query every satellite.
+ * The controller updates its cache whenever this satellite applied a resource, while the allocated size of
+ * a thin volume also grows by writing to it. This sweep is meant to run rarely, as it queries every thin
+ * volume of the node.
+ */
+@Singleton
+public class StltVlmAllocatedPushService extends StltPeriodicPushService
+{
+    public static final ServiceName SERVICE_NAME;
+    public static final String SERVICE_INFO = "Periodic volume allocated size updates to the controller";
+
+    private static final String ACTION_ID = "VlmAllocatedPush";
+
+    private final AccessContext apiCtx;
+    private final StltConfig stltCfg;
+    private final ScopeRunner scopeRunner;
+    private final StltApiCallHandlerUtils apiCallHandlerUtils;
+    private final CtrlStltSerializer interComSerializer;
+
+    static
+    {
+        try
+        {
+            SERVICE_NAME = new ServiceName("StltVlmAllocatedPushService");
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(invalidNameExc);
+        }
+    }
+
+    @Inject
+    public StltVlmAllocatedPushService(
+        ErrorReporter errorReporterRef,
+        @ApiContext AccessContext apiCtxRef,
+        StltConfig stltCfgRef,
+        CoreTimer timerRef,
+        @Named(SatelliteLinstorModule.STLT_WORKER_POOL_NAME) WorkQueue workQueueRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        ScopeRunner scopeRunnerRef,
+        StltApiCallHandlerUtils apiCallHandlerUtilsRef,
+        CtrlStltSerializer interComSerializerRef
+    )
+    {
+        super(
+            SERVICE_NAME,
+            SERVICE_INFO,
+            ACTION_ID,
+            errorReporterRef,
+            timerRef,
+            workQueueRef,
+            controllerPeerConnectorRef
+        );
+        apiCtx = apiCtxRef;
+        stltCfg = stltCfgRef;
+        scopeRunner = scopeRunnerRef;
+        apiCallHandlerUtils = apiCallHandlerUtilsRef;
+        interComSerializer = interComSerializerRef;
+    }
+
+    @Override
+    protected long getIntervalSecs()
+    {
+        return stltCfg.getDevMgrVlmAllocatedPushIntervalSecs();
+    }
+
+    @Override
+    protected void push(Peer ctrlPeer)
+    {
+        // querying the volumes prepares the device providers, which requires a transaction
+        scopeRunner
+            .fluxInTransactionalScope(
+                "Push volume allocated capacity",
+                LockGuard.createDeferred(),
+                () -> Flux.just(
+                    apiCallHandlerUtils.getVlmAllocatedCapacities(
+                        Collections.emptySet(),
+                        Collections.emptySet()
+                    )
+                )
+            )
+            .subscriberContext(Context.of(
+                ApiModule.API_CALL_NAME, "Push volume allocated capacity",
+                AccessContext.class, apiCtx
+            ))
+            .subscribe(
+                vlmAllocatedMap -> sendVlmAllocated(ctrlPeer, vlmAllocatedMap),
+                errorReporter::reportError
+            );
+    }
+
+    private void sendVlmAllocated(Peer ctrlPeer, Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedMap)
+    {
+        if (!vlmAllocatedMap.isEmpty())
+        {
+            ctrlPeer.sendMessage(
+                interComSerializer
+                    .onewayBuilder(InternalApiConsts.API_UPDATE_VLM_ALLOCATED)
+                    .updateVlmAllocated(vlmAllocatedMap)
+                    .build()
+            );
+        }
+    }
+}
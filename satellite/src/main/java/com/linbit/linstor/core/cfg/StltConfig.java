@@ -1,11 +1,15 @@
 package com.linbit.linstor.core.cfg;
 
+import com.linbit.WorkerPoolInitializer.WorkerPoolType;
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.LinStorRuntimeException;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import com.moandjiezana.toml.Toml;
 
@@ -28,6 +32,17 @@ public class StltConfig extends LinstorConfig
     private String netSecureTruststorePassword;
     private String netSecureSslProtocol;
 
+    private WorkerPoolType workerPoolType;
+
+    private int devMgrDispatchParallelism;
+    private int devMgrStorPoolConcurrency;
+    private int devMgrFreeSpacePushIntervalSecs;
+    private int devMgrVlmAllocatedPushIntervalSecs;
+
+    private boolean metricsEnabled;
+    private String metricsBindAddress;
+    private Integer metricsPort;
+
     public StltConfig(String[] argsRef)
     {
         super(argsRef);
@@ -46,6 +61,17 @@ public class StltConfig extends LinstorConfig
         setNetType("plain");
 
         setNetSecureSslProtocol("TLSv1.2");
+
+        setWorkerPoolType(WorkerPoolType.DEFAULT);
+
+        setDevMgrDispatchParallelism(1);
+        setDevMgrStorPoolConcurrency(1);
+        setDevMgrFreeSpacePushIntervalSecs(60);
+        setDevMgrVlmAllocatedPushIntervalSecs(300);
+
+        setMetricsEnabled(false);
+        setMetricsBindAddress("::0");
+        setMetricsPort(3368);
     }
 
     @Override
@@ -252,4 +278,150 @@ public class StltConfig extends LinstorConfig
             netType = netTypeRef;
         }
     }
+
+    public WorkerPoolType getWorkerPoolType()
+    {
+        return workerPoolType;
+    }
+
+    public void setWorkerPoolType(String workerPoolTypeRef)
+    {
+        if (workerPoolTypeRef != null)
+        {
+            try
+            {
+                workerPoolType = WorkerPoolType.parse(workerPoolTypeRef);
+            }
+            catch (IllegalArgumentException exc)
+            {
+                throw new LinStorRuntimeException(
+                    "Invalid worker pool type '" + workerPoolTypeRef + "', accepted values are: " +
+                        Arrays.stream(WorkerPoolType.values())
+                            .map(type -> type.name().toLowerCase().replace('_', '-'))
+                            .collect(Collectors.joining(", ")),
+                    exc
+                );
+            }
+        }
+    }
+
+    public void setWorkerPoolType(WorkerPoolType workerPoolTypeRef)
+    {
+        if (workerPoolTypeRef != null)
+        {
+            workerPoolType = workerPoolTypeRef;
+        }
+    }
+
+    /**
+     * Maximum number of resources the device manager processes concurrently. 1 processes
+     * all resources sequentially.
+     */
+    public int getDevMgrDispatchParallelism()
+    {
+        return devMgrDispatchParallelism;
+    }
+
+    public void setDevMgrDispatchParallelism(Integer devMgrDispatchParallelismRef)
+    {
+        if (devMgrDispatchParallelismRef != null)
+        {
+            devMgrDispatchParallelism = Math.max(1, devMgrDispatchParallelismRef);
+        }
+    }
+
+    /**
+     * Maximum number of resources the device manager processes concurrently on the same
+     * storage pool
+     */
+    public int getDevMgrStorPoolConcurrency()
+    {
+        return devMgrStorPoolConcurrency;
+    }
+
+    public void setDevMgrStorPoolConcurrency(Integer devMgrStorPoolConcurrencyRef)
+    {
+        if (devMgrStorPoolConcurrencyRef != null)
+        {
+            devMgrStorPoolConcurrency = Math.max(1, devMgrStorPoolConcurrencyRef);
+        }
+    }
+
+    /**
+     * Interval in which the free space of the thin storage pools is sent to the controller,
+     * in addition to the updates after the device manager modified a storage pool. 0 disables the
+     * periodic updates.
+     */
+    public int getDevMgrFreeSpacePushIntervalSecs()
+    {
+        return devMgrFreeSpacePushIntervalSecs;
+    }
+
+    public void setDevMgrFreeSpacePushIntervalSecs(Integer devMgrFreeSpacePushIntervalSecsRef)
+    {
+        if (devMgrFreeSpacePushIntervalSecsRef != null)
+        {
+            devMgrFreeSpacePushIntervalSecs = Math.max(0, devMgrFreeSpacePushIntervalSecsRef);
+        }
+    }
+
+    /**
+     * Interval in which the allocated sizes of the thin volumes are sent to the controller,
+     * in addition to the updates after the device manager applied a resource. 0 disables the
+     * periodic updates.
+     */
+    public int getDevMgrVlmAllocatedPushIntervalSecs()
+    {
+        return devMgrVlmAllocatedPushIntervalSecs;
+    }
+
+    public void setDevMgrVlmAllocatedPushIntervalSecs(Integer devMgrVlmAllocatedPushIntervalSecsRef)
+    {
+        if (devMgrVlmAllocatedPushIntervalSecsRef != null)
+        {
+            devMgrVlmAllocatedPushIntervalSecs = Math.max(0, devMgrVlmAllocatedPushIntervalSecsRef);
+        }
+    }
+
+    /**
+     * Whether the satellite serves its metrics over HTTP at /metrics
+     */
+    public boolean isMetricsEnabled()
+    {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(Boolean metricsEnabledRef)
+    {
+        if (metricsEnabledRef != null)
+        {
+            metricsEnabled = metricsEnabledRef;
+        }
+    }
+
+    public String getMetricsBindAddress()
+    {
+        return metricsBindAddress;
+    }
+
+    public void setMetricsBindAddress(String metricsBindAddressRef)
+    {
+        if (metricsBindAddressRef != null)
+        {
+            metricsBindAddress = metricsBindAddressRef;
+        }
+    }
+
+    public Integer getMetricsPort()
+    {
+        return metricsPort;
+    }
+
+    public void setMetricsPort(Integer metricsPortRef)
+    {
+        if (metricsPortRef != null)
+        {
+            metricsPort = metricsPortRef;
+        }
+    }
 }
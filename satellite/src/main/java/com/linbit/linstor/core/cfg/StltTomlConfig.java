@@ -43,12 +43,58 @@ public class StltTomlConfig
         }
     }
 
+    public static class WorkerPool
+    {
+        private String type;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setWorkerPoolType(type);
+        }
+    }
+
+    public static class DeviceManager
+    {
+        private Integer dispatch_parallelism;
+        private Integer stor_pool_concurrency;
+        private Integer free_space_push_interval;
+        private Integer vlm_allocated_push_interval;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setDevMgrDispatchParallelism(dispatch_parallelism);
+            cfg.setDevMgrStorPoolConcurrency(stor_pool_concurrency);
+            cfg.setDevMgrFreeSpacePushIntervalSecs(free_space_push_interval);
+            cfg.setDevMgrVlmAllocatedPushIntervalSecs(vlm_allocated_push_interval);
+        }
+    }
+
+    public static class Metrics
+    {
+        private Boolean enabled;
+        private String bind_address;
+        private Integer port;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setMetricsEnabled(enabled);
+            cfg.setMetricsBindAddress(bind_address);
+            cfg.setMetricsPort(port);
+        }
+    }
+
     private NETCOM netcom = new NETCOM();
     private Logging logging = new Logging();
+    private WorkerPool worker_pool = new WorkerPool();
+    private DeviceManager device_manager = new DeviceManager();
+    private Metrics metrics = new Metrics();
 
     public void applyTo(StltConfig cfg)
     {
         netcom.applyTo(cfg);
         logging.applyTo(cfg);
+        worker_pool.applyTo(cfg);
+        device_manager.applyTo(cfg);
+        metrics.applyTo(cfg);
     }
 }
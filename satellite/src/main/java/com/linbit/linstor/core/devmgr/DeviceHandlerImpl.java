@@ -9,11 +9,13 @@ import com.linbit.linstor.annotation.DeviceManagerContext;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallRcImpl.EntryBuilder;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.SysFsHandler;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.AbsResource;
@@ -36,6 +38,7 @@ import com.linbit.linstor.storage.LayerFactory;
 import com.linbit.linstor.storage.StorageException;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.layer.DeviceLayer;
 import com.linbit.linstor.storage.layer.DeviceLayer.LayerProcessResult;
 import com.linbit.linstor.storage.layer.DeviceLayer.NotificationListener;
@@ -45,6 +48,7 @@ import com.linbit.linstor.storage.layer.exceptions.VolumeException;
 import com.linbit.linstor.storage.layer.provider.StorageLayer;
 import com.linbit.linstor.storage.utils.MkfsUtils;
 import com.linbit.linstor.utils.SetUtils;
+import com.linbit.linstor.utils.layer.LayerRscUtils;
 import com.linbit.utils.Either;
 
 import javax.inject.Inject;
@@ -63,12 +67,25 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import com.google.inject.Key;
+
 @Singleton
 public class DeviceHandlerImpl implements DeviceHandler
 {
+    private static final long DISPATCH_THREAD_KEEP_ALIVE_SECS = 60;
+
     private final AccessContext wrkCtx;
     private final ErrorReporter errorReporter;
     private final Provider<NotificationListener> notificationListener;
@@ -85,6 +102,13 @@ public class DeviceHandlerImpl implements DeviceHandler
 
     private final SysFsHandler sysFsHandler;
 
+    private final StltConfig stltCfg;
+    private final LinStorScope devMgrScope;
+
+    // Pool of threads processing resources in parallel, created on first use
+    private ThreadPoolExecutor dispatchExecutor;
+    private final AtomicInteger dispatchThreadCtr = new AtomicInteger();
+
     @Inject
     public DeviceHandlerImpl(
         @DeviceManagerContext AccessContext wrkCtxRef,
@@ -97,7 +121,9 @@ public class DeviceHandlerImpl implements DeviceHandler
         StorageLayer storageLayerRef,
         ResourceStateEvent resourceStateEventRef,
         ExtCmdFactory extCmdFactoryRef,
-        SysFsHandler sysFsHandlerRef
+        SysFsHandler sysFsHandlerRef,
+        StltConfig stltCfgRef,
+        LinStorScope devMgrScopeRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -112,6 +138,8 @@ public class DeviceHandlerImpl implements DeviceHandler
         resourceStateEvent = resourceStateEventRef;
         extCmdFactory = extCmdFactoryRef;
         sysFsHandler = sysFsHandlerRef;
+        stltCfg = stltCfgRef;
+        devMgrScope = devMgrScopeRef;
 
         fullSyncApplied = new AtomicBoolean(false);
     }
@@ -279,167 +307,430 @@ public class DeviceHandlerImpl implements DeviceHandler
         Map<ResourceName, List<Snapshot>> snapshotsByRscName = snapshotsRef.stream()
             .collect(Collectors.groupingBy(Snapshot::getResourceName));
 
+        List<ResourceDispatch> dispatchList = new ArrayList<>();
+        for (Resource rsc : resourceList)
+        {
+            List<Snapshot> snapshots = snapshotsByRscName.get(rsc.getDefinition().getName());
+            if (snapshots == null)
+            {
+                snapshots = Collections.emptyList();
+            }
+            unprocessedSnapshotsRef.removeAll(snapshots);
+            dispatchList.add(new ResourceDispatch(rsc, snapshots));
+        }
+
         List<Resource> sysFsUpdateList = new ArrayList<>();
         List<Resource> sysFsDeleteList = new ArrayList<>();
 
-        for (Resource rsc : resourceList)
+        int parallelism = stltCfg.getDevMgrDispatchParallelism();
+        if (parallelism > 1 && dispatchList.size() > 1)
+        {
+            processParallel(dispatchList, parallelism);
+        }
+        for (ResourceDispatch dispatch : dispatchList)
         {
-            ResourceName rscName = rsc.getDefinition().getName();
+            if (!dispatch.processed)
+            {
+                processResource(dispatch);
+            }
+            // results are always reported in the order of the resourceList
+            reportResult(
+                dispatch,
+                rscListNotifyApplied,
+                rscListNotifyDelete,
+                vlmListNotifyDelete,
+                snapListNotifyDelete,
+                sysFsUpdateList,
+                sysFsDeleteList
+            );
+        }
+        sysFsHandler.updateSysFsSettings(sysFsUpdateList, sysFsDeleteList);
+    }
 
-            ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
-            try
+    /**
+     * Processes the resources on a dedicated pool of dispatch threads. Resources that share a storage pool
+     * with a backing device are processed concurrently only up to the configured per storage pool limit.
+     * Returns after all resources were processed. Resources whose task could not be started are left
+     * unprocessed and are processed sequentially by the caller.
+     *
+     * The dispatch threads do not run on the satellite worker pool, as they block on the storage pool
+     * limits and would otherwise starve the handling of the controller's messages.
+     *
+     * Besides the per-resource layer data, the dispatch threads share the following state:
+     * <ul>
+     *     <li>the DRBD state tracker, whose resource map is synchronized and whose observers
+     *         (registered while waiting for a resource to become ready for primary) are thread-safe</li>
+     *     <li>the props containers of nodes, storage pools and the satellite config, which are only read,
+     *         see {@link com.linbit.linstor.propscon.PropsContainer} for building their lookup snapshot</li>
+     *     <li>the change tracking of the storage providers and the satellite transaction manager, which
+     *         are thread-safe</li>
+     * </ul>
+     */
+    private void processParallel(List<ResourceDispatch> dispatchList, int parallelism)
+    {
+        Map<Key<?>, Object> scopedObjects = devMgrScope.getScopedObjects();
+        Map<StorPool, Semaphore> storPoolGuards = new TreeMap<>();
+        int storPoolConcurrency = stltCfg.getDevMgrStorPoolConcurrency();
+        ExecutorService executor = getDispatchExecutor(parallelism);
+
+        Semaphore parallelismGuard = new Semaphore(parallelism);
+        CountDownLatch finishedLatch = new CountDownLatch(dispatchList.size());
+        for (ResourceDispatch dispatch : dispatchList)
+        {
+            List<Semaphore> guards = new ArrayList<>();
+            for (StorPool storPool : getBackingStorPools(dispatch.rsc))
             {
-                List<Snapshot> snapshots = snapshotsByRscName.get(rscName);
-                if (snapshots == null)
-                {
-                    snapshots = Collections.emptyList();
-                }
-                unprocessedSnapshotsRef.removeAll(snapshots);
+                // storPools are sorted, so the guards are always acquired in the same order
+                guards.add(storPoolGuards.computeIfAbsent(storPool, ignored -> new Semaphore(storPoolConcurrency)));
+            }
 
-                AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData(wrkCtx);
-                process(
-                    rscLayerObject,
-                    snapshots,
-                    apiCallRc
+            parallelismGuard.acquireUninterruptibly();
+            try
+            {
+                executor.execute(
+                    () ->
+                    {
+                        try
+                        {
+                            processResourceInScope(dispatch, guards, scopedObjects);
+                        }
+                        catch (RuntimeException | Error exc)
+                        {
+                            // rethrown by the device manager thread
+                            dispatch.fatalExc = exc;
+                        }
+                        finally
+                        {
+                            parallelismGuard.release();
+                            finishedLatch.countDown();
+                        }
+                    }
                 );
+            }
+            catch (RejectedExecutionException rejectedExc)
+            {
+                // the resource stays unprocessed and is processed by the device manager thread
+                parallelismGuard.release();
+                finishedLatch.countDown();
+            }
+        }
 
-                if (rscLayerObject.getLayerKind().isLocalOnly() &&
-                    rsc.getStateFlags().isUnset(wrkCtx, Resource.Flags.DELETE)
-                )
-                {
-                    MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, wrkCtx, rsc);
-                }
-                for (Snapshot snapshot : snapshots)
+        boolean interrupted = false;
+        while (finishedLatch.getCount() > 0)
+        {
+            try
+            {
+                finishedLatch.await();
+            }
+            catch (InterruptedException ignored)
+            {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        for (ResourceDispatch dispatch : dispatchList)
+        {
+            if (dispatch.fatalExc instanceof RuntimeException)
+            {
+                throw (RuntimeException) dispatch.fatalExc;
+            }
+            if (dispatch.fatalExc instanceof Error)
+            {
+                throw (Error) dispatch.fatalExc;
+            }
+        }
+    }
+
+    private void processResourceInScope(
+        ResourceDispatch dispatch,
+        List<Semaphore> guards,
+        Map<Key<?>, Object> scopedObjects
+    )
+    {
+        devMgrScope.enter(scopedObjects);
+        try
+        {
+            for (Semaphore guard : guards)
+            {
+                guard.acquireUninterruptibly();
+            }
+            try
+            {
+                processResource(dispatch);
+            }
+            finally
+            {
+                for (Semaphore guard : guards)
                 {
-                    if (snapshot.getFlags().isSet(wrkCtx, Snapshot.Flags.DELETE))
-                    {
-                        snapListNotifyDelete.add(snapshot);
-                        // snapshot.delete is done by the deviceManager
-                    }
+                    guard.release();
                 }
+            }
+        }
+        finally
+        {
+            devMgrScope.exit();
+        }
+    }
 
-                /*
-                 * old device manager reported changes of free space after every
-                 * resource operation. As this could require to query the same
-                 * VG or zpool multiple times within the same device manager run,
-                 * we only query the free space after the whole run.
-                 * This also means that we only send the resourceApplied messages
-                 * at the very end
-                 */
-                if (rsc.getStateFlags().isSet(wrkCtx, Resource.Flags.DELETE))
+    /**
+     * Returns the pool of dispatch threads, which is created on the first parallel run and recreated if the
+     * configured parallelism changed. Only called by the device manager thread.
+     */
+    private ExecutorService getDispatchExecutor(int parallelism)
+    {
+        if (dispatchExecutor == null || dispatchExecutor.getMaximumPoolSize() != parallelism)
+        {
+            if (dispatchExecutor != null)
+            {
+                // all tasks of the previous run are finished, idle threads just terminate
+                dispatchExecutor.shutdown();
+            }
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                DISPATCH_THREAD_KEEP_ALIVE_SECS,
+                TimeUnit.SECONDS,
+                // at most parallelism tasks are submitted at once, see processParallel
+                new ArrayBlockingQueue<>(parallelism),
+                runnable ->
                 {
-                    rscListNotifyDelete.add(rsc);
-                    notificationListener.get().notifyResourceDeleted(rsc);
-                    // rsc.delete is done by the deviceManager
+                    Thread thread = new Thread(
+                        runnable,
+                        "DevMgrDispatch-" + dispatchThreadCtr.incrementAndGet()
+                    );
+                    thread.setDaemon(true);
+                    return thread;
                 }
-                else
+            );
+            executor.allowCoreThreadTimeOut(true);
+            dispatchExecutor = executor;
+        }
+        return dispatchExecutor;
+    }
+
+    private Set<StorPool> getBackingStorPools(Resource rsc)
+    {
+        Set<StorPool> storPools = new TreeSet<>();
+        try
+        {
+            Set<AbsRscLayerObject<Resource>> storageRscDataSet = LayerRscUtils.getRscDataByProvider(
+                rsc.getLayerData(wrkCtx),
+                DeviceLayerKind.STORAGE
+            );
+            for (AbsRscLayerObject<Resource> storageRscData : storageRscDataSet)
+            {
+                for (VlmProviderObject<Resource> vlmData : storageRscData.getVlmLayerObjects().values())
                 {
-                    Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
-                    while (iterateVolumes.hasNext())
+                    StorPool storPool = vlmData.getStorPool();
+                    if (storPool.getDeviceProviderKind().hasBackingDevice())
                     {
-                        Volume vlm = iterateVolumes.next();
-                        if (vlm.getFlags().isSet(wrkCtx, Volume.Flags.DELETE))
-                        {
-                            // verify if all VlmProviderObject were deleted correctly
-                            ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
-                            vlmListNotifyDelete.add(vlm);
-                        }
+                        storPools.add(storPool);
                     }
-                    rscListNotifyApplied.add(rsc);
                 }
+            }
+        }
+        catch (AccessDeniedException accDeniedExc)
+        {
+            throw new ImplementationError(accDeniedExc);
+        }
+        return storPools;
+    }
+
+    /**
+     * Processes a single resource and its snapshots. The results are only collected in the given
+     * {@link ResourceDispatch}, and are reported by {@link #reportResult}, as this method may be called
+     * concurrently for different resources.
+     */
+    private void processResource(ResourceDispatch dispatch)
+    {
+        Resource rsc = dispatch.rsc;
+        ResourceName rscName = rsc.getDefinition().getName();
+        dispatch.processed = true;
+        try
+        {
+            List<Snapshot> snapshots = dispatch.snapshots;
 
-                // give the layer the opportunity to send a "resource ready" event
-                resourceFinished(rsc.getLayerData(wrkCtx));
+            AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData(wrkCtx);
+            process(
+                rscLayerObject,
+                snapshots,
+                dispatch.apiCallRc
+            );
 
-                if (rsc.getStateFlags().isUnset(wrkCtx, Resource.Flags.DELETE))
-                {
-                    sysFsUpdateList.add(rsc);
-                }
-                else
+            if (rscLayerObject.getLayerKind().isLocalOnly() &&
+                rsc.getStateFlags().isUnset(wrkCtx, Resource.Flags.DELETE)
+            )
+            {
+                MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, wrkCtx, rsc);
+            }
+            for (Snapshot snapshot : snapshots)
+            {
+                if (snapshot.getFlags().isSet(wrkCtx, Snapshot.Flags.DELETE))
                 {
-                    sysFsDeleteList.add(rsc);
+                    dispatch.snapListNotifyDelete.add(snapshot);
+                    // snapshot.delete is done by the deviceManager
                 }
             }
-            catch (AccessDeniedException | DatabaseException exc)
+
+            /*
+             * old device manager reported changes of free space after every
+             * resource operation. As this could require to query the same
+             * VG or zpool multiple times within the same device manager run,
+             * we only query the free space after the whole run.
+             * This also means that we only send the resourceApplied messages
+             * at the very end
+             */
+            if (rsc.getStateFlags().isSet(wrkCtx, Resource.Flags.DELETE))
             {
-                throw new ImplementationError(exc);
+                dispatch.deleted = true;
+                // rsc.delete is done by the deviceManager
             }
-            catch (AbortLayerProcessingException exc)
+            else
             {
-                AbsRscLayerObject<?> rscLayerData = exc.rscLayerObject;
-                List<String> devLayersAbove = new ArrayList<>();
-                AbsRscLayerObject<?> parent = rscLayerData.getParent();
-                while (parent != null)
+                Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
+                while (iterateVolumes.hasNext())
                 {
-                    devLayersAbove.add(layerFactory.getDeviceLayer(parent.getLayerKind()).getName());
-                    parent = parent.getParent();
+                    Volume vlm = iterateVolumes.next();
+                    if (vlm.getFlags().isSet(wrkCtx, Volume.Flags.DELETE))
+                    {
+                        // verify if all VlmProviderObject were deleted correctly
+                        ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
+                        dispatch.vlmListNotifyDelete.add(vlm);
+                    }
                 }
+                dispatch.applied = true;
+            }
 
-                errorReporter.logError(
-                    "Layer '%s' failed to process resource '%s'. Skipping layers above %s",
-                    rscLayerData.getLayerKind().name(),
-                    rscLayerData.getSuffixedResourceName(),
-                    devLayersAbove
-                );
+            // give the layer the opportunity to send a "resource ready" event
+            resourceFinished(rsc.getLayerData(wrkCtx));
+
+            if (rsc.getStateFlags().isUnset(wrkCtx, Resource.Flags.DELETE))
+            {
+                dispatch.sysFsUpdate = true;
             }
-            catch (Exception | ImplementationError exc)
+            else
             {
-                String errorId = errorReporter.reportError(
-                    exc,
-                    null,
-                    null,
-                    "An error occurred while processing resource '" + rsc + "'"
-                );
+                dispatch.sysFsDelete = true;
+            }
+        }
+        catch (AccessDeniedException | DatabaseException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        catch (AbortLayerProcessingException exc)
+        {
+            AbsRscLayerObject<?> rscLayerData = exc.rscLayerObject;
+            List<String> devLayersAbove = new ArrayList<>();
+            AbsRscLayerObject<?> parent = rscLayerData.getParent();
+            while (parent != null)
+            {
+                devLayersAbove.add(layerFactory.getDeviceLayer(parent.getLayerKind()).getName());
+                parent = parent.getParent();
+            }
 
-                long rc;
-                String errMsg;
-                String cause;
-                String correction;
-                String details;
-                if (exc instanceof StorageException ||
-                    exc instanceof ResourceException ||
-                    exc instanceof VolumeException
-                )
-                {
-                    LinStorException linExc = (LinStorException) exc;
-                    // TODO add returnCode and message to the classes StorageException, ResourceException and
-                    // VolumeException and include them here
+            errorReporter.logError(
+                "Layer '%s' failed to process resource '%s'. Skipping layers above %s",
+                rscLayerData.getLayerKind().name(),
+                rscLayerData.getSuffixedResourceName(),
+                devLayersAbove
+            );
+        }
+        catch (Exception | ImplementationError exc)
+        {
+            String errorId = errorReporter.reportError(
+                exc,
+                null,
+                null,
+                "An error occurred while processing resource '" + rsc + "'"
+            );
 
-                    rc = ApiConsts.FAIL_UNKNOWN_ERROR;
-                    errMsg = exc.getMessage();
+            long rc;
+            String errMsg;
+            String cause;
+            String correction;
+            String details;
+            if (exc instanceof StorageException ||
+                exc instanceof ResourceException ||
+                exc instanceof VolumeException
+            )
+            {
+                LinStorException linExc = (LinStorException) exc;
+                // TODO add returnCode and message to the classes StorageException, ResourceException and
+                // VolumeException and include them here
 
-                    cause = linExc.getCauseText();
-                    correction = linExc.getCorrectionText();
-                    details = linExc.getDetailsText();
-                }
-                else
-                {
-                    rc = ApiConsts.FAIL_UNKNOWN_ERROR;
-                    errMsg = exc.getMessage();
-                    if (errMsg == null)
-                    {
-                        errMsg = "An unknown exception occurred while processing the resource " + rscName.displayValue;
-                    }
+                rc = ApiConsts.FAIL_UNKNOWN_ERROR;
+                errMsg = exc.getMessage();
 
-                    cause = null;
-                    correction = null;
-                    details = null;
+                cause = linExc.getCauseText();
+                correction = linExc.getCorrectionText();
+                details = linExc.getDetailsText();
+            }
+            else
+            {
+                rc = ApiConsts.FAIL_UNKNOWN_ERROR;
+                errMsg = exc.getMessage();
+                if (errMsg == null)
+                {
+                    errMsg = "An unknown exception occurred while processing the resource " + rscName.displayValue;
                 }
 
-                apiCallRc = ApiCallRcImpl.singletonApiCallRc(ApiCallRcImpl
-                    .entryBuilder(rc, errMsg)
-                    .setCause(cause)
-                    .setCorrection(correction)
-                    .setDetails(details)
-                    .addErrorId(errorId)
-                    .build()
-                );
-
-                notificationListener.get().notifyResourceFailed(rsc, apiCallRc);
+                cause = null;
+                correction = null;
+                details = null;
             }
-            notificationListener.get().notifyResourceDispatchResponse(rscName, apiCallRc);
+
+            dispatch.apiCallRc = ApiCallRcImpl.singletonApiCallRc(ApiCallRcImpl
+                .entryBuilder(rc, errMsg)
+                .setCause(cause)
+                .setCorrection(correction)
+                .setDetails(details)
+                .addErrorId(errorId)
+                .build()
+            );
+
+            dispatch.failed = true;
         }
-        sysFsHandler.updateSysFsSettings(sysFsUpdateList, sysFsDeleteList);
+    }
+
+    private void reportResult(
+        ResourceDispatch dispatch,
+        List<Resource> rscListNotifyApplied,
+        List<Resource> rscListNotifyDelete,
+        List<Volume> vlmListNotifyDelete,
+        List<Snapshot> snapListNotifyDelete,
+        List<Resource> sysFsUpdateList,
+        List<Resource> sysFsDeleteList
+    )
+    {
+        Resource rsc = dispatch.rsc;
+        snapListNotifyDelete.addAll(dispatch.snapListNotifyDelete);
+        if (dispatch.deleted)
+        {
+            rscListNotifyDelete.add(rsc);
+            notificationListener.get().notifyResourceDeleted(rsc);
+        }
+        vlmListNotifyDelete.addAll(dispatch.vlmListNotifyDelete);
+        if (dispatch.applied)
+        {
+            rscListNotifyApplied.add(rsc);
+        }
+        if (dispatch.sysFsUpdate)
+        {
+            sysFsUpdateList.add(rsc);
+        }
+        if (dispatch.sysFsDelete)
+        {
+            sysFsDeleteList.add(rsc);
+        }
+        if (dispatch.failed)
+        {
+            notificationListener.get().notifyResourceFailed(rsc, dispatch.apiCallRc);
+        }
+        notificationListener.get().notifyResourceDispatchResponse(rsc.getDefinition().getName(), dispatch.apiCallRc);
     }
 
     private void ensureAllVlmDataDeleted(
@@ -901,4 +1192,31 @@ public class DeviceHandlerImpl implements DeviceHandler
             rscLayerObject = rscLayerObjectRef;
         }
     }
+
+    /**
+     * Work item and collected results of processing a single resource
+     */
+    private static class ResourceDispatch
+    {
+        private final Resource rsc;
+        private final List<Snapshot> snapshots;
+
+        private ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+        private final List<Volume> vlmListNotifyDelete = new ArrayList<>();
+        private final List<Snapshot> snapListNotifyDelete = new ArrayList<>();
+        private boolean applied;
+        private boolean deleted;
+        private boolean failed;
+        private boolean sysFsUpdate;
+        private boolean sysFsDelete;
+
+        private boolean processed;
+        private Throwable fatalExc;
+
+        ResourceDispatch(Resource rscRef, List<Snapshot> snapshotsRef)
+        {
+            rsc = rscRef;
+            snapshots = snapshotsRef;
+        }
+    }
 }
@@ -43,6 +43,7 @@ import com.linbit.linstor.drbdstate.DrbdEventService;
 import com.linbit.linstor.event.ObjectIdentifier;
 import com.linbit.linstor.event.common.ResourceStateEvent;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.metrics.LinstorMetrics;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.security.AccessContext;
@@ -54,6 +55,7 @@ import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 import com.linbit.locks.AtomicSyncPoint;
+import com.linbit.locks.LockGuardFactory.LockObj;
 import com.linbit.locks.SyncPoint;
 import com.linbit.utils.Either;
 
@@ -106,6 +108,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     private final CoreModule.ResourceDefinitionMap rscDfnMap;
 
     private final ReadWriteLock reconfigurationLock;
+    private final LinstorMetrics metrics;
     private final ReadWriteLock nodesMapLock;
     private final ReadWriteLock rscDfnMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
@@ -211,7 +214,8 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         UpdateMonitor updateMonitorRef,
         ResourceStateEvent resourceStateEventRef,
         DeviceHandler deviceHandlerRef,
-        DrbdVersion drbdVersionRef
+        DrbdVersion drbdVersionRef,
+        LinstorMetrics metricsRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -234,6 +238,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         updateMonitor = updateMonitorRef;
         resourceStateEvent = resourceStateEventRef;
         drbdVersion = drbdVersionRef;
+        metrics = metricsRef;
 
         updTracker = new StltUpdateTrackerImpl(sched, scheduler);
         svcThr = null;
@@ -255,7 +260,10 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         SyncPoint phaseLock
     )
     {
+         long startNanos = System.nanoTime();
          devHandler.dispatchResources(resourcesToDispatch, snapshotsToDispatch);
+         metrics.getDevMgrDispatchDuration().recordSince(startNanos);
+         metrics.addDevMgrDispatchedResources(resourcesToDispatch.size());
          // // DeviceHandlerInvocation devHndInv = new DeviceHandlerInvocation(this, drbdHnd, rsc, phaseLockRef);
          //
          // workQ.submit(devHndInv);
@@ -565,7 +573,9 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                     // Schedule all known resources for dispatching to the device handlers
                     try
                     {
+                        long lockStartNanos = System.nanoTime();
                         rcfgRdLock.lock();
+                        metrics.getLockWaitTime(LockObj.RECONFIGURATION).recordSince(lockStartNanos);
                         rscDfnMapRdLock.lock();
                         for (ResourceName resourceName : rscDfnMap.keySet())
                         {
@@ -711,6 +721,22 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
             // before requesting the updates instead of in the collect phase.
             updPendingBundle.copyUpdateRequestsTo(rcvPendingBundle);
 
+            // Resources whose data was pushed by the controller together with the change notification
+            // do not have to be requested, unless the pushed update could not be applied yet
+            Map<Resource.ResourceKey, UpdateNotification> appliedRscUpdates =
+                updPendingBundle.removeAppliedPushedRscUpdates(
+                    updateMonitor.getCurrentFullSyncId(),
+                    updateMonitor.getCurrentAwaitedUpdateId()
+                );
+            for (Entry<Resource.ResourceKey, UpdateNotification> rscUpdEntry : appliedRscUpdates.entrySet())
+            {
+                rcvPendingBundle.rscUpdates.remove(rscUpdEntry.getKey());
+                markPendingRscDispatch(
+                    rscUpdEntry.getValue(),
+                    Collections.singleton(rscUpdEntry.getKey().getResourceName())
+                );
+            }
+
             // Request updates from the controller
             requestControllerUpdates(updPendingBundle.controllerUpdate.isPresent());
             requestNodeUpdates(extractUuids(updPendingBundle.nodeUpdates));
@@ -784,7 +810,10 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
             Lock nodesWrLock = nodesMapLock.writeLock();
             Lock rscDfnWrLock = rscDfnMapLock.writeLock();
             Lock storPoolWrLock = storPoolDfnMapLock.writeLock();
+            long lockStartNanos = System.nanoTime();
             reconfWrLock.lock();
+            long cycleStartNanos = System.nanoTime();
+            metrics.getLockWaitTime(LockObj.RECONFIGURATION).record(cycleStartNanos - lockStartNanos);
             nodesWrLock.lock();
             rscDfnWrLock.lock();
             storPoolWrLock.lock();
@@ -934,6 +963,9 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                 rscDfnWrLock.unlock();
                 nodesWrLock.unlock();
                 reconfWrLock.unlock();
+                long cycleDuration = System.nanoTime() - cycleStartNanos;
+                metrics.getLockHoldTime(LockObj.RECONFIGURATION).record(cycleDuration);
+                metrics.getDevMgrCycleDuration().record(cycleDuration);
             }
         }
     }
@@ -20,7 +20,19 @@ public class SatellitePropDriver implements PropsConDatabaseDriver
     }
 
     @Override
-    public void persist(String instanceName, String key, String value)
+    public void prefetchAll()
+    {
+        // no-op
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        // no-op
+    }
+
+    @Override
+    public void persist(String instanceName, String key, String value, boolean isNew)
     {
         // no-op
     }
@@ -98,7 +98,8 @@ public class DrbdEventService implements SystemService, Runnable, DrbdStateStore
                 event = eventDeque.take();
                 if (event instanceof StdOutEvent)
                 {
-                    eventsMonitor.receiveEvent(new String(((StdOutEvent) event).data));
+                    byte[] data = ((StdOutEvent) event).data;
+                    eventsMonitor.receiveEvent(data, 0, data.length);
                 }
                 else
                 if (event instanceof StdErrEvent)
@@ -303,6 +304,14 @@ public class DrbdEventService implements SystemService, Runnable, DrbdStateStore
         }
     }
 
+    /**
+     * Returns the number of events2 lines that were parsed since the satellite was started
+     */
+    public long getParsedEventCount()
+    {
+        return eventsMonitor.getParsedEventCount();
+    }
+
     @Override
     public void addDrbdStateChangeObserver(DrbdStateChange obs)
     {
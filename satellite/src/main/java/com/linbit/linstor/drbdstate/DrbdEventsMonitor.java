@@ -8,10 +8,12 @@ import com.linbit.linstor.core.DrbdStateChange;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.utils.Triple;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.StringTokenizer;
-import java.util.TreeMap;
+
+import org.slf4j.event.Level;
 
 /**
  * Drbdsetup events monitor
@@ -41,6 +43,10 @@ public class DrbdEventsMonitor
 
     private final ErrorReporter errorReporter;
     private final ResourceDefinitionMap rscDfnMap;
+    private final Events2Parser parser = new Events2Parser();
+
+    // Only incremented by the thread that receives the events, but read by other threads
+    private volatile long parsedEventCtr = 0;
 
     private boolean existsFinished = false;
     private final LinkedList<Triple<String, String, Map<String, String>>> duringExistsQueue = new LinkedList<>();
@@ -65,53 +71,43 @@ public class DrbdEventsMonitor
                 new NullPointerException()
             );
         }
-        errorReporter.logTrace("DRBD 'events2': %s", eventString);
+        byte[] data = eventString.getBytes(StandardCharsets.UTF_8);
+        receiveEvent(data, 0, data.length);
+    }
 
-        // Skip empty lines
-        if (!eventString.isEmpty())
+    public void receiveEvent(byte[] data, int offset, int length) throws EventsSourceException
+    {
+        if (errorReporter.hasAtLeastLogLevel(Level.TRACE))
         {
-            StringTokenizer tokens = new StringTokenizer(eventString, " ");
-            Map<String, String> props = new TreeMap<>();
+            errorReporter.logTrace("DRBD 'events2': %s", new String(data, offset, length, StandardCharsets.UTF_8));
+        }
 
-            if (tokens.hasMoreTokens())
+        // Skip empty lines
+        if (parser.parse(data, offset, length))
+        {
+            ++parsedEventCtr;
+            String action = parser.getAction();
+            String objType = parser.getObjType();
+            if (!existsFinished && !action.equals(ACTION_EXISTS))
             {
-                String action = tokens.nextToken();
-                if (tokens.hasMoreTokens())
-                {
-                    String objType = tokens.nextToken();
-                    while (tokens.hasMoreTokens())
-                    {
-                        String kvPair = tokens.nextToken();
-                        int splitIdx = kvPair.indexOf(':');
-                        if (splitIdx != -1)
-                        {
-                            String key = kvPair.substring(0, splitIdx);
-                            String value = kvPair.substring(splitIdx + 1);
-                            props.put(key, value);
-                        }
-                    }
-
-                    if (!existsFinished && !action.equals(ACTION_EXISTS))
-                    {
-                        duringExistsQueue.add(new Triple<>(action, objType, props));
-                    }
-                    else
-                    {
-                        executeAction(action, objType, props);
-                    }
-                }
-                else
-                {
-                    throw new EventsSourceException("Received an event line without an object type parameter");
-                }
+                // the parser reuses its property map for the next line
+                duringExistsQueue.add(new Triple<>(action, objType, new HashMap<>(parser.getProps())));
             }
             else
             {
-                throw new EventsSourceException("Received an event line without an action parameter");
+                executeAction(action, objType, parser.getProps());
             }
         }
     }
 
+    /**
+     * Returns the number of (non-empty) events2 lines that were parsed
+     */
+    public long getParsedEventCount()
+    {
+        return parsedEventCtr;
+    }
+
     private void executeAction(String action, String objType, Map<String, String> props) throws EventsSourceException
     {
         // Select action
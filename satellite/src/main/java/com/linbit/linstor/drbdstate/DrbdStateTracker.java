@@ -10,11 +10,11 @@ import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Multiplexes state changes on DRBD resources to ResourceObserver instances
@@ -114,10 +114,12 @@ public class DrbdStateTracker
     @Inject
     public DrbdStateTracker()
     {
-        observers = new HashSet[obsSlotCount];
+        // Observers are added and removed by the device handler's threads while the events thread
+        // iterates the observer sets
+        observers = new CopyOnWriteArraySet[obsSlotCount];
         for (int slot = 0; slot < obsSlotCount; ++slot)
         {
-            observers[slot] = new HashSet<>();
+            observers[slot] = new CopyOnWriteArraySet<>();
         }
         obsMaskMap = new HashMap<>();
 
@@ -206,7 +208,7 @@ public class DrbdStateTracker
         return slot;
     }
 
-    public void addObserver(ResourceObserver obs, long eventMask)
+    public synchronized void addObserver(ResourceObserver obs, long eventMask)
     {
         // Mask out any invalid event IDs
         long safeEventMask = eventMask & validEventsMask;
@@ -227,7 +229,7 @@ public class DrbdStateTracker
         }
     }
 
-    public void removeObserver(ResourceObserver obs)
+    public synchronized void removeObserver(ResourceObserver obs)
     {
         Long eventMask = obsMaskMap.get(obs);
         if (eventMask != null)
@@ -0,0 +1,227 @@
+package com.linbit.linstor.drbdstate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tokenizer for 'drbdsetup events2' lines
+ *
+ * Works directly on the bytes of the line. Actions, object types and property keys are resolved to the
+ * existing constants, properties that are not evaluated by the DRBD state tracker are skipped, and recurring
+ * values (states, resource names, volume numbers, ...) are served from a small token pool. In the steady state
+ * a line is therefore parsed without allocating new strings.
+ *
+ * Not thread safe. The property map is reused for every line and is only valid until the next call to
+ * {@link #parse(byte[], int, int)}.
+ */
+class Events2Parser
+{
+    private static final byte TOKEN_DELIMITER = ' ';
+    private static final byte KEY_VALUE_DELIMITER = ':';
+
+    private static final String[] ACTIONS =
+    {
+        DrbdEventsMonitor.ACTION_CHANGE,
+        DrbdEventsMonitor.ACTION_EXISTS,
+        DrbdEventsMonitor.ACTION_CREATE,
+        DrbdEventsMonitor.ACTION_DESTROY
+    };
+
+    private static final String[] OBJECT_TYPES =
+    {
+        DrbdEventsMonitor.OBJ_PEER_VOLUME,
+        DrbdEventsMonitor.OBJ_VOLUME,
+        DrbdEventsMonitor.OBJ_CONNECTION,
+        DrbdEventsMonitor.OBJ_RESOURCE,
+        DrbdEventsMonitor.OBJ_END_OF_INIT
+    };
+
+    // only the properties that are evaluated by DrbdResource, DrbdConnection and DrbdVolume
+    private static final String[] PROP_KEYS =
+    {
+        DrbdResource.PROP_KEY_RES_NAME,
+        DrbdResource.PROP_KEY_ROLE,
+        DrbdResource.PROP_KEY_SUSPENDED,
+        DrbdConnection.PROP_KEY_CONNECTION,
+        DrbdConnection.PROP_KEY_CONN_NAME,
+        DrbdConnection.PROP_KEY_PEER_NODE_ID,
+        DrbdVolume.PROP_KEY_VOL_NR,
+        DrbdVolume.PROP_KEY_MINOR,
+        DrbdVolume.PROP_KEY_DISK,
+        DrbdVolume.PROP_KEY_PEER_DISK,
+        DrbdVolume.PROP_KEY_REPLICATION,
+        DrbdVolume.PROP_KEY_CLIENT,
+        DrbdVolume.PROP_KEY_DONE
+    };
+
+    // must be a power of 2
+    private static final int VALUE_POOL_SIZE = 8192;
+
+    private final String[] valuePool = new String[VALUE_POOL_SIZE];
+    private final Map<String, String> props = new HashMap<>();
+    private String action;
+    private String objType;
+
+    /**
+     * Parses the given line
+     *
+     * @return false if the line is empty, true otherwise
+     * @throws EventsSourceException if the line does not contain an action or an object type
+     */
+    boolean parse(byte[] data, int offset, int length) throws EventsSourceException
+    {
+        props.clear();
+        action = null;
+        objType = null;
+
+        boolean parsed = false;
+        if (length > 0)
+        {
+            final int limit = offset + length;
+            int pos = skipDelimiters(data, offset, limit);
+            if (pos < limit)
+            {
+                int tokenEnd = findTokenEnd(data, pos, limit);
+                action = resolve(ACTIONS, data, pos, tokenEnd);
+
+                pos = skipDelimiters(data, tokenEnd, limit);
+                if (pos < limit)
+                {
+                    tokenEnd = findTokenEnd(data, pos, limit);
+                    objType = resolve(OBJECT_TYPES, data, pos, tokenEnd);
+
+                    pos = skipDelimiters(data, tokenEnd, limit);
+                    while (pos < limit)
+                    {
+                        tokenEnd = findTokenEnd(data, pos, limit);
+                        parseProperty(data, pos, tokenEnd);
+                        pos = skipDelimiters(data, tokenEnd, limit);
+                    }
+                    parsed = true;
+                }
+                else
+                {
+                    throw new EventsSourceException("Received an event line without an object type parameter");
+                }
+            }
+            else
+            {
+                throw new EventsSourceException("Received an event line without an action parameter");
+            }
+        }
+        return parsed;
+    }
+
+    String getAction()
+    {
+        return action;
+    }
+
+    String getObjType()
+    {
+        return objType;
+    }
+
+    /**
+     * Returns the properties of the last parsed line. The map is reused by the next call to
+     * {@link #parse(byte[], int, int)} and has to be copied if it needs to be retained.
+     */
+    Map<String, String> getProps()
+    {
+        return props;
+    }
+
+    private void parseProperty(byte[] data, int tokenStart, int tokenEnd)
+    {
+        int splitIdx = tokenStart;
+        while (splitIdx < tokenEnd && data[splitIdx] != KEY_VALUE_DELIMITER)
+        {
+            ++splitIdx;
+        }
+        if (splitIdx < tokenEnd)
+        {
+            String key = find(PROP_KEYS, data, tokenStart, splitIdx);
+            if (key != null)
+            {
+                props.put(key, pooledValue(data, splitIdx + 1, tokenEnd));
+            }
+        }
+    }
+
+    private String pooledValue(byte[] data, int start, int end)
+    {
+        int hash = 1;
+        for (int idx = start; idx < end; ++idx)
+        {
+            hash = 31 * hash + data[idx];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (VALUE_POOL_SIZE - 1);
+        String value = valuePool[slot];
+        if (value == null || !matches(value, data, start, end))
+        {
+            value = new String(data, start, end - start, StandardCharsets.UTF_8);
+            valuePool[slot] = value;
+        }
+        return value;
+    }
+
+    private static String resolve(String[] constants, byte[] data, int start, int end)
+    {
+        String str = find(constants, data, start, end);
+        if (str == null)
+        {
+            // e.g. "call" for helper events, which are not tracked
+            str = new String(data, start, end - start, StandardCharsets.UTF_8);
+        }
+        return str;
+    }
+
+    private static String find(String[] constants, byte[] data, int start, int end)
+    {
+        String match = null;
+        for (String constant : constants)
+        {
+            if (matches(constant, data, start, end))
+            {
+                match = constant;
+                break;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Compares the given bytes with the given string. Non-ASCII bytes never match, such tokens are
+     * simply not pooled.
+     */
+    private static boolean matches(String str, byte[] data, int start, int end)
+    {
+        boolean equal = str.length() == end - start;
+        for (int idx = start; equal && idx < end; ++idx)
+        {
+            equal = data[idx] >= 0 && str.charAt(idx - start) == data[idx];
+        }
+        return equal;
+    }
+
+    private static int skipDelimiters(byte[] data, int start, int limit)
+    {
+        int pos = start;
+        while (pos < limit && data[pos] == TOKEN_DELIMITER)
+        {
+            ++pos;
+        }
+        return pos;
+    }
+
+    private static int findTokenEnd(byte[] data, int start, int limit)
+    {
+        int pos = start;
+        while (pos < limit && data[pos] != TOKEN_DELIMITER)
+        {
+            ++pos;
+        }
+        return pos;
+    }
+}
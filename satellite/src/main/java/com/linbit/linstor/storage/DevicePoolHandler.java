@@ -96,14 +96,17 @@ public class DevicePoolHandler
         {
             case LVM:
                 apiCallRc.addEntries(createLVMPool(devicePaths, raidLevel, poolName));
+                LvmUtils.invalidateInventory(poolName);
                 break;
             case LVM_THIN:
                 apiCallRc.addEntries(createLVMPool(devicePaths, raidLevel, LvmThinDriverKind.VG_PREFIX + poolName));
                 apiCallRc.addEntries(createLVMThinPool(LvmThinDriverKind.VG_PREFIX + poolName, poolName));
+                LvmUtils.invalidateInventory(LvmThinDriverKind.VG_PREFIX + poolName);
                 break;
             case ZFS_THIN: // no differentiation between ZFS and ZFS_THIN pool. fall-through
             case ZFS:
                 apiCallRc.addEntries(createZPool(devicePaths, raidLevel, poolName));
+                ZfsUtils.invalidateInventory(poolName);
                 break;
             case SPDK:
                 apiCallRc.addEntries(createSPDKPool(devicePaths, poolName));
@@ -474,13 +477,16 @@ public class DevicePoolHandler
         {
             case LVM_THIN:
                 apiCallRc.addEntries(deleteLVMThinPool(devicePaths, LvmThinDriverKind.VG_PREFIX + poolName, poolName));
+                LvmUtils.invalidateInventory(LvmThinDriverKind.VG_PREFIX + poolName);
                 break;
             case LVM:
                 apiCallRc.addEntries(deleteLVMPool(devicePaths, poolName));
+                LvmUtils.invalidateInventory(poolName);
                 break;
             case ZFS_THIN: // no differentiation between ZFS and ZFS_THIN pool. fall-through
             case ZFS:
                 apiCallRc.addEntries(deleteZPool(devicePaths, poolName));
+                ZfsUtils.invalidateInventory(poolName);
                 break;
             case SPDK:
                 apiCallRc.addEntries(deleteSPDKPool(devicePaths, poolName));
@@ -34,6 +34,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,7 +75,7 @@ public class OpenflexLayer implements DeviceLayer
         nvmeUtils = nvmeUtilsRef;
         resourceProcessorProvider = resourceProcessorRef;
 
-        changedStorPools = new ArrayList<>();
+        changedStorPools = Collections.synchronizedList(new ArrayList<>());
     }
 
     @Override
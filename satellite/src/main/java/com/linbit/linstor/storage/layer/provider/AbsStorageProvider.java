@@ -53,12 +53,14 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -78,13 +80,15 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
     protected Props localNodeProps;
 
     protected final HashMap<String, INFO> infoListCache;
-    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new ArrayList<>();
-    protected final Set<String> changedStoragePoolStrings = new HashSet<>();
+    // modified concurrently if the device handler processes resources in parallel
+    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications =
+        Collections.synchronizedList(new ArrayList<>());
+    protected final Set<String> changedStoragePoolStrings = ConcurrentHashMap.newKeySet();
     private final String typeDescr;
     private final FileSystemWatch fsWatch;
     protected final DeviceProviderKind kind;
 
-    private final Set<StorPool> changedStorPools = new HashSet<>();
+    private final Set<StorPool> changedStorPools = ConcurrentHashMap.newKeySet();
     private boolean prepared;
 
     public AbsStorageProvider(
@@ -343,14 +347,21 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
             String sourceSnapshotName = computeRestoreFromSnapshotName(vlmData.getVolume());
 
             boolean snapRestore = sourceLvId != null && sourceSnapshotName != null;
-            if (snapRestore)
+            try
             {
-                errorReporter.logTrace("Restoring from lv: %s, snapshot: %s", sourceLvId, sourceSnapshotName);
-                restoreSnapshot(sourceLvId, sourceSnapshotName, vlmData);
+                if (snapRestore)
+                {
+                    errorReporter.logTrace("Restoring from lv: %s, snapshot: %s", sourceLvId, sourceSnapshotName);
+                    restoreSnapshot(sourceLvId, sourceSnapshotName, vlmData);
+                }
+                else
+                {
+                    createLvImpl(vlmData);
+                }
             }
-            else
+            finally
             {
-                createLvImpl(vlmData);
+                invalidateInventory(vlmData.getStorPool());
             }
             vlmData.setExists(true);
 
@@ -432,7 +443,14 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
     {
         for (LAYER_DATA vlmData : vlmsToResize)
         {
-            resizeLvImpl(vlmData);
+            try
+            {
+                resizeLvImpl(vlmData);
+            }
+            finally
+            {
+                invalidateInventory(vlmData.getStorPool());
+            }
 
             long allocatedSize = getAllocatedSize(vlmData);
             setAllocatedSize(vlmData, allocatedSize);
@@ -454,7 +472,14 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
                 DmStatCommands.delete(extCmdFactory.create(), vlmData.getDevicePath());
             }
 
-            deleteLvImpl(vlmData, lvId);
+            try
+            {
+                deleteLvImpl(vlmData, lvId);
+            }
+            finally
+            {
+                invalidateInventory(vlmData.getStorPool());
+            }
 
             if (!vlmData.getVolume().getAbsResource().getStateFlags().isSet(
                 storDriverAccCtx,
@@ -474,7 +499,14 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
             errorReporter.logTrace("Deleting snapshot %s", snapVlm.toString());
             if (snapshotExists(snapVlm))
             {
-                deleteSnapshot(snapVlm);
+                try
+                {
+                    deleteSnapshot(snapVlm);
+                }
+                finally
+                {
+                    invalidateInventory(snapVlm.getStorPool());
+                }
             }
             else
             {
@@ -514,7 +546,14 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
                 if (!snapshotExists(snapVlm))
                 {
                     errorReporter.logTrace("Taking snapshot %s", snapVlm.toString());
-                    createSnapshot(vlmData, snapVlm);
+                    try
+                    {
+                        createSnapshot(vlmData, snapVlm);
+                    }
+                    finally
+                    {
+                        invalidateInventory(snapVlm.getStorPool());
+                    }
 
                     addSnapCreatedMsg(snapVlm, apiCallRc);
                 }
@@ -532,7 +571,14 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
                 .get(ApiConsts.KEY_RSC_ROLLBACK_TARGET);
             if (rollbackTargetSnapshotName != null)
             {
-                rollbackImpl(vlmData, rollbackTargetSnapshotName);
+                try
+                {
+                    rollbackImpl(vlmData, rollbackTargetSnapshotName);
+                }
+                finally
+                {
+                    invalidateInventory(vlmData.getStorPool());
+                }
             }
         }
     }
@@ -828,6 +874,20 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
 
     protected abstract String getStorageName(StorPool storPoolRef) throws AccessDeniedException, StorageException;
 
+    private void invalidateInventory(StorPool storPoolRef) throws AccessDeniedException, StorageException
+    {
+        invalidateInventory(getStorageName(storPoolRef));
+    }
+
+    /**
+     * Called after every operation that (possibly) modified the given storage pool.
+     * Providers caching the output of their inventory commands have to drop the cached data here
+     */
+    protected void invalidateInventory(String storageNameRef)
+    {
+        // noop by default
+    }
+
     @SuppressWarnings("unused")
     protected void createSnapshot(LAYER_DATA vlmData, LAYER_SNAP_DATA snapVlmRef)
         throws StorageException, AccessDeniedException, DatabaseException
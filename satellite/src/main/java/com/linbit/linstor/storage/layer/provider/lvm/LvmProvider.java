@@ -428,6 +428,12 @@ public class LvmProvider extends AbsStorageProvider<LvsInfo, LvmData<Resource>,
         return getVolumeGroup(storPoolRef);
     }
 
+    @Override
+    protected void invalidateInventory(String storageNameRef)
+    {
+        LvmUtils.invalidateInventory(storageNameRef);
+    }
+
     protected String getVolumeGroup(StorPool storPool)
     {
         String volumeGroup;
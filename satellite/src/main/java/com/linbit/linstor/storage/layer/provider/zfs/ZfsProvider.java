@@ -306,6 +306,12 @@ public class ZfsProvider extends AbsStorageProvider<ZfsInfo, ZfsData<Resource>,
         return getZPool(storPoolRef);
     }
 
+    @Override
+    protected void invalidateInventory(String storageNameRef)
+    {
+        ZfsUtils.invalidateInventory(storageNameRef);
+    }
+
     protected String getZPool(StorPool storPool) throws AccessDeniedException
     {
         String zPool;
@@ -0,0 +1,122 @@
+package com.linbit.linstor.storage.utils;
+
+import com.linbit.linstor.storage.StorageException;
+import com.linbit.utils.ExceptionThrowingSupplier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Short lived cache for the results of storage inventory commands (lvs, vgs, zfs list, ...)
+ *
+ * Entries are keyed by the set of pools the command was executed for and expire after a fixed time.
+ * Operations that modify a pool must invalidate the entries of that pool, so that the next query
+ * executes the external command again.
+ *
+ * Cached values are shared between all callers and must therefore not be modified.
+ */
+public class InventoryCache<V>
+{
+    public static final long DEFAULT_TTL_MILLIS = 10_000;
+
+    private final String name;
+    private final long ttlNanos;
+    private final Map<Set<String>, Entry<V>> entries = new ConcurrentHashMap<>();
+    // incremented on every invalidation, so that a load that raced with an invalidation is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCtr = new LongAdder();
+    private final LongAdder loadCtr = new LongAdder();
+
+    public InventoryCache(String nameRef)
+    {
+        this(nameRef, DEFAULT_TTL_MILLIS);
+    }
+
+    public InventoryCache(String nameRef, long ttlMillisRef)
+    {
+        name = nameRef;
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillisRef);
+    }
+
+    public V get(Set<String> pools, ExceptionThrowingSupplier<V, StorageException> loader)
+        throws StorageException
+    {
+        Set<String> key = Collections.unmodifiableSet(new TreeSet<>(pools));
+        long now = System.nanoTime();
+
+        V value;
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.loadTime < ttlNanos)
+        {
+            hitCtr.increment();
+            value = entry.value;
+        }
+        else
+        {
+            loadCtr.increment();
+            long loadGeneration = generation.get();
+            value = loader.supply();
+            if (generation.get() == loadGeneration)
+            {
+                entries.put(key, new Entry<>(value, now));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops every entry that contains at least one pool matching the given predicate
+     */
+    public void invalidateIf(Predicate<String> poolMatcher)
+    {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(pools -> pools.stream().anyMatch(poolMatcher));
+    }
+
+    public void invalidateAll()
+    {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Number of queries that were answered from the cache, i.e. external commands that were not executed
+     */
+    public long getHitCount()
+    {
+        return hitCtr.sum();
+    }
+
+    /**
+     * Number of queries that executed the external command
+     */
+    public long getLoadCount()
+    {
+        return loadCtr.sum();
+    }
+
+    private static class Entry<V>
+    {
+        private final V value;
+        private final long loadTime;
+
+        Entry(V valueRef, long loadTimeRef)
+        {
+            value = valueRef;
+            loadTime = loadTimeRef;
+        }
+    }
+}
@@ -28,6 +28,11 @@ public class LvmCommands
     public static final int LVS_COL_DATA_PERCENT = 5;
     public static final int LVS_COL_ATTRIBUTES = 6;
 
+    public static final int VGS_COL_VG = 0;
+    public static final int VGS_COL_EXTENT_SIZE = 1;
+    public static final int VGS_COL_SIZE = 2;
+    public static final int VGS_COL_FREE = 3;
+
     private static String[] buildCmd(
         String baseCmd,
         String lvmConfig,
@@ -85,27 +90,6 @@ public class LvmCommands
         );
     }
 
-    public static OutputData getExtentSize(ExtCmd extCmd, Set<String> volumeGroups, String lvmConfig)
-        throws StorageException
-    {
-        return genericExecutor(
-            extCmd,
-            buildCmd(
-                "vgs",
-                lvmConfig,
-                volumeGroups,
-                "-o", "vg_name,vg_extent_size",
-                "--separator", LvmUtils.DELIMITER,
-                "--units", "k",
-                "--noheadings",
-                "--nosuffix"
-            ),
-            "Failed to query lvm extent size",
-            "Failed to query extent size of volume group(s) " + volumeGroups,
-            Commands.SKIP_EXIT_CODE_CHECK
-        );
-    }
-
     public static OutputData createFat(
         ExtCmd extCmd,
         String volumeGroup,
@@ -340,7 +324,11 @@ public class LvmCommands
         );
     }
 
-    public static OutputData getVgTotalSize(ExtCmd extCmd, Set<String> volumeGroups, String lvmConfig)
+    /**
+     * Queries extent size, total size and free size of the given volume groups with a single command.
+     * Columns are {@link #VGS_COL_VG}, {@link #VGS_COL_EXTENT_SIZE}, {@link #VGS_COL_SIZE} and {@link #VGS_COL_FREE}
+     */
+    public static OutputData getVgInfo(ExtCmd extCmd, Set<String> volumeGroups, String lvmConfig)
         throws StorageException
     {
         return genericExecutor(
@@ -349,35 +337,14 @@ public class LvmCommands
                 "vgs",
                 lvmConfig,
                 volumeGroups,
-               "-o", "vg_name,vg_size",
+                "-o", "vg_name,vg_extent_size,vg_size,vg_free",
                 "--units", "k",
                 "--separator", LvmUtils.DELIMITER,
                 "--noheadings",
                 "--nosuffix"
             ),
-            "Failed to query total size of volume group(s) " + volumeGroups,
-            "Failed to query total size of volume group(s) " + volumeGroups,
-            Commands.SKIP_EXIT_CODE_CHECK
-        );
-    }
-
-    public static OutputData getVgFreeSize(ExtCmd extCmd, Set<String> volumeGroups, String lvmConfig)
-        throws StorageException
-    {
-        return genericExecutor(
-            extCmd,
-            buildCmd(
-                "vgs",
-                lvmConfig,
-                volumeGroups,
-                "-o", "vg_name,vg_free",
-                "--units", "k",
-                "--separator", LvmUtils.DELIMITER,
-                "--noheadings",
-                "--nosuffix"
-            ),
-            "Failed to query free size of volume group(s) " + volumeGroups,
-            "Failed to query free size of volume group(s) " + volumeGroups,
+            "Failed to query size information of volume group(s) " + volumeGroups,
+            "Failed to query size information of volume group(s) " + volumeGroups,
             Commands.SKIP_EXIT_CODE_CHECK
         );
     }
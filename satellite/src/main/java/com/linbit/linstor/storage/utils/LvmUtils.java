@@ -15,11 +15,16 @@ import static com.linbit.linstor.storage.utils.LvmCommands.LVS_COL_PATH;
 import static com.linbit.linstor.storage.utils.LvmCommands.LVS_COL_POOL_LV;
 import static com.linbit.linstor.storage.utils.LvmCommands.LVS_COL_SIZE;
 import static com.linbit.linstor.storage.utils.LvmCommands.LVS_COL_VG;
+import static com.linbit.linstor.storage.utils.LvmCommands.VGS_COL_EXTENT_SIZE;
+import static com.linbit.linstor.storage.utils.LvmCommands.VGS_COL_FREE;
+import static com.linbit.linstor.storage.utils.LvmCommands.VGS_COL_SIZE;
+import static com.linbit.linstor.storage.utils.LvmCommands.VGS_COL_VG;
 
 import java.io.File;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,6 +44,19 @@ public class LvmUtils
 
     private static final HashMap<Collection<String>, String> CACHED_LVM_CONFIG_STRING = new HashMap<>();
 
+    /*
+     * Inventory caches, keyed by the queried volume groups. Every provider that changes a volume group
+     * has to call invalidateInventory afterwards
+     */
+    private static final InventoryCache<HashMap<String, LvsInfo>> CACHED_LVS_INFO = new InventoryCache<>("lvs");
+    private static final InventoryCache<OutputData> CACHED_VGS_OUTPUT = new InventoryCache<>("vgs");
+    private static final InventoryCache<Map<String, Long>> CACHED_THIN_TOTAL_SIZE = new InventoryCache<>(
+        "lvs_thin_total"
+    );
+    private static final InventoryCache<Map<String, Long>> CACHED_THIN_FREE_SIZE = new InventoryCache<>(
+        "lvs_thin_free"
+    );
+
     private LvmUtils()
     {
     }
@@ -157,6 +175,15 @@ public class LvmUtils
     public static HashMap<String, LvsInfo> getLvsInfo(
         final ExtCmdFactory ecf,
         final Set<String> volumeGroups
+    )
+        throws StorageException
+    {
+        return new HashMap<>(CACHED_LVS_INFO.get(volumeGroups, () -> queryLvsInfo(ecf, volumeGroups)));
+    }
+
+    private static HashMap<String, LvsInfo> queryLvsInfo(
+        final ExtCmdFactory ecf,
+        final Set<String> volumeGroups
         )
             throws StorageException
     {
@@ -257,13 +284,11 @@ public class LvmUtils
         throws StorageException
     {
         return ParseUtils.parseSimpleTable(
-            execWithRetry(
-                extCmdFactory,
-                volumeGroups,
-                config -> LvmCommands.getExtentSize(extCmdFactory.create(), volumeGroups, config)
-            ),
+            getVgInfo(extCmdFactory, volumeGroups),
             DELIMITER,
-            "extent size"
+            "extent size",
+            VGS_COL_VG,
+            VGS_COL_EXTENT_SIZE
         );
     }
 
@@ -271,13 +296,11 @@ public class LvmUtils
         throws StorageException
     {
         return ParseUtils.parseSimpleTable(
-            execWithRetry(
-                extCmdFactory,
-                volumeGroups,
-                config -> LvmCommands.getVgTotalSize(extCmdFactory.create(), volumeGroups, config)
-            ),
+            getVgInfo(extCmdFactory, volumeGroups),
             DELIMITER,
-            "total size"
+            "total size",
+            VGS_COL_VG,
+            VGS_COL_SIZE
         );
     }
 
@@ -285,18 +308,37 @@ public class LvmUtils
         throws StorageException
     {
         return ParseUtils.parseSimpleTable(
-            execWithRetry(
+            getVgInfo(extCmdFactory, volumeGroups),
+            DELIMITER,
+            "free size",
+            VGS_COL_VG,
+            VGS_COL_FREE
+        );
+    }
+
+    private static OutputData getVgInfo(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
+        throws StorageException
+    {
+        return CACHED_VGS_OUTPUT.get(
+            volumeGroups,
+            () -> execWithRetry(
                 extCmdFactory,
                 volumeGroups,
-                config -> LvmCommands.getVgFreeSize(extCmdFactory.create(), volumeGroups, config)
-            ),
-            DELIMITER,
-            "free size"
+                config -> LvmCommands.getVgInfo(extCmdFactory.create(), volumeGroups, config)
+            )
         );
     }
 
     public static Map<String, Long> getThinTotalSize(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
         throws StorageException
+    {
+        return new HashMap<>(
+            CACHED_THIN_TOTAL_SIZE.get(volumeGroups, () -> queryThinTotalSize(extCmdFactory, volumeGroups))
+        );
+    }
+
+    private static Map<String, Long> queryThinTotalSize(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
+        throws StorageException
     {
         return ParseUtils.parseSimpleTable(
             execWithRetry(
@@ -311,6 +353,14 @@ public class LvmUtils
 
     public static Map<String, Long> getThinFreeSize(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
         throws StorageException
+    {
+        return new HashMap<>(
+            CACHED_THIN_FREE_SIZE.get(volumeGroups, () -> queryThinFreeSize(extCmdFactory, volumeGroups))
+        );
+    }
+
+    private static Map<String, Long> queryThinFreeSize(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
+        throws StorageException
     {
         final int expectedColums = 3;
 
@@ -371,6 +421,30 @@ public class LvmUtils
         return result;
     }
 
+    /**
+     * Drops all cached lvs / vgs results that include the volume group of the given storage name
+     * ("vg" or "vg/thinpool")
+     */
+    public static void invalidateInventory(String storageName)
+    {
+        String volumeGroup = getVolumeGroup(storageName);
+        for (InventoryCache<?> cache : getInventoryCaches())
+        {
+            cache.invalidateIf(cachedVg -> getVolumeGroup(cachedVg).equals(volumeGroup));
+        }
+    }
+
+    public static List<InventoryCache<?>> getInventoryCaches()
+    {
+        return Arrays.asList(CACHED_LVS_INFO, CACHED_VGS_OUTPUT, CACHED_THIN_TOTAL_SIZE, CACHED_THIN_FREE_SIZE);
+    }
+
+    private static String getVolumeGroup(String storageName)
+    {
+        int idx = storageName.indexOf(File.separatorChar);
+        return idx < 0 ? storageName : storageName.substring(0, idx);
+    }
+
     public static boolean checkVgExistsBool(ExtCmdFactory extCmdFactory, String volumeGroup) throws StorageException
     {
         OutputData output = execWithRetry(
@@ -10,6 +10,7 @@ import com.linbit.linstor.storage.StorageUtils;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,24 @@ public class ZfsUtils
 
     private static final int ZFS_EXTENT_SIZE_COL_SIZE = 1;
 
+    /*
+     * Inventory caches. "zfs list" always lists every pool, so those entries are keyed by an empty set.
+     * Every provider that changes a zpool has to call invalidateInventory afterwards
+     */
+    private static final Set<String> ALL_ZPOOLS = Collections.emptySet();
+    private static final InventoryCache<HashMap<String, ZfsInfo>> CACHED_ZFS_LIST = new InventoryCache<>(
+        "zfs_list"
+    );
+    private static final InventoryCache<HashMap<String, ZfsInfo>> CACHED_THIN_ZPOOLS_LIST = new InventoryCache<>(
+        "zfs_list_thin"
+    );
+    private static final InventoryCache<Map<String, Long>> CACHED_ZPOOL_FREE_SIZE = new InventoryCache<>(
+        "zfs_free"
+    );
+    private static final InventoryCache<Map<String, Long>> CACHED_ZPOOL_TOTAL_SIZE = new InventoryCache<>(
+        "zpool_total"
+    );
+
     private ZfsUtils()
     {
     }
@@ -69,6 +88,12 @@ public class ZfsUtils
 
     public static HashMap<String, ZfsInfo> getThinZPoolsList(ExtCmd extCmd)
         throws StorageException
+    {
+        return new HashMap<>(CACHED_THIN_ZPOOLS_LIST.get(ALL_ZPOOLS, () -> queryThinZPoolsList(extCmd)));
+    }
+
+    private static HashMap<String, ZfsInfo> queryThinZPoolsList(ExtCmd extCmd)
+        throws StorageException
     {
         final OutputData output = ZfsCommands.listThinPools(extCmd);
         final String stdOut = new String(output.stdoutData);
@@ -123,6 +148,12 @@ public class ZfsUtils
 
     public static HashMap<String, ZfsInfo> getZfsList(final ExtCmd extCmd)
         throws StorageException
+    {
+        return new HashMap<>(CACHED_ZFS_LIST.get(ALL_ZPOOLS, () -> queryZfsList(extCmd)));
+    }
+
+    private static HashMap<String, ZfsInfo> queryZfsList(final ExtCmd extCmd)
+        throws StorageException
     {
         final OutputData output = ZfsCommands.list(extCmd);
         final String stdOut = new String(output.stdoutData);
@@ -202,6 +233,11 @@ public class ZfsUtils
     }
 
     public static Map<String, Long> getZPoolFreeSize(ExtCmd extCmd, Set<String> zPool) throws StorageException
+    {
+        return new HashMap<>(CACHED_ZPOOL_FREE_SIZE.get(zPool, () -> queryZPoolFreeSize(extCmd, zPool)));
+    }
+
+    private static Map<String, Long> queryZPoolFreeSize(ExtCmd extCmd, Set<String> zPool) throws StorageException
     {
         Map<String, Long> freeSizes = ParseUtils.parseSimpleTable(
             ZfsCommands.getZPoolFreeSize(extCmd, zPool),
@@ -234,6 +270,11 @@ public class ZfsUtils
     }
 
     public static Map<String, Long> getZPoolTotalSize(ExtCmd extCmd, Set<String> zPools) throws StorageException
+    {
+        return new HashMap<>(CACHED_ZPOOL_TOTAL_SIZE.get(zPools, () -> queryZPoolTotalSize(extCmd, zPools)));
+    }
+
+    private static Map<String, Long> queryZPoolTotalSize(ExtCmd extCmd, Set<String> zPools) throws StorageException
     {
         Map<String, Long> totalSizes = ParseUtils.parseSimpleTable(
             ZfsCommands.getZPoolTotalSize(extCmd, zPools),
@@ -255,6 +296,29 @@ public class ZfsUtils
         return totalSizes;
     }
 
+    /**
+     * Drops all cached "zfs list" results as well as the cached sizes of the zpool of the given storage name
+     */
+    public static void invalidateInventory(String storageName)
+    {
+        String zPool = getZPool(storageName);
+        CACHED_ZFS_LIST.invalidateAll();
+        CACHED_THIN_ZPOOLS_LIST.invalidateAll();
+        CACHED_ZPOOL_FREE_SIZE.invalidateIf(cachedPool -> getZPool(cachedPool).equals(zPool));
+        CACHED_ZPOOL_TOTAL_SIZE.invalidateIf(cachedPool -> getZPool(cachedPool).equals(zPool));
+    }
+
+    public static List<InventoryCache<?>> getInventoryCaches()
+    {
+        return Arrays.asList(CACHED_ZFS_LIST, CACHED_THIN_ZPOOLS_LIST, CACHED_ZPOOL_FREE_SIZE, CACHED_ZPOOL_TOTAL_SIZE);
+    }
+
+    private static String getZPool(String storageName)
+    {
+        int idx = storageName.indexOf(File.separatorChar);
+        return idx < 0 ? storageName : storageName.substring(0, idx);
+    }
+
     public static List<String> getPhysicalVolumes(ExtCmd extCmd, String zPoolRef) throws StorageException
     {
         List<String> devices = new ArrayList<>();
@@ -0,0 +1,167 @@
+package com.linbit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.logging.ErrorReporter;
+
+/**
+ * Work queue that runs each task on its own virtual thread
+ *
+ * Virtual threads are only available on Java 21 and later, therefore the executor is looked up
+ * reflectively; use {@link #isSupported()} before calling {@link #initialize}.
+ *
+ * Tasks that block on external commands do not occupy a platform thread while they wait. The number
+ * of concurrently running tasks is still bounded, so that a burst of submissions cannot start an
+ * unbounded number of external commands at once.
+ */
+public class VirtualThreadWorkerPool implements WorkQueue
+{
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final ExecutorService executor;
+    private final Semaphore runGuard;
+    private final AtomicInteger unfinishedTasks;
+
+    private final ErrorReporter errorLog;
+    private final ControllerDatabase controllerDatabase;
+
+    private final WorkQueueStats stats;
+
+    private VirtualThreadWorkerPool(
+        ExecutorService executorRef,
+        int maxRunning,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabaseRef
+    )
+    {
+        executor = executorRef;
+        runGuard = new Semaphore(maxRunning);
+        unfinishedTasks = new AtomicInteger();
+        errorLog = errorLogRef;
+        controllerDatabase = controllerDatabaseRef;
+        stats = new WorkQueueStats();
+    }
+
+    public static boolean isSupported()
+    {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    public static VirtualThreadWorkerPool initialize(
+        int maxRunning,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabase
+    )
+    {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null)
+        {
+            throw new ImplementationError("Virtual threads are not supported by this Java runtime");
+        }
+        ExecutorService executor;
+        try
+        {
+            executor = (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        }
+        catch (ReflectiveOperationException reflExc)
+        {
+            throw new ImplementationError("Creating the virtual thread executor failed", reflExc);
+        }
+        return new VirtualThreadWorkerPool(executor, maxRunning, errorLogRef, controllerDatabase);
+    }
+
+    @Override
+    public void submit(Runnable task)
+    {
+        Runnable trackedTask = stats.track(
+            () ->
+            {
+                try
+                {
+                    WorkerTasks.execute(task, errorLog, controllerDatabase);
+                }
+                finally
+                {
+                    runGuard.release();
+                    taskFinished();
+                }
+            }
+        );
+        runGuard.acquireUninterruptibly();
+        unfinishedTasks.incrementAndGet();
+        try
+        {
+            executor.execute(trackedTask);
+            stats.accepted();
+        }
+        catch (RejectedExecutionException rejectedExc)
+        {
+            runGuard.release();
+            taskFinished();
+        }
+    }
+
+    private void taskFinished()
+    {
+        if (unfinishedTasks.decrementAndGet() == 0)
+        {
+            synchronized (this)
+            {
+                notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public WorkQueueStats getStats()
+    {
+        return stats;
+    }
+
+    @Override
+    public void finish()
+    {
+        synchronized (this)
+        {
+            while (!executor.isShutdown() && unfinishedTasks.get() != 0)
+            {
+                try
+                {
+                    wait();
+                }
+                catch (InterruptedException ignored)
+                {
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown()
+    {
+        executor.shutdownNow();
+        synchronized (this)
+        {
+            notifyAll();
+        }
+    }
+
+    private static Method findVirtualThreadExecutorFactory()
+    {
+        Method factory;
+        try
+        {
+            factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException | SecurityException exc)
+        {
+            factory = null;
+        }
+        return factory;
+    }
+}
@@ -11,4 +11,19 @@ public interface WorkQueue
      * @param task The Runnable to execute
      */
     void submit(Runnable task);
+
+    /**
+     * Waits until all submitted tasks have been executed or the work queue is shut down.
+     */
+    void finish();
+
+    /**
+     * Stops the work queue. Tasks that have not been started yet are not executed.
+     */
+    void shutdown();
+
+    /**
+     * Returns the queue depth, wait time and run time statistics of this work queue.
+     */
+    WorkQueueStats getStats();
 }
@@ -0,0 +1,124 @@
+package com.linbit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queue depth, wait time and run time statistics of a {@link WorkQueue}
+ *
+ * The counters are striped ({@link LongAdder}), so that recording does not add contention between
+ * submitters and workers.
+ */
+public class WorkQueueStats
+{
+    private final LongAdder submittedCtr = new LongAdder();
+    private final LongAdder startedCtr = new LongAdder();
+    private final LongAdder finishedCtr = new LongAdder();
+    private final LongAdder waitNanosSum = new LongAdder();
+    private final LongAdder runNanosSum = new LongAdder();
+    private final AtomicLong waitNanosMax = new AtomicLong();
+    private final AtomicLong runNanosMax = new AtomicLong();
+
+    /**
+     * Wraps the task so that its time spent in the queue and its run time are recorded.
+     * Must be called once when the task is submitted, followed by {@link #accepted()} if the
+     * work queue accepted the task.
+     */
+    public Runnable track(Runnable task)
+    {
+        return new TrackedTask(task, System.nanoTime());
+    }
+
+    /**
+     * Counts a submitted task that was accepted by the work queue. Rejected tasks are not counted.
+     */
+    public void accepted()
+    {
+        submittedCtr.increment();
+    }
+
+    /**
+     * Number of tasks that have been submitted, but were not started yet
+     */
+    public long getQueueDepth()
+    {
+        return Math.max(0, submittedCtr.sum() - startedCtr.sum());
+    }
+
+    /**
+     * Number of tasks that are currently running
+     */
+    public long getActiveCount()
+    {
+        return Math.max(0, startedCtr.sum() - finishedCtr.sum());
+    }
+
+    public long getSubmittedCount()
+    {
+        return submittedCtr.sum();
+    }
+
+    public long getFinishedCount()
+    {
+        return finishedCtr.sum();
+    }
+
+    public long getWaitTimeSumNanos()
+    {
+        return waitNanosSum.sum();
+    }
+
+    public long getWaitTimeMaxNanos()
+    {
+        return waitNanosMax.get();
+    }
+
+    public long getRunTimeSumNanos()
+    {
+        return runNanosSum.sum();
+    }
+
+    public long getRunTimeMaxNanos()
+    {
+        return runNanosMax.get();
+    }
+
+    private class TrackedTask implements Runnable
+    {
+        private final Runnable task;
+        private final long submitTime;
+
+        TrackedTask(Runnable taskRef, long submitTimeRef)
+        {
+            task = taskRef;
+            submitTime = submitTimeRef;
+        }
+
+        @Override
+        public void run()
+        {
+            long startTime = System.nanoTime();
+            startedCtr.increment();
+            long waitNanos = startTime - submitTime;
+            waitNanosSum.add(waitNanos);
+            waitNanosMax.accumulateAndGet(waitNanos, Math::max);
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                long runNanos = System.nanoTime() - startTime;
+                runNanosSum.add(runNanos);
+                runNanosMax.accumulateAndGet(runNanos, Math::max);
+                finishedCtr.increment();
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return task.toString();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.linbit;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.logging.ErrorReporter;
+
+/**
+ * Work queue backed by a work-stealing {@link ForkJoinPool}
+ *
+ * Each worker thread has its own deque, so that submitters and workers do not all contend on a single
+ * queue lock. Idle workers steal tasks from the deques of busy workers. Tasks are executed in FIFO order
+ * per deque (asyncMode), since the tasks are independent event-style tasks rather than fork/join tasks.
+ *
+ * As with {@link WorkerPool}, the number of queued tasks is bounded, and {@link #submit(Runnable)}
+ * blocks while the queue is full.
+ */
+public class WorkStealingWorkerPool implements WorkQueue
+{
+    private final ForkJoinPool pool;
+    private final Semaphore workQueueGuard;
+
+    private final ErrorReporter errorLog;
+    private final ControllerDatabase controllerDatabase;
+
+    private final WorkQueueStats stats;
+
+    private WorkStealingWorkerPool(
+        int parallelism,
+        int queueSize,
+        String namePrefix,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabaseRef
+    )
+    {
+        errorLog = errorLogRef;
+        controllerDatabase = controllerDatabaseRef;
+        workQueueGuard = new Semaphore(queueSize);
+        stats = new WorkQueueStats();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        pool = new ForkJoinPool(
+            parallelism,
+            fjPool ->
+            {
+                ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjPool);
+                worker.setName(String.format("%s_%04d", namePrefix, threadIndex.getAndIncrement()));
+                return worker;
+            },
+            (thread, exc) -> errorLog.reportError(exc),
+            true
+        );
+    }
+
+    public static WorkStealingWorkerPool initialize(
+        int parallelism,
+        int queueSize,
+        String namePrefix,
+        ErrorReporter errorLogRef,
+        ControllerDatabase controllerDatabase
+    )
+    {
+        return new WorkStealingWorkerPool(parallelism, queueSize, namePrefix, errorLogRef, controllerDatabase);
+    }
+
+    @Override
+    public void submit(Runnable task)
+    {
+        Runnable trackedTask = stats.track(
+            () ->
+            {
+                workQueueGuard.release();
+                WorkerTasks.execute(task, errorLog, controllerDatabase);
+            }
+        );
+        workQueueGuard.acquireUninterruptibly();
+        try
+        {
+            pool.execute(trackedTask);
+            stats.accepted();
+        }
+        catch (RuntimeException exc)
+        {
+            // rejected, the pool is shut down
+            workQueueGuard.release();
+        }
+    }
+
+    @Override
+    public WorkQueueStats getStats()
+    {
+        return stats;
+    }
+
+    @Override
+    public void finish()
+    {
+        while (!pool.isShutdown() && !pool.awaitQuiescence(1, TimeUnit.SECONDS))
+        {
+            // keep waiting
+        }
+    }
+
+    @Override
+    public void shutdown()
+    {
+        pool.shutdownNow();
+    }
+}
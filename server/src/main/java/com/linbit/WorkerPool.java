@@ -23,6 +23,8 @@ public class WorkerPool implements WorkQueue
     private ErrorReporter errorLog;
     private ControllerDatabase controllerDatabase;
 
+    private final WorkQueueStats stats;
+
     private WorkerPool(
         int parallelism,
         int queueSize,
@@ -41,6 +43,7 @@ public class WorkerPool implements WorkQueue
         threadNamePrefix = namePrefix;
         errorLog = errorLogRef;
         controllerDatabase = controllerDatabaseRef;
+        stats = new WorkQueueStats();
     }
 
     public static WorkerPool initialize(
@@ -68,11 +71,13 @@ public class WorkerPool implements WorkQueue
     @Override
     public void submit(Runnable task)
     {
+        Runnable trackedTask = stats.track(() -> WorkerTasks.execute(task, errorLog, controllerDatabase));
         workQueueGuard.acquireUninterruptibly();
         synchronized (workQueue)
         {
-            if (workQueue.offerLast(task))
+            if (workQueue.offerLast(trackedTask))
             {
+                stats.accepted();
                 unfinishedTasks.incrementAndGet();
                 workQueue.notify();
             }
@@ -83,6 +88,13 @@ public class WorkerPool implements WorkQueue
         }
     }
 
+    @Override
+    public WorkQueueStats getStats()
+    {
+        return stats;
+    }
+
+    @Override
     public void finish()
     {
         synchronized (this)
@@ -100,6 +112,7 @@ public class WorkerPool implements WorkQueue
         }
     }
 
+    @Override
     public void shutdown()
     {
         terminate = true;
@@ -174,18 +187,7 @@ public class WorkerPool implements WorkQueue
                 if (task != null)
                 {
                     pool.workQueueGuard.release();
-                    try
-                    {
-                        task.run();
-                    }
-                    catch (Exception exc)
-                    {
-                        pool.errorLog.reportError(exc);
-                    }
-                    catch (ImplementationError implError)
-                    {
-                        pool.errorLog.reportError(implError);
-                    }
+                    task.run();
                     if (pool.unfinishedTasks.decrementAndGet() == 0)
                     {
                         synchronized (pool)
@@ -193,21 +195,6 @@ public class WorkerPool implements WorkQueue
                             pool.notifyAll();
                         }
                     }
-                    if (pool.controllerDatabase != null)
-                    {
-                        if (pool.controllerDatabase.closeAllThreadLocalConnections())
-                        {
-                            pool.errorLog.reportError(
-                                new ImplementationError(
-                                    String.format(
-                                        "Task of class %s did not close all db connections.",
-                                        task.getClass().getCanonicalName()
-                                    ),
-                                    null
-                                )
-                            );
-                        }
-                    }
                 }
             }
             while (task != null);
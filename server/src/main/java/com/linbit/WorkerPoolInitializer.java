@@ -5,6 +5,8 @@ import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.utils.MathUtils;
 
+import java.util.Locale;
+
 public class WorkerPoolInitializer
 {
     // ============================================================
@@ -23,22 +25,91 @@ public class WorkerPoolInitializer
     // Queue size factor for the Satellite module device manager's work queue size
     private static final int STLT_WORKQ_FACTOR = 2;
 
+    // Maximum number of concurrently running tasks on virtual threads
+    private static final int MAX_STLT_VIRTUAL_TASK_COUNT = 256;
+
+    public enum WorkerPoolType
+    {
+        // Fixed number of threads sharing a single FIFO queue
+        DEFAULT,
+        // Fixed number of threads with per-thread deques and work stealing
+        WORK_STEALING,
+        // One virtual thread per task, requires Java 21 or later
+        VIRTUAL_THREADS;
+
+        public static WorkerPoolType parse(String typeStr)
+        {
+            return valueOf(typeStr.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
     public static WorkerPool createDevMgrWorkerThreadPool(
         ErrorReporter errorLog,
         ControllerDatabase controllerDatabase,
         String namePrefix
     )
     {
-        int cpuCount = LinStor.CPU_COUNT;
-        int thrCount = MathUtils.bounds(MIN_WORKER_COUNT, cpuCount, MAX_STLT_WORKER_COUNT);
-        int qSize = thrCount * STLT_WORKQ_FACTOR;
-        qSize = qSize > STLT_MIN_WORKQ_SIZE ? qSize : STLT_MIN_WORKQ_SIZE;
+        int thrCount = getDevMgrWorkerCount();
         return WorkerPool.initialize(
-            thrCount, qSize, true, namePrefix, errorLog,
+            thrCount, getDevMgrWorkQueueSize(thrCount), true, namePrefix, errorLog,
             controllerDatabase
         );
     }
 
+    public static WorkQueue createDevMgrWorkerThreadPool(
+        WorkerPoolType poolType,
+        ErrorReporter errorLog,
+        ControllerDatabase controllerDatabase,
+        String namePrefix
+    )
+    {
+        WorkQueue workQueue;
+        int thrCount = getDevMgrWorkerCount();
+        switch (poolType)
+        {
+            case WORK_STEALING:
+                workQueue = WorkStealingWorkerPool.initialize(
+                    thrCount, getDevMgrWorkQueueSize(thrCount), namePrefix, errorLog,
+                    controllerDatabase
+                );
+                break;
+            case VIRTUAL_THREADS:
+                if (VirtualThreadWorkerPool.isSupported())
+                {
+                    workQueue = VirtualThreadWorkerPool.initialize(
+                        MAX_STLT_VIRTUAL_TASK_COUNT, errorLog, controllerDatabase
+                    );
+                }
+                else
+                {
+                    errorLog.logWarning(
+                        "Worker pool type %s is not supported by this Java runtime, using %s instead",
+                        poolType.name(),
+                        WorkerPoolType.DEFAULT.name()
+                    );
+                    workQueue = createDevMgrWorkerThreadPool(errorLog, controllerDatabase, namePrefix);
+                }
+                break;
+            case DEFAULT: // fall-through
+            default:
+                workQueue = createDevMgrWorkerThreadPool(errorLog, controllerDatabase, namePrefix);
+                break;
+        }
+        return workQueue;
+    }
+
+    private static int getDevMgrWorkerCount()
+    {
+        int cpuCount = LinStor.CPU_COUNT;
+        return MathUtils.bounds(MIN_WORKER_COUNT, cpuCount, MAX_STLT_WORKER_COUNT);
+    }
+
+    private static int getDevMgrWorkQueueSize(int thrCount)
+    {
+        int qSize = thrCount * STLT_WORKQ_FACTOR;
+        return qSize > STLT_MIN_WORKQ_SIZE ? qSize : STLT_MIN_WORKQ_SIZE;
+    }
+
     private WorkerPoolInitializer()
     {
     }
@@ -0,0 +1,49 @@
+package com.linbit;
+
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.logging.ErrorReporter;
+
+/**
+ * Task execution shared by the {@link WorkQueue} implementations
+ */
+final class WorkerTasks
+{
+    /**
+     * Runs the task, reports any exception, and checks that the task did not leave database
+     * connections open on the worker thread.
+     */
+    static void execute(Runnable task, ErrorReporter errorLog, ControllerDatabase controllerDatabase)
+    {
+        try
+        {
+            task.run();
+        }
+        catch (Exception exc)
+        {
+            errorLog.reportError(exc);
+        }
+        catch (ImplementationError implError)
+        {
+            errorLog.reportError(implError);
+        }
+        if (controllerDatabase != null)
+        {
+            if (controllerDatabase.closeAllThreadLocalConnections())
+            {
+                errorLog.reportError(
+                    new ImplementationError(
+                        String.format(
+                            "Task of class %s did not close all db connections.",
+                            task.getClass().getCanonicalName()
+                        ),
+                        null
+                    )
+                );
+            }
+        }
+    }
+
+    private WorkerTasks()
+    {
+    }
+}
@@ -4,6 +4,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import com.linbit.ChildProcessTimeoutException;
@@ -21,10 +26,37 @@ public class ExtCmd extends ChildProcessHandler
 {
     private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
 
+    // Idle output pump threads are kept for 60 seconds before they are terminated
+    private static final long PUMP_KEEP_ALIVE_SECS = 60;
+
+    private static final AtomicInteger PUMP_THREAD_CTR = new AtomicInteger();
+
+    /**
+     * Runs the {@link OutputReceiver}s of all commands. Every receiver blocks on its stream until the
+     * child process closes it, so the pool must not be bounded (otherwise a command could wait for a
+     * receiver that is queued behind the receivers of other commands). Idle threads are reused by the
+     * next command instead of starting two new threads for every command.
+     */
+    private static final ExecutorService OUTPUT_PUMP = new ThreadPoolExecutor(
+        0,
+        Integer.MAX_VALUE,
+        PUMP_KEEP_ALIVE_SECS,
+        TimeUnit.SECONDS,
+        new SynchronousQueue<>(),
+        runnable ->
+        {
+            Thread thread = new Thread(runnable, "ExtCmdOutput-" + PUMP_THREAD_CTR.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
+    private static final ExtCmdStats STATS = new ExtCmdStats();
+
     private OutputReceiver  outReceiver;
     private OutputReceiver  errReceiver;
     private ErrorReporter   errLog;
-    private long            startTime;
+    private long            startNanos;
 
     private String[] execCommand;
     private String execCommandStr;
@@ -77,19 +109,28 @@ public class ExtCmd extends ChildProcessHandler
         pBuilder.redirectOutput(ProcessBuilder.Redirect.PIPE);
         pBuilder.redirectInput(stdinRedirect);
         Process child = pBuilder.start();
-        startTime = System.currentTimeMillis();
+        startNanos = System.nanoTime();
         setChild(child);
         outReceiver = new OutputReceiver(child.getInputStream(), errLog);
         errReceiver = new OutputReceiver(child.getErrorStream(), errLog);
-        new Thread(outReceiver).start();
-        new Thread(errReceiver).start();
+        OUTPUT_PUMP.execute(outReceiver);
+        OUTPUT_PUMP.execute(errReceiver);
 
         return child.getOutputStream();
     }
 
     public OutputData syncProcess() throws IOException, ChildProcessTimeoutException
     {
-        int exitCode = waitFor();
+        int exitCode;
+        try
+        {
+            exitCode = waitFor();
+        }
+        catch (ChildProcessTimeoutException timeoutExc)
+        {
+            STATS.record(execCommand, System.nanoTime() - startNanos, true);
+            throw timeoutExc;
+        }
         outReceiver.finish();
         errReceiver.finish();
         OutputData outData = new OutputData(
@@ -99,15 +140,25 @@ public class ExtCmd extends ChildProcessHandler
             exitCode
         );
 
+        long durationNanos = System.nanoTime() - startNanos;
+        STATS.record(execCommand, durationNanos, exitCode != 0);
         errLog.logTrace(
             "External command finished in %dms: %s",
-            (System.currentTimeMillis() - startTime),
+            TimeUnit.NANOSECONDS.toMillis(durationNanos),
             execCommandStr
         );
 
         return outData;
     }
 
+    /**
+     * Returns the latency histograms and failure counts of all external commands that were run by this process
+     */
+    public static ExtCmdStats getStats()
+    {
+        return STATS;
+    }
+
     public static class OutputData
     {
         public final String[] executedCommand;
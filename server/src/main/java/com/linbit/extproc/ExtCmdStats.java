@@ -0,0 +1,135 @@
+package com.linbit.extproc;
+
+import com.linbit.linstor.metrics.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and failure counts of external commands, one per command name
+ *
+ * The command name is the base name of the first element of the command line (e.g. "lvs"). For tools that
+ * select the operation by a subcommand (e.g. "drbdadm adjust" or "zfs create"), the subcommand is part of the
+ * command name if it is one of the known subcommands of that tool. Other arguments, like resource names,
+ * minor numbers or file paths, never become part of the command name, so the number of histograms does not
+ * grow with the number of resources.
+ */
+public class ExtCmdStats
+{
+    // Known subcommands of the executables that select the operation by a subcommand
+    private static final Map<String, Set<String>> SUBCOMMANDS = new HashMap<>();
+
+    static
+    {
+        SUBCOMMANDS.put(
+            "drbdadm",
+            asSet(
+                "adjust", "up", "down", "attach", "detach", "connect", "disconnect", "primary", "secondary",
+                "resize", "create-md", "suspend-io", "resume-io", "new-current-uuid", "invalidate",
+                "invalidate-remote", "verify", "status", "sh-nop", "wait-connect-resource",
+                "wait-sync-resource", "del-peer", "forget-peer"
+            )
+        );
+        SUBCOMMANDS.put(
+            "drbdsetup",
+            asSet(
+                "events2", "status", "show", "xml-help", "down", "detach", "resize", "primary", "secondary",
+                "suspend-io", "resume-io", "wait-connect-resource", "wait-sync-resource", "del-peer",
+                "forget-peer", "new-current-uuid"
+            )
+        );
+        SUBCOMMANDS.put(
+            "zfs",
+            asSet("create", "destroy", "list", "get", "set", "rename", "snapshot", "clone", "rollback")
+        );
+        SUBCOMMANDS.put("zpool", asSet("list", "get", "status"));
+        SUBCOMMANDS.put("cryptsetup", asSet("luksFormat", "open", "close", "isLuks", "resize", "status"));
+        SUBCOMMANDS.put("nvme", asSet("connect", "disconnect", "discover", "list", "version"));
+        SUBCOMMANDS.put("lvm", asSet("version"));
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> failureCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Records the duration of the given command
+     *
+     * @param failed whether the command failed, i.e. it exited with a non-zero exit code or timed out
+     */
+    public void record(String[] command, long durationNanos, boolean failed)
+    {
+        String cmdName = getCommandName(command);
+        LatencyHistogram histogram = histograms.get(cmdName);
+        if (histogram == null)
+        {
+            histogram = histograms.computeIfAbsent(cmdName, ignored -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+        if (failed)
+        {
+            failureCounts.computeIfAbsent(cmdName, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Returns the histograms of all commands that have been run so far, sorted by the command name
+     */
+    public Map<String, LatencyHistogram> getHistograms()
+    {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Returns the number of failures of all commands that have been run so far, sorted by the command name.
+     * Commands that never failed have a count of 0.
+     */
+    public Map<String, Long> getFailureCounts()
+    {
+        Map<String, Long> ret = new TreeMap<>();
+        for (String cmdName : histograms.keySet())
+        {
+            LongAdder failureCount = failureCounts.get(cmdName);
+            ret.put(cmdName, failureCount == null ? 0L : failureCount.sum());
+        }
+        return Collections.unmodifiableMap(ret);
+    }
+
+    static String getCommandName(String[] command)
+    {
+        String cmdName = "";
+        if (command != null && command.length > 0 && command[0] != null)
+        {
+            String executable = command[0].substring(command[0].lastIndexOf('/') + 1);
+            cmdName = executable;
+            Set<String> subcommands = SUBCOMMANDS.get(executable);
+            if (subcommands != null)
+            {
+                // options may take values (e.g. "--config-to-test <file>"), so the subcommand is not
+                // necessarily the first non-option argument
+                for (int idx = 1; idx < command.length; ++idx)
+                {
+                    String arg = command[idx];
+                    if (subcommands.contains(arg))
+                    {
+                        cmdName = executable + " " + arg;
+                        break;
+                    }
+                }
+            }
+        }
+        return cmdName;
+    }
+
+    private static Set<String> asSet(String... elements)
+    {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(elements)));
+    }
+}
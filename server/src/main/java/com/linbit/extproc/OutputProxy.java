@@ -25,6 +25,8 @@ public class OutputProxy implements Runnable
     private byte[] data;
     private int dataPos;
     private int dataLimit;
+    // Start of the line that is currently being scanned
+    private int lineStart;
 
     private final BlockingDeque<Event> deque;
     private final byte delimiter;
@@ -46,6 +48,7 @@ public class OutputProxy implements Runnable
         data = new byte[INIT_DATA_SIZE];
         dataPos = 0;
         dataLimit = 0;
+        lineStart = 0;
 
         shutdown = false;
     }
@@ -59,41 +62,40 @@ public class OutputProxy implements Runnable
             // First read from the InputStream
             try
             {
-                read = dataIn.read(data, dataPos, data.length - dataPos);
+                read = dataIn.read(data, dataLimit, data.length - dataLimit);
 
                 if (read != EOF)
                 {
                     dataLimit += read;
-                    // Search for the delimiter starting from dataPos
+                    // Search for the delimiter starting from dataPos, i.e. only in the newly read data
                     while (dataPos < dataLimit)
                     {
                         if (data[dataPos] == delimiter)
                         {
                             // Put the found data into the deque
-                            byte[] delimitedData = new byte[dataPos];
-                            System.arraycopy(data, 0, delimitedData, 0, dataPos);
+                            int lineLength = dataPos - lineStart;
+                            byte[] delimitedData = new byte[lineLength];
+                            System.arraycopy(data, lineStart, delimitedData, 0, lineLength);
                             addToDeque(delimitedData);
 
                             // Skip the delimiter
-                            dataPos += 1;
-
-                            if (dataPos == dataLimit)
-                            {
-                                // no need to copy, all data will be overridden anyways
-                                dataLimit = 0;
-                            }
-                            else
-                            {
-                                // Copy all remaining data to the start of our array
-                                System.arraycopy(data, dataPos, data, 0, dataLimit - dataPos);
-                                dataLimit -= dataPos;
-                            }
-                            dataPos = 0;
+                            lineStart = dataPos + 1;
                         }
-                        else
+                        ++dataPos;
+                    }
+
+                    if (lineStart > 0)
+                    {
+                        // Move the remaining incomplete line to the start of our array. This is only done once
+                        // per read, not once per line, as a single read usually contains many lines
+                        int remaining = dataLimit - lineStart;
+                        if (remaining > 0)
                         {
-                            ++dataPos;
+                            System.arraycopy(data, lineStart, data, 0, remaining);
                         }
+                        dataLimit = remaining;
+                        dataPos = remaining;
+                        lineStart = 0;
                     }
 
                     if (dataLimit == data.length)
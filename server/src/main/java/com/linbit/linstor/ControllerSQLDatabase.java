@@ -1,5 +1,7 @@
 package com.linbit.linstor;
 
+import com.linbit.linstor.transaction.manager.SQLTableDependencies;
+
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -13,4 +15,9 @@ public interface ControllerSQLDatabase extends ControllerDatabase
 
     // Must be able to handle dbConn == null as a valid input
     void returnConnection(Connection dbConn);
+
+    /**
+     * Returns the foreign key relations of the tables of the (migrated) database schema
+     */
+    SQLTableDependencies getTableDependencies() throws SQLException;
 }
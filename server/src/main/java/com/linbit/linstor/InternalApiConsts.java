@@ -28,6 +28,7 @@ public class InternalApiConsts
     public static final String API_PRIMARY_RSC           = "PrimaryRsc";
 
     public static final String API_CHANGED_RSC       = "ChangedRsc";
+    public static final String API_CHANGED_RSC_DATA  = "ChangedRscData";
     public static final String API_REQUEST_RSC       = "RequestRsc";
     public static final String API_APPLY_RSC         = "ApplyRsc";
     public static final String API_APPLY_RSC_DELETED = "ApplyDeletedRsc";
@@ -51,6 +52,7 @@ public class InternalApiConsts
 
     public static final String API_REQUEST_THIN_FREE_SPACE = "RequestThinFreeSpace";
     public static final String API_REQUEST_VLM_ALLOCATED = "RequestVlmAllocated";
+    public static final String API_UPDATE_VLM_ALLOCATED = "UpdateVlmAllocated";
 
     public static final String API_ARCHIVE_LOGS = "ArchiveLogs";
 
@@ -1,5 +1,7 @@
 package com.linbit.linstor;
 
+import com.linbit.linstor.metrics.CountingScheduler;
+
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
@@ -15,8 +17,16 @@ public class LinStorModule extends AbstractModule
 
     @Provides
     @Singleton
-    public Scheduler mainWorkerPoolScheduler()
+    public CountingScheduler countingMainWorkerPoolScheduler()
+    {
+        // counts the pending tasks for the worker queue depth metric
+        return new CountingScheduler(Schedulers.newParallel("MainWorkerPool"));
+    }
+
+    @Provides
+    @Singleton
+    public Scheduler mainWorkerPoolScheduler(CountingScheduler countingScheduler)
     {
-        return Schedulers.newParallel("MainWorkerPool");
+        return countingScheduler;
     }
 }
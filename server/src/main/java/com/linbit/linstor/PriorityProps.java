@@ -16,7 +16,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.TreeMap;
 
 public class PriorityProps
@@ -113,16 +112,12 @@ public class PriorityProps
 
         for (Pair<Props, String> prop : propList)
         {
-            Optional<Props> optNs = prop.objA.getNamespace(namespace);
-            if (optNs.isPresent())
+            for (Entry<String, String> entry : prop.objA.getNamespaceEntries(namespace).entrySet())
             {
-                for (Entry<String, String> entry : optNs.get().map().entrySet())
-                {
-                    ret.putIfAbsent(
-                        entry.getKey().substring(nsLen),
-                        entry.getValue()
-                    );
-                }
+                ret.putIfAbsent(
+                    entry.getKey().substring(nsLen),
+                    entry.getValue()
+                );
             }
         }
         return ret;
@@ -188,31 +183,27 @@ public class PriorityProps
 
         for (Pair<Props, String> propWithDescr : propList)
         {
-            Optional<Props> optNs = propWithDescr.objA.getNamespace(namespace);
-            if (optNs.isPresent())
+            for (Entry<String, String> entry : propWithDescr.objA.getNamespaceEntries(namespace).entrySet())
             {
-                for (Entry<String, String> entry : optNs.get().map().entrySet())
+                String key;
+                String absKey = entry.getKey();
+                if (absoluteKey)
+                {
+                    key = absKey;
+                }
+                else
+                {
+                    key = absKey.substring(nsLen);
+                }
+                MultiResult result = ret.get(key);
+                if (result == null)
+                {
+                    result = new MultiResult(entry.getValue(), propWithDescr.objB);
+                    ret.put(key, result);
+                }
+                else
                 {
-                    String key;
-                    String absKey = entry.getKey();
-                    if (absoluteKey)
-                    {
-                        key = absKey;
-                    }
-                    else
-                    {
-                        key = absKey.substring(nsLen);
-                    }
-                    MultiResult result = ret.get(key);
-                    if (result == null)
-                    {
-                        result = new MultiResult(entry.getValue(), propWithDescr.objB);
-                        ret.put(key, result);
-                    }
-                    else
-                    {
-                        result.addResult(entry.getValue(), propWithDescr.objB);
-                    }
+                    result.addResult(entry.getValue(), propWithDescr.objB);
                 }
             }
         }
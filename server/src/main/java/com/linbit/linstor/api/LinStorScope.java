@@ -55,6 +55,28 @@ public class LinStorScope implements Scope
         values.set(Maps.<Key<?>, Object>newHashMap());
     }
 
+    /**
+     * Enters the scope with a copy of the given scoped objects, e.g. to continue the work of a scope
+     * on another thread.
+     *
+     * @see #getScopedObjects()
+     */
+    public void enter(Map<Key<?>, Object> scopedObjectsRef)
+    {
+        checkState(values.get() == null, "The current scope has already been entered");
+        values.set(Maps.newHashMap(scopedObjectsRef));
+    }
+
+    /**
+     * Returns a copy of the objects of the current scope
+     */
+    public Map<Key<?>, Object> getScopedObjects()
+    {
+        Map<Key<?>, Object> scopedObjects = values.get();
+        checkState(scopedObjects != null, "There is no current scope");
+        return Maps.newHashMap(scopedObjects);
+    }
+
     public void exit()
     {
         checkState(values.get() != null, "There is no current scope to exit");
@@ -25,6 +25,7 @@ public class VlmPojo implements VolumeApi
     private final long vlmFlags;
     private final Map<String, String> vlmProps;
     private final Optional<Long> allocated;
+    private final Optional<Long> allocatedAge;
     private Optional<Long> usableSize;
     private final List<Pair<String, VlmLayerDataApi>> layerData;
 
@@ -40,6 +41,7 @@ public class VlmPojo implements VolumeApi
         final long vlmFlagsRef,
         final Map<String, String> vlmPropsRef,
         final Optional<Long> allocatedRef,
+        final Optional<Long> allocatedAgeRef,
         final Optional<Long> usableSizeRef,
         final List<Pair<String, VlmLayerDataApi>> layerDataRef,
         final String compatStorPoolNameRef,
@@ -54,6 +56,7 @@ public class VlmPojo implements VolumeApi
         vlmFlags = vlmFlagsRef;
         vlmProps = vlmPropsRef;
         allocated = allocatedRef;
+        allocatedAge = allocatedAgeRef;
         usableSize = usableSizeRef;
         layerData = layerDataRef;
         compatStorPoolName = compatStorPoolNameRef;
@@ -103,6 +106,12 @@ public class VlmPojo implements VolumeApi
         return allocated;
     }
 
+    @Override
+    public Optional<Long> getAllocatedSizeAge()
+    {
+        return allocatedAge;
+    }
+
     @Override
     public Optional<Long> getUsableSize()
     {
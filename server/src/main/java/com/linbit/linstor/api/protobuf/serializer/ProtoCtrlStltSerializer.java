@@ -18,6 +18,7 @@ public class ProtoCtrlStltSerializer extends ProtoCommonSerializer
 {
     private final CtrlSecurityObjects secObjs;
     private final Props ctrlConf;
+    private final ProtoCtrlStltSerializerBuilder.SerializationCaches caches;
 
     @Inject
     public ProtoCtrlStltSerializer(
@@ -29,6 +30,7 @@ public class ProtoCtrlStltSerializer extends ProtoCommonSerializer
         super(errReporter, serializerCtx);
         secObjs = secObjsRef;
         ctrlConf = ctrlConfRef;
+        caches = new ProtoCtrlStltSerializerBuilder.SerializationCaches(serializerCtx);
     }
 
     @Override
@@ -67,6 +69,6 @@ public class ProtoCtrlStltSerializer extends ProtoCommonSerializer
     private CtrlStltSerializerBuilder builder(String apiCall, Long apiCallId, boolean isAnswer)
     {
         return new ProtoCtrlStltSerializerBuilder(
-            errorReporter, serializerCtx, secObjs, ctrlConf, apiCall, apiCallId, isAnswer);
+            errorReporter, serializerCtx, secObjs, ctrlConf, caches, apiCall, apiCallId, isAnswer);
     }
 }
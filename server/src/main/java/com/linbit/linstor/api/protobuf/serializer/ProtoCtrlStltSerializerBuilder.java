@@ -20,8 +20,14 @@ import com.linbit.linstor.core.objects.SnapshotVolume;
 import com.linbit.linstor.core.objects.SnapshotVolumeDefinition;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.core.objects.VolumeGroup;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.proto.common.NodeOuterClass;
+import com.linbit.linstor.proto.common.RscDfnOuterClass;
+import com.linbit.linstor.proto.common.RscOuterClass;
 import com.linbit.linstor.proto.common.StorPoolFreeSpaceOuterClass;
 import com.linbit.linstor.proto.common.StorPoolFreeSpaceOuterClass.StorPoolFreeSpace;
 import com.linbit.linstor.proto.javainternal.IntObjectIdOuterClass.IntObjectId;
@@ -56,14 +62,20 @@ import com.linbit.linstor.proto.javainternal.s2c.MsgIntApplyRscSuccessOuterClass
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntApplyStorPoolSuccessOuterClass.MsgIntApplyStorPoolSuccess;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntPrimaryOuterClass;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntUpdateFreeSpaceOuterClass.MsgIntUpdateFreeSpace;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass.MsgPhysicalDevices;
 import com.linbit.linstor.proto.javainternal.s2c.MsgRscFailedOuterClass.MsgRscFailed;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.LsBlkEntry;
+import com.linbit.linstor.storage.interfaces.categories.resource.RscDfnLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmDfnLayerObject;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.storage.kinds.RaidLevel;
+import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.utils.Base64;
 import com.linbit.utils.Either;
 
@@ -89,6 +101,7 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
     private final SnapshotSerializerHelper snapshotSerializerHelper;
     private final NodeSerializerHelper nodeSerializerHelper;
     private final CtrlSecurityObjects secObjs;
+    private final SerializationCaches caches;
 
     public ProtoCtrlStltSerializerBuilder(
         ErrorReporter errReporter,
@@ -99,9 +112,33 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         Long apiCallId,
         boolean isAnswer
     )
+    {
+        this(
+            errReporter,
+            serializerCtx,
+            secObjsRef,
+            ctrlConfRef,
+            new SerializationCaches(serializerCtx),
+            apiCall,
+            apiCallId,
+            isAnswer
+        );
+    }
+
+    ProtoCtrlStltSerializerBuilder(
+        ErrorReporter errReporter,
+        AccessContext serializerCtx,
+        CtrlSecurityObjects secObjsRef,
+        Props ctrlConfRef,
+        SerializationCaches cachesRef,
+        final String apiCall,
+        Long apiCallId,
+        boolean isAnswer
+    )
     {
         super(errReporter, serializerCtx, apiCall, apiCallId, isAnswer);
         secObjs = secObjsRef;
+        caches = cachesRef;
 
         ctrlSerializerHelper = new CtrlSerializerHelper(ctrlConfRef);
         rscSerializerHelper = new ResourceSerializerHelper();
@@ -635,6 +672,22 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    @Override
+    public CtrlStltSerializer.CtrlStltSerializerBuilder updateVlmAllocated(
+        Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedMap
+    )
+    {
+        try
+        {
+            buildVlmAllocated(vlmAllocatedMap).writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
     @Override
     public CommonSerializerBuilder storPoolApplied(
         StorPool storPool,
@@ -957,8 +1010,8 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
             ResourceDefinition rscDfn = localResource.getDefinition();
 
             return IntRsc.newBuilder()
-                .setLocalRsc(ProtoCommonSerializerBuilder.serializeResource(serializerCtx, localResource))
-                .setRscDfn(ProtoCommonSerializerBuilder.serializeResourceDefinition(serializerCtx, rscDfn))
+                .setLocalRsc(serializeResource(localResource))
+                .setRscDfn(caches.rscDfns.get(rscDfn, this::serializeResourceDefinition))
                 .addAllOtherResources(buildOtherResources(otherResources))
                 .addAllRscConnections(
                     ProtoCommonSerializerBuilder.serializeResourceConnections(
@@ -979,17 +1032,113 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
             {
                 list.add(
                     IntOtherRsc.newBuilder()
-                        .setNode(ProtoCommonSerializerBuilder.serializeNode(
-                            serializerCtx,
-                            rsc.getNode())
-                        )
-                        .setRsc(ProtoCommonSerializerBuilder.serializeResource(serializerCtx, rsc))
+                        .setNode(caches.nodes.get(rsc.getNode(), this::serializeNode))
+                        .setRsc(serializeResource(rsc))
                         .build()
                 );
             }
 
             return list;
         }
+
+        private RscOuterClass.Rsc serializeResource(Resource rsc) throws AccessDeniedException
+        {
+            // not cached, the layer data and volumes contain states reported by the satellites, which are
+            // updated outside of transactions
+            return ProtoCommonSerializerBuilder.serializeResource(serializerCtx, rsc);
+        }
+
+        private RscDfnOuterClass.RscDfn serializeResourceDefinition(ResourceDefinition rscDfn)
+            throws AccessDeniedException
+        {
+            return ProtoCommonSerializerBuilder.serializeResourceDefinition(serializerCtx, rscDfn);
+        }
+
+        private NodeOuterClass.Node serializeNode(Node node) throws AccessDeniedException
+        {
+            return ProtoCommonSerializerBuilder.serializeNode(serializerCtx, node);
+        }
+    }
+
+    /**
+     * Serialized objects shared by all builders of a serializer, see {@link SerializationCache}
+     */
+    static class SerializationCaches
+    {
+        private final AccessContext accCtx;
+        // package private for tests
+        final SerializationCache<ResourceDefinition, RscDfnOuterClass.RscDfn> rscDfns;
+        final SerializationCache<Node, NodeOuterClass.Node> nodes;
+
+        SerializationCaches(AccessContext accCtxRef)
+        {
+            accCtx = accCtxRef;
+            rscDfns = new SerializationCache<>(this::getRscDfnVersion);
+            nodes = new SerializationCache<>(this::getNodeVersion);
+        }
+
+        /**
+         * Covers the resource definition, its resource group with the volume groups, the volume definitions and
+         * the layer data of the resource definition and of the volume definitions
+         */
+        private long getRscDfnVersion(ResourceDefinition rscDfn) throws AccessDeniedException
+        {
+            long version = addVersion(0L, rscDfn);
+            // the resource definition only tracks the reference to its resource group, not the group's props
+            version = addVersion(version, rscDfn.getResourceGroup());
+            for (VolumeGroup vlmGrp : rscDfn.getResourceGroup().getVolumeGroups(accCtx))
+            {
+                version = addVersion(version, vlmGrp);
+            }
+            for (DeviceLayerKind kind : DeviceLayerKind.values())
+            {
+                Map<String, RscDfnLayerObject> rscDfnLayerData = rscDfn.getLayerData(accCtx, kind);
+                for (RscDfnLayerObject rscDfnLayerObj : rscDfnLayerData.values())
+                {
+                    version = addVersion(version, rscDfnLayerObj);
+                }
+            }
+            Iterator<VolumeDefinition> vlmDfnIt = rscDfn.iterateVolumeDfn(accCtx);
+            while (vlmDfnIt.hasNext())
+            {
+                VolumeDefinition vlmDfn = vlmDfnIt.next();
+                version = addVersion(version, vlmDfn);
+                for (DeviceLayerKind kind : DeviceLayerKind.values())
+                {
+                    Map<String, VlmDfnLayerObject> vlmDfnLayerData = vlmDfn.getLayerData(accCtx, kind);
+                    for (VlmDfnLayerObject vlmDfnLayerObj : vlmDfnLayerData.values())
+                    {
+                        version = addVersion(version, vlmDfnLayerObj);
+                    }
+                }
+            }
+            return version;
+        }
+
+        /**
+         * Covers the node and its network interfaces
+         */
+        private long getNodeVersion(Node node) throws AccessDeniedException
+        {
+            long version = addVersion(0L, node);
+            Iterator<NetInterface> netIfIt = node.iterateNetInterfaces(accCtx);
+            while (netIfIt.hasNext())
+            {
+                version = addVersion(version, netIfIt.next());
+            }
+            return version;
+        }
+
+        /**
+         * Returns the higher version of the given version and of the given object, or
+         * {@link SerializationCache#UNCOMMITTED} if either has uncommitted changes
+         */
+        private static long addVersion(long version, TransactionObject transObj)
+        {
+            return version == SerializationCache.UNCOMMITTED || transObj.isDirty() ?
+                SerializationCache.UNCOMMITTED :
+                Math.max(version, transObj.getLastChangeId());
+        }
     }
 
     private class SnapshotSerializerHelper
@@ -1077,4 +1226,26 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
 
         return freeSpaceBuilder;
     }
+
+    public static MsgIntVlmAllocated buildVlmAllocated(Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedMap)
+    {
+        MsgIntVlmAllocated.Builder builder = MsgIntVlmAllocated.newBuilder();
+        for (Map.Entry<Volume.Key, Either<Long, ApiRcException>> entry : vlmAllocatedMap.entrySet())
+        {
+            Volume.Key vlmKey = entry.getKey();
+
+            VlmAllocated.Builder vlmAllocatedBuilder = VlmAllocated.newBuilder()
+                .setRscName(vlmKey.getResourceName().displayValue)
+                .setVlmNr(vlmKey.getVolumeNumber().value);
+
+            entry.getValue().consume(
+                vlmAllocatedBuilder::setAllocated,
+                apiRcException -> vlmAllocatedBuilder
+                    .addAllErrors(serializeApiCallRc(apiRcException.getApiCallRc()))
+            );
+
+            builder.addAllocatedCapacities(vlmAllocatedBuilder.build());
+        }
+        return builder.build();
+    }
 }
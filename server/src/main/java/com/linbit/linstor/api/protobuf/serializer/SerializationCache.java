@@ -0,0 +1,106 @@
+package com.linbit.linstor.api.protobuf.serializer;
+
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.TransactionObject;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the serialized (protobuf) representation of objects that are sent to multiple satellites
+ *
+ * When a resource definition changes, every satellite with a resource of that definition requests its
+ * resource, and each of these messages contains the same resource definition and the same peer nodes.
+ * A full sync of many satellites after a controller restart also serializes the same objects over and over.
+ *
+ * Every entry is stored together with the version of its object, i.e. the highest
+ * {@link TransactionObject#getLastChangeId()} of the transaction objects that the serialized representation is
+ * built from. An entry is only used as long as the version of its object did not change, so commits and
+ * rollbacks only drop the entries of the objects that they changed. The version only covers transactional
+ * data. Objects with data that is modified outside of transactions (e.g. the volume states and device paths
+ * reported by the satellites) must not be cached. Objects must only be serialized while holding the locks that
+ * protect them, which is required for serializing them anyways.
+ *
+ * Uncommitted changes do not change the version. Objects with uncommitted changes are therefore serialized
+ * without using or updating the cache, see {@link #UNCOMMITTED}. Otherwise a transaction that serializes an
+ * object that it modified would be served the representation from before its modification.
+ *
+ * Entries of objects that are no longer referenced are dropped by the garbage collector.
+ *
+ * Thread safe.
+ *
+ * @param <K> Type of the serialized objects
+ * @param <V> Type of the serialized representation, which must be immutable
+ */
+class SerializationCache<K, V>
+{
+    /**
+     * Version returned by the {@link VersionSupplier} for objects that have uncommitted changes
+     */
+    static final long UNCOMMITTED = -1L;
+
+    private final VersionSupplier<K> versionSupplier;
+
+    private final Map<K, Entry<V>> entries = Collections.synchronizedMap(new WeakHashMap<>());
+
+    SerializationCache(VersionSupplier<K> versionSupplierRef)
+    {
+        versionSupplier = versionSupplierRef;
+    }
+
+    /**
+     * Returns the cached representation of the given object or serializes it using the given serializer
+     */
+    V get(K obj, Serializer<K, V> serializer) throws AccessDeniedException
+    {
+        long version = versionSupplier.getVersion(obj);
+
+        V value;
+        Entry<V> entry = entries.get(obj);
+        if (version == UNCOMMITTED)
+        {
+            value = serializer.serialize(obj);
+        }
+        else
+        if (entry != null && entry.version == version)
+        {
+            value = entry.value;
+        }
+        else
+        {
+            value = serializer.serialize(obj);
+            entries.put(obj, new Entry<>(version, value));
+        }
+        return value;
+    }
+
+    int size()
+    {
+        return entries.size();
+    }
+
+    @FunctionalInterface
+    interface VersionSupplier<K>
+    {
+        long getVersion(K obj) throws AccessDeniedException;
+    }
+
+    @FunctionalInterface
+    interface Serializer<K, V>
+    {
+        V serialize(K obj) throws AccessDeniedException;
+    }
+
+    private static class Entry<V>
+    {
+        private final long version;
+        private final V value;
+
+        Entry(long versionRef, V valueRef)
+        {
+            version = versionRef;
+            value = valueRef;
+        }
+    }
+}
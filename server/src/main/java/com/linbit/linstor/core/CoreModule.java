@@ -19,6 +19,7 @@ import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.propscon.PropsContainerFactory;
 import com.linbit.linstor.transaction.TransactionMap;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.locks.HierarchicalReadWriteLock;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -77,13 +78,13 @@ public class CoreModule extends AbstractModule
         bind(ReadWriteLock.class).annotatedWith(Names.named(RECONFIGURATION_LOCK))
             .toInstance(new ReentrantReadWriteLock(true));
         bind(ReadWriteLock.class).annotatedWith(Names.named(NODES_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new HierarchicalReadWriteLock());
         bind(ReadWriteLock.class).annotatedWith(Names.named(RSC_DFN_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new HierarchicalReadWriteLock());
         bind(ReadWriteLock.class).annotatedWith(Names.named(STOR_POOL_DFN_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new HierarchicalReadWriteLock());
         bind(ReadWriteLock.class).annotatedWith(Names.named(FREE_SPACE_MGR_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new HierarchicalReadWriteLock());
         bind(ReadWriteLock.class).annotatedWith(Names.named(CTRL_CONF_LOCK))
             .toInstance(new ReentrantReadWriteLock(true));
         bind(ReadWriteLock.class).annotatedWith(Names.named(KVS_MAP_LOCK))
@@ -5,6 +5,7 @@ import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.metrics.LinstorMetrics;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.transaction.TransactionException;
@@ -32,17 +33,20 @@ public class ScopeRunner
     private final ErrorReporter errorLog;
     private final TransactionMgrGenerator transactionMgrGenerator;
     private final LinStorScope apiCallScope;
+    private final LinstorMetrics metrics;
 
     @Inject
     public ScopeRunner(
         ErrorReporter errorLogRef,
         TransactionMgrGenerator transactionMgrGeneratorRef,
-        LinStorScope apiCallScopeRef
+        LinStorScope apiCallScopeRef,
+        LinstorMetrics metricsRef
     )
     {
         errorLog = errorLogRef;
         transactionMgrGenerator = transactionMgrGeneratorRef;
         apiCallScope = apiCallScopeRef;
+        metrics = metricsRef;
     }
 
     public <T> Flux<T> fluxInTransactionalScope(
@@ -122,6 +126,7 @@ public class ScopeRunner
         errorLog.logTrace(
             "%s%s '%s' scope '%s' start", peerDescription, apiCallDescription, apiCallName, scopeDescription);
 
+        long startNanos = System.nanoTime();
         TransactionMgr transMgr = transactional ? transactionMgrGenerator.startTransaction() : null;
 
         apiCallScope.enter();
@@ -171,6 +176,8 @@ public class ScopeRunner
                 }
                 transMgr.returnConnection();
             }
+            // includes waiting for the locks, which is what the caller experiences
+            metrics.getApiCallLatency(apiCallName).recordSince(startNanos);
             errorLog.logTrace(
                 "%s%s '%s' scope '%s' end", peerDescription, apiCallDescription, apiCallName, scopeDescription);
         }
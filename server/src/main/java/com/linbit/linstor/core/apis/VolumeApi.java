@@ -19,6 +19,8 @@ public interface VolumeApi
     long getFlags();
     Map<String, String> getVlmProps();
     Optional<Long> getAllocatedSize();
+    /** milliseconds since the satellite reported the allocated size, if known */
+    Optional<Long> getAllocatedSizeAge();
     Optional<Long> getUsableSize();
     List<Pair<String, VlmLayerDataApi>> getVlmLayerData();
 
@@ -31,6 +31,15 @@ public class FreeSpaceMgrName extends GenericName
         super(nodeName.displayValue + RESERVED_CONNECTOR + storPoolName.displayValue);
     }
 
+    /**
+     * Returns whether this name was given by the user, i.e. whether the free space manager may be shared by the
+     * storage pools of several nodes instead of belonging to a single storage pool
+     */
+    public boolean isSharedName()
+    {
+        return !value.contains(RESERVED_CONNECTOR);
+    }
+
     public static FreeSpaceMgrName restoreName(String fsmName) throws InvalidNameException
     {
         FreeSpaceMgrName ret;
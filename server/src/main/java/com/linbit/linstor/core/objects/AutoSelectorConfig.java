@@ -115,13 +115,15 @@ public class AutoSelectorConfig extends BaseTransactionObject implements DbgInst
         );
         transObjs = Arrays.asList(
             replicaCount,
+            nodeNameList,
             storPoolNameList,
             doNotPlaceWithRscList,
             doNotPlaceWithRscRegex,
             replicasOnSameList,
             replicasOnDifferentList,
             layerStack,
-            allowedProviderList
+            allowedProviderList,
+            disklessOnRemaining
         );
     }
 
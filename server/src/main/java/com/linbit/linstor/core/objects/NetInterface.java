@@ -89,6 +89,8 @@ public class NetInterface extends BaseTransactionObject
 
         transObjs = Arrays.<TransactionObject>asList(
             niAddress,
+            niStltConnPort,
+            niStltConnEncrType,
             deleted
         );
     }
@@ -136,6 +136,7 @@ public class ResourceGroup extends BaseTransactionObject implements DbgInstanceU
 
         transObjs = Arrays.asList(
             objProt,
+            description,
             rscDfnGrpProps,
             autoPlaceConfig,
             vlmMap,
@@ -77,6 +77,9 @@ public class StorPool extends BaseTransactionObject
 
     private ApiCallRcImpl reports;
 
+    // Incremented whenever a volume or snapshot volume is put or removed, also by changes that are rolled back later
+    private long volumesModCount;
+
     StorPool(
         UUID id,
         Node nodeRef,
@@ -181,6 +184,7 @@ public class StorPool extends BaseTransactionObject
         storPoolDef.getObjProt().requireAccess(accCtx, AccessType.USE);
 
         vlmProviderMap.put(vlmProviderObj.getVolumeKey(), vlmProviderObj);
+        ++volumesModCount;
         freeSpaceTracker.vlmCreating(accCtx, vlmProviderObj);
     }
 
@@ -193,6 +197,7 @@ public class StorPool extends BaseTransactionObject
         freeSpaceTracker.ensureVlmNoLongerCreating(accCtx, vlmProviderObj);
 
         vlmProviderMap.remove(vlmProviderObj.getVolumeKey());
+        ++volumesModCount;
     }
 
     public Collection<VlmProviderObject<Resource>> getVolumes(AccessContext accCtx) throws AccessDeniedException
@@ -220,6 +225,7 @@ public class StorPool extends BaseTransactionObject
         storPoolDef.getObjProt().requireAccess(accCtx, AccessType.USE);
 
         snapVlmProviderMap.put(vlmProviderObj.getVolumeKey(), vlmProviderObj);
+        ++volumesModCount;
         freeSpaceTracker.vlmCreating(accCtx, vlmProviderObj);
     }
 
@@ -232,6 +238,7 @@ public class StorPool extends BaseTransactionObject
         freeSpaceTracker.ensureVlmNoLongerCreating(accCtx, vlmProviderObj);
 
         snapVlmProviderMap.remove(vlmProviderObj.getVolumeKey());
+        ++volumesModCount;
     }
 
     public Collection<VlmProviderObject<Snapshot>> getSnapVolumes(AccessContext accCtx)
@@ -243,6 +250,15 @@ public class StorPool extends BaseTransactionObject
         return snapVlmProviderMap.values();
     }
 
+    /**
+     * Returns a counter that changes whenever a volume or snapshot volume is put into or removed from this
+     * storage pool. Values derived from the volumes can be cached as long as this counter does not change.
+     */
+    public long getVolumesModCount()
+    {
+        return volumesModCount;
+    }
+
     public FreeSpaceTracker getFreeSpaceTracker()
     {
         return freeSpaceTracker;
@@ -269,6 +285,11 @@ public class StorPool extends BaseTransactionObject
         }
     }
 
+    public boolean isDeleted()
+    {
+        return deleted.get();
+    }
+
     @Override
     public ApiCallRc getReports()
     {
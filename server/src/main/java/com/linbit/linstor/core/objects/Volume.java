@@ -367,6 +367,16 @@ public class Volume extends AbsVolume<Resource>
     }
 
     public VolumeApi getApiData(Long allocated, AccessContext accCtx) throws AccessDeniedException
+    {
+        return getApiData(allocated, null, accCtx);
+    }
+
+    /**
+     * @param allocatedAgeMillis how long ago the given allocated size was reported by the satellite,
+     *     or <code>null</code> if unknown
+     */
+    public VolumeApi getApiData(Long allocated, Long allocatedAgeMillis, AccessContext accCtx)
+        throws AccessDeniedException
     {
         VolumeNumber vlmNr = volumeDfn.getVolumeNumber();
         List<Pair<String, VlmLayerDataApi>> layerDataList = new ArrayList<>();
@@ -417,6 +427,7 @@ public class Volume extends AbsVolume<Resource>
             getFlags().getFlagsBits(accCtx),
             getProps(accCtx).map(),
             Optional.ofNullable(allocated),
+            Optional.ofNullable(allocatedAgeMillis),
             Optional.ofNullable(usableSize.get()),
             layerDataList,
             compatStorPoolName,
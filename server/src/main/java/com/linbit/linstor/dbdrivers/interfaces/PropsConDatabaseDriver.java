@@ -20,12 +20,26 @@ public interface PropsConDatabaseDriver
      */
     Map<String, String> loadAll(String instanceName) throws DatabaseException;
 
+    /**
+     * Hint that the properties of (nearly) all instances are about to be loaded, e.g. during the initial
+     * load of the database. Implementations may read all properties at once until {@link #clearPrefetched()}
+     * is called.
+     */
+    void prefetchAll();
+
+    /**
+     * Drops all data that was read by {@link #prefetchAll()}
+     */
+    void clearPrefetched();
+
     /**
      * Performs an insert or update for the given key/value pair
      *
+     * @param isNew true if the key is not stored yet (insert), false if its value is changed (update)
+     *
      * @throws DatabaseException
      */
-    void persist(String instanceName, String key, String value) throws DatabaseException;
+    void persist(String instanceName, String key, String value, boolean isNew) throws DatabaseException;
 
     /**
      * Performs an insert or update for the given key/value pairs
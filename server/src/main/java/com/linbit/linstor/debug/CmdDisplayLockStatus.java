@@ -8,6 +8,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.security.AccessContext;
+import com.linbit.locks.HierarchicalReadWriteLock;
 
 import javax.inject.Named;
 
@@ -15,18 +16,22 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
 {
     public static final String RWLOCK_FORMAT_HEADER = "%-20s %-8s %-8s %-8s %s\n";
     public static final String RWLOCK_FORMAT = "%-20s %-8s %-8s %-8s %3d\n";
+    public static final String HIERLOCK_FORMAT_HEADER = "%-20s %-8s %-8s %-8s %-8s %s\n";
+    public static final String HIERLOCK_FORMAT = "%-20s %-8s %-8s %8d %8d %8d\n";
 
     private final ReadWriteLock reconfigurationLock;
     private final ReadWriteLock nodesMapLock;
     private final ReadWriteLock rscDfnMapLock;
     private final ReadWriteLock storPoolDfnMapLock;
+    private final ReadWriteLock freeSpaceMgrMapLock;
 
     @Inject
     public CmdDisplayLockStatus(
         @Named(CoreModule.RECONFIGURATION_LOCK) ReadWriteLock reconfigurationLockRef,
         @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
         @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
-        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef
+        @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
+        @Named(CoreModule.FREE_SPACE_MGR_MAP_LOCK) ReadWriteLock freeSpaceMgrMapLockRef
     )
     {
         super(
@@ -44,6 +49,7 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
         nodesMapLock = nodesMapLockRef;
         rscDfnMapLock = rscDfnMapLockRef;
         storPoolDfnMapLock = storPoolDfnMapLockRef;
+        freeSpaceMgrMapLock = freeSpaceMgrMapLockRef;
     }
 
     @Override
@@ -64,10 +70,42 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
         );
         printSectionSeparator(debugOut);
         reportRwLock(debugOut, "reconfigurationLock", reconfigurationLock);
-        reportRwLock(debugOut, "nodesMapLock", nodesMapLock);
-        reportRwLock(debugOut, "rscDfnMapLock", rscDfnMapLock);
-        reportRwLock(debugOut, "storPoolDfnMapLock", storPoolDfnMapLock);
         printSectionSeparator(debugOut);
+
+        debugOut.println();
+        debugOut.println("Type HierarchicalReadWriteLock");
+        debugOut.printf(
+            HIERLOCK_FORMAT_HEADER,
+            "Lock", "WriteLkd", "ThrQ", "Readers", "Intents", "ObjLocks"
+        );
+        printSectionSeparator(debugOut);
+        reportHierarchicalLock(debugOut, "nodesMapLock", nodesMapLock);
+        reportHierarchicalLock(debugOut, "rscDfnMapLock", rscDfnMapLock);
+        reportHierarchicalLock(debugOut, "storPoolDfnMapLock", storPoolDfnMapLock);
+        reportHierarchicalLock(debugOut, "freeSpaceMgrMapLock", freeSpaceMgrMapLock);
+        printSectionSeparator(debugOut);
+    }
+
+    private void reportHierarchicalLock(PrintStream output, String label, ReadWriteLock readWriteLock)
+    {
+        if (readWriteLock instanceof HierarchicalReadWriteLock)
+        {
+            HierarchicalReadWriteLock hierLock = (HierarchicalReadWriteLock) readWriteLock;
+
+            output.printf(
+                HIERLOCK_FORMAT,
+                label,
+                hierLock.isWriteLocked() ? "Y" : "N",
+                hierLock.hasQueuedThreads() ? "Y" : "N",
+                hierLock.getReadLockCount(),
+                hierLock.getIntentionLockCount(),
+                hierLock.getObjectLockCount()
+            );
+        }
+        else
+        {
+            reportRwLock(output, label, readWriteLock);
+        }
     }
 
     private void reportRwLock(PrintStream output, String label, ReadWriteLock readWriteLock)
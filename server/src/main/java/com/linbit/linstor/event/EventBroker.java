@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 import reactor.core.Disposable;
@@ -26,12 +27,18 @@ import reactor.core.publisher.Signal;
 @Singleton
 public class EventBroker
 {
+    private static final int WATCH_LOCK_COUNT = 64;
+
     private final ErrorReporter errorReporter;
     private final CommonSerializer commonSerializer;
     private final WatchStore watchStore;
     private final Map<String, EventSerializer> eventSerializers;
     private final Map<String, EventSerializerDescriptor> eventSerializerDescriptors;
-    private final ReentrantLock watchLock;
+
+    // Watches of different peers are independent, so the peers are spread over multiple locks
+    private final ReentrantLock[] watchLocks;
+
+    private final LongAdder sentEventCount = new LongAdder();
 
     @Inject
     public EventBroker(
@@ -48,7 +55,11 @@ public class EventBroker
         eventSerializers = eventSerializersRef;
         eventSerializerDescriptors = eventSerializerDescriptorsRef;
 
-        watchLock = new ReentrantLock();
+        watchLocks = new ReentrantLock[WATCH_LOCK_COUNT];
+        for (int idx = 0; idx < watchLocks.length; ++idx)
+        {
+            watchLocks[idx] = new ReentrantLock();
+        }
     }
 
     /**
@@ -57,6 +68,7 @@ public class EventBroker
     public void createWatch(Peer peer, Watch watch)
     {
         errorReporter.logTrace("Create watch for: %s", watch.getEventIdentifier());
+        ReentrantLock watchLock = getWatchLock(peer.getId());
         watchLock.lock();
         try
         {
@@ -82,7 +94,11 @@ public class EventBroker
 
             Disposable disposable = mergedStreams
                 .subscribe(
-                    peer::sendMessage,
+                    eventData ->
+                    {
+                        peer.sendMessage(eventData);
+                        sentEventCount.increment();
+                    },
                     exception -> errorReporter.reportError(exception, null, null, "Uncaught exception sending event")
                 );
 
@@ -103,6 +119,7 @@ public class EventBroker
     public void deleteWatch(String peerId, int peerWatchId)
     {
         errorReporter.logTrace("Event 'delete watch' start");
+        ReentrantLock watchLock = getWatchLock(peerId);
         watchLock.lock();
         try
         {
@@ -118,6 +135,7 @@ public class EventBroker
     public void connectionClosed(Peer peer)
     {
         errorReporter.logTrace("Event 'connection closed' start: %s", peer);
+        ReentrantLock watchLock = getWatchLock(peer.getId());
         watchLock.lock();
         try
         {
@@ -130,6 +148,25 @@ public class EventBroker
         errorReporter.logTrace("Event 'connection closed' end: %s", peer);
     }
 
+    /**
+     * Returns the number of event messages sent to watching peers since the start of the controller
+     */
+    public long getSentEventCount()
+    {
+        return sentEventCount.sum();
+    }
+
+    public int getWatchCount()
+    {
+        return watchStore.getWatchCount();
+    }
+
+    private ReentrantLock getWatchLock(String peerId)
+    {
+        int hash = peerId == null ? 0 : peerId.hashCode();
+        return watchLocks[Math.floorMod(hash, watchLocks.length)];
+    }
+
     private <T> Flux<byte[]> createWatchForEvent(
         Watch watch,
         EventSerializer.Serializer<T> eventSerializer,
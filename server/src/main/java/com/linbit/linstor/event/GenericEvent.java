@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,8 +36,8 @@ public class GenericEvent<T> implements LinstorTriggerableEvent<T>
     // Lock protecting internal data structures; must not be held when emitting
     private final Lock lock = new ReentrantLock();
 
-    // Sinks where new values are pushed to
-    private final Map<ObjectIdentifier, FluxSink<T>> sinks = new HashMap<>();
+    // Sinks where new values are pushed to; only modified while holding the lock, but may be read without it
+    private final Map<ObjectIdentifier, FluxSink<T>> sinks = new ConcurrentHashMap<>();
 
     // Streams which can be subscribed to
     private final Map<ObjectIdentifier, Flux<T>> streams = new HashMap<>();
@@ -113,6 +114,18 @@ public class GenericEvent<T> implements LinstorTriggerableEvent<T>
 
     @Override
     public void triggerEvent(ObjectIdentifier objectIdentifier, T value)
+    {
+        // Values for existing streams, which is the common case, do not need the lock. The sinks are thread-safe.
+        FluxSink<T> sink = sinks.get(objectIdentifier);
+        if (sink == null)
+        {
+            sink = createStream(objectIdentifier);
+        }
+
+        sink.next(value);
+    }
+
+    private FluxSink<T> createStream(ObjectIdentifier objectIdentifier)
     {
         Flux<T> stream = null;
         FluxSink<T> sink;
@@ -170,7 +183,7 @@ public class GenericEvent<T> implements LinstorTriggerableEvent<T>
             }
         }
 
-        sink.next(value);
+        return sink;
     }
 
     @Override
@@ -4,7 +4,8 @@ import com.linbit.linstor.LinStorDataAlreadyExistsException;
 import reactor.core.Disposable;
 
 /**
- * Not thread-safe; external synchronization is expected.
+ * Thread-safe. Callers that must keep adding and removing the watches of a peer consistent with other
+ * actions (e.g. not adding a watch for a peer whose connection was already closed) synchronize on their own.
  */
 public interface WatchStore
 {
@@ -23,4 +24,9 @@ public interface WatchStore
      * Remove a specific watch.
      */
     void removeWatchForPeerAndId(String peerId, Integer peerWatchId);
+
+    /**
+     * Returns the number of watches of all peers.
+     */
+    int getWatchCount();
 }
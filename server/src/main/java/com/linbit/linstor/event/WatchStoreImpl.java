@@ -11,11 +11,19 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * The watches of each peer are only accessed atomically through the peer's entry of the outer map,
+ * so that operations for different peers do not contend with each other.
+ */
 @Singleton
 public class WatchStoreImpl implements WatchStore
 {
-    private final Map<String, Map<Integer, Tuple2<Watch, Disposable>>> watchesByPeer = new HashMap<>();
+    private final ConcurrentMap<String, Map<Integer, Tuple2<Watch, Disposable>>> watchesByPeer =
+        new ConcurrentHashMap<>();
 
     @Inject
     public WatchStoreImpl()
@@ -26,21 +34,25 @@ public class WatchStoreImpl implements WatchStore
     public void addWatch(Watch watch, Disposable disposable)
         throws LinStorDataAlreadyExistsException
     {
-        Map<Integer, Tuple2<Watch, Disposable>> peerWatches = watchesByPeer.get(watch.getPeerId());
-        if (peerWatches != null)
-        {
-            if (peerWatches.containsKey(watch.getPeerWatchId()))
-            {
-                throw new LinStorDataAlreadyExistsException("Watch with this ID already exists");
-            }
-        }
-
         String peerId = watch.getPeerId();
         Integer peerWatchId = watch.getPeerWatchId();
         if (peerId != null && peerWatchId != null)
         {
-            watchesByPeer.computeIfAbsent(peerId, ignored -> new HashMap<>())
-                .put(peerWatchId, Tuples.of(watch, disposable));
+            boolean[] exists = new boolean[1];
+            watchesByPeer.compute(
+                peerId,
+                (ignored, peerWatches) ->
+                {
+                    Map<Integer, Tuple2<Watch, Disposable>> watches =
+                        peerWatches == null ? new HashMap<>() : peerWatches;
+                    exists[0] = watches.putIfAbsent(peerWatchId, Tuples.of(watch, disposable)) != null;
+                    return watches;
+                }
+            );
+            if (exists[0])
+            {
+                throw new LinStorDataAlreadyExistsException("Watch with this ID already exists");
+            }
         }
     }
 
@@ -57,15 +69,32 @@ public class WatchStoreImpl implements WatchStore
     @Override
     public void removeWatchForPeerAndId(String peerId, Integer peerWatchId)
     {
-        Map<Integer, Tuple2<Watch, Disposable>> watchesForPeer = watchesByPeer.get(peerId);
-        if (watchesForPeer != null)
-        {
-            Tuple2<Watch, Disposable> watch = watchesForPeer.remove(peerWatchId);
-            if (watch != null)
+        AtomicReference<Tuple2<Watch, Disposable>> removed = new AtomicReference<>();
+        watchesByPeer.computeIfPresent(
+            peerId,
+            (ignored, peerWatches) ->
             {
-                removeWatches(Collections.singleton(watch));
+                removed.set(peerWatches.remove(peerWatchId));
+                return peerWatches.isEmpty() ? null : peerWatches;
             }
+        );
+        Tuple2<Watch, Disposable> watch = removed.get();
+        if (watch != null)
+        {
+            removeWatches(Collections.singleton(watch));
+        }
+    }
+
+    @Override
+    public int getWatchCount()
+    {
+        // only an approximation while watches are added or removed concurrently
+        int count = 0;
+        for (Map<Integer, Tuple2<Watch, Disposable>> peerWatches : watchesByPeer.values())
+        {
+            count += peerWatches.size();
         }
+        return count;
     }
 
     private void removeWatches(Collection<Tuple2<Watch, Disposable>> watches)
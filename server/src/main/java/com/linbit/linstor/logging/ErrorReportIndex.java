@@ -0,0 +1,434 @@
+package com.linbit.linstor.logging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only index of the error reports of a log directory
+ *
+ * Every report that is written to the log directory gets one line in the index file, containing the report id,
+ * the creation timestamp, the node name, the module and the class of the reported exception. Listing reports
+ * only consults the in-memory copy of the index, so that the report files do not have to be opened (or even
+ * stat'ed) unless their content is requested.
+ *
+ * The index is loaded once per log directory. Loading also reconciles the index with the directory content,
+ * i.e. reports written by older versions are added and entries of reports that were deleted manually are
+ * dropped. Entries removed by the log archive are compacted away by rewriting the index file.
+ */
+public final class ErrorReportIndex
+{
+    public static final String INDEX_FILE_NAME = "ErrorReportIndex.tsv";
+
+    private static final String DELIMITER = "\t";
+    private static final int COLUMN_COUNT = 5;
+    private static final String UNKNOWN_VALUE = "-";
+
+    private static final Map<Path, ErrorReportIndex> INDEX_BY_DIRECTORY = new ConcurrentHashMap<>();
+
+    private final Path logDirectory;
+    private final Path indexFile;
+
+    // report id -> entry
+    private final TreeMap<String, Entry> entriesById = new TreeMap<>();
+    // creation timestamp -> report id -> entry
+    private final TreeMap<Long, Map<String, Entry>> entriesByTime = new TreeMap<>();
+
+    private ErrorReportIndex(Path logDirectoryRef)
+    {
+        logDirectory = logDirectoryRef;
+        indexFile = logDirectoryRef.resolve(INDEX_FILE_NAME);
+    }
+
+    /**
+     * Returns the (lazily loaded) index of the given log directory
+     */
+    public static ErrorReportIndex forDirectory(Path logDirectory)
+    {
+        return INDEX_BY_DIRECTORY.computeIfAbsent(
+            logDirectory.toAbsolutePath().normalize(),
+            dir ->
+            {
+                ErrorReportIndex index = new ErrorReportIndex(dir);
+                index.load();
+                return index;
+            }
+        );
+    }
+
+    /**
+     * Adds the given report to the index and appends it to the index file
+     */
+    public synchronized void add(Entry entry)
+    {
+        put(entry);
+        try (BufferedWriter writer = Files.newBufferedWriter(
+            indexFile,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        ))
+        {
+            writer.write(entry.toLine());
+            writer.newLine();
+        }
+        catch (IOException ignored)
+        {
+            // the entry is still in the in-memory index, the next load will re-add it from the report file
+        }
+    }
+
+    /**
+     * Returns the entries created after {@code sinceMillis} and before {@code toMillis} (both exclusive),
+     * whose report id starts with one of the given id prefixes, or all entries if no prefixes are given
+     */
+    public synchronized List<Entry> find(Long sinceMillis, Long toMillis, Collection<String> idPrefixes)
+    {
+        List<Entry> result = new ArrayList<>();
+        if (idPrefixes.isEmpty())
+        {
+            NavigableMap<Long, Map<String, Entry>> range = entriesByTime;
+            if (sinceMillis != null)
+            {
+                range = range.tailMap(sinceMillis, false);
+            }
+            if (toMillis != null)
+            {
+                range = range.headMap(toMillis, false);
+            }
+            for (Map<String, Entry> entries : range.values())
+            {
+                result.addAll(entries.values());
+            }
+        }
+        else
+        {
+            Set<Entry> matches = new HashSet<>();
+            for (String prefix : idPrefixes)
+            {
+                for (Entry entry : entriesById.subMap(prefix, prefix + Character.MAX_VALUE).values())
+                {
+                    if ((sinceMillis == null || sinceMillis < entry.timestamp) &&
+                        (toMillis == null || toMillis > entry.timestamp))
+                    {
+                        matches.add(entry);
+                    }
+                }
+            }
+            result.addAll(matches);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entries created before the given timestamp
+     */
+    public synchronized List<Entry> findOlderThan(long beforeMillis)
+    {
+        List<Entry> result = new ArrayList<>();
+        for (Map<String, Entry> entries : entriesByTime.headMap(beforeMillis, false).values())
+        {
+            result.addAll(entries.values());
+        }
+        return result;
+    }
+
+    /**
+     * Removes the given reports from the index and compacts the index file
+     */
+    public synchronized void remove(Collection<String> reportIds) throws IOException
+    {
+        boolean changed = false;
+        for (String reportId : reportIds)
+        {
+            changed |= removeEntry(reportId);
+        }
+        if (changed)
+        {
+            writeIndexFile();
+        }
+    }
+
+    public synchronized int size()
+    {
+        return entriesById.size();
+    }
+
+    public Path getReportFile(Entry entry)
+    {
+        return logDirectory.resolve(entry.getFileName());
+    }
+
+    private void put(Entry entry)
+    {
+        Entry oldEntry = entriesById.put(entry.reportId, entry);
+        if (oldEntry != null)
+        {
+            removeFromTimeIndex(oldEntry);
+        }
+        entriesByTime.computeIfAbsent(entry.timestamp, ignored -> new TreeMap<>()).put(entry.reportId, entry);
+    }
+
+    private boolean removeEntry(String reportId)
+    {
+        Entry entry = entriesById.remove(reportId);
+        if (entry != null)
+        {
+            removeFromTimeIndex(entry);
+        }
+        return entry != null;
+    }
+
+    private void removeFromTimeIndex(Entry entry)
+    {
+        Map<String, Entry> sameTime = entriesByTime.get(entry.timestamp);
+        if (sameTime != null)
+        {
+            sameTime.remove(entry.reportId);
+            if (sameTime.isEmpty())
+            {
+                entriesByTime.remove(entry.timestamp);
+            }
+        }
+    }
+
+    private synchronized void load()
+    {
+        boolean rewrite = false;
+        if (Files.exists(indexFile))
+        {
+            try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8))
+            {
+                String line = reader.readLine();
+                while (line != null)
+                {
+                    Entry entry = Entry.parse(line);
+                    if (entry == null)
+                    {
+                        rewrite = true;
+                    }
+                    else
+                    {
+                        put(entry);
+                    }
+                    line = reader.readLine();
+                }
+            }
+            catch (IOException ignored)
+            {
+                rewrite = true;
+            }
+        }
+        else
+        {
+            rewrite = true;
+        }
+
+        // reconcile with the directory content. Only the file names are listed here, the report files are only
+        // stat'ed if they are missing from the index (e.g. reports written before the index existed)
+        Set<String> existingIds = new HashSet<>();
+        try (Stream<Path> files = Files.list(logDirectory))
+        {
+            files.forEach(
+                file ->
+                {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.startsWith(StdErrorReporter.RPT_PREFIX) &&
+                        fileName.endsWith(StdErrorReporter.RPT_SUFFIX))
+                    {
+                        existingIds.add(
+                            fileName.substring(
+                                StdErrorReporter.RPT_PREFIX.length(),
+                                fileName.length() - StdErrorReporter.RPT_SUFFIX.length()
+                            )
+                        );
+                    }
+                }
+            );
+        }
+        catch (IOException ignored)
+        {
+            // log directory does not exist (yet)
+        }
+
+        for (String reportId : new ArrayList<>(entriesById.keySet()))
+        {
+            if (!existingIds.contains(reportId))
+            {
+                removeEntry(reportId);
+                rewrite = true;
+            }
+        }
+        for (String reportId : existingIds)
+        {
+            if (!entriesById.containsKey(reportId))
+            {
+                try
+                {
+                    BasicFileAttributes attr = Files.readAttributes(
+                        logDirectory.resolve(StdErrorReporter.RPT_PREFIX + reportId + StdErrorReporter.RPT_SUFFIX),
+                        BasicFileAttributes.class
+                    );
+                    put(new Entry(reportId, attr.creationTime().toMillis(), null, null, null));
+                    rewrite = true;
+                }
+                catch (IOException ignored)
+                {
+                    // report was deleted in the meantime
+                }
+            }
+        }
+
+        if (rewrite && Files.isDirectory(logDirectory))
+        {
+            try
+            {
+                writeIndexFile();
+            }
+            catch (IOException ignored)
+            {
+                // will be retried with the next load
+            }
+        }
+    }
+
+    private void writeIndexFile() throws IOException
+    {
+        Path tmpFile = logDirectory.resolve(INDEX_FILE_NAME + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8))
+        {
+            for (Entry entry : entriesById.values())
+            {
+                writer.write(entry.toLine());
+                writer.newLine();
+            }
+        }
+        Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static class Entry
+    {
+        private final String reportId;
+        private final long timestamp;
+        private final String nodeName;
+        private final String module;
+        private final String exceptionClass;
+
+        public Entry(
+            String reportIdRef,
+            long timestampRef,
+            String nodeNameRef,
+            String moduleRef,
+            String exceptionClassRef
+        )
+        {
+            reportId = reportIdRef;
+            timestamp = timestampRef;
+            nodeName = nodeNameRef;
+            module = moduleRef;
+            exceptionClass = exceptionClassRef;
+        }
+
+        public String getReportId()
+        {
+            return reportId;
+        }
+
+        public String getFileName()
+        {
+            return StdErrorReporter.RPT_PREFIX + reportId + StdErrorReporter.RPT_SUFFIX;
+        }
+
+        public long getTimestamp()
+        {
+            return timestamp;
+        }
+
+        /**
+         * Might be null for reports that were indexed from the report file only
+         */
+        public String getNodeName()
+        {
+            return nodeName;
+        }
+
+        public String getModule()
+        {
+            return module;
+        }
+
+        public String getExceptionClass()
+        {
+            return exceptionClass;
+        }
+
+        String toLine()
+        {
+            return String.join(
+                DELIMITER,
+                reportId,
+                Long.toString(timestamp),
+                escape(nodeName),
+                escape(module),
+                escape(exceptionClass)
+            );
+        }
+
+        static Entry parse(String line)
+        {
+            Entry entry = null;
+            String[] columns = line.split(DELIMITER, -1);
+            if (columns.length == COLUMN_COUNT && !columns[0].isEmpty())
+            {
+                try
+                {
+                    entry = new Entry(
+                        columns[0],
+                        Long.parseLong(columns[1]),
+                        unescape(columns[2]),
+                        unescape(columns[3]),
+                        unescape(columns[4])
+                    );
+                }
+                catch (NumberFormatException ignored)
+                {
+                    // broken line, e.g. from a crash while appending. will be compacted away
+                }
+            }
+            return entry;
+        }
+
+        private static String escape(String value)
+        {
+            return value == null || value.isEmpty() ?
+                UNKNOWN_VALUE :
+                value.replace('\t', ' ').replace('\n', ' ');
+        }
+
+        private static String unescape(String value)
+        {
+            return UNKNOWN_VALUE.equals(value) ? null : value;
+        }
+    }
+
+    static void clearCache()
+    {
+        INDEX_BY_DIRECTORY.clear();
+    }
+}
@@ -20,10 +20,9 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -32,9 +31,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.event.Level;
@@ -53,6 +50,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
     private final Logger mainLogger;
     private final AtomicLong errorNr;
     private final Path baseLogDirectory;
+    private final ErrorReportIndex reportIndex;
     private Provider<AccessContext> peerCtxProvider;
 
     public StdErrorReporter(
@@ -80,6 +78,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
         {
             logDir.mkdirs();
         }
+        reportIndex = ErrorReportIndex.forDirectory(baseLogDirectory);
 
         if (logLevelRef != null)
         {
@@ -282,6 +281,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
 
             logName = getLogName(reportNr);
             output = openReportFile(logName);
+            indexReport(output, logName, checkedErrorInfo);
 
             // Error report header
             reportHeader(output, reportNr, client);
@@ -405,6 +405,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
             {
                 logName = getLogName(reportNr);
                 output = openReportFile(logName);
+                indexReport(output, logName, errorInfo);
 
                 // Error report header
                 reportHeader(output, reportNr, client);
@@ -543,6 +544,23 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
         return reportPrinter;
     }
 
+    private void indexReport(PrintStream output, String logName, Throwable errorInfo)
+    {
+        // reports that could only be written to stderr are not listable anyways
+        if (output != System.err)
+        {
+            reportIndex.add(
+                new ErrorReportIndex.Entry(
+                    logName,
+                    System.currentTimeMillis(),
+                    nodeName,
+                    dmModule,
+                    errorInfo.getClass().getName()
+                )
+            );
+        }
+    }
+
     private void closeReportFile(OutputStream output)
     {
         if (output != null && output != System.err)
@@ -567,117 +585,50 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
     )
     {
         TreeSet<ErrorReport> errors = new TreeSet<>();
-        final List<String> fileIds = ids.stream().map(s -> "ErrorReport-" + s).collect(Collectors.toList());
-
-        Function<FileTime, Boolean> sinceFct;
-        if (since.isPresent())
-        {
-            long sinceTimestamp = since.get().getTime();
-            sinceFct = (fileTime) -> sinceTimestamp < fileTime.toMillis();
-        }
-        else
-        {
-            sinceFct = (fileTime) -> true;
-        }
-
-        Function<FileTime, Boolean> toFct;
-        if (to.isPresent())
-        {
-            long toTimestamp = to.get().getTime();
-            toFct = (fileTime) -> toTimestamp > fileTime.toMillis();
-        }
-        else
-        {
-            toFct = (fileTime) -> true;
-        }
 
-        if (fileIds.isEmpty())
-        {
-            // if id filter is disabled, add a match all filter.
-            fileIds.add("ErrorReport-");
-        }
-
-        try (Stream<Path> files = Files.list(logDirectory))
+        ErrorReportIndex index = ErrorReportIndex.forDirectory(logDirectory);
+        List<ErrorReportIndex.Entry> entries = index.find(
+            since.map(Date::getTime).orElse(null),
+            to.map(Date::getTime).orElse(null),
+            ids
+        );
+        for (ErrorReportIndex.Entry entry : entries)
         {
-            files.filter(file -> file.getFileName().toString().startsWith("ErrorReport"))
-                .filter(
-                    file ->
+            try
+            {
+                StringBuilder sb = new StringBuilder();
+                if (withText)
+                {
+                    try (BufferedReader br = Files.newBufferedReader(index.getReportFile(entry)))
                     {
-                        boolean ret = false;
-                        for (String fileId : fileIds)
+                        String line = br.readLine();
+                        while (line != null)
                         {
-                            if (file.getFileName().toString().startsWith(fileId))
-                            {
-                                ret = true;
-                                break;
-                            }
-                        }
-                        return ret;
-                    }
-                )
-                .forEach(
-                    file ->
-                    {
-                        String fileName = file.getFileName().toString();
+                            sb.append(line).append('\n');
 
-                        try
-                        {
-                            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
-
-                            if (sinceFct.apply(attr.creationTime()) && toFct.apply(attr.creationTime()))
-                            {
-                                StringBuilder sb = new StringBuilder();
-                                if (withText)
-                                {
-                                    try (BufferedReader br = Files.newBufferedReader(file))
-                                    {
-                                        String line = br.readLine();
-                                        while (line != null)
-                                        {
-                                            sb.append(line).append('\n');
-
-                                            line = br.readLine();
-                                        }
-                                    }
-                                }
-                                errors.add(new ErrorReport(
-                                    nodeName,
-                                    fileName,
-                                    new Date(attr.creationTime().toMillis()),
-                                    sb.toString())
-                                );
-                            }
-                        }
-                        catch (IOException /* | ParseException */ ignored)
-                        {
+                            line = br.readLine();
                         }
                     }
+                }
+                errors.add(new ErrorReport(
+                    nodeName,
+                    entry.getFileName(),
+                    new Date(entry.getTimestamp()),
+                    sb.toString())
                 );
-        }
-        catch (IOException ignored)
-        {
+            }
+            catch (IOException ignored)
+            {
+            }
         }
 
         return errors;
     }
 
-    private BasicFileAttributes getAttributes(final Path file)
-    {
-        BasicFileAttributes basicFileAttributes = null;
-        try
-        {
-            basicFileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
-        }
-        catch (IOException ignored)
-        {
-        }
-        return basicFileAttributes;
-    }
-
     @Override
     public void archiveLogDirectory()
     {
-        try (Stream<Path> files = Files.list(getLogDirectory()))
+        try
         {
             logInfo("LogArchive: Running log archive on directory: " + getLogDirectory().toAbsolutePath().normalize());
             final long startTime = System.currentTimeMillis();
@@ -694,28 +645,14 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
 
             DateFormat df = new SimpleDateFormat("yyyy-MM"); // grouping format
 
-            Map<String, List<Path>> monthGroup = files
-                .filter(file -> file.getFileName().toString().startsWith("ErrorReport"))
-                .filter(file ->
-                {
-                    // only archive files older 2 months (at month starting)
-                    BasicFileAttributes attr = getAttributes(file);
-                    boolean use = false;
-                    if (attr != null)
-                    {
-                        Date createDate = new Date(attr.creationTime().toMillis());
-                        use = createDate.before(beforeDate);
-                    }
-                    return use;
-                })
-                .collect(Collectors.groupingBy(file ->
-                {
-                    BasicFileAttributes attr = getAttributes(file);
-                    return attr != null ? df.format(attr.creationTime().toMillis()) : "unknown";
-                }));
+            // only archive files older 2 months (at month starting)
+            Map<String, List<ErrorReportIndex.Entry>> monthGroup = reportIndex.findOlderThan(beforeDate.getTime())
+                .stream()
+                .collect(Collectors.groupingBy(entry -> df.format(entry.getTimestamp())));
 
-            for (String month : monthGroup.keySet())
+            for (Map.Entry<String, List<ErrorReportIndex.Entry>> monthEntry : monthGroup.entrySet())
             {
+                String month = monthEntry.getKey();
                 final Path tarFile = getLogDirectory()
                     .toAbsolutePath()
                     .normalize()
@@ -723,10 +660,10 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
 
                 File tempLogFiles = File.createTempFile("logarchive-", "-" + month);
                 FileOutputStream fos = new FileOutputStream(tempLogFiles);
-                for (Path logFile : monthGroup.get(month))
+                for (ErrorReportIndex.Entry entry : monthEntry.getValue())
                 {
                     archiveCount++;
-                    fos.write(logFile.getFileName().toString().getBytes());
+                    fos.write(entry.getFileName().getBytes());
                     fos.write("\n".getBytes());
                 }
                 fos.close();
@@ -741,10 +678,13 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
                 {
                     createTar.waitFor();
 
-                    for (Path logFile : monthGroup.get(month))
+                    List<String> archivedIds = new ArrayList<>();
+                    for (ErrorReportIndex.Entry entry : monthEntry.getValue())
                     {
-                        Files.delete(logFile);
+                        Files.deleteIfExists(reportIndex.getReportFile(entry));
+                        archivedIds.add(entry.getReportId());
                     }
+                    reportIndex.remove(archivedIds);
                 }
                 catch (InterruptedException exc)
                 {
@@ -764,7 +704,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
         }
         catch (IOException exc)
         {
-            throw new LinStorRuntimeException("Unable to list log directory", exc);
+            throw new LinStorRuntimeException("Unable to archive log directory", exc);
         }
     }
 
@@ -0,0 +1,214 @@
+package com.linbit.linstor.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Scheduler that counts the tasks that were scheduled for immediate execution but have not started yet
+ *
+ * A task stops being pending when it starts to run or when it is disposed before that.
+ * Tasks that are still pending when their worker is disposed are dropped from the count, since the
+ * worker cancels them. Delayed and periodic tasks are passed through without being counted, since they
+ * are not waiting for a worker thread while their delay has not expired.
+ */
+public class CountingScheduler implements Scheduler
+{
+    private final Scheduler delegate;
+    private final LongAdder pendingTasks = new LongAdder();
+
+    public CountingScheduler(Scheduler delegateRef)
+    {
+        delegate = delegateRef;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a worker thread
+     */
+    public long getPendingTaskCount()
+    {
+        return pendingTasks.sum();
+    }
+
+    @Override
+    public Disposable schedule(Runnable task)
+    {
+        PendingTask pendingTask = new PendingTask(task, null);
+        try
+        {
+            pendingTask.scheduled(delegate.schedule(pendingTask));
+        }
+        catch (RuntimeException exc)
+        {
+            // a rejected task never runs
+            pendingTask.done();
+            throw exc;
+        }
+        return pendingTask;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+    {
+        return delegate.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+    {
+        return delegate.schedulePeriodically(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit)
+    {
+        return delegate.now(unit);
+    }
+
+    @Override
+    public Worker createWorker()
+    {
+        return new CountingWorker(delegate.createWorker());
+    }
+
+    @Override
+    public void start()
+    {
+        delegate.start();
+    }
+
+    @Override
+    public void dispose()
+    {
+        delegate.dispose();
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return delegate.isDisposed();
+    }
+
+    private class CountingWorker implements Worker
+    {
+        private final Worker workerDelegate;
+        private final Set<PendingTask> workerPendingTasks = ConcurrentHashMap.newKeySet();
+
+        CountingWorker(Worker workerDelegateRef)
+        {
+            workerDelegate = workerDelegateRef;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task)
+        {
+            PendingTask pendingTask = new PendingTask(task, workerPendingTasks);
+            workerPendingTasks.add(pendingTask);
+            try
+            {
+                pendingTask.scheduled(workerDelegate.schedule(pendingTask));
+            }
+            catch (RuntimeException exc)
+            {
+                pendingTask.done();
+                throw exc;
+            }
+            if (workerDelegate.isDisposed())
+            {
+                // the worker might have been disposed before the task was added to workerPendingTasks
+                pendingTask.done();
+            }
+            return pendingTask;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+        {
+            return workerDelegate.schedule(task, delay, unit);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+        {
+            return workerDelegate.schedulePeriodically(task, initialDelay, period, unit);
+        }
+
+        @Override
+        public void dispose()
+        {
+            workerDelegate.dispose();
+            for (PendingTask pendingTask : workerPendingTasks)
+            {
+                pendingTask.done();
+            }
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return workerDelegate.isDisposed();
+        }
+    }
+
+    private class PendingTask implements Runnable, Disposable
+    {
+        private final Runnable task;
+        private final Set<PendingTask> ownerSet;
+        private final AtomicBoolean pending = new AtomicBoolean(true);
+        private volatile Disposable scheduledTask;
+
+        PendingTask(Runnable taskRef, Set<PendingTask> ownerSetRef)
+        {
+            task = taskRef;
+            ownerSet = ownerSetRef;
+            pendingTasks.increment();
+        }
+
+        void scheduled(Disposable scheduledTaskRef)
+        {
+            scheduledTask = scheduledTaskRef;
+        }
+
+        @Override
+        public void run()
+        {
+            done();
+            task.run();
+        }
+
+        @Override
+        public void dispose()
+        {
+            done();
+            Disposable disposable = scheduledTask;
+            if (disposable != null)
+            {
+                disposable.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            Disposable disposable = scheduledTask;
+            return disposable != null && disposable.isDisposed();
+        }
+
+        void done()
+        {
+            if (pending.compareAndSet(true, false))
+            {
+                pendingTasks.decrement();
+                if (ownerSet != null)
+                {
+                    ownerSet.remove(this);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.linbit.linstor.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed buckets
+ *
+ * The buckets and the sum are striped ({@link LongAdder}), so that recording from many threads does not add
+ * contention. Reading is not atomic across buckets, which is fine for monitoring.
+ */
+public class LatencyHistogram
+{
+    /**
+     * Upper bounds (inclusive) of the histogram buckets in nanoseconds. Durations above the last bound
+     * are counted in an additional overflow bucket.
+     */
+    public static final long[] BUCKET_BOUNDS_NANOS =
+    {
+        100_000L,
+        250_000L,
+        500_000L,
+        1_000_000L,
+        2_500_000L,
+        5_000_000L,
+        10_000_000L,
+        25_000_000L,
+        50_000_000L,
+        100_000_000L,
+        250_000_000L,
+        500_000_000L,
+        1_000_000_000L,
+        2_500_000_000L,
+        5_000_000_000L,
+        10_000_000_000L,
+        30_000_000_000L
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+    private final LongAdder durationSum = new LongAdder();
+    private final AtomicLong durationMax = new AtomicLong();
+
+    public LatencyHistogram()
+    {
+        for (int idx = 0; idx < buckets.length; ++idx)
+        {
+            buckets[idx] = new LongAdder();
+        }
+    }
+
+    public void record(long durationNanos)
+    {
+        long duration = Math.max(durationNanos, 0);
+        int idx = 0;
+        while (idx < BUCKET_BOUNDS_NANOS.length && duration > BUCKET_BOUNDS_NANOS[idx])
+        {
+            ++idx;
+        }
+        buckets[idx].increment();
+        durationSum.add(duration);
+        if (duration > durationMax.get())
+        {
+            durationMax.accumulateAndGet(duration, Math::max);
+        }
+    }
+
+    /**
+     * Records the time that has passed since the given {@link System#nanoTime()} value
+     */
+    public void recordSince(long startNanos)
+    {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the number of recorded durations per bucket. The bucket at index <code>i</code> counts
+     * the durations up to {@link #BUCKET_BOUNDS_NANOS}<code>[i]</code>, the last bucket counts all longer
+     * durations.
+     */
+    public long[] getBucketCounts()
+    {
+        long[] counts = new long[buckets.length];
+        for (int idx = 0; idx < buckets.length; ++idx)
+        {
+            counts[idx] = buckets[idx].sum();
+        }
+        return counts;
+    }
+
+    public long getCount()
+    {
+        long count = 0;
+        for (LongAdder bucket : buckets)
+        {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getDurationSumNanos()
+    {
+        return durationSum.sum();
+    }
+
+    public long getDurationMaxNanos()
+    {
+        return durationMax.get();
+    }
+}
@@ -0,0 +1,117 @@
+package com.linbit.linstor.metrics;
+
+import com.linbit.locks.LockGuardFactory.LockObj;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and counters of the core operations of a LINSTOR module
+ *
+ * Recording is cheap enough to stay enabled all the time. The controller exports the metrics by the
+ * {@link MetricsExporter}, satellites by their optional metrics HTTP service.
+ *
+ * The response times of the connected peers are recorded by the peers themselves,
+ * see {@link com.linbit.linstor.netcom.Peer#getApiCallLatency()}.
+ */
+@Singleton
+public class LinstorMetrics
+{
+    private final ConcurrentMap<String, LatencyHistogram> apiCallLatency = new ConcurrentHashMap<>();
+    private final Map<LockObj, LatencyHistogram> lockWaitTime = new EnumMap<>(LockObj.class);
+    private final Map<LockObj, LatencyHistogram> lockHoldTime = new EnumMap<>(LockObj.class);
+    private final LatencyHistogram dbCommitLatency = new LatencyHistogram();
+
+    // Satellite only
+    private final LatencyHistogram devMgrCycleDuration = new LatencyHistogram();
+    private final LatencyHistogram devMgrDispatchDuration = new LatencyHistogram();
+    private final LongAdder devMgrDispatchedRscCtr = new LongAdder();
+
+    @Inject
+    public LinstorMetrics()
+    {
+        // the maps of the locks are never modified afterwards and can therefore be read without synchronization
+        for (LockObj lockObj : LockObj.values())
+        {
+            lockWaitTime.put(lockObj, new LatencyHistogram());
+            lockHoldTime.put(lockObj, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Returns the histogram of the time API calls with the given name spend in their scope
+     */
+    public LatencyHistogram getApiCallLatency(String apiCallName)
+    {
+        LatencyHistogram histogram = apiCallLatency.get(apiCallName);
+        if (histogram == null)
+        {
+            histogram = apiCallLatency.computeIfAbsent(apiCallName, ignored -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the histograms of all API calls that have been run so far, sorted by the API call's name
+     */
+    public Map<String, LatencyHistogram> getApiCallLatencies()
+    {
+        return Collections.unmodifiableMap(new TreeMap<>(apiCallLatency));
+    }
+
+    /**
+     * Returns the histogram of the time spent waiting for the given lock
+     */
+    public LatencyHistogram getLockWaitTime(LockObj lockObj)
+    {
+        return lockWaitTime.get(lockObj);
+    }
+
+    /**
+     * Returns the histogram of the time the given lock was held
+     */
+    public LatencyHistogram getLockHoldTime(LockObj lockObj)
+    {
+        return lockHoldTime.get(lockObj);
+    }
+
+    public LatencyHistogram getDbCommitLatency()
+    {
+        return dbCommitLatency;
+    }
+
+    /**
+     * Returns the histogram of the device manager's dispatch cycles, from acquiring the locks until
+     * the results were reported to the controller
+     */
+    public LatencyHistogram getDevMgrCycleDuration()
+    {
+        return devMgrCycleDuration;
+    }
+
+    /**
+     * Returns the histogram of the time the device handler needed to process the resources of a cycle
+     */
+    public LatencyHistogram getDevMgrDispatchDuration()
+    {
+        return devMgrDispatchDuration;
+    }
+
+    public void addDevMgrDispatchedResources(int rscCount)
+    {
+        devMgrDispatchedRscCtr.add(rscCount);
+    }
+
+    public long getDevMgrDispatchedResources()
+    {
+        return devMgrDispatchedRscCtr.sum();
+    }
+}
@@ -0,0 +1,141 @@
+package com.linbit.linstor.metrics;
+
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.event.EventBroker;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.locks.LockGuardFactory.LockObj;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Renders the metrics of the controller, see {@link MetricsTextWriter} for the format
+ */
+@Singleton
+public class MetricsExporter
+{
+    private final LinstorMetrics metrics;
+    private final CoreModule.PeerMap peerMap;
+    private final CountingScheduler workerScheduler;
+    private final EventBroker eventBroker;
+
+    @Inject
+    public MetricsExporter(
+        LinstorMetrics metricsRef,
+        CoreModule.PeerMap peerMapRef,
+        CountingScheduler workerSchedulerRef,
+        EventBroker eventBrokerRef
+    )
+    {
+        metrics = metricsRef;
+        peerMap = peerMapRef;
+        workerScheduler = workerSchedulerRef;
+        eventBroker = eventBrokerRef;
+    }
+
+    public String export()
+    {
+        MetricsTextWriter writer = new MetricsTextWriter();
+
+        writer.latencyHistograms(
+            "linstor_api_call_duration_seconds",
+            "Time API calls spent in their scope, including waiting for locks",
+            "api_call",
+            metrics.getApiCallLatencies()
+        );
+        writeLockMetrics(writer, metrics);
+
+        writer.latencyHistograms(
+            "linstor_db_commit_duration_seconds",
+            "Duration of database commits",
+            null,
+            Collections.singletonMap(null, metrics.getDbCommitLatency())
+        );
+
+        Map<String, LatencyHistogram> peerLatencies = new TreeMap<>();
+        Map<String, Long> peerOutQueues = new TreeMap<>();
+        for (Peer peer : getPeers())
+        {
+            String peerName = getPeerName(peer);
+            LatencyHistogram apiCallLatency = peer.getApiCallLatency();
+            if (apiCallLatency != null)
+            {
+                peerLatencies.put(peerName, apiCallLatency);
+            }
+            peerOutQueues.put(peerName, (long) peer.outQueueCount());
+        }
+        writer.latencyHistograms(
+            "linstor_peer_response_seconds",
+            "Time until a peer completed its answer to an API call",
+            "peer",
+            peerLatencies
+        );
+        writer.gauges(
+            "linstor_peer_out_queue_messages",
+            "Number of messages waiting to be sent to a peer",
+            "peer",
+            peerOutQueues
+        );
+
+        writer.gauges(
+            "linstor_worker_queue_depth",
+            "Number of tasks waiting for a worker thread",
+            null,
+            Collections.singletonMap(null, workerScheduler.getPendingTaskCount())
+        );
+
+        writer.counters(
+            "linstor_events_sent_total",
+            "Number of event messages sent to watching clients",
+            null,
+            Collections.singletonMap(null, eventBroker.getSentEventCount())
+        );
+        writer.gauges(
+            "linstor_event_watches",
+            "Number of active event watches",
+            null,
+            Collections.singletonMap(null, (long) eventBroker.getWatchCount())
+        );
+
+        return writer.toString();
+    }
+
+    /**
+     * Writes the wait and hold times of the locks, which are exported by the controller and the satellites
+     */
+    public static void writeLockMetrics(MetricsTextWriter writer, LinstorMetrics metrics)
+    {
+        Map<String, LatencyHistogram> lockWaitTimes = new TreeMap<>();
+        Map<String, LatencyHistogram> lockHoldTimes = new TreeMap<>();
+        for (LockObj lockObj : LockObj.values())
+        {
+            lockWaitTimes.put(lockObj.name(), metrics.getLockWaitTime(lockObj));
+            lockHoldTimes.put(lockObj.name(), metrics.getLockHoldTime(lockObj));
+        }
+        writer.latencyHistograms("linstor_lock_wait_seconds", "Time spent waiting for a lock", "lock", lockWaitTimes);
+        writer.latencyHistograms("linstor_lock_hold_seconds", "Time a lock was held", "lock", lockHoldTimes);
+    }
+
+    private List<Peer> getPeers()
+    {
+        List<Peer> peers;
+        synchronized (peerMap)
+        {
+            peers = new ArrayList<>(peerMap.values());
+        }
+        return peers;
+    }
+
+    private static String getPeerName(Peer peer)
+    {
+        Node node = peer.getNode();
+        return node == null ? peer.getId() : node.getName().displayValue;
+    }
+}
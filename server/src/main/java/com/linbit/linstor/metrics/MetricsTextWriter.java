@@ -0,0 +1,143 @@
+package com.linbit.linstor.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Writes metrics in the Prometheus text exposition format (version 0.0.4), which is also understood
+ * by OpenMetrics scrapers
+ *
+ * All durations are written in seconds, as recommended by Prometheus. The label of a metric family is optional;
+ * if it is {@code null}, the map of values must only contain a single entry.
+ *
+ * Not thread safe.
+ */
+public class MetricsTextWriter
+{
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String[] LATENCY_BUCKET_LABELS = bucketLabels(LatencyHistogram.BUCKET_BOUNDS_NANOS, 9);
+
+    private final StringBuilder text = new StringBuilder();
+
+    public void latencyHistograms(String name, String help, String label, Map<String, LatencyHistogram> histograms)
+    {
+        header(name, help, "histogram");
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet())
+        {
+            LatencyHistogram histogram = entry.getValue();
+            histogram(
+                name,
+                label,
+                entry.getKey(),
+                LATENCY_BUCKET_LABELS,
+                histogram.getBucketCounts(),
+                toSeconds(histogram.getDurationSumNanos(), 9)
+            );
+        }
+    }
+
+    public void gauges(String name, String help, String label, Map<String, Long> values)
+    {
+        samples(name, help, "gauge", label, values);
+    }
+
+    public void counters(String name, String help, String label, Map<String, Long> values)
+    {
+        samples(name, help, "counter", label, values);
+    }
+
+    /**
+     * Writes the header of a metric family. Must be followed by the samples of the family.
+     */
+    public void header(String name, String help, String type)
+    {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes the samples of one histogram
+     *
+     * @param bucketLabels The upper bounds of the buckets in seconds, ending with "+Inf"
+     * @param bucketCounts The (non-cumulative) number of values in each bucket
+     * @param sumSeconds The sum of all values in seconds
+     */
+    public void histogram(
+        String name,
+        String label,
+        String labelValue,
+        String[] bucketLabels,
+        long[] bucketCounts,
+        String sumSeconds
+    )
+    {
+        String labelPair = label == null ? null : label + "=\"" + escape(labelValue) + "\"";
+        long cumulativeCount = 0;
+        for (int idx = 0; idx < bucketCounts.length; ++idx)
+        {
+            cumulativeCount += bucketCounts[idx];
+            text.append(name).append("_bucket{");
+            if (labelPair != null)
+            {
+                text.append(labelPair).append(',');
+            }
+            text.append("le=\"").append(bucketLabels[idx]).append("\"} ").append(cumulativeCount).append('\n');
+        }
+        String labelSet = labelPair == null ? "" : "{" + labelPair + "}";
+        text.append(name).append("_sum").append(labelSet).append(' ').append(sumSeconds).append('\n');
+        // the count must match the +Inf bucket, even if values were recorded while reading the buckets
+        text.append(name).append("_count").append(labelSet).append(' ').append(cumulativeCount).append('\n');
+    }
+
+    private void samples(String name, String help, String type, String label, Map<String, Long> values)
+    {
+        header(name, help, type);
+        for (Map.Entry<String, Long> entry : values.entrySet())
+        {
+            text.append(name);
+            if (label != null)
+            {
+                text.append('{').append(label).append("=\"").append(escape(entry.getKey())).append("\"}");
+            }
+            text.append(' ').append(entry.getValue()).append('\n');
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return text.toString();
+    }
+
+    /**
+     * Returns the labels of histogram buckets with the given upper bounds, including the final "+Inf" bucket
+     *
+     * @param scale 9 for bounds in nanoseconds, 3 for bounds in milliseconds
+     */
+    public static String[] bucketLabels(long[] bucketBounds, int scale)
+    {
+        String[] labels = new String[bucketBounds.length + 1];
+        for (int idx = 0; idx < bucketBounds.length; ++idx)
+        {
+            labels[idx] = toSeconds(bucketBounds[idx], scale);
+        }
+        labels[bucketBounds.length] = "+Inf";
+        return labels;
+    }
+
+    /**
+     * Converts the given duration into seconds
+     *
+     * @param scale 9 for durations in nanoseconds, 3 for durations in milliseconds
+     */
+    public static String toSeconds(long duration, int scale)
+    {
+        return BigDecimal.valueOf(duration, scale).stripTrailingZeros().toPlainString();
+    }
+
+    static String escape(String labelValue)
+    {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
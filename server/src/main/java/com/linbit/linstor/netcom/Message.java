@@ -28,6 +28,20 @@ public interface Message
 
     void setData(byte[] data) throws IllegalMessageStateException;
 
+    /**
+     * Prepares the message for receiving data of the given size into a buffer taken from the given pool.
+     * The buffer returned by {@link #getData()} may be larger than the message data afterwards, the
+     * actual size is returned by {@link #getDataLength()}.
+     */
+    void setPooledData(MessageBufferPool pool, int dataLength) throws IllegalMessageStateException;
+
+    int getDataLength() throws IllegalMessageStateException;
+
+    /**
+     * Returns a pooled data buffer to its pool. The message data must not be accessed afterwards.
+     */
+    void release();
+
     int getType() throws IllegalMessageStateException;
 
     ByteBuffer getHeaderBuffer();
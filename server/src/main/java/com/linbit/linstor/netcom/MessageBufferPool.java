@@ -0,0 +1,85 @@
+package com.linbit.linstor.netcom;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Size-classed pool of data buffers for inbound messages
+ *
+ * Buffers are pooled in power-of-two size classes. Messages smaller than the smallest size class
+ * are cheap to allocate and are not pooled. Each size class keeps at most as many buffers as fit
+ * into {@link #MAX_POOLED_BYTES_PER_CLASS}, but always at least one, so that repeated large
+ * messages (e.g. full sync data) reuse the same buffer instead of allocating a new one every time.
+ *
+ * A buffer that is never released is simply reclaimed by the garbage collector.
+ */
+public class MessageBufferPool
+{
+    // 64 KiB
+    private static final int MIN_POOLED_SIZE_SHIFT = 16;
+    private static final int MIN_POOLED_SIZE = 1 << MIN_POOLED_SIZE_SHIFT;
+
+    // 8 MiB
+    private static final int MAX_POOLED_BYTES_PER_CLASS = 0x800000;
+    private static final int MAX_BUFFERS_PER_CLASS = 16;
+
+    private final ArrayBlockingQueue<byte[]>[] sizeClasses;
+
+    @SuppressWarnings("unchecked")
+    public MessageBufferPool()
+    {
+        int classCount = Integer.numberOfTrailingZeros(Message.DEFAULT_MAX_DATA_SIZE) - MIN_POOLED_SIZE_SHIFT + 1;
+        sizeClasses = new ArrayBlockingQueue[classCount];
+        for (int idx = 0; idx < classCount; ++idx)
+        {
+            int classSize = MIN_POOLED_SIZE << idx;
+            int capacity = Math.max(1, Math.min(MAX_BUFFERS_PER_CLASS, MAX_POOLED_BYTES_PER_CLASS / classSize));
+            sizeClasses[idx] = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    /**
+     * Returns a buffer of at least the requested size. The returned buffer may be larger than requested.
+     */
+    public byte[] acquire(int size)
+    {
+        byte[] buffer;
+        int classIdx = getClassIndex(size);
+        if (classIdx < 0)
+        {
+            buffer = new byte[size];
+        }
+        else
+        {
+            buffer = sizeClasses[classIdx].poll();
+            if (buffer == null)
+            {
+                buffer = new byte[MIN_POOLED_SIZE << classIdx];
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not access the buffer afterwards.
+     */
+    public void release(byte[] buffer)
+    {
+        int classIdx = getClassIndex(buffer.length);
+        if (classIdx >= 0 && buffer.length == MIN_POOLED_SIZE << classIdx)
+        {
+            // if the size class is already full, the buffer is left to the garbage collector
+            sizeClasses[classIdx].offer(buffer);
+        }
+    }
+
+    private int getClassIndex(int size)
+    {
+        int classIdx = -1;
+        if (size >= MIN_POOLED_SIZE && size <= Message.DEFAULT_MAX_DATA_SIZE)
+        {
+            int classShift = Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+            classIdx = classShift - MIN_POOLED_SIZE_SHIFT;
+        }
+        return classIdx;
+    }
+}
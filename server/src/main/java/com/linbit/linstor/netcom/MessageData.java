@@ -9,12 +9,15 @@ import java.util.Arrays;
  */
 public class MessageData implements Message
 {
-    // TODO: Use ByteBuffer.allocateDirect(...) instead of ByteBuffer.wrap(...)
     protected final ByteBuffer headerBuffer;
     protected ByteBuffer dataBuffer;
 
     protected final byte[] headerBytes;
     protected byte[] dataBytes;
+    protected int dataLength;
+
+    // Pool the data buffer was taken from, null if the buffer is not pooled
+    private MessageBufferPool dataPool;
 
     private boolean forSend;
 
@@ -43,13 +46,52 @@ public class MessageData implements Message
     public void setData(byte[] data) throws IllegalMessageStateException
     {
         dataBytes = data;
+        dataLength = data.length;
         dataBuffer = ByteBuffer.wrap(data);
+        dataPool = null;
         if (forSend)
         {
             headerBuffer.putInt(LENGTH_FIELD_OFFSET, data.length);
         }
     }
 
+    @Override
+    public void setPooledData(MessageBufferPool pool, int length) throws IllegalMessageStateException
+    {
+        if (forSend)
+        {
+            throw new IllegalMessageStateException("Pooled data buffers are only supported for inbound messages");
+        }
+        dataBytes = pool.acquire(length);
+        dataLength = length;
+        dataBuffer = ByteBuffer.wrap(dataBytes, 0, length);
+        dataPool = pool;
+    }
+
+    @Override
+    public int getDataLength() throws IllegalMessageStateException
+    {
+        if (dataBytes == null)
+        {
+            throw new IllegalMessageStateException(
+                "Attempt to fetch content data length from a message that is not ready for processing"
+            );
+        }
+        return dataLength;
+    }
+
+    @Override
+    public void release()
+    {
+        if (dataPool != null)
+        {
+            MessageBufferPool pool = dataPool;
+            byte[] buffer = dataBytes;
+            reset();
+            pool.release(buffer);
+        }
+    }
+
     @Override
     public int getType() throws IllegalMessageStateException
     {
@@ -60,7 +102,9 @@ public class MessageData implements Message
     {
         Arrays.fill(headerBytes, (byte) 0);
         dataBytes = null;
+        dataLength = 0;
         dataBuffer = null;
+        dataPool = null;
     }
 
     @Override
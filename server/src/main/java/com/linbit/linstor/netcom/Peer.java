@@ -5,6 +5,7 @@ import com.linbit.ServiceName;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.protobuf.common.Ping;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.metrics.LatencyHistogram;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -189,6 +190,13 @@ public interface Peer
      */
     int outQueueCount();
 
+    /**
+     * Returns the response times of the API calls that were sent to the peer
+     *
+     * @return Response time histogram, or null if API calls cannot be sent to the peer
+     */
+    LatencyHistogram getApiCallLatency();
+
     /**
      * Returns the number of messages that were sent to the peer
      *
@@ -5,6 +5,7 @@ import com.linbit.InvalidNameException;
 import com.linbit.ServiceName;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.metrics.LatencyHistogram;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -205,6 +206,12 @@ public class PeerOffline implements Peer
         return 0;
     }
 
+    @Override
+    public LatencyHistogram getApiCallLatency()
+    {
+        return null;
+    }
+
     @Override
     public long msgSentCount()
     {
@@ -9,6 +9,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.metrics.LatencyHistogram;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -27,13 +28,14 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -90,12 +92,33 @@ public class TcpConnectorPeer implements Peer
     // Current inbound message
     protected Message msgIn;
 
-    // Current outbound message; cached for quicker access
+    // Data buffers of inbound messages, shared by all peers
+    private static final MessageBufferPool DATA_BUFFER_POOL = new MessageBufferPool();
+
+    // Maximum number of messages that are gathered into a single write operation
+    private static final int MAX_WRITE_BATCH_SIZE = 16;
+
+    // Current outbound message, only accessed by the connector's selector thread
     protected Message msgOut;
 
     // Queue of pending outbound messages
+    // Filled by any number of threads without locking, drained by the connector's selector thread
     // TODO: Put a capacity limit on the maximum number of queued outbound messages
-    protected final Deque<Message> msgOutQueue;
+    protected final Queue<Message> msgOutQueue;
+    private final AtomicInteger msgOutQueueSize = new AtomicInteger();
+
+    // Response times of the API calls sent to the peer
+    private final LatencyHistogram apiCallLatency = new LatencyHistogram();
+
+    // Header and data buffers of the messages currently being written by a gathering write
+    private final ByteBuffer[] outBuffers = new ByteBuffer[MAX_WRITE_BATCH_SIZE * 2];
+    private int outBufferIdx = 0;
+    private int outBufferCount = 0;
+
+    // Guards changes of the interest ops and of the writeScheduled flag.
+    // Senders only need it when the peer switches from idle to writing.
+    private final Object opInterestLock = new Object();
+    private volatile boolean writeScheduled = false;
 
     protected SelectionKey selKey;
 
@@ -161,7 +184,7 @@ public class TcpConnectorPeer implements Peer
         peerId = peerIdRef;
         connector = connectorRef;
         node = nodeRef;
-        msgOutQueue = new LinkedList<>();
+        msgOutQueue = new ConcurrentLinkedQueue<>();
 
         // Do not use createMessage() here!
         // The SslTcpConnectorPeer has not initialized SSLEngine instance yet,
@@ -265,11 +288,9 @@ public class TcpConnectorPeer implements Peer
 
     protected Message createMessage(boolean forSend)
     {
-        if (forSend)
-        {
-            currentWritePhase = Phase.HEADER;
-        }
-        else
+        // the write phase is owned by the selector thread and reset after every finished message,
+        // outbound messages are created by other threads and must not touch it
+        if (!forSend)
         {
             currentReadPhase = Phase.HEADER;
         }
@@ -283,33 +304,35 @@ public class TcpConnectorPeer implements Peer
         boolean connFlag = connected;
         if (connFlag)
         {
-            synchronized (this)
+            long msgSize = msg.getData().length;
+            if (msgSize > msgSentSizePeak)
             {
-                long msgSize = msg.getData().length;
-                if (msgSize > msgSentSizePeak)
-                {
-                    msgSentSizePeak = msgSize;
-                }
+                // Not atomic, but the peak value is only informational
+                msgSentSizePeak = msgSize;
+            }
 
-                // Queue the message for sending
-                if (msgOut == null)
-                {
-                    msgOut = msg;
-                }
-                else
-                {
-                    msgOutQueue.add(msg);
-                }
+            // Queue the message for sending
+            msgOutQueue.offer(msg);
+            msgOutQueueSize.incrementAndGet();
 
-                try
-                {
-                    enableOpInterest(OP_WRITE);
-                    connector.wakeup();
-                }
-                catch (IllegalStateException illState)
+            if (!writeScheduled)
+            {
+                synchronized (opInterestLock)
                 {
-                    // No-op; Subclasses of illState can be thrown
-                    // when the connection has been closed
+                    if (!writeScheduled)
+                    {
+                        writeScheduled = true;
+                        try
+                        {
+                            enableOpInterest(OP_WRITE);
+                            connector.wakeup();
+                        }
+                        catch (IllegalStateException illState)
+                        {
+                            // No-op; Subclasses of illState can be thrown
+                            // when the connection has been closed
+                        }
+                    }
                 }
             }
         }
@@ -318,8 +341,11 @@ public class TcpConnectorPeer implements Peer
 
     protected void enableOpInterest(int op)
     {
-        opInterest |= op;
-        selKey.interestOps(opInterest);
+        synchronized (opInterestLock)
+        {
+            opInterest |= op;
+            selKey.interestOps(opInterest);
+        }
     }
 
     protected boolean isInterestOpEnabled(int op)
@@ -329,14 +355,20 @@ public class TcpConnectorPeer implements Peer
 
     protected void disableInterestOp(int op)
     {
-        opInterest &= ~op;
-        selKey.interestOps(opInterest);
+        synchronized (opInterestLock)
+        {
+            opInterest &= ~op;
+            selKey.interestOps(opInterest);
+        }
     }
 
     protected void setOpInterest(int op)
     {
-        opInterest = op;
-        selKey.interestOps(op);
+        synchronized (opInterestLock)
+        {
+            opInterest = op;
+            selKey.interestOps(op);
+        }
     }
 
     @Override
@@ -385,31 +417,48 @@ public class TcpConnectorPeer implements Peer
     )
     {
         return Flux
-            .<ByteArrayInputStream>create(fluxSink ->
+            .defer(() ->
                 {
-                    long apiCallId = nextApiCallId.getAndIncrement();
-                    byte[] messageBytes = commonSerializer.apiCallBuilder(apiCallName, apiCallId).bytes(data).build();
+                    long startNanos = System.nanoTime();
+                    return sendApiCall(apiCallName, data, authenticationRequired, fullSyncAppliedRequired)
+                        // only the answers of the peer are of interest, not the calls that failed locally
+                        .doOnComplete(() -> apiCallLatency.recordSince(startNanos));
+                }
+            )
+            .switchIfEmpty(Flux.error(new ApiCallNoResponseException()));
+    }
+
+    private Flux<ByteArrayInputStream> sendApiCall(
+        String apiCallName,
+        byte[] data,
+        boolean authenticationRequired,
+        boolean fullSyncAppliedRequired
+    )
+    {
+        return Flux.<ByteArrayInputStream>create(fluxSink ->
+            {
+                long apiCallId = nextApiCallId.getAndIncrement();
+                byte[] messageBytes = commonSerializer.apiCallBuilder(apiCallName, apiCallId).bytes(data).build();
 
-                    fluxSink.onDispose(() -> openRpcs.remove(apiCallId));
+                fluxSink.onDispose(() -> openRpcs.remove(apiCallId));
 
-                    openRpcs.put(apiCallId, fluxSink);
+                openRpcs.put(apiCallId, fluxSink);
 
-                    if (authenticationRequired && !authenticated || fullSyncAppliedRequired && !fullSyncApplied)
+                if (authenticationRequired && !authenticated || fullSyncAppliedRequired && !fullSyncApplied)
+                {
+                    fluxSink.error(new PeerNotConnectedException());
+                }
+                else
+                {
+                    errorReporter.logTrace("Peer %s, API call %d '%s' send", this, apiCallId, apiCallName);
+                    boolean isConnected = sendMessage(messageBytes);
+                    if (!isConnected)
                     {
                         fluxSink.error(new PeerNotConnectedException());
                     }
-                    else
-                    {
-                        errorReporter.logTrace("Peer %s, API call %d '%s' send", this, apiCallId, apiCallName);
-                        boolean isConnected = sendMessage(messageBytes);
-                        if (!isConnected)
-                        {
-                            fluxSink.error(new PeerNotConnectedException());
-                        }
-                    }
                 }
-            )
-            .switchIfEmpty(Flux.error(new ApiCallNoResponseException()));
+            }
+        );
     }
 
     @Override
@@ -568,15 +617,54 @@ public class TcpConnectorPeer implements Peer
 
     protected void nextOutMessage()
     {
-        synchronized (this)
+        ++msgSentCtr;
+        msgOut = pollOutMessage();
+        if (msgOut == null)
         {
-            msgOut = msgOutQueue.pollFirst();
-            if (msgOut == null)
+            disableWriteIfIdle();
+        }
+    }
+
+    protected Message pollOutMessage()
+    {
+        Message msg = msgOutQueue.poll();
+        if (msg != null)
+        {
+            msgOutQueueSize.decrementAndGet();
+        }
+        return msg;
+    }
+
+    protected boolean hasPendingOutMessages()
+    {
+        return msgOut != null || !msgOutQueue.isEmpty();
+    }
+
+    /**
+     * Disables OP_WRITE if there are no more outbound messages queued.
+     *
+     * The writeScheduled flag is cleared and OP_WRITE is disabled before the queue is checked again.
+     * A concurrent {@link #sendMessage(Message)} queues its message before reading the flag, so it either
+     * sees the cleared flag and enables OP_WRITE itself, or its message is found by the second check here
+     * and OP_WRITE is enabled again.
+     */
+    protected void disableWriteIfIdle()
+    {
+        synchronized (opInterestLock)
+        {
+            if (msgOutQueue.isEmpty())
             {
+                writeScheduled = false;
                 try
                 {
                     // No more outbound messages present, disable OP_WRITE
                     disableInterestOp(OP_WRITE);
+                    if (!msgOutQueue.isEmpty())
+                    {
+                        // A message was queued by a sender that still saw writeScheduled set
+                        writeScheduled = true;
+                        enableOpInterest(OP_WRITE);
+                    }
                 }
                 catch (IllegalStateException illState)
                 {
@@ -584,7 +672,6 @@ public class TcpConnectorPeer implements Peer
                     // when the connection has been closed
                 }
             }
-            ++msgSentCtr;
         }
     }
 
@@ -623,7 +710,13 @@ public class TcpConnectorPeer implements Peer
     @Override
     public int outQueueCount()
     {
-        return msgOutQueue.size();
+        return msgOutQueueSize.get();
+    }
+
+    @Override
+    public LatencyHistogram getApiCallLatency()
+    {
+        return apiCallLatency;
     }
 
     @Override
@@ -908,7 +1001,7 @@ public class TcpConnectorPeer implements Peer
         {
             dataSize = Message.DEFAULT_MAX_DATA_SIZE;
         }
-        msgIn.setData(new byte[dataSize]);
+        msgIn.setPooledData(DATA_BUFFER_POOL, dataSize);
         currentReadPhase = currentReadPhase.getNextPhase();
     }
 
@@ -932,65 +1025,71 @@ public class TcpConnectorPeer implements Peer
         return state;
     }
 
+    /**
+     * Writes as many queued messages as possible with a single gathering write.
+     *
+     * The header and data buffers of up to {@link #MAX_WRITE_BATCH_SIZE} messages are collected and
+     * passed to the channel at once. Messages that could not be written completely are continued
+     * with the next invocation before any new messages are taken from the queue.
+     */
     public WriteState write(SocketChannel outChannel)
         throws IllegalMessageStateException, IOException
     {
         WriteState state = WriteState.UNFINISHED;
-        switch (currentWritePhase)
+        if (outBufferIdx == outBufferCount)
         {
-            case HEADER:
+            gatherOutMessages();
+        }
+        if (outBufferCount > 0)
+        {
+            outChannel.write(outBuffers, outBufferIdx, outBufferCount - outBufferIdx);
+            while (outBufferIdx < outBufferCount && !outBuffers[outBufferIdx].hasRemaining())
+            {
+                outBuffers[outBufferIdx] = null;
+                ++outBufferIdx;
+                if ((outBufferIdx & 1) == 0)
                 {
-                    ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
-                    outChannel.write(headerBuffer);
-                    if (!headerBuffer.hasRemaining())
-                    {
-                        currentWritePhase = currentWritePhase.getNextPhase();
-                        state = writeData(outChannel, state);
-                    }
+                    // header and data buffer of a message have been sent
+                    ++msgSentCtr;
                 }
-                break;
-            case DATA:
-                state = writeData(outChannel, state);
-                break;
-            default:
-                throw new ImplementationError(
-                    String.format(
-                        "Missing case label for enum member '%s'",
-                        currentWritePhase.name()
-                    ),
-                    null
-                );
+            }
+            if (outBufferIdx == outBufferCount)
+            {
+                outBufferIdx = 0;
+                outBufferCount = 0;
+                state = WriteState.FINISHED;
+            }
         }
-        if (state == WriteState.FINISHED)
+        if (outBufferCount == 0)
         {
-            currentWritePhase = Phase.HEADER;
-            nextOutMessage();
+            disableWriteIfIdle();
         }
         return state;
     }
 
-    private WriteState writeData(SocketChannel outChannel, WriteState stateRef)
-        throws IOException, IllegalMessageStateException
+    private void gatherOutMessages() throws IllegalMessageStateException
     {
-        WriteState state = stateRef;
-        ByteBuffer dataBuffer = msgOut.getDataBuffer();
-        outChannel.write(dataBuffer);
-        if (!dataBuffer.hasRemaining())
+        int count = 0;
+        while (count < outBuffers.length)
         {
-            // Finished sending the message
-            state = WriteState.FINISHED;
-            currentWritePhase = currentWritePhase.getNextPhase();
+            Message msg = pollOutMessage();
+            if (msg == null)
+            {
+                break;
+            }
+            outBuffers[count++] = msg.getHeaderBuffer();
+            outBuffers[count++] = msg.getDataBuffer();
         }
-        return state;
+        outBufferIdx = 0;
+        outBufferCount = count;
     }
 
-
     protected void addToQueue(Message msg)
     {
         try
         {
             // This method is single-threaded, no need to synchronize
-            long msgSize = msg.getData().length;
+            long msgSize = msg.getDataLength();
             if (msgSize > msgRecvSizePeak)
             {
                 msgRecvSizePeak = msgSize;
@@ -29,6 +29,24 @@ public class TcpHeaderOnlyMessage implements Message
         throw new ImplementationError("Cannot set Data of TcpHeaderOnlyMessage", null);
     }
 
+    @Override
+    public void setPooledData(MessageBufferPool pool, int dataLength)
+    {
+        throw new ImplementationError("Cannot set Data of TcpHeaderOnlyMessage", null);
+    }
+
+    @Override
+    public int getDataLength()
+    {
+        return 0;
+    }
+
+    @Override
+    public void release()
+    {
+        // no-op, header only messages are reused and have no data buffer
+    }
+
     @Override
     public int getType() throws IllegalMessageStateException
     {
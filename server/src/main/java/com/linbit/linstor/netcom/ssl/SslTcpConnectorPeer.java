@@ -72,7 +72,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
             socketChannel ->
             {
                 nextInMessage(); // prepare the next messages
-                if (msgOut != null)
+                if (hasPendingOutMessages())
                 {
                     setOpInterest(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
                 }
@@ -317,32 +317,39 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
              * if there are no bytes left (pos == limit), .compact() behaves the same as .clear()
              */
             encryptedWriteBuffer.compact();
+            if (msgOut == null)
+            {
+                msgOut = pollOutMessage();
+            }
             // first try to encrypt the new message
-            switch (currentWritePhase)
+            if (msgOut != null)
             {
-                case HEADER:
-                    {
-                        ByteBuffer decryptedHeaderBuffer = msgOut.getHeaderBuffer();
-                        sslEngine.wrap(decryptedHeaderBuffer, encryptedWriteBuffer);
-
-                        if (!decryptedHeaderBuffer.hasRemaining())
+                switch (currentWritePhase)
+                {
+                    case HEADER:
                         {
-                            currentWritePhase = currentWritePhase.getNextPhase();
-                            state = wrapData(state);
+                            ByteBuffer decryptedHeaderBuffer = msgOut.getHeaderBuffer();
+                            sslEngine.wrap(decryptedHeaderBuffer, encryptedWriteBuffer);
+
+                            if (!decryptedHeaderBuffer.hasRemaining())
+                            {
+                                currentWritePhase = currentWritePhase.getNextPhase();
+                                state = wrapData(state);
+                            }
                         }
-                    }
-                    break;
-                case DATA:
-                    state = wrapData(state);
-                    break;
-                default:
-                    throw new ImplementationError(
-                        String.format(
-                            "Missing case label for enum member '%s'",
-                            currentWritePhase.name()
-                        ),
-                        null
-                    );
+                        break;
+                    case DATA:
+                        state = wrapData(state);
+                        break;
+                    default:
+                        throw new ImplementationError(
+                            String.format(
+                                "Missing case label for enum member '%s'",
+                                currentWritePhase.name()
+                            ),
+                            null
+                        );
+                }
             }
             // we just (partially?) encrypted data into the encrytpedWriteBuffer
             // try to send it
@@ -354,6 +361,11 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                 nextOutMessage();
                 currentWritePhase = Phase.HEADER; // prepare for next write
             }
+            else
+            if (msgOut == null)
+            {
+                disableWriteIfIdle();
+            }
         }
         return state;
     }
@@ -63,6 +63,19 @@ public interface Props extends TransactionObject, Iterable<Map.Entry<String, Str
     Optional<Props> getNamespace(String namespace);
     Iterator<String> iterateNamespaces();
 
+    /**
+     * Returns an unmodifiable map of all properties of the given namespace and its sub-namespaces,
+     * keyed by their full path. The map is empty if the namespace does not exist.
+     */
+    Map<String, String> getNamespaceEntries(String namespace);
+
+    /**
+     * Sets the listener that is notified about every property that is set or removed in this container hierarchy,
+     * or removes it if <code>null</code> is given. Loading the properties and rolling back modifications do not
+     * notify the listener.
+     */
+    void setChangeListener(PropsChangeListener changeListener) throws AccessDeniedException;
+
     /**
      * Checks if all propFilters (key value pairs e.g 'prop=value') are present in the given Props container.
      * It is also possible to just check if a property is set at all.
@@ -0,0 +1,15 @@
+package com.linbit.linstor.propscon;
+
+/**
+ * Notified about every property that a properties container hierarchy sets or removes
+ */
+@FunctionalInterface
+public interface PropsChangeListener
+{
+    /**
+     * @param key The full path of the property, relative to the root container
+     * @param oldValue The previous value, or null if the property was not set
+     * @param newValue The new value, or null if the property was removed
+     */
+    void propChanged(String key, String oldValue, String newValue);
+}
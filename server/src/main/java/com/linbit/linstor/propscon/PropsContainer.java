@@ -49,6 +49,10 @@ import java.util.stream.Collectors;
  * not just access to a subcontainer, because many subcontainer actions will also affect the
  * root container of the hierarchy.
  *
+ * Property lookups are served from a flattened, immutable {@link PropsSnapshot} of the entire hierarchy
+ * while the container has no uncommitted modifications. The snapshot is dropped by any modification and is
+ * rebuilt on the first lookup after the modifications were committed or rolled back.
+ *
  * @author Robert Altnoeder &lt;robert.altnoeder@linbit.com&gt;
  */
 public class PropsContainer extends AbsTransactionObject implements Props
@@ -76,6 +80,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
     private PropsContainer rootContainer;
     private PropsContainer parentContainer;
     private String containerKey;
+    private String containerPath;
     private int itemCount;
     private Map<String, String> propMap;
     private Map<String, PropsContainer> containerMap;
@@ -92,6 +97,16 @@ public class PropsContainer extends AbsTransactionObject implements Props
     protected Provider<TransactionMgr> transMgrProvider;
     private Map<String, String> cachedPropMap;
 
+    // Only used by the root container
+    private volatile PropsSnapshot snapshot;
+
+    // Only used by the root container. Incremented by every modification, odd while there are
+    // uncommitted modifications
+    private volatile long modGeneration;
+
+    // Only used by the root container
+    private PropsChangeListener changeListener;
+
     protected String instanceName;
 
     PropsContainer(
@@ -115,6 +130,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
             rootContainer = this;
             parentContainer = null;
+            containerPath = "";
             cachedPropMap = new HashMap<>();
         }
         else
@@ -128,6 +144,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
             rootContainer = parent.getRoot();
             parentContainer = parent;
+            containerPath = parent.getPath() + key + PATH_SEPARATOR;
             cachedPropMap = null;
         }
         propMap = new TreeMap<>();
@@ -211,12 +228,53 @@ public class PropsContainer extends AbsTransactionObject implements Props
     @Override
     public String getProp(String key, String namespace) throws InvalidKeyException
     {
-        String[] pathElements = splitPath(namespace, key);
-        checkKey(pathElements[PATH_KEY]);
+        String value;
+        PropsSnapshot propsSnapshot = getSnapshot();
+        String fullKey = propsSnapshot == null ? null : getFullKey(key, namespace);
+        if (fullKey != null)
+        {
+            value = propsSnapshot.get(fullKey);
+        }
+        else
+        {
+            String[] pathElements = splitPath(namespace, key);
+            checkKey(pathElements[PATH_KEY]);
 
-        Optional<PropsContainer> con = findNamespace(pathElements[PATH_NAMESPACE]);
+            Optional<PropsContainer> con = findNamespace(pathElements[PATH_NAMESPACE]);
 
-        return con.isPresent() ? con.get().propMap.get(pathElements[PATH_KEY]) : null;
+            value = con.isPresent() ? con.get().propMap.get(pathElements[PATH_KEY]) : null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns all properties of the given namespace and its sub-namespaces. The keys of the returned map
+     * are the full paths of the properties, as with {@link #map()} of the namespace.
+     *
+     * @return An unmodifiable map, empty if the namespace does not exist
+     */
+    @Override
+    public Map<String, String> getNamespaceEntries(String namespace)
+    {
+        Map<String, String> nsEntries;
+        Optional<PropsContainer> con = findNamespace(namespace);
+        if (con.isPresent())
+        {
+            PropsSnapshot propsSnapshot = getSnapshot();
+            if (propsSnapshot != null)
+            {
+                nsEntries = propsSnapshot.getNamespaceEntries(con.get().containerPath);
+            }
+            else
+            {
+                nsEntries = Collections.unmodifiableMap(con.get().map());
+            }
+        }
+        else
+        {
+            nsEntries = Collections.emptyMap();
+        }
+        return nsEntries;
     }
 
     @Override
@@ -260,6 +318,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
         if (!value.equals(oldValue))
         {
             dbPersist(con.getPath() + actualKey, value, oldValue);
+            notifyChange(con.getPath() + actualKey, oldValue, value);
         }
         return oldValue;
     }
@@ -323,6 +382,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                     con.modifySize(-1);
                     con.removeCleanup();
                     dbRemove(con.getPath() + actualKey, value);
+                    notifyChange(con.getPath() + actualKey, value, null);
                 }
             }
         }
@@ -424,6 +484,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                     targetContainer.modifySize(1);
                 }
             }
+            invalidateSnapshot();
         }
         catch (InvalidKeyException invalidKeyExc)
         {
@@ -446,6 +507,12 @@ public class PropsContainer extends AbsTransactionObject implements Props
     @Override
     public void clear() throws DatabaseException
     {
+        Map<String, String> removedEntries = null;
+        if (rootContainer.changeListener != null)
+        {
+            removedEntries = new HashMap<>();
+            collectAllEntries(containerPath, removedEntries, true);
+        }
         containerMap.clear();
         propMap.clear();
         dbRemoveAll();
@@ -455,6 +522,28 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
         removeCleanup();
         itemCount = 0;
+        if (removedEntries != null)
+        {
+            for (Map.Entry<String, String> entry : removedEntries.entrySet())
+            {
+                notifyChange(entry.getKey(), entry.getValue(), null);
+            }
+        }
+    }
+
+    @Override
+    public void setChangeListener(PropsChangeListener changeListenerRef)
+    {
+        rootContainer.changeListener = changeListenerRef;
+    }
+
+    private void notifyChange(String key, String oldValue, String newValue)
+    {
+        PropsChangeListener listener = rootContainer.changeListener;
+        if (listener != null)
+        {
+            listener.propChanged(key, oldValue, newValue);
+        }
     }
 
     /**
@@ -553,7 +642,16 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
     }
 
-    private String sanitizePath(String path, boolean forceRelative) throws InvalidKeyException
+    /**
+     * Returns the given key relative to the root container, without leading, trailing or repeated path
+     * separators, i.e. in the form that is reported to the {@link PropsChangeListener}
+     */
+    public static String normalizeKey(String key) throws InvalidKeyException
+    {
+        return sanitizePath(key, true);
+    }
+
+    private static String sanitizePath(String path, boolean forceRelative) throws InvalidKeyException
     {
         int pathLength = path.length();
         if (pathLength > PATH_MAX_LENGTH)
@@ -694,6 +792,8 @@ public class PropsContainer extends AbsTransactionObject implements Props
      */
     protected Map<String, String> getRawPropMap()
     {
+        // the caller may modify the map
+        invalidateSnapshot();
         return propMap;
     }
 
@@ -740,24 +840,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
     @Override
     public String getPath()
     {
-        StringBuilder pathComponents = getPathComponents();
-        return pathComponents.toString();
-    }
-
-    private StringBuilder getPathComponents()
-    {
-        StringBuilder pathComponents;
-        if (parentContainer == null)
-        {
-            pathComponents = new StringBuilder();
-        }
-        else
-        {
-            pathComponents = parentContainer.getPathComponents();
-            pathComponents.append(containerKey);
-            pathComponents.append(PATH_SEPARATOR);
-        }
-        return pathComponents;
+        return containerPath;
     }
 
     @SuppressWarnings("unused") // for the throw of DatabaseException - which is needed by SerialPropsContainer
@@ -872,9 +955,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
     private void cache(String key, String value)
     {
-        if (!rootContainer.cachedPropMap.containsKey(key))
+        PropsContainer root = rootContainer;
+        if (!root.cachedPropMap.containsKey(key))
+        {
+            root.cachedPropMap.put(key, value);
+        }
+        if (root.modGeneration % 2 == 0)
         {
-            rootContainer.cachedPropMap.put(key, value);
+            root.modGeneration++;
         }
     }
 
@@ -882,6 +970,134 @@ public class PropsContainer extends AbsTransactionObject implements Props
     public void commitImpl()
     {
         rootContainer.cachedPropMap.clear();
+        markCommitted();
+    }
+
+    /**
+     * Invalidates the snapshot, which may have been built while the modifications were made, and marks the
+     * container as having no uncommitted modifications
+     */
+    private void markCommitted()
+    {
+        PropsContainer root = rootContainer;
+        root.snapshot = null;
+        root.modGeneration += root.modGeneration % 2 == 0 ? 2 : 1;
+    }
+
+    /**
+     * Returns the snapshot of the entire hierarchy, or null if the container has uncommitted modifications.
+     * Builds a new snapshot if the previous one was dropped by a modification.
+     *
+     * Containers that are shared by several resources, like those of nodes or storage pools, are read
+     * concurrently by the satellite's parallel resource processing without external synchronization.
+     * Building the snapshot only reads the hierarchy, and is done while holding the root container's
+     * monitor, so concurrent readers build it once and all of them see the completely built snapshot
+     * through the volatile field. Modifications still require external synchronization, see above.
+     *
+     * A modification may run while a reader builds the snapshot. Therefore every snapshot records the
+     * modification generation it was built at, and is only used as long as the generation did not change.
+     * Modifications record themselves (making the generation odd) before they invalidate the snapshot.
+     */
+    private PropsSnapshot getSnapshot()
+    {
+        PropsContainer root = rootContainer;
+        long generation = root.modGeneration;
+        PropsSnapshot propsSnapshot = null;
+        if (generation % 2 == 0)
+        {
+            propsSnapshot = root.snapshot;
+            if (propsSnapshot == null || propsSnapshot.getGeneration() != generation)
+            {
+                synchronized (root)
+                {
+                    propsSnapshot = root.snapshot;
+                    if (propsSnapshot == null || propsSnapshot.getGeneration() != generation)
+                    {
+                        Map<String, String> entries = new HashMap<>();
+                        root.collectAllEntries("", entries, true);
+                        propsSnapshot = new PropsSnapshot(entries, generation);
+                        root.snapshot = propsSnapshot;
+                    }
+                }
+                if (root.modGeneration != generation)
+                {
+                    // modified while the snapshot was built, the snapshot might have missed the modification
+                    propsSnapshot = null;
+                }
+            }
+        }
+        return propsSnapshot;
+    }
+
+    /**
+     * Drops the snapshot. Also called for modifications that are not part of a transaction, e.g. loading
+     */
+    private void invalidateSnapshot()
+    {
+        PropsContainer root = rootContainer;
+        root.snapshot = null;
+        // keeps the parity, i.e. whether there are uncommitted modifications
+        root.modGeneration += 2;
+    }
+
+    /**
+     * Builds the full path of the given key for a lookup in the snapshot.
+     *
+     * @return The full path, or null if the key or namespace are not in their canonical form (no leading,
+     *     trailing or repeated path separators) and must be sanitized first
+     */
+    private String getFullKey(String key, String namespace)
+    {
+        String fullKey = null;
+        if (key != null && isCanonicalPath(key))
+        {
+            String basePath = containerPath;
+            String safePath = null;
+            int safePathLength = 0;
+            if (namespace == null)
+            {
+                safePath = key;
+                safePathLength = key.length();
+            }
+            else
+            {
+                String relNamespace = namespace;
+                if (namespace.startsWith(PATH_SEPARATOR))
+                {
+                    basePath = "";
+                    relNamespace = namespace.substring(1);
+                    // the sanitized path keeps the leading separator
+                    safePathLength = 1;
+                }
+                if (relNamespace.isEmpty())
+                {
+                    safePath = key;
+                }
+                else
+                if (isCanonicalPath(relNamespace))
+                {
+                    safePath = relNamespace + PATH_SEPARATOR + key;
+                }
+                if (safePath != null)
+                {
+                    safePathLength += safePath.length();
+                }
+            }
+            if (safePath != null && safePathLength < PATH_MAX_LENGTH)
+            {
+                fullKey = basePath + safePath;
+            }
+        }
+        return fullKey;
+    }
+
+    private static boolean isCanonicalPath(String path)
+    {
+        int pathLength = path.length();
+        return pathLength > 0 &&
+            path.charAt(0) != '/' &&
+            path.charAt(pathLength - 1) != '/' &&
+            !path.contains("//");
     }
 
     @Override
@@ -929,17 +1145,19 @@ public class PropsContainer extends AbsTransactionObject implements Props
             }
         }
         root.cachedPropMap.clear();
+        markCommitted();
     }
 
     private void dbPersist(String key, String value, String oldValue) throws DatabaseException
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
+        invalidateSnapshot();
         if (dbDriver != null)
         {
             try
             {
-                dbDriver.persist(rootContainer.instanceName, key, value);
+                dbDriver.persist(rootContainer.instanceName, key, value, oldValue == null);
             }
             catch (DatabaseException sqlExc)
             {
@@ -953,6 +1171,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
+        invalidateSnapshot();
         if (dbDriver != null)
         {
             try
@@ -975,6 +1194,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
         {
             cache(entry.getKey(), entry.getValue());
         }
+        invalidateSnapshot();
 
         if (dbDriver != null)
         {
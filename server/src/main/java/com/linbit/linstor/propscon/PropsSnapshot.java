@@ -0,0 +1,61 @@
+package com.linbit.linstor.propscon;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable, flattened copy of all properties of a {@link PropsContainer} hierarchy
+ *
+ * Properties are stored by their full path (e.g. "DrbdOptions/Net/protocol"), so that a lookup is a single
+ * hash map access instead of a walk through the nested containers. The sorted copy of the same entries
+ * serves as a prefix index for iterating all properties of a namespace.
+ */
+class PropsSnapshot
+{
+    private final Map<String, String> entries;
+    private final NavigableMap<String, String> sortedEntries;
+    private final long generation;
+
+    PropsSnapshot(Map<String, String> entriesRef, long generationRef)
+    {
+        generation = generationRef;
+        entries = new HashMap<>(entriesRef);
+        sortedEntries = Collections.unmodifiableNavigableMap(new TreeMap<>(entriesRef));
+    }
+
+    /**
+     * The modification generation of the container hierarchy this snapshot was built from
+     */
+    long getGeneration()
+    {
+        return generation;
+    }
+
+    String get(String fullKey)
+    {
+        return entries.get(fullKey);
+    }
+
+    /**
+     * Returns all properties whose full path starts with the given namespace path.
+     *
+     * @param namespacePath The full path of the namespace including the trailing path separator,
+     *     or an empty string for the root namespace
+     */
+    Map<String, String> getNamespaceEntries(String namespacePath)
+    {
+        Map<String, String> nsEntries;
+        if (namespacePath.isEmpty())
+        {
+            nsEntries = sortedEntries;
+        }
+        else
+        {
+            nsEntries = sortedEntries.subMap(namespacePath, true, namespacePath + Character.MAX_VALUE, false);
+        }
+        return nsEntries;
+    }
+}
@@ -141,6 +141,12 @@ public class ReadOnlyProps implements Props
         denyAccess();
     }
 
+    @Override
+    public void setChangeListener(PropsChangeListener changeListener) throws AccessDeniedException
+    {
+        denyAccess();
+    }
+
     @Override
     public int size()
     {
@@ -214,6 +220,12 @@ public class ReadOnlyProps implements Props
         return propsMap.iterateNamespaces();
     }
 
+    @Override
+    public Map<String, String> getNamespaceEntries(String namespace)
+    {
+        return propsMap.getNamespaceEntries(namespace);
+    }
+
     @Override
     public void setConnection(TransactionMgr transMgr)
     {
@@ -226,6 +238,12 @@ public class ReadOnlyProps implements Props
         return propsMap.isDirty();
     }
 
+    @Override
+    public long getLastChangeId()
+    {
+        return propsMap.getLastChangeId();
+    }
+
     @Override
     public boolean isDirtyWithoutTransMgr()
     {
@@ -44,6 +44,7 @@ import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.slf4j.event.Level;
 import reactor.core.publisher.EmitterProcessor;
@@ -266,9 +267,24 @@ public class CommonMessageProcessor implements MessageProcessor
         Flux<?> flux = Flux.empty();
 
         byte[] msgData = msg.getData();
-        ByteArrayInputStream msgDataIn = new ByteArrayInputStream(msgData);
+        int msgDataLength = msg.getDataLength();
 
-        MsgHeaderOuterClass.MsgHeader header = MsgHeaderOuterClass.MsgHeader.parseDelimitedFrom(msgDataIn);
+        // Parse the header directly from the message buffer; parseDelimitedFrom(InputStream) would
+        // allocate an additional read buffer for every message
+        CodedInputStream headerIn = CodedInputStream.newInstance(msgData, 0, msgDataLength);
+        MsgHeaderOuterClass.MsgHeader header = null;
+        if (!headerIn.isAtEnd())
+        {
+            int headerLimit = headerIn.pushLimit(headerIn.readRawVarint32());
+            header = MsgHeaderOuterClass.MsgHeader.parseFrom(headerIn);
+            headerIn.popLimit(headerLimit);
+        }
+        int headerEnd = headerIn.getTotalBytesRead();
+        ByteArrayInputStream msgDataIn = new ByteArrayInputStream(msgData, headerEnd, msgDataLength - headerEnd);
+
+        // The message's data buffer may be pooled. It is released as soon as the message is processed,
+        // except for answers, whose data is handed over to the caller of the API call.
+        boolean releaseMsg = true;
         if (header != null)
         {
             MsgType msgType = header.getMsgType();
@@ -278,10 +294,13 @@ public class CommonMessageProcessor implements MessageProcessor
                 case ONEWAY:
                     // fall-through
                 case API_CALL:
-                    flux = callApi(connector, peer, header, msgDataIn, msgType == MsgType.API_CALL, peerSeq);
+                    flux = callApi(connector, peer, header, msgDataIn, msgType == MsgType.API_CALL, peerSeq)
+                        .doFinally(ignored -> msg.release());
+                    releaseMsg = false;
                     break;
                 case ANSWER:
                     handleAnswer(peer, header, msgDataIn, peerSeq);
+                    releaseMsg = false;
                     break;
                 case COMPLETE:
                     handleComplete(peer, header, peerSeq);
@@ -299,6 +318,10 @@ public class CommonMessageProcessor implements MessageProcessor
                 "Message didn't contain a header: " + msg.toString() + " from " + peer.getId()
             );
         }
+        if (releaseMsg)
+        {
+            msg.release();
+        }
 
         return flux;
     }
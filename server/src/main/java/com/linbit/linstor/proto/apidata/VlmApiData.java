@@ -80,6 +80,12 @@ public class VlmApiData implements VolumeApi
             Optional.empty();
     }
 
+    @Override
+    public Optional<Long> getAllocatedSizeAge()
+    {
+        return Optional.empty();
+    }
+
     @Override
     public Optional<Long> getUsableSize()
     {
@@ -128,6 +128,8 @@ public class DrbdRscDfnData<RSC extends AbsResource<RSC>>
             port,
             transportType,
             secret,
+            peerSlots,
+            down,
             drbdRscDataList
         );
     }
@@ -6,6 +6,8 @@ import com.linbit.linstor.transaction.manager.TransactionMgr;
 
 import javax.inject.Provider;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Interface for objects that can apply or undo one or multiple
  * previously performed changes.<br>
@@ -20,11 +22,14 @@ public abstract class AbsTransactionObject implements TransactionObject
 {
     private static final boolean DEBUG_MODE = false;
 
+    private static final AtomicLong CHANGE_ID_GEN = new AtomicLong();
+
     private final Provider<? extends TransactionMgr> transMgrProvider;
 
     private TransactionMgr activeTransMgr = null;
     private boolean inCommit = false;
     private boolean inRollback = false;
+    private volatile long lastChangeId = 0;
 
     private StackTraceElement[] dbgActivationStackstrace;
 
@@ -106,6 +111,7 @@ public abstract class AbsTransactionObject implements TransactionObject
             inCommit = true;
             commitImpl();
             inCommit = false;
+            lastChangeId = CHANGE_ID_GEN.incrementAndGet();
         }
         activeTransMgr = null;
     }
@@ -126,6 +132,7 @@ public abstract class AbsTransactionObject implements TransactionObject
             inRollback = true;
             rollbackImpl();
             inRollback = false;
+            lastChangeId = CHANGE_ID_GEN.incrementAndGet();
         }
         if (DEBUG_MODE)
         {
@@ -142,6 +149,12 @@ public abstract class AbsTransactionObject implements TransactionObject
 
     protected abstract void rollbackImpl();
 
+    @Override
+    public long getLastChangeId()
+    {
+        return lastChangeId;
+    }
+
     @Override
     public final boolean hasTransMgr()
     {
@@ -54,6 +54,17 @@ public abstract class BaseTransactionObject extends AbsTransactionObject
         return dirty;
     }
 
+    @Override
+    public long getLastChangeId()
+    {
+        long lastChangeId = super.getLastChangeId();
+        for (TransactionObject transObj : transObjs)
+        {
+            lastChangeId = Math.max(lastChangeId, transObj.getLastChangeId());
+        }
+        return lastChangeId;
+    }
+
     @Override
     public boolean isDirtyWithoutTransMgr()
     {
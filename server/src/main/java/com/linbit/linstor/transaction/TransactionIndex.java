@@ -0,0 +1,197 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Provider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary index of objects by a derived key, e.g. resources by the value of one of their properties
+ *
+ * The index is modified in the same transaction as the indexed objects. Unlike a {@link TransactionMap}, it
+ * may be modified by several transactions at the same time, as long as they modify different objects (e.g.
+ * objects protected by different object locks). Therefore every transaction records its modifications in its
+ * own undo log. Rolling back a transaction only reverts its own modifications, committing it drops its undo log.
+ *
+ * Modifications are visible immediately, so readers have to hold the same locks that exclude the writers of
+ * the indexed objects.
+ *
+ * Thread safe.
+ *
+ * @param <KEY> Type of the derived keys
+ * @param <VALUE> Type of the indexed objects
+ */
+public class TransactionIndex<KEY, VALUE>
+{
+    private final Provider<? extends TransactionMgr> transMgrProvider;
+    private final Map<KEY, Set<VALUE>> index;
+    private final Map<TransactionMgr, UndoLog> undoLogs = new IdentityHashMap<>();
+
+    public TransactionIndex(
+        Map<KEY, ? extends Set<VALUE>> indexRef,
+        Provider<? extends TransactionMgr> transMgrProviderRef
+    )
+    {
+        transMgrProvider = transMgrProviderRef;
+        index = new HashMap<>();
+        for (Map.Entry<KEY, ? extends Set<VALUE>> entry : indexRef.entrySet())
+        {
+            if (!entry.getValue().isEmpty())
+            {
+                index.put(entry.getKey(), new HashSet<>(entry.getValue()));
+            }
+        }
+    }
+
+    public synchronized void add(KEY key, VALUE value)
+    {
+        if (addImpl(key, value))
+        {
+            getUndoLog().record(key, value, true);
+        }
+    }
+
+    public synchronized void remove(KEY key, VALUE value)
+    {
+        if (removeImpl(key, value))
+        {
+            getUndoLog().record(key, value, false);
+        }
+    }
+
+    /**
+     * Returns the objects indexed by the given key
+     */
+    public synchronized Set<VALUE> get(KEY key)
+    {
+        Set<VALUE> values = index.get(key);
+        return values == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    /**
+     * Returns all indexed objects
+     */
+    public synchronized Set<VALUE> values()
+    {
+        Set<VALUE> ret = new HashSet<>();
+        for (Set<VALUE> values : index.values())
+        {
+            ret.addAll(values);
+        }
+        return Collections.unmodifiableSet(ret);
+    }
+
+    private boolean addImpl(KEY key, VALUE value)
+    {
+        return index.computeIfAbsent(key, ignored -> new HashSet<>()).add(value);
+    }
+
+    private boolean removeImpl(KEY key, VALUE value)
+    {
+        boolean removed = false;
+        Set<VALUE> values = index.get(key);
+        if (values != null)
+        {
+            removed = values.remove(value);
+            if (values.isEmpty())
+            {
+                index.remove(key);
+            }
+        }
+        return removed;
+    }
+
+    private UndoLog getUndoLog()
+    {
+        TransactionMgr transMgr = transMgrProvider.get();
+        UndoLog undoLog = undoLogs.get(transMgr);
+        if (undoLog == null)
+        {
+            undoLog = new UndoLog(transMgr);
+            undoLogs.put(transMgr, undoLog);
+        }
+        return undoLog;
+    }
+
+    private class UndoLog extends AbsTransactionObject
+    {
+        private final TransactionMgr transMgr;
+        private final List<Modification> modifications = new ArrayList<>();
+
+        UndoLog(TransactionMgr transMgrRef)
+        {
+            super(() -> transMgrRef);
+            transMgr = transMgrRef;
+            // registers the undo log with the transaction before it records anything
+            activateTransMgr();
+        }
+
+        void record(KEY key, VALUE value, boolean added)
+        {
+            modifications.add(new Modification(key, value, added));
+        }
+
+        @Override
+        protected void commitImpl()
+        {
+            synchronized (TransactionIndex.this)
+            {
+                modifications.clear();
+                undoLogs.remove(transMgr);
+            }
+        }
+
+        @Override
+        protected void rollbackImpl()
+        {
+            synchronized (TransactionIndex.this)
+            {
+                for (int idx = modifications.size() - 1; idx >= 0; --idx)
+                {
+                    Modification modification = modifications.get(idx);
+                    if (modification.added)
+                    {
+                        removeImpl(modification.key, modification.value);
+                    }
+                    else
+                    {
+                        addImpl(modification.key, modification.value);
+                    }
+                }
+                modifications.clear();
+                undoLogs.remove(transMgr);
+            }
+        }
+
+        @Override
+        public boolean isDirty()
+        {
+            synchronized (TransactionIndex.this)
+            {
+                return !modifications.isEmpty();
+            }
+        }
+    }
+
+    private class Modification
+    {
+        private final KEY key;
+        private final VALUE value;
+        private final boolean added;
+
+        Modification(KEY keyRef, VALUE valueRef, boolean addedRef)
+        {
+            key = keyRef;
+            value = valueRef;
+            added = addedRef;
+        }
+    }
+}
@@ -45,4 +45,12 @@ public interface TransactionObject
      */
     void commit();
 
+    /**
+     * Returns the id of the last commit or rollback of changes of this object, including the transaction objects
+     * it consists of. The ids of all transaction objects are taken from the same increasing sequence, so data
+     * derived from this object is still up to date as long as this id did not change.
+     * Changes that are neither committed nor rolled back yet do not change the id.
+     */
+    long getLastChangeId();
+
 }
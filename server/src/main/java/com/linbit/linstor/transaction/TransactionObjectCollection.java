@@ -4,9 +4,13 @@ import com.linbit.ImplementationError;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TransactionObjectCollection
 {
+    // Incremented whenever any transaction commits or rolls back changes, see getChangeGeneration()
+    private static final AtomicLong CHANGE_GENERATION = new AtomicLong();
+
     private Set<TransactionObject> transObjects;
 
     public TransactionObjectCollection()
@@ -28,26 +32,38 @@ public class TransactionObjectCollection
 
     public void commitAll()
     {
+        boolean changed = false;
         for (TransactionObject transObj : transObjects)
         {
             // checking if isDirty to prevent endless indirect recursion
             if (transObj.isDirty())
             {
                 transObj.commit();
+                changed = true;
             }
         }
+        if (changed)
+        {
+            CHANGE_GENERATION.incrementAndGet();
+        }
     }
 
     public void rollbackAll()
     {
+        boolean changed = false;
         for (TransactionObject transObj : transObjects)
         {
             // checking if isDirty to prevent endless indirect recursion
             if (transObj.isDirty())
             {
                 transObj.rollback();
+                changed = true;
             }
         }
+        if (changed)
+        {
+            CHANGE_GENERATION.incrementAndGet();
+        }
     }
 
     public void clearAll()
@@ -79,4 +95,17 @@ public class TransactionObjectCollection
     {
         return transObjects.size();
     }
+
+    /**
+     * Returns a number that changes every time any transaction commits or rolls back modified objects.
+     *
+     * Data derived from transaction objects (e.g. serialized messages) while the generation did not change
+     * is still valid, as long as it was derived while holding the locks that protect the objects.
+     * Rolled back changes also change the generation, because derived data may have included the
+     * uncommitted changes.
+     */
+    public static long getChangeGeneration()
+    {
+        return CHANGE_GENERATION.get();
+    }
 }
@@ -81,6 +81,13 @@ public class TransactionObjectFactory
         return new TransactionList<PARENT, VALUE>(parent, backingList, dbDriver, transMgrProvider);
     }
 
+    public <KEY, VALUE> TransactionIndex<KEY, VALUE> createTransactionIndex(
+        Map<KEY, ? extends Set<VALUE>> indexRef
+    )
+    {
+        return new TransactionIndex<>(indexRef, transMgrProvider);
+    }
+
     public <PARENT, FLAG extends Enum<FLAG> & Flags> StateFlags<FLAG> createStateFlagsImpl(
         ObjectProtection objProt,
         PARENT parentObj,
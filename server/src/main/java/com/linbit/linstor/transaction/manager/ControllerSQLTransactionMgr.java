@@ -1,6 +1,7 @@
 package com.linbit.linstor.transaction.manager;
 
 import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
@@ -12,12 +13,15 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 {
     private final ControllerSQLDatabase controllerDatabase;
     private final Connection dbCon;
+    private final SQLWriteBatch writeBatch;
     private final TransactionObjectCollection transactionObjectCollection;
 
     public ControllerSQLTransactionMgr(ControllerSQLDatabase controllerDatabaseRef) throws SQLException
     {
         controllerDatabase = controllerDatabaseRef;
+        SQLTableDependencies tableDependencies = controllerDatabaseRef.getTableDependencies();
         dbCon = controllerDatabaseRef.getConnection();
+        writeBatch = new SQLWriteBatch(dbCon, tableDependencies);
         transactionObjectCollection = new TransactionObjectCollection();
     }
 
@@ -30,6 +34,15 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public void commit() throws TransactionException
     {
+        try
+        {
+            writeBatch.flush();
+        }
+        catch (SQLException sqlExc)
+        {
+            // the writes of the transaction are only executed now, report them as any other failed write
+            throw new TransactionException("Database commit failed.", new DatabaseException(sqlExc));
+        }
         try
         {
             dbCon.commit();
@@ -52,6 +65,7 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 
         try
         {
+            writeBatch.discard();
             dbCon.rollback();
         }
         catch (SQLException sqlExc)
@@ -86,9 +100,23 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
         return dbCon;
     }
 
+    @Override
+    public SQLWriteBatch getWriteBatch()
+    {
+        return writeBatch;
+    }
+
     @Override
     public void returnConnection()
     {
+        try
+        {
+            writeBatch.discard();
+        }
+        catch (SQLException ignored)
+        {
+            // the connection is returned anyways
+        }
         controllerDatabase.returnConnection(dbCon);
 
         clearTransactionObjects();
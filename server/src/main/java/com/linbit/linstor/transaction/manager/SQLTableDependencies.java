@@ -0,0 +1,137 @@
+package com.linbit.linstor.transaction.manager;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The foreign key relations between the tables of the database schema
+ *
+ * Used by the {@link SQLWriteBatch} to decide whether a write may be executed before writes to another table that
+ * were queued earlier. Table names are compared case insensitively.
+ */
+public class SQLTableDependencies
+{
+    /**
+     * Used if the relations of the tables are not known. Every table is considered to reference every other table,
+     * so no write is ever executed before a write that was queued earlier.
+     */
+    public static final SQLTableDependencies UNKNOWN = new SQLTableDependencies(null);
+
+    // Tables referenced (directly or transitively) by the foreign keys of the key table
+    private final Map<String, Set<String>> referencedTables;
+
+    /**
+     * @param directReferencesRef the tables directly referenced by the foreign keys of each table, or null if
+     *     unknown
+     */
+    public SQLTableDependencies(Map<String, Set<String>> directReferencesRef)
+    {
+        referencedTables = directReferencesRef == null ? null : buildClosure(directReferencesRef);
+    }
+
+    /**
+     * Reads the foreign keys of all tables of the given schema. Databases that store unquoted names in lower case
+     * are supported as well.
+     */
+    public static SQLTableDependencies load(Connection dbCon, String schema) throws SQLException
+    {
+        DatabaseMetaData metaData = dbCon.getMetaData();
+        Map<String, Set<String>> directReferences = loadDirectReferences(metaData, schema);
+        if (directReferences.isEmpty())
+        {
+            directReferences = loadDirectReferences(metaData, schema.toLowerCase());
+        }
+        return new SQLTableDependencies(directReferences);
+    }
+
+    private static Map<String, Set<String>> loadDirectReferences(DatabaseMetaData metaData, String schema)
+        throws SQLException
+    {
+        List<String> tableNames = new ArrayList<>();
+        try (ResultSet tables = metaData.getTables(null, schema, "%", new String[] {"TABLE"}))
+        {
+            while (tables.next())
+            {
+                tableNames.add(tables.getString("TABLE_NAME"));
+            }
+        }
+
+        Map<String, Set<String>> directReferences = new HashMap<>();
+        for (String tableName : tableNames)
+        {
+            Set<String> referenced = new HashSet<>();
+            try (ResultSet importedKeys = metaData.getImportedKeys(null, schema, tableName))
+            {
+                while (importedKeys.next())
+                {
+                    referenced.add(importedKeys.getString("PKTABLE_NAME"));
+                }
+            }
+            directReferences.put(tableName, referenced);
+        }
+        return directReferences;
+    }
+
+    /**
+     * Returns whether the rows of the first table (directly or transitively) reference rows of the second table.
+     * Always true if the relations are unknown.
+     */
+    public boolean references(String table, String referencedTable)
+    {
+        boolean ret;
+        if (referencedTables == null)
+        {
+            ret = true;
+        }
+        else
+        {
+            ret = referencedTables.getOrDefault(table.toUpperCase(), Collections.emptySet())
+                .contains(referencedTable.toUpperCase());
+        }
+        return ret;
+    }
+
+    private static Map<String, Set<String>> buildClosure(Map<String, Set<String>> directReferences)
+    {
+        Map<String, Set<String>> upperDirectReferences = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : directReferences.entrySet())
+        {
+            Set<String> referenced = upperDirectReferences.computeIfAbsent(
+                entry.getKey().toUpperCase(),
+                ignored -> new HashSet<>()
+            );
+            for (String referencedTable : entry.getValue())
+            {
+                referenced.add(referencedTable.toUpperCase());
+            }
+        }
+
+        Map<String, Set<String>> closure = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : upperDirectReferences.entrySet())
+        {
+            Set<String> referenced = new HashSet<>();
+            Deque<String> pending = new ArrayDeque<>(entry.getValue());
+            while (!pending.isEmpty())
+            {
+                String next = pending.pop();
+                if (referenced.add(next))
+                {
+                    pending.addAll(upperDirectReferences.getOrDefault(next, Collections.emptySet()));
+                }
+            }
+            closure.put(entry.getKey(), referenced);
+        }
+        return closure;
+    }
+}
@@ -0,0 +1,296 @@
+package com.linbit.linstor.transaction.manager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the write statements of a transaction into JDBC batches, which are executed when the transaction
+ * is committed
+ *
+ * Writes are grouped by their SQL statement. A write joins the pending batch of the same statement if it can be
+ * executed before all writes that were queued after that batch without changing the result:
+ * <ul>
+ *     <li>writes to the same table are never reordered</li>
+ *     <li>an insert or update is not moved before writes to a table that it references</li>
+ *     <li>a delete is not moved before writes to a table that references its table</li>
+ * </ul>
+ * Otherwise a new batch is queued. The foreign key relations are taken from the {@link SQLTableDependencies}, so
+ * e.g. the resources, their layer data and their properties created in one transaction are sent as one batch per
+ * table instead of one statement per row, while a volume is still inserted after its resource. Updates are
+ * expected not to modify primary key columns.
+ *
+ * Usage:
+ * <pre>
+ * PreparedStatement stmt = batch.prepare(sql);
+ * // set the parameters of stmt
+ * batch.addBatch();
+ * </pre>
+ *
+ * Reads on the connection of the transaction do not see pending writes. Readers that may need to see writes of
+ * the same transaction pass a row key to {@link #addBatch(String)} and check {@link #isPending(String)} before
+ * reading.
+ *
+ * Not thread safe, just like the {@link Connection} of the transaction it belongs to.
+ */
+public class SQLWriteBatch
+{
+    // Execute the pending batches once one of them contains this many entries
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private enum Kind
+    {
+        INSERT, UPDATE, DELETE, OTHER
+    }
+
+    private final Connection dbCon;
+    private final SQLTableDependencies tableDependencies;
+
+    private final List<PendingBatch> pendingList = new ArrayList<>();
+    // The last queued batch of each statement
+    private final Map<String, PendingBatch> pendingBySql = new HashMap<>();
+    private final Set<String> pendingRowKeys = new HashSet<>();
+    private PendingBatch current;
+
+    public SQLWriteBatch(Connection dbConRef, SQLTableDependencies tableDependenciesRef)
+    {
+        dbCon = dbConRef;
+        tableDependencies = tableDependenciesRef;
+    }
+
+    /**
+     * Returns the statement for the given SQL, which belongs either to a pending batch of the same SQL or to a
+     * newly queued batch
+     */
+    public PreparedStatement prepare(String sql) throws SQLException
+    {
+        PendingBatch batch = pendingBySql.get(sql);
+        if (batch == null || !canJoin(batch))
+        {
+            batch = new PendingBatch(sql, dbCon.prepareStatement(sql));
+            pendingList.add(batch);
+            pendingBySql.put(sql, batch);
+        }
+        current = batch;
+        return batch.stmt;
+    }
+
+    /**
+     * Adds the current parameters of the statement returned by the last {@link #prepare(String)} call to its
+     * batch
+     */
+    public void addBatch() throws SQLException
+    {
+        current.stmt.addBatch();
+        ++current.count;
+        if (current.count >= MAX_BATCH_SIZE)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Same as {@link #addBatch()}, but also records that the row with the given key is modified by a pending
+     * write
+     */
+    public void addBatch(String rowKey) throws SQLException
+    {
+        pendingRowKeys.add(rowKey);
+        addBatch();
+    }
+
+    /**
+     * Returns whether a pending write was added using {@link #addBatch(String)} with the given row key
+     */
+    public boolean isPending(String rowKey)
+    {
+        return pendingRowKeys.contains(rowKey);
+    }
+
+    /**
+     * Executes all pending batches in their queued order
+     */
+    public void flush() throws SQLException
+    {
+        boolean executed = false;
+        try
+        {
+            for (PendingBatch batch : pendingList)
+            {
+                if (batch.count > 0)
+                {
+                    batch.count = 0;
+                    batch.stmt.executeBatch();
+                }
+            }
+            executed = true;
+        }
+        finally
+        {
+            SQLException closeExc = clear();
+            if (executed && closeExc != null)
+            {
+                throw closeExc;
+            }
+        }
+    }
+
+    /**
+     * Drops all pending batches without executing them
+     */
+    public void discard() throws SQLException
+    {
+        SQLException closeExc = clear();
+        if (closeExc != null)
+        {
+            throw closeExc;
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        boolean empty = true;
+        for (PendingBatch batch : pendingList)
+        {
+            if (batch.count > 0)
+            {
+                empty = false;
+                break;
+            }
+        }
+        return empty;
+    }
+
+    /**
+     * Returns the number of batches that are executed by the next {@link #flush()}, i.e. the number of round trips
+     */
+    public int getPendingBatchCount()
+    {
+        int batchCount = 0;
+        for (PendingBatch batch : pendingList)
+        {
+            if (batch.count > 0)
+            {
+                ++batchCount;
+            }
+        }
+        return batchCount;
+    }
+
+    /**
+     * Closes all statements and forgets all pending batches. Returns the last exception thrown while closing
+     * the statements, if any.
+     */
+    private SQLException clear()
+    {
+        SQLException closeExc = null;
+        for (PendingBatch batch : pendingList)
+        {
+            try
+            {
+                batch.stmt.close();
+            }
+            catch (SQLException sqlExc)
+            {
+                closeExc = sqlExc;
+            }
+        }
+        pendingList.clear();
+        pendingBySql.clear();
+        pendingRowKeys.clear();
+        current = null;
+        return closeExc;
+    }
+
+    private boolean canJoin(PendingBatch batch)
+    {
+        boolean ret = true;
+        for (int idx = pendingList.size() - 1; ret; --idx)
+        {
+            PendingBatch later = pendingList.get(idx);
+            if (later == batch)
+            {
+                break;
+            }
+            ret = later.count == 0 || canMoveBefore(batch, later);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns whether a write of the first batch may be executed before the writes of the second batch
+     */
+    private boolean canMoveBefore(PendingBatch moved, PendingBatch other)
+    {
+        boolean ret;
+        if (moved.table == null || other.table == null || moved.table.equals(other.table))
+        {
+            ret = false;
+        }
+        else
+        {
+            switch (moved.kind)
+            {
+                case INSERT: // fall-through
+                case UPDATE:
+                    ret = !tableDependencies.references(moved.table, other.table);
+                    break;
+                case DELETE:
+                    ret = !tableDependencies.references(other.table, moved.table);
+                    break;
+                case OTHER: // fall-through
+                default:
+                    ret = false;
+                    break;
+            }
+        }
+        return ret;
+    }
+
+    private static class PendingBatch
+    {
+        private final PreparedStatement stmt;
+        private final Kind kind;
+        private final String table;
+        private int count;
+
+        PendingBatch(String sql, PreparedStatement stmtRef)
+        {
+            stmt = stmtRef;
+
+            // e.g. "INSERT INTO TBL ...", "UPDATE TBL SET ...", "DELETE FROM TBL ..."
+            String[] words = sql.trim().split("\\s+", 4);
+            String keyword = words[0].toUpperCase(Locale.ROOT);
+            String tableWord = null;
+            if (keyword.equals("INSERT") && words.length > 2)
+            {
+                kind = Kind.INSERT;
+                tableWord = words[2];
+            }
+            else
+            if (keyword.equals("UPDATE") && words.length > 1)
+            {
+                kind = Kind.UPDATE;
+                tableWord = words[1];
+            }
+            else
+            if (keyword.equals("DELETE") && words.length > 2)
+            {
+                kind = Kind.DELETE;
+                tableWord = words[2];
+            }
+            else
+            {
+                kind = Kind.OTHER;
+            }
+            table = tableWord == null ? null : tableWord.split("\\(", 2)[0].toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -3,6 +3,12 @@ package com.linbit.linstor.transaction.manager;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
+/**
+ * Transaction manager of the satellite
+ *
+ * The device manager may process resources on multiple threads within the same transaction,
+ * therefore all methods are synchronized.
+ */
 public class SatelliteTransactionMgr implements TransactionMgr
 {
     private final TransactionObjectCollection transactionObjectCollection;
@@ -13,13 +19,13 @@ public class SatelliteTransactionMgr implements TransactionMgr
     }
 
     @Override
-    public void register(TransactionObject transObj)
+    public synchronized void register(TransactionObject transObj)
     {
         transactionObjectCollection.register(transObj);
     }
 
     @Override
-    public void commit()
+    public synchronized void commit()
     {
         transactionObjectCollection.commitAll();
         clearTransactionObjects();
@@ -27,32 +33,32 @@ public class SatelliteTransactionMgr implements TransactionMgr
 
 
     @Override
-    public void rollback()
+    public synchronized void rollback()
     {
         transactionObjectCollection.rollbackAll();
         clearTransactionObjects();
     }
 
     @Override
-    public void clearTransactionObjects()
+    public synchronized void clearTransactionObjects()
     {
         transactionObjectCollection.clearAll();
     }
 
     @Override
-    public boolean isDirty()
+    public synchronized boolean isDirty()
     {
         return transactionObjectCollection.areAnyDirty();
     }
 
     @Override
-    public int sizeObjects()
+    public synchronized int sizeObjects()
     {
         return transactionObjectCollection.sizeObjects();
     }
 
     @Override
-    public void returnConnection()
+    public synchronized void returnConnection()
     {
         clearTransactionObjects();
     }
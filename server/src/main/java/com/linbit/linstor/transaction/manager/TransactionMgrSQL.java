@@ -4,5 +4,14 @@ import java.sql.Connection;
 
 public interface TransactionMgrSQL extends TransactionMgr
 {
+    /**
+     * Returns the connection of this transaction. Only used for reads, writes are queued in the
+     * {@link #getWriteBatch() write batch}. Reads do not see writes that are still pending in the write batch.
+     */
     Connection getConnection();
+
+    /**
+     * Returns the write batch of this transaction. Pending writes are executed when the transaction is committed.
+     */
+    SQLWriteBatch getWriteBatch();
 }
@@ -0,0 +1,482 @@
+package com.linbit.locks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-write lock for a map of objects that also allows locking individual objects of the map
+ *
+ * The {@link #readLock()} and {@link #writeLock()} lock the entire map, just like a {@link ReentrantReadWriteLock}
+ * does, so existing users of the map lock keep their semantics.
+ *
+ * Users that only work on a few objects of the map take an intention lock on the map first and then lock
+ * the objects they access:
+ * <pre>
+ * intentionReadLock()  + objectReadLock(key)
+ * intentionWriteLock() + objectWriteLock(key) and/or objectReadLock(key)
+ * </pre>
+ * Two intention write locks are compatible, so writers of different objects of the same map run concurrently,
+ * while a reader of the entire map still waits for all of them. Compatibility of the map level modes:
+ * <pre>
+ *                 intention read | intention write | read | write
+ * intention read        Y        |        Y        |  Y   |   N
+ * intention write       Y        |        Y        |  N   |   N
+ * read                  Y        |        N        |  Y   |   N
+ * write                 N        |        N        |  N   |   N
+ * </pre>
+ *
+ * All modes are reentrant. A thread that holds the map's write lock may additionally acquire any other mode.
+ * A thread that does not hold the lock in any mode yet waits while a thread is waiting for the write lock,
+ * so that a steady stream of intention locks cannot starve a writer of the entire map.
+ *
+ * To avoid deadlocks, the map lock must be acquired before any of its object locks and object locks must be
+ * acquired in the order of their keys. The {@link LockGuardFactory} takes care of that.
+ */
+public class HierarchicalReadWriteLock implements ReadWriteLock
+{
+    private static final int MODE_INTENTION_READ = 0;
+    private static final int MODE_INTENTION_WRITE = 1;
+    private static final int MODE_READ = 2;
+    private static final int MODE_WRITE = 3;
+    private static final int MODE_COUNT = 4;
+
+    private final Lock intentionReadLock = new MapLock(MODE_INTENTION_READ);
+    private final Lock intentionWriteLock = new MapLock(MODE_INTENTION_WRITE);
+    private final Lock readLock = new MapLock(MODE_READ);
+    private final Lock writeLock = new MapLock(MODE_WRITE);
+
+    // Number of holds of each mode by all threads, guarded by this
+    private final int[] holdCounts = new int[MODE_COUNT];
+    private final ThreadLocal<int[]> threadHoldCounts = ThreadLocal.withInitial(() -> new int[MODE_COUNT]);
+    private int waitingWriters = 0;
+    private int waitingThreads = 0;
+
+    // Locks of the individual objects; an entry only exists while the object lock is used
+    private final Map<String, ObjectLockEntry> objectLocks = new HashMap<>();
+
+    /**
+     * Returns the lock for reading the entire map
+     */
+    @Override
+    public Lock readLock()
+    {
+        return readLock;
+    }
+
+    /**
+     * Returns the lock for modifying the entire map, including adding or removing objects
+     */
+    @Override
+    public Lock writeLock()
+    {
+        return writeLock;
+    }
+
+    /**
+     * Returns the map level lock that must be held while holding only read locks of objects
+     */
+    public Lock intentionReadLock()
+    {
+        return intentionReadLock;
+    }
+
+    /**
+     * Returns the map level lock that must be held while holding write locks of objects
+     */
+    public Lock intentionWriteLock()
+    {
+        return intentionWriteLock;
+    }
+
+    /**
+     * Returns the read lock of the object with the specified key
+     */
+    public Lock objectReadLock(String key)
+    {
+        return new ObjectLock(key, false);
+    }
+
+    /**
+     * Returns the write lock of the object with the specified key
+     */
+    public Lock objectWriteLock(String key)
+    {
+        return new ObjectLock(key, true);
+    }
+
+    public synchronized boolean isWriteLocked()
+    {
+        return holdCounts[MODE_WRITE] > 0;
+    }
+
+    public synchronized int getReadLockCount()
+    {
+        return holdCounts[MODE_READ];
+    }
+
+    public synchronized int getIntentionLockCount()
+    {
+        return holdCounts[MODE_INTENTION_READ] + holdCounts[MODE_INTENTION_WRITE];
+    }
+
+    public synchronized boolean hasQueuedThreads()
+    {
+        return waitingThreads > 0;
+    }
+
+    public int getObjectLockCount()
+    {
+        synchronized (objectLocks)
+        {
+            return objectLocks.size();
+        }
+    }
+
+    private boolean canAcquire(int mode, int[] ownCounts, boolean barge)
+    {
+        boolean ownsAny = false;
+        for (int ownCount : ownCounts)
+        {
+            ownsAny |= ownCount > 0;
+        }
+
+        boolean result;
+        if (ownCounts[MODE_WRITE] > 0)
+        {
+            result = true;
+        }
+        else
+        if (!ownsAny && !barge && mode != MODE_WRITE && waitingWriters > 0)
+        {
+            result = false;
+        }
+        else
+        {
+            boolean otherIntentionRead = holdCounts[MODE_INTENTION_READ] > ownCounts[MODE_INTENTION_READ];
+            boolean otherIntentionWrite = holdCounts[MODE_INTENTION_WRITE] > ownCounts[MODE_INTENTION_WRITE];
+            boolean otherRead = holdCounts[MODE_READ] > ownCounts[MODE_READ];
+            boolean otherWrite = holdCounts[MODE_WRITE] > 0;
+            switch (mode)
+            {
+                case MODE_INTENTION_READ:
+                    result = !otherWrite;
+                    break;
+                case MODE_INTENTION_WRITE:
+                    result = !otherWrite && !otherRead;
+                    break;
+                case MODE_READ:
+                    result = !otherWrite && !otherIntentionWrite;
+                    break;
+                default:
+                    result = !otherWrite && !otherRead && !otherIntentionRead && !otherIntentionWrite;
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private synchronized boolean acquire(int mode, boolean interruptible, long timeoutNanos, boolean barge)
+        throws InterruptedException
+    {
+        int[] ownCounts = threadHoldCounts.get();
+        boolean acquired = canAcquire(mode, ownCounts, barge);
+        if (!acquired && timeoutNanos != 0)
+        {
+            final long deadline = System.nanoTime() + timeoutNanos;
+            boolean interrupted = false;
+            ++waitingThreads;
+            if (mode == MODE_WRITE)
+            {
+                ++waitingWriters;
+            }
+            try
+            {
+                while (!acquired)
+                {
+                    try
+                    {
+                        if (timeoutNanos < 0)
+                        {
+                            wait();
+                        }
+                        else
+                        {
+                            long remainingNanos = deadline - System.nanoTime();
+                            if (remainingNanos <= 0)
+                            {
+                                break;
+                            }
+                            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                        }
+                    }
+                    catch (InterruptedException intrExc)
+                    {
+                        if (interruptible)
+                        {
+                            throw intrExc;
+                        }
+                        interrupted = true;
+                    }
+                    acquired = canAcquire(mode, ownCounts, barge);
+                }
+            }
+            finally
+            {
+                --waitingThreads;
+                if (mode == MODE_WRITE)
+                {
+                    --waitingWriters;
+                    // Readers that were waiting for this writer may be able to proceed now
+                    notifyAll();
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (acquired)
+        {
+            ++ownCounts[mode];
+            ++holdCounts[mode];
+        }
+        return acquired;
+    }
+
+    private synchronized void release(int mode)
+    {
+        int[] ownCounts = threadHoldCounts.get();
+        if (ownCounts[mode] <= 0)
+        {
+            throw new IllegalMonitorStateException("The current thread does not hold the lock");
+        }
+        --ownCounts[mode];
+        --holdCounts[mode];
+        notifyAll();
+    }
+
+    private ObjectLockEntry referenceObjectLock(String key)
+    {
+        synchronized (objectLocks)
+        {
+            ObjectLockEntry entry = objectLocks.get(key);
+            if (entry == null)
+            {
+                entry = new ObjectLockEntry();
+                objectLocks.put(key, entry);
+            }
+            ++entry.refCount;
+            return entry;
+        }
+    }
+
+    private void dereferenceObjectLock(String key, ObjectLockEntry entry)
+    {
+        synchronized (objectLocks)
+        {
+            --entry.refCount;
+            if (entry.refCount == 0)
+            {
+                objectLocks.remove(key);
+            }
+        }
+    }
+
+    private class MapLock implements Lock
+    {
+        private final int mode;
+
+        MapLock(int modeRef)
+        {
+            mode = modeRef;
+        }
+
+        @Override
+        public void lock()
+        {
+            try
+            {
+                acquire(mode, false, -1, false);
+            }
+            catch (InterruptedException ignored)
+            {
+                // not thrown if not interruptible
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException
+        {
+            if (Thread.interrupted())
+            {
+                throw new InterruptedException();
+            }
+            acquire(mode, true, -1, false);
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            boolean acquired = false;
+            try
+            {
+                acquired = acquire(mode, false, 0, true);
+            }
+            catch (InterruptedException ignored)
+            {
+                // not thrown if not interruptible
+            }
+            return acquired;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            if (Thread.interrupted())
+            {
+                throw new InterruptedException();
+            }
+            return acquire(mode, true, Math.max(unit.toNanos(time), 0), false);
+        }
+
+        @Override
+        public void unlock()
+        {
+            release(mode);
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class ObjectLockEntry
+    {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+        // Number of threads holding or waiting for this lock, guarded by objectLocks
+        private int refCount = 0;
+    }
+
+    private class ObjectLock implements Lock
+    {
+        private final String key;
+        private final boolean write;
+
+        ObjectLock(String keyRef, boolean writeRef)
+        {
+            key = keyRef;
+            write = writeRef;
+        }
+
+        private Lock getLock(ObjectLockEntry entry)
+        {
+            return write ? entry.lock.writeLock() : entry.lock.readLock();
+        }
+
+        @Override
+        public void lock()
+        {
+            ObjectLockEntry entry = referenceObjectLock(key);
+            boolean acquired = false;
+            try
+            {
+                getLock(entry).lock();
+                acquired = true;
+            }
+            finally
+            {
+                if (!acquired)
+                {
+                    dereferenceObjectLock(key, entry);
+                }
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException
+        {
+            ObjectLockEntry entry = referenceObjectLock(key);
+            boolean acquired = false;
+            try
+            {
+                getLock(entry).lockInterruptibly();
+                acquired = true;
+            }
+            finally
+            {
+                if (!acquired)
+                {
+                    dereferenceObjectLock(key, entry);
+                }
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            ObjectLockEntry entry = referenceObjectLock(key);
+            boolean acquired = false;
+            try
+            {
+                acquired = getLock(entry).tryLock();
+            }
+            finally
+            {
+                if (!acquired)
+                {
+                    dereferenceObjectLock(key, entry);
+                }
+            }
+            return acquired;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            ObjectLockEntry entry = referenceObjectLock(key);
+            boolean acquired = false;
+            try
+            {
+                acquired = getLock(entry).tryLock(time, unit);
+            }
+            finally
+            {
+                if (!acquired)
+                {
+                    dereferenceObjectLock(key, entry);
+                }
+            }
+            return acquired;
+        }
+
+        @Override
+        public void unlock()
+        {
+            ObjectLockEntry entry;
+            synchronized (objectLocks)
+            {
+                entry = objectLocks.get(key);
+            }
+            if (entry == null)
+            {
+                throw new IllegalMonitorStateException("The current thread does not hold the lock");
+            }
+            getLock(entry).unlock();
+            dereferenceObjectLock(key, entry);
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.linbit.locks;
 
+import com.linbit.ImplementationError;
+import com.linbit.linstor.metrics.LatencyHistogram;
+
+import java.util.Arrays;
 import java.util.concurrent.locks.Lock;
 
 public class LockGuard implements AutoCloseable
@@ -10,6 +14,13 @@ public class LockGuard implements AutoCloseable
 
     private final Lock[] lockBundle;
 
+    // Optional wait and hold time histograms per lock. Consecutive locks with the same histograms form a group
+    // (e.g. the intention lock of a map and the locks of its objects) that is measured as a whole.
+    private final LatencyHistogram[] waitTimes;
+    private final LatencyHistogram[] holdTimes;
+    // Time at which each group was acquired, at the index of the group's first lock; 0 if not acquired
+    private final long[] groupAcquiredNanos;
+
     /**
      * Constructs a new LockGuard instance
      *
@@ -28,7 +39,44 @@ public class LockGuard implements AutoCloseable
      */
     LockGuard(final boolean deferred, final Lock... locksRef)
     {
+        this(deferred, locksRef, null, null);
+    }
+
+    /**
+     * Constructs a new LockGuard instance that records the time spent waiting for and holding the locks
+     *
+     * The wait time of a group of consecutive locks with the same histogram is the time needed to acquire all
+     * locks of the group, its hold time lasts from acquiring the last lock of the group until releasing the
+     * first one.
+     *
+     * @param deferred control flag for the immediate or deferred acquisition of the specified locks
+     * @param locksRef array of locks to be managed by the new LockGuard instance
+     * @param waitTimesRef wait time histogram of each lock, or {@code null}
+     * @param holdTimesRef hold time histogram of each lock, or {@code null}; requires waitTimesRef, as the
+     *     groups are determined by the wait time histograms
+     */
+    LockGuard(
+        final boolean deferred,
+        final Lock[] locksRef,
+        final LatencyHistogram[] waitTimesRef,
+        final LatencyHistogram[] holdTimesRef
+    )
+    {
+        if (holdTimesRef != null && waitTimesRef == null)
+        {
+            throw new ImplementationError("Hold times of locks can only be recorded together with their wait times");
+        }
+        if (
+            (waitTimesRef != null && waitTimesRef.length != locksRef.length) ||
+            (holdTimesRef != null && holdTimesRef.length != locksRef.length)
+        )
+        {
+            throw new ImplementationError("A wait and hold time histogram is required for every lock");
+        }
         lockBundle = locksRef;
+        waitTimes = waitTimesRef;
+        holdTimes = holdTimesRef;
+        groupAcquiredNanos = waitTimesRef == null ? null : new long[locksRef.length];
         if (!deferred)
         {
             lock();
@@ -47,10 +95,20 @@ public class LockGuard implements AutoCloseable
         int idx = 0;
         try
         {
+            int groupStartIdx = 0;
+            long groupStartNanos = waitTimes == null ? 0 : System.nanoTime();
             while (idx < lockBundle.length)
             {
                 lockBundle[idx].lock();
                 ++idx;
+                if (waitTimes != null && isGroupEnd(idx - 1))
+                {
+                    long now = System.nanoTime();
+                    waitTimes[groupStartIdx].record(now - groupStartNanos);
+                    groupAcquiredNanos[groupStartIdx] = now;
+                    groupStartIdx = idx;
+                    groupStartNanos = now;
+                }
             }
         }
         catch (RuntimeException exc)
@@ -77,6 +135,11 @@ public class LockGuard implements AutoCloseable
                 }
                 --idx;
             }
+            // Groups that were acquired before the failure were not held by the caller
+            if (groupAcquiredNanos != null)
+            {
+                Arrays.fill(groupAcquiredNanos, 0);
+            }
             // Rethrow the exception that caused the lock() call to fail
             throw exc;
         }
@@ -110,6 +173,14 @@ public class LockGuard implements AutoCloseable
                 try
                 {
                     lockBundle[idx].unlock();
+                    if (groupAcquiredNanos != null && isGroupStart(idx) && groupAcquiredNanos[idx] != 0)
+                    {
+                        if (holdTimes != null)
+                        {
+                            holdTimes[idx].recordSince(groupAcquiredNanos[idx]);
+                        }
+                        groupAcquiredNanos[idx] = 0;
+                    }
                 }
                 catch (RuntimeException rtExc)
                 {
@@ -129,6 +200,16 @@ public class LockGuard implements AutoCloseable
         }
     }
 
+    private boolean isGroupStart(int idx)
+    {
+        return idx == 0 || waitTimes[idx - 1] != waitTimes[idx];
+    }
+
+    private boolean isGroupEnd(int idx)
+    {
+        return idx == lockBundle.length - 1 || waitTimes[idx + 1] != waitTimes[idx];
+    }
+
     /**
      * Constructs and returns a new LockGuard instance and acquires the specified locks immediately
      *
@@ -2,11 +2,19 @@ package com.linbit.locks;
 
 import com.linbit.ImplementationError;
 import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.metrics.LatencyHistogram;
+import com.linbit.linstor.metrics.LinstorMetrics;
+
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -25,6 +33,33 @@ public class LockGuardFactory
 
         LockGuardBuilder lock(LockObj lockId, LockType lockType);
 
+        /**
+         * Locks only the named objects of the map instead of the entire map
+         *
+         * The map itself is locked with an intention lock, so that other API calls may lock different objects
+         * of the same map concurrently. Names are compared case-insensitively, just like {@link com.linbit.GenericName}s.
+         * If the entire map is locked as well, the object locks are not needed and are ignored.
+         */
+        LockGuardBuilder lockObject(LockObj mapLockId, String objName, LockType lockType);
+
+        default LockGuardBuilder readObject(LockObj mapLockId, String... objNames)
+        {
+            for (String objName : objNames)
+            {
+                lockObject(mapLockId, objName, LockType.READ);
+            }
+            return this;
+        }
+
+        default LockGuardBuilder writeObject(LockObj mapLockId, String... objNames)
+        {
+            for (String objName : objNames)
+            {
+                lockObject(mapLockId, objName, LockType.WRITE);
+            }
+            return this;
+        }
+
         LockGuard build();
 
         default LockGuard buildDeferred()
@@ -42,7 +77,8 @@ public class LockGuardFactory
         RSC_DFN_MAP(3),
         STOR_POOL_DFN_MAP(4),
         KVS_MAP(5),
-        RSC_GRP_MAP(6);
+        RSC_GRP_MAP(6),
+        FREE_SPACE_MGR_MAP(7);
 
         public final int lockIdx;
 
@@ -65,6 +101,8 @@ public class LockGuardFactory
     private final ReadWriteLock reconfigurationLock;
     private final ReadWriteLock kvsMapLock;
     private final ReadWriteLock rscGrpMapLock;
+    private final ReadWriteLock freeSpaceMgrMapLock;
+    private final LinstorMetrics metrics;
 
     @Inject
     public LockGuardFactory(
@@ -74,7 +112,9 @@ public class LockGuardFactory
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         @Named(CoreModule.CTRL_CONF_LOCK) ReadWriteLock ctrlConfigLockRef,
         @Named(CoreModule.KVS_MAP_LOCK) ReadWriteLock kvsMapLockRef,
-        @Named(CoreModule.RSC_GROUP_MAP_LOCK) ReadWriteLock rscGrpMapLockRef
+        @Named(CoreModule.RSC_GROUP_MAP_LOCK) ReadWriteLock rscGrpMapLockRef,
+        @Named(CoreModule.FREE_SPACE_MGR_MAP_LOCK) ReadWriteLock freeSpaceMgrMapLockRef,
+        LinstorMetrics metricsRef
     )
     {
         reconfigurationLock = reconfigurationLockRef;
@@ -84,6 +124,8 @@ public class LockGuardFactory
         ctrlConfigLock = ctrlConfigLockRef;
         kvsMapLock = kvsMapLockRef;
         rscGrpMapLock = rscGrpMapLockRef;
+        freeSpaceMgrMapLock = freeSpaceMgrMapLockRef;
+        metrics = metricsRef;
     }
 
     public LockGuardBuilder create()
@@ -151,21 +193,34 @@ public class LockGuardFactory
             case RSC_GRP_MAP:
                 lock = rscGrpMapLock;
                 break;
+            case FREE_SPACE_MGR_MAP:
+                lock = freeSpaceMgrMapLock;
+                break;
             default:
                 throw new ImplementationError("Unknown lock identifier " + lockId.name());
         }
         return lock;
     }
 
+    private static final Comparator<LockObj> LOCK_OBJ_ORDER =
+        (lock1st, lock2nd) -> Integer.compare(lock1st.lockIdx, lock2nd.lockIdx);
+
+    private static LockType combine(LockType type1st, LockType type2nd)
+    {
+        return type1st == LockType.WRITE || type2nd == LockType.WRITE ? LockType.WRITE : LockType.READ;
+    }
+
     private class LockGuardBuilderImpl implements LockGuardBuilder
     {
         private final TreeMap<LockObj, LockType> locks;
+        private final TreeMap<LockObj, TreeMap<String, LockType>> objLocks;
 
         private boolean defer = false;
 
         private LockGuardBuilderImpl()
         {
-            locks = new TreeMap<>((lock1st, lock2nd) -> Integer.compare(lock1st.lockIdx, lock2nd.lockIdx));
+            locks = new TreeMap<>(LOCK_OBJ_ORDER);
+            objLocks = new TreeMap<>(LOCK_OBJ_ORDER);
         }
 
         private LockGuardBuilderImpl(boolean deferRef)
@@ -208,6 +263,14 @@ public class LockGuardFactory
             return this;
         }
 
+        @Override
+        public LockGuardBuilder lockObject(LockObj mapLockId, String objName, LockType type)
+        {
+            objLocks.computeIfAbsent(mapLockId, ignored -> new TreeMap<>())
+                .merge(objName.toUpperCase(), type, LockGuardFactory::combine);
+            return this;
+        }
+
         @Override
         public LockGuard buildDeferred()
         {
@@ -215,31 +278,76 @@ public class LockGuardFactory
             return build();
         }
 
+        /**
+         * Builds the LockGuard. The locks are acquired in the order of the {@link LockObj}s; the object locks of
+         * a map are acquired directly after the map's intention lock, in the order of the objects' names.
+         */
         @Override
         public LockGuard build()
         {
-            if (!locks.isEmpty() && !locks.containsKey(LockObj.RECONFIGURATION))
+            if ((!locks.isEmpty() || !objLocks.isEmpty()) && !locks.containsKey(LockObj.RECONFIGURATION))
             {
                 locks.put(LockObj.RECONFIGURATION, LockType.READ);
             }
 
-            Lock[] lockArr = new Lock[locks.size()];
-            int lockIdx = 0;
-            for (Entry<LockObj, LockType> entry : locks.entrySet())
+            TreeSet<LockObj> lockIds = new TreeSet<>(LOCK_OBJ_ORDER);
+            lockIds.addAll(locks.keySet());
+            lockIds.addAll(objLocks.keySet());
+
+            List<Lock> lockList = new ArrayList<>();
+            List<LockObj> lockObjList = new ArrayList<>();
+            for (LockObj lockId : lockIds)
             {
-                Lock lock;
-                if (entry.getValue() == LockType.READ)
+                ReadWriteLock rwLock = lockObjToLock(lockId);
+                LockType mapLockType = locks.get(lockId);
+                Map<String, LockType> objLockMap = objLocks.get(lockId);
+                if (mapLockType != null)
                 {
-                    lock = lockObjToLock(entry.getKey()).readLock();
+                    // the entire map is locked, which includes all of its objects
+                    lockList.add(mapLockType == LockType.READ ? rwLock.readLock() : rwLock.writeLock());
                 }
                 else
                 {
-                    lock = lockObjToLock(entry.getKey()).writeLock();
+                    LockType intentionType = objLockMap.values().stream()
+                        .reduce(LockType.READ, LockGuardFactory::combine);
+                    if (rwLock instanceof HierarchicalReadWriteLock)
+                    {
+                        HierarchicalReadWriteLock hierLock = (HierarchicalReadWriteLock) rwLock;
+                        lockList.add(
+                            intentionType == LockType.READ ?
+                                hierLock.intentionReadLock() :
+                                hierLock.intentionWriteLock()
+                        );
+                        for (Entry<String, LockType> objEntry : objLockMap.entrySet())
+                        {
+                            lockList.add(
+                                objEntry.getValue() == LockType.READ ?
+                                    hierLock.objectReadLock(objEntry.getKey()) :
+                                    hierLock.objectWriteLock(objEntry.getKey())
+                            );
+                        }
+                    }
+                    else
+                    {
+                        // this map does not support object locks, lock the entire map instead
+                        lockList.add(intentionType == LockType.READ ? rwLock.readLock() : rwLock.writeLock());
+                    }
+                }
+                while (lockObjList.size() < lockList.size())
+                {
+                    lockObjList.add(lockId);
                 }
-                lockArr[lockIdx] = lock;
-                ++lockIdx;
             }
-            return new LockGuard(defer, lockArr);
+
+            int lockCount = lockList.size();
+            LatencyHistogram[] waitTimes = new LatencyHistogram[lockCount];
+            LatencyHistogram[] holdTimes = new LatencyHistogram[lockCount];
+            for (int idx = 0; idx < lockCount; ++idx)
+            {
+                waitTimes[idx] = metrics.getLockWaitTime(lockObjList.get(idx));
+                holdTimes[idx] = metrics.getLockHoldTime(lockObjList.get(idx));
+            }
+            return new LockGuard(defer, lockList.toArray(new Lock[lockCount]), waitTimes, holdTimes);
         }
     }
 }
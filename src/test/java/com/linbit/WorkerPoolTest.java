@@ -1,5 +1,6 @@
 package com.linbit;
 
+import com.linbit.WorkerPoolInitializer.WorkerPoolType;
 import com.linbit.linstor.LinStorException;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -9,6 +10,7 @@ import com.linbit.linstor.security.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -19,6 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.event.Level;
@@ -179,6 +182,144 @@ public class WorkerPoolTest
         Assert.assertEquals("Unexpected exception id received", ((TestException) cause).id, exceptionId);
     }
 
+    @Test
+    public void testStats() throws InterruptedException, ExecutionException, TimeoutException
+    {
+        pool = new WorkerPoolBuilder().build();
+
+        final int taskCount = DEFAULT_QUEUE_SIZE * 2;
+        for (int idx = 0; idx < taskCount; idx++)
+        {
+            pool.submit(() -> { });
+        }
+
+        waitUntilPoolFinishes();
+
+        WorkQueueStats stats = pool.getStats();
+        Assert.assertEquals("Unexpected submitted count", taskCount, stats.getSubmittedCount());
+        Assert.assertEquals("Unexpected finished count", taskCount, stats.getFinishedCount());
+        Assert.assertEquals("Unexpected queue depth", 0, stats.getQueueDepth());
+        Assert.assertEquals("Unexpected active count", 0, stats.getActiveCount());
+    }
+
+    @Test
+    public void testWorkStealingSubmit() throws InterruptedException, ExecutionException, TimeoutException
+    {
+        WorkStealingWorkerPool wsPool = WorkStealingWorkerPool.initialize(
+            DEFAULT_THREAD_COUNT,
+            DEFAULT_QUEUE_SIZE,
+            DEFAULT_THREAD_PREFIX + "_ws",
+            DEFAULT_ERROR_REPORTER,
+            null
+        );
+        try
+        {
+            final AtomicInteger finishedTasks = new AtomicInteger(0);
+            final int taskCount = DEFAULT_QUEUE_SIZE * 10;
+            for (int idx = 0; idx < taskCount; idx++)
+            {
+                wsPool.submit(finishedTasks::incrementAndGet);
+            }
+
+            exec(wsPool::finish, 15_000);
+
+            Assert.assertEquals("Not all tasks were executed", taskCount, finishedTasks.get());
+            Assert.assertEquals("Unexpected finished count", taskCount, wsPool.getStats().getFinishedCount());
+        }
+        finally
+        {
+            wsPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorkStealingRejectedNotCounted()
+    {
+        WorkStealingWorkerPool wsPool = WorkStealingWorkerPool.initialize(
+            DEFAULT_THREAD_COUNT,
+            DEFAULT_QUEUE_SIZE,
+            DEFAULT_THREAD_PREFIX + "_ws_rejected",
+            DEFAULT_ERROR_REPORTER,
+            null
+        );
+        wsPool.shutdown();
+        wsPool.submit(() -> { });
+
+        Assert.assertEquals("Rejected task was counted", 0, wsPool.getStats().getSubmittedCount());
+        Assert.assertEquals("Rejected task was counted", 0, wsPool.getStats().getQueueDepth());
+    }
+
+    @Test
+    public void testVirtualThreadSubmit() throws InterruptedException, ExecutionException, TimeoutException
+    {
+        Assume.assumeTrue("Virtual threads are not supported", VirtualThreadWorkerPool.isSupported());
+
+        VirtualThreadWorkerPool vtPool = VirtualThreadWorkerPool.initialize(
+            DEFAULT_THREAD_COUNT,
+            DEFAULT_ERROR_REPORTER,
+            null
+        );
+        try
+        {
+            final AtomicInteger finishedTasks = new AtomicInteger(0);
+            final int taskCount = DEFAULT_QUEUE_SIZE * 10;
+            for (int idx = 0; idx < taskCount; idx++)
+            {
+                vtPool.submit(finishedTasks::incrementAndGet);
+            }
+
+            exec(vtPool::finish, 15_000);
+
+            Assert.assertEquals("Not all tasks were executed", taskCount, finishedTasks.get());
+            WorkQueueStats stats = vtPool.getStats();
+            Assert.assertEquals("Unexpected submitted count", taskCount, stats.getSubmittedCount());
+            Assert.assertEquals("Unexpected finished count", taskCount, stats.getFinishedCount());
+        }
+        finally
+        {
+            vtPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadFinishAfterShutdown()
+        throws InterruptedException, ExecutionException, TimeoutException
+    {
+        Assume.assumeTrue("Virtual threads are not supported", VirtualThreadWorkerPool.isSupported());
+
+        VirtualThreadWorkerPool vtPool = VirtualThreadWorkerPool.initialize(
+            DEFAULT_THREAD_COUNT,
+            DEFAULT_ERROR_REPORTER,
+            null
+        );
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        vtPool.submit(
+            () ->
+            {
+                try
+                {
+                    blockLatch.await();
+                }
+                catch (InterruptedException ignored)
+                {
+                }
+            }
+        );
+        vtPool.shutdown();
+
+        // must return although the task may not have finished yet
+        exec(vtPool::finish, 15_000);
+        blockLatch.countDown();
+    }
+
+    @Test
+    public void testParsePoolType()
+    {
+        Assert.assertEquals(WorkerPoolType.DEFAULT, WorkerPoolType.parse("default"));
+        Assert.assertEquals(WorkerPoolType.WORK_STEALING, WorkerPoolType.parse(" work-stealing "));
+        Assert.assertEquals(WorkerPoolType.VIRTUAL_THREADS, WorkerPoolType.parse("Virtual_Threads"));
+    }
+
     private int getPrefixedThreadCount(String threadPrefix)
     {
         Set<Thread> threads = Thread.getAllStackTraces().keySet();
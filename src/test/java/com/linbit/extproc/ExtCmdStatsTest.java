@@ -0,0 +1,89 @@
+package com.linbit.extproc;
+
+import com.linbit.linstor.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ExtCmdStatsTest
+{
+    @Test
+    public void testRecord()
+    {
+        ExtCmdStats stats = new ExtCmdStats();
+        stats.record(new String[] {"lvs", "-o", "lv_name"}, 0, false);
+        stats.record(new String[] {"/sbin/lvs"}, TimeUnit.MILLISECONDS.toNanos(3), false);
+        stats.record(new String[] {"lvs"}, TimeUnit.SECONDS.toNanos(60), true);
+        stats.record(new String[] {"drbdadm", "adjust", "rsc1"}, TimeUnit.MILLISECONDS.toNanos(100), false);
+
+        Map<String, LatencyHistogram> histograms = stats.getHistograms();
+        assertEquals(2, histograms.size());
+
+        LatencyHistogram lvs = histograms.get("lvs");
+        assertEquals(3, lvs.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(60003), lvs.getDurationSumNanos());
+        assertEquals(TimeUnit.SECONDS.toNanos(60), lvs.getDurationMaxNanos());
+        long[] expected = new long[LatencyHistogram.BUCKET_BOUNDS_NANOS.length + 1];
+        expected[0] = 1;
+        expected[5] = 1; // up to 5ms
+        expected[expected.length - 1] = 1;
+        assertArrayEquals(expected, lvs.getBucketCounts());
+
+        LatencyHistogram drbdadm = histograms.get("drbdadm adjust");
+        assertEquals(1, drbdadm.getBucketCounts()[9]); // up to 100ms
+
+        Map<String, Long> failureCounts = stats.getFailureCounts();
+        assertEquals(2, failureCounts.size());
+        assertEquals(Long.valueOf(1), failureCounts.get("lvs"));
+        assertEquals(Long.valueOf(0), failureCounts.get("drbdadm adjust"));
+    }
+
+    @Test
+    public void testCommandName()
+    {
+        assertEquals("lvcreate", ExtCmdStats.getCommandName(new String[] {"lvcreate", "--size", "1k", "vg"}));
+        assertEquals("drbdadm adjust", ExtCmdStats.getCommandName(new String[] {"drbdadm", "-vvv", "adjust", "r"}));
+        assertEquals("zfs create", ExtCmdStats.getCommandName(new String[] {"/sbin/zfs", "create", "pool/vol"}));
+        assertEquals("drbdsetup", ExtCmdStats.getCommandName(new String[] {"drbdsetup", "--version"}));
+        assertEquals("", ExtCmdStats.getCommandName(new String[0]));
+    }
+
+    @Test
+    public void testCommandNameIgnoresInstanceArguments()
+    {
+        // minor numbers and node ids of drbdmeta
+        assertEquals(
+            "drbdmeta",
+            ExtCmdStats.getCommandName(new String[] {"drbdmeta", "1000", "v09", "/dev/vg/lv", "internal", "get-gi"})
+        );
+        assertEquals(
+            "drbdmeta",
+            ExtCmdStats.getCommandName(
+                new String[] {"drbdmeta", "--force", "--node-id", "0", "1000", "v09", "/dev/vg/lv", "internal",
+                    "set-gi", "0:0:0:0:0:0"}
+            )
+        );
+        // the temporary resource file of a configuration test is an option value
+        assertEquals(
+            "drbdadm sh-nop",
+            ExtCmdStats.getCommandName(
+                new String[] {"drbdadm", "--config-to-test", "/var/lib/linstor.d/rsc1.res_tmp",
+                    "--config-to-exclude", "/var/lib/linstor.d/rsc1.res", "sh-nop"}
+            )
+        );
+        assertEquals(
+            "drbdsetup wait-connect-resource",
+            ExtCmdStats.getCommandName(
+                new String[] {"drbdsetup", "wait-connect-resource", "--wait-after-sb=yes", "--wfc-timeout=10", "r"}
+            )
+        );
+        assertEquals("drbdsetup events2", ExtCmdStats.getCommandName(new String[] {"drbdsetup", "events2", "all"}));
+        // unknown subcommands are not used as label
+        assertEquals("zfs", ExtCmdStats.getCommandName(new String[] {"zfs", "pool/vol"}));
+    }
+}
@@ -0,0 +1,197 @@
+package com.linbit.linstor.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.core.ApiTestBase;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlSnapshotCrtApiCallHandler;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.SnapshotName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.core.objects.SnapshotDefinition;
+import com.linbit.linstor.layer.LayerPayload;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.PeerNotConnectedException;
+import com.linbit.linstor.security.GenericDbBase;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscDfnObject.TransportType;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+
+import javax.inject.Inject;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import junitparams.JUnitParamsRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+
+@RunWith(JUnitParamsRunner.class)
+public class SnapshotCrtApiTest extends ApiTestBase
+{
+    private static final String SNAPSHOT_NAME = "TestSnap";
+
+    @Inject private CtrlSnapshotCrtApiCallHandler snapshotCrtApiCallHandler;
+
+    @Mock
+    protected Peer mockSatellite1;
+
+    @Mock
+    protected Peer mockSatellite2;
+
+    private final NodeName testSatellite1Name;
+    private final NodeName testSatellite2Name;
+    private final ResourceName testRsc1Name;
+    private final ResourceName testRsc2Name;
+    private final SnapshotName testSnapshotName;
+
+    private ResourceDefinition testRscDfn1;
+    private ResourceDefinition testRscDfn2;
+
+    public SnapshotCrtApiTest() throws Exception
+    {
+        super();
+        testSatellite1Name = new NodeName("TestSatellite1");
+        testSatellite2Name = new NodeName("TestSatellite2");
+        testRsc1Name = new ResourceName("TestRsc1");
+        testRsc2Name = new ResourceName("TestRsc2");
+        testSnapshotName = new SnapshotName(SNAPSHOT_NAME);
+    }
+
+    @Before
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        Node testSatellite1 = createSatellite(testSatellite1Name, mockSatellite1);
+        Node testSatellite2 = createSatellite(testSatellite2Name, mockSatellite2);
+
+        ResourceGroup rscGrp = createDefaultResourceGroup(BOB_ACC_CTX);
+        testRscDfn1 = createRscDfn(testRsc1Name, rscGrp, testSatellite1);
+        testRscDfn2 = createRscDfn(testRsc2Name, rscGrp, testSatellite2);
+        commitAndCleanUp(true);
+
+        Mockito.when(mockPeer.getAccessContext()).thenReturn(BOB_ACC_CTX);
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception
+    {
+        commitAndCleanUp(false);
+    }
+
+    @Test
+    public void createSnapshotsSuccess() throws Exception
+    {
+        ApiCallRc rc = createSnapshots();
+
+        assertFalse(rc.hasErrors());
+        assertTrue(isSet(testRscDfn1, SnapshotDefinition.Flags.SUCCESSFUL));
+        assertTrue(isSet(testRscDfn2, SnapshotDefinition.Flags.SUCCESSFUL));
+        assertEquals(1, testRscDfn1.getSnapshotDfn(SYS_CTX, testSnapshotName).getAllSnapshots(SYS_CTX).size());
+        assertEquals(1, testRscDfn2.getSnapshotDfn(SYS_CTX, testSnapshotName).getAllSnapshots(SYS_CTX).size());
+    }
+
+    @Test
+    public void createSnapshotsNothingCreatedIfOneFails() throws Exception
+    {
+        Mockito.when(mockSatellite2.isConnected()).thenReturn(false);
+
+        ApiCallRc rc = createSnapshots();
+
+        assertTrue(hasReturnCode(rc, ApiConsts.FAIL_NOT_CONNECTED));
+        // the snapshot of the first resource definition is rolled back together with the failed one
+        assertNull(testRscDfn1.getSnapshotDfn(SYS_CTX, testSnapshotName));
+        assertNull(testRscDfn2.getSnapshotDfn(SYS_CTX, testSnapshotName));
+        Mockito.verify(mockSatellite1, Mockito.never()).apiCall(anyString(), any());
+    }
+
+    @Test
+    public void createSnapshotsAbortAllIfOneFails() throws Exception
+    {
+        Mockito.when(mockSatellite2.apiCall(eq(InternalApiConsts.API_CHANGED_IN_PROGRESS_SNAPSHOT), any()))
+            .thenReturn(Flux.error(new PeerNotConnectedException()));
+
+        ApiCallRc rc = createSnapshots();
+
+        assertTrue(hasReturnCode(rc, ApiConsts.FAIL_NOT_CONNECTED));
+        assertTrue(isSet(testRscDfn1, SnapshotDefinition.Flags.FAILED_DISCONNECT));
+        assertTrue(isSet(testRscDfn2, SnapshotDefinition.Flags.FAILED_DISCONNECT));
+        assertFalse(isSet(testRscDfn1, SnapshotDefinition.Flags.SUCCESSFUL));
+        assertFalse(isSet(testRscDfn2, SnapshotDefinition.Flags.SUCCESSFUL));
+    }
+
+    private Node createSatellite(NodeName nodeName, Peer peer) throws Exception
+    {
+        Mockito.when(peer.isConnected()).thenReturn(true);
+        Mockito.when(peer.getConnectionStatus()).thenReturn(ApiConsts.ConnectionStatus.ONLINE);
+        Mockito.when(peer.apiCall(anyString(), any())).thenReturn(Flux.empty());
+
+        Node node = nodeFactory.create(ApiTestBase.BOB_ACC_CTX, nodeName, Node.Type.SATELLITE, null);
+        node.setPeer(GenericDbBase.SYS_CTX, peer);
+        nodesMap.put(nodeName, node);
+        return node;
+    }
+
+    private ResourceDefinition createRscDfn(ResourceName rscName, ResourceGroup rscGrp, Node node)
+        throws Exception
+    {
+        List<DeviceLayerKind> layerStack = Collections.singletonList(DeviceLayerKind.STORAGE);
+        ResourceDefinition rscDfn = resourceDefinitionFactory.create(
+            ApiTestBase.BOB_ACC_CTX,
+            rscName,
+            null,
+            null,
+            null,
+            "notTellingYou",
+            TransportType.IP,
+            layerStack,
+            null,
+            rscGrp
+        );
+        rscDfnMap.put(rscName, rscDfn);
+        resourceFactory.create(ApiTestBase.BOB_ACC_CTX, rscDfn, node, new LayerPayload(), null, layerStack);
+        return rscDfn;
+    }
+
+    private ApiCallRc createSnapshots()
+    {
+        Map<String, List<String>> nodeNamesByRsc = new LinkedHashMap<>();
+        nodeNamesByRsc.put(testRsc1Name.displayValue, Collections.emptyList());
+        nodeNamesByRsc.put(testRsc2Name.displayValue, Collections.emptyList());
+
+        ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+        snapshotCrtApiCallHandler.createSnapshots(nodeNamesByRsc, SNAPSHOT_NAME)
+            .subscriberContext(subscriberContext()).toStream().forEach(apiCallRc::addEntries);
+        return apiCallRc;
+    }
+
+    private boolean isSet(ResourceDefinition rscDfn, SnapshotDefinition.Flags flag) throws Exception
+    {
+        SnapshotDefinition snapshotDfn = rscDfn.getSnapshotDfn(SYS_CTX, testSnapshotName);
+        assertNotNull(snapshotDfn);
+        return snapshotDfn.getFlags().isSet(SYS_CTX, flag);
+    }
+
+    private static boolean hasReturnCode(ApiCallRc rc, long returnCode)
+    {
+        return rc.getEntries().stream().anyMatch(entry -> entry.getReturnCode() == returnCode);
+    }
+}
@@ -0,0 +1,282 @@
+package com.linbit.linstor.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import com.linbit.linstor.core.ApiTestBase;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apis.ResourceApi;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.layer.LayerPayload;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.security.GenericDbBase;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscDfnObject.TransportType;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import javax.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+
+/**
+ * Tests the paging of the volume list. All tests list the following resources, ordered by resource name
+ * and node name:
+ *
+ * <pre>
+ * RscA / Node1
+ * RscA / Node2
+ * RscB / Node1
+ * RscB / Node2
+ * RscC / Node1
+ * </pre>
+ */
+public class VlmListApiTest extends ApiTestBase
+{
+    private static final long VLM_SIZE = 1024 * 1024;
+
+    @Inject private CtrlVlmListApiCallHandler vlmListApiCallHandler;
+
+    @Mock
+    protected Peer mockSatellite1;
+
+    @Mock
+    protected Peer mockSatellite2;
+
+    private final NodeName node1Name;
+    private final NodeName node2Name;
+    private final ResourceName rscAName;
+    private final ResourceName rscBName;
+    private final ResourceName rscCName;
+    private final StorPoolName storPoolName;
+
+    private final Map<NodeName, StorPool> storPools = new HashMap<>();
+
+    public VlmListApiTest() throws Exception
+    {
+        super();
+        node1Name = new NodeName("Node1");
+        node2Name = new NodeName("Node2");
+        rscAName = new ResourceName("RscA");
+        rscBName = new ResourceName("RscB");
+        rscCName = new ResourceName("RscC");
+        storPoolName = new StorPoolName("TestPool");
+    }
+
+    @Before
+    @Override
+    public void setUp() throws Exception
+    {
+        super.setUp();
+        StorPoolDefinition storPoolDfn = storPoolDefinitionFactory.create(BOB_ACC_CTX, storPoolName);
+        Node node1 = createSatellite(node1Name, mockSatellite1, storPoolDfn);
+        Node node2 = createSatellite(node2Name, mockSatellite2, storPoolDfn);
+
+        ResourceGroup rscGrp = createDefaultResourceGroup(BOB_ACC_CTX);
+        // created in reverse order to make sure the list does not depend on the order of creation
+        createRscDfn(rscCName, rscGrp, node1);
+        createRscDfn(rscBName, rscGrp, node2, node1);
+        createRscDfn(rscAName, rscGrp, node1, node2);
+        commitAndCleanUp(true);
+
+        Mockito.when(mockPeer.getAccessContext()).thenReturn(BOB_ACC_CTX);
+        enterScope();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception
+    {
+        commitAndCleanUp(false);
+    }
+
+    @Test
+    public void listAll() throws Exception
+    {
+        assertEquals(
+            Arrays.asList("RscA/Node1", "RscA/Node2", "RscB/Node1", "RscB/Node2", "RscC/Node1"),
+            list(0, 0, null, null)
+        );
+    }
+
+    @Test
+    public void pagesSplitResourceDefinition() throws Exception
+    {
+        // the resources of RscB are spread across the page boundary
+        assertEquals(Arrays.asList("RscA/Node1", "RscA/Node2", "RscB/Node1"), list(3, 0, null, null));
+        assertEquals(Arrays.asList("RscB/Node2", "RscC/Node1"), list(3, 3, null, null));
+    }
+
+    @Test
+    public void pageEndsAtResourceDefinition() throws Exception
+    {
+        assertEquals(Arrays.asList("RscA/Node1", "RscA/Node2"), list(2, 0, null, null));
+        assertEquals(Arrays.asList("RscB/Node1", "RscB/Node2"), list(2, 2, null, null));
+        assertEquals(Arrays.asList("RscC/Node1"), list(2, 4, null, null));
+    }
+
+    @Test
+    public void offsetPastEnd() throws Exception
+    {
+        assertEquals(Collections.emptyList(), list(2, 5, null, null));
+        assertEquals(Collections.emptyList(), list(2, 10, null, null));
+    }
+
+    @Test
+    public void offsetIgnoredWithoutLimit() throws Exception
+    {
+        assertEquals(5, list(0, 3, null, null).size());
+    }
+
+    @Test
+    public void cursorContinuesAfterLastEntry() throws Exception
+    {
+        // last entry of the first page is RscB/Node1
+        assertEquals(Arrays.asList("RscB/Node2", "RscC/Node1"), list(3, 0, rscBName, node1Name));
+        // last entry of the previous page is the last entry of RscA
+        assertEquals(Arrays.asList("RscB/Node1", "RscB/Node2"), list(2, 0, rscAName, node2Name));
+    }
+
+    @Test
+    public void cursorWithoutNodeSkipsWholeResourceDefinition() throws Exception
+    {
+        assertEquals(Arrays.asList("RscB/Node1", "RscB/Node2", "RscC/Node1"), list(0, 0, rscAName, null));
+    }
+
+    @Test
+    public void cursorAtEnd() throws Exception
+    {
+        assertEquals(Collections.emptyList(), list(3, 0, rscCName, node1Name));
+    }
+
+    @Test
+    public void cursorOfDeletedResource() throws Exception
+    {
+        ResourceDefinition rscDfnB = rscDfnMap.get(rscBName);
+        rscDfnB.getResource(GenericDbBase.SYS_CTX, node1Name).delete(GenericDbBase.SYS_CTX);
+        transMgrProvider.get().commit();
+
+        // the cursor still points between the remaining resources
+        assertEquals(Arrays.asList("RscB/Node2", "RscC/Node1"), list(3, 0, rscBName, node1Name));
+
+        rscDfnB.delete(GenericDbBase.SYS_CTX);
+        rscDfnMap.remove(rscBName);
+        transMgrProvider.get().commit();
+
+        assertEquals(Arrays.asList("RscC/Node1"), list(3, 0, rscBName, node1Name));
+        assertEquals(Arrays.asList("RscC/Node1"), list(3, 0, rscBName, null));
+    }
+
+    private List<String> list(int limit, int offset, ResourceName cursorRsc, NodeName cursorNode)
+    {
+        ResourceList rscList = vlmListApiCallHandler.assembleList(
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptyList(),
+            Collections.emptyMap(),
+            limit,
+            offset,
+            cursorRsc,
+            cursorNode
+        ).blockFirst();
+
+        List<String> names = new ArrayList<>();
+        for (ResourceApi rscApi : rscList.getResources())
+        {
+            names.add(rscApi.getName() + "/" + rscApi.getNodeName());
+        }
+        return names;
+    }
+
+    private Node createSatellite(NodeName nodeName, Peer peer, StorPoolDefinition storPoolDfn) throws Exception
+    {
+        Mockito.when(peer.isConnected()).thenReturn(true);
+        Mockito.when(peer.getConnectionStatus()).thenReturn(ApiConsts.ConnectionStatus.ONLINE);
+        Mockito.when(peer.apiCall(anyString(), any())).thenReturn(Flux.empty());
+
+        Node node = nodeFactory.create(ApiTestBase.BOB_ACC_CTX, nodeName, Node.Type.SATELLITE, null);
+        node.setPeer(GenericDbBase.SYS_CTX, peer);
+        nodesMap.put(nodeName, node);
+
+        storPools.put(
+            nodeName,
+            storPoolFactory.create(
+                ApiTestBase.BOB_ACC_CTX,
+                node,
+                storPoolDfn,
+                DeviceProviderKind.LVM,
+                getFreeSpaceMgr(storPoolDfn, node)
+            )
+        );
+        return node;
+    }
+
+    private void createRscDfn(ResourceName rscName, ResourceGroup rscGrp, Node... nodes)
+        throws Exception
+    {
+        List<DeviceLayerKind> layerStack = Collections.singletonList(DeviceLayerKind.STORAGE);
+        ResourceDefinition rscDfn = resourceDefinitionFactory.create(
+            ApiTestBase.BOB_ACC_CTX,
+            rscName,
+            null,
+            null,
+            null,
+            "notTellingYou",
+            TransportType.IP,
+            layerStack,
+            null,
+            rscGrp
+        );
+        rscDfnMap.put(rscName, rscDfn);
+        VolumeDefinition vlmDfn = volumeDefinitionFactory.create(
+            ApiTestBase.BOB_ACC_CTX,
+            rscDfn,
+            new VolumeNumber(0),
+            null,
+            VLM_SIZE,
+            null
+        );
+        for (Node node : nodes)
+        {
+            Resource rsc = resourceFactory.create(
+                ApiTestBase.BOB_ACC_CTX,
+                rscDfn,
+                node,
+                new LayerPayload(),
+                null,
+                layerStack
+            );
+            volumeFactory.create(
+                ApiTestBase.BOB_ACC_CTX,
+                rsc,
+                vlmDfn,
+                null,
+                Collections.singletonMap("", storPools.get(node.getName()))
+            );
+        }
+    }
+}
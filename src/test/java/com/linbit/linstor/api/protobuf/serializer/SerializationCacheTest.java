@@ -0,0 +1,74 @@
+package com.linbit.linstor.api.protobuf.serializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SerializationCacheTest
+{
+    private Map<String, Long> versions;
+    private AtomicInteger serializeCount;
+    private SerializationCache<String, String> cache;
+
+    @Before
+    public void setUp()
+    {
+        versions = new HashMap<>();
+        serializeCount = new AtomicInteger();
+        cache = new SerializationCache<>(obj -> versions.getOrDefault(obj, 0L));
+    }
+
+    private String serialize(String obj)
+    {
+        serializeCount.incrementAndGet();
+        return obj + "-" + versions.getOrDefault(obj, 0L);
+    }
+
+    @Test
+    public void testSameVersionIsCached() throws Exception
+    {
+        assertEquals("a-0", cache.get("a", this::serialize));
+        assertEquals("a-0", cache.get("a", this::serialize));
+        assertEquals("b-0", cache.get("b", this::serialize));
+        assertEquals(2, serializeCount.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testNewVersionInvalidatesOnlyItsObject() throws Exception
+    {
+        cache.get("a", this::serialize);
+        cache.get("b", this::serialize);
+
+        versions.put("a", 7L);
+        assertEquals("a-7", cache.get("a", this::serialize));
+        assertEquals("b-0", cache.get("b", this::serialize));
+        assertEquals(3, serializeCount.get());
+
+        assertEquals("a-7", cache.get("a", this::serialize));
+        assertEquals(3, serializeCount.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testUncommittedIsNotCached() throws Exception
+    {
+        cache.get("a", this::serialize);
+
+        // an uncommitted change neither uses nor replaces the cached entry
+        versions.put("a", SerializationCache.UNCOMMITTED);
+        assertEquals("a--1", cache.get("a", this::serialize));
+        assertEquals("a--1", cache.get("a", this::serialize));
+        assertEquals(3, serializeCount.get());
+
+        // rolled back
+        versions.put("a", 0L);
+        assertEquals("a-0", cache.get("a", this::serialize));
+        assertEquals(3, serializeCount.get());
+    }
+}
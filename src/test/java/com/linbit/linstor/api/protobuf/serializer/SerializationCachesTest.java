@@ -0,0 +1,83 @@
+package com.linbit.linstor.api.protobuf.serializer;
+
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.proto.common.RscDfnOuterClass;
+import com.linbit.linstor.security.GenericDbBase;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscDfnObject.TransportType;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class SerializationCachesTest extends GenericDbBase
+{
+    private static final String DRBD_OPT_KEY = "DrbdOptions/Net/max-buffers";
+
+    private ResourceGroup rscGrp;
+    private ResourceDefinition rscDfn;
+    private ProtoCtrlStltSerializerBuilder.SerializationCaches caches;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        super.setUpAndEnterScope();
+
+        rscGrp = createDefaultResourceGroup(SYS_CTX);
+        rscDfn = resourceDefinitionFactory.create(
+            SYS_CTX,
+            new ResourceName("TestRscName"),
+            null,
+            9001,
+            null,
+            "secret",
+            TransportType.IP,
+            Arrays.asList(DeviceLayerKind.DRBD, DeviceLayerKind.STORAGE),
+            null,
+            rscGrp
+        );
+        commit();
+
+        caches = new ProtoCtrlStltSerializerBuilder.SerializationCaches(SYS_CTX);
+    }
+
+    private RscDfnOuterClass.RscDfn serialize() throws Exception
+    {
+        return caches.rscDfns.get(
+            rscDfn,
+            obj -> ProtoCommonSerializerBuilder.serializeResourceDefinition(SYS_CTX, obj)
+        );
+    }
+
+    @Test
+    public void testResourceGroupPropChangeInvalidates() throws Exception
+    {
+        RscDfnOuterClass.RscDfn before = serialize();
+        assertSame(before, serialize());
+        assertFalse(before.getRscGrp().getRscDfnPropsMap().containsKey(DRBD_OPT_KEY));
+
+        rscGrp.getProps(SYS_CTX).setProp(DRBD_OPT_KEY, "8000");
+        commit();
+
+        RscDfnOuterClass.RscDfn after = serialize();
+        assertEquals("8000", after.getRscGrp().getRscDfnPropsMap().get(DRBD_OPT_KEY));
+    }
+
+    @Test
+    public void testUncommittedResourceGroupPropChange() throws Exception
+    {
+        serialize();
+
+        rscGrp.getProps(SYS_CTX).setProp(DRBD_OPT_KEY, "8000");
+
+        // the modifying transaction must see its own change
+        assertEquals("8000", serialize().getRscGrp().getRscDfnPropsMap().get(DRBD_OPT_KEY));
+    }
+}
@@ -0,0 +1,69 @@
+package com.linbit.linstor.api.rest.v1;
+
+import static org.junit.Assert.assertEquals;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class ViewTest
+{
+    private CtrlVlmListApiCallHandler vlmListApiCallHandler;
+    private AsyncResponse asyncResponse;
+    private View view;
+
+    @Before
+    public void setUp()
+    {
+        vlmListApiCallHandler = Mockito.mock(CtrlVlmListApiCallHandler.class);
+        asyncResponse = Mockito.mock(AsyncResponse.class);
+        view = new View(
+            Mockito.mock(RequestHelper.class),
+            Mockito.mock(CtrlApiCallHandler.class),
+            vlmListApiCallHandler,
+            Mockito.mock(CtrlStorPoolListApiCallHandler.class)
+        );
+    }
+
+    @Test
+    public void cursorNodeWithoutCursorResourceRejected() throws Exception
+    {
+        view.viewResources(
+            null,
+            asyncResponse,
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            10,
+            0,
+            null,
+            "Node1"
+        );
+
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(responseCaptor.capture());
+        Response response = responseCaptor.getValue();
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+
+        JsonNode rcList = new ObjectMapper().readTree((String) response.getEntity());
+        assertEquals(1, rcList.size());
+        assertEquals(ApiConsts.API_CALL_PARSE_ERROR, rcList.get(0).get("ret_code").asLong());
+
+        // the list must not be assembled, as ignoring the node cursor would return the first page again
+        Mockito.verifyZeroInteractions(vlmListApiCallHandler);
+    }
+}
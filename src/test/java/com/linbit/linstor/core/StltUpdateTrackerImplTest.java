@@ -0,0 +1,175 @@
+package com.linbit.linstor.core;
+
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateBundle;
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateNotification;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StltUpdateTrackerImplTest
+{
+    private StltUpdateTrackerImpl tracker;
+    private UpdateMonitorImpl updateMonitor;
+    private long fullSyncId;
+
+    private NodeName nodeName;
+    private ResourceName rscName1;
+    private ResourceName rscName2;
+    private Resource.ResourceKey rscKey1;
+    private Resource.ResourceKey rscKey2;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        tracker = new StltUpdateTrackerImpl(new Object(), Schedulers.immediate());
+        updateMonitor = new UpdateMonitorImpl(
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock()
+        );
+        fullSyncId = updateMonitor.getNextFullSyncId();
+        updateMonitor.setFullSyncApplied();
+
+        nodeName = new NodeName("node1");
+        rscName1 = new ResourceName("rsc1");
+        rscName2 = new ResourceName("rsc2");
+        rscKey1 = new Resource.ResourceKey(nodeName, rscName1);
+        rscKey2 = new Resource.ResourceKey(nodeName, rscName2);
+    }
+
+    @Test
+    public void pushedAndAppliedUpdateIsNotRequested()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        applyUpdates(1);
+
+        UpdateBundle updates = collect();
+        Map<Resource.ResourceKey, UpdateNotification> applied = removeApplied(updates);
+
+        assertTrue(applied.containsKey(rscKey1));
+        assertTrue(updates.rscUpdates.isEmpty());
+    }
+
+    @Test
+    public void pushedButNotYetAppliedUpdateIsRequested()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+
+        UpdateBundle updates = collect();
+        Map<Resource.ResourceKey, UpdateNotification> applied = removeApplied(updates);
+
+        assertTrue(applied.isEmpty());
+        assertTrue(updates.rscUpdates.containsKey(rscKey1));
+    }
+
+    @Test
+    public void updateIdGapRequestsLaterPushedUpdates()
+    {
+        // update 1 was not received, so the satellite still awaits it while update 2 is pushed
+        applyUpdates(1);
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        tracker.updatePushedResource(UUID.randomUUID(), rscName2, nodeName, fullSyncId, 2);
+
+        UpdateBundle updates = collect();
+        Map<Resource.ResourceKey, UpdateNotification> applied = removeApplied(updates);
+
+        assertTrue(applied.containsKey(rscKey1));
+        assertFalse(applied.containsKey(rscKey2));
+        assertTrue(updates.rscUpdates.containsKey(rscKey2));
+        assertEquals(1, updates.rscUpdates.size());
+    }
+
+    @Test
+    public void latestPushedUpdateMustBeApplied()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 1);
+        applyUpdates(1);
+
+        UpdateNotification notification = collect().rscUpdates.get(rscKey1);
+
+        assertFalse(notification.isPushedDataApplied(fullSyncId, updateMonitor.getCurrentAwaitedUpdateId()));
+        applyUpdates(1);
+        assertTrue(notification.isPushedDataApplied(fullSyncId, updateMonitor.getCurrentAwaitedUpdateId()));
+    }
+
+    @Test
+    public void outOfOrderPushKeepsLatestUpdateId()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 1);
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        applyUpdates(1);
+
+        UpdateNotification notification = collect().rscUpdates.get(rscKey1);
+
+        assertFalse(notification.isPushedDataApplied(fullSyncId, updateMonitor.getCurrentAwaitedUpdateId()));
+    }
+
+    @Test
+    public void regularNotificationRequiresRequest()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        tracker.updateResource(UUID.randomUUID(), rscName1, nodeName);
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 1);
+        applyUpdates(2);
+
+        UpdateBundle updates = collect();
+        Map<Resource.ResourceKey, UpdateNotification> applied = removeApplied(updates);
+
+        assertTrue(applied.isEmpty());
+        assertTrue(updates.rscUpdates.containsKey(rscKey1));
+    }
+
+    @Test
+    public void fullSyncIdMismatchRequiresRequest()
+    {
+        tracker.updatePushedResource(UUID.randomUUID(), rscName1, nodeName, fullSyncId, 0);
+        applyUpdates(1);
+        UpdateBundle updates = collect();
+
+        // a new full sync was started after the update was pushed
+        fullSyncId = updateMonitor.getNextFullSyncId();
+        applyUpdates(1);
+        Map<Resource.ResourceKey, UpdateNotification> applied = removeApplied(updates);
+
+        assertTrue(applied.isEmpty());
+        assertTrue(updates.rscUpdates.containsKey(rscKey1));
+    }
+
+    private void applyUpdates(int count)
+    {
+        for (int idx = 0; idx < count; ++idx)
+        {
+            updateMonitor.awaitedUpdateApplied();
+        }
+    }
+
+    private UpdateBundle collect()
+    {
+        UpdateBundle updates = new UpdateBundle();
+        tracker.collectUpdateNotifications(updates, new AtomicBoolean(), new AtomicBoolean(), false);
+        return updates;
+    }
+
+    private Map<Resource.ResourceKey, UpdateNotification> removeApplied(UpdateBundle updates)
+    {
+        return updates.removeAppliedPushedRscUpdates(
+            updateMonitor.getCurrentFullSyncId(),
+            updateMonitor.getCurrentAwaitedUpdateId()
+        );
+    }
+}
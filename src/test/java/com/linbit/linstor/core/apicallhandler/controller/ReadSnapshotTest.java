@@ -0,0 +1,84 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.security.TestAccessContextProvider;
+import com.linbit.locks.LockGuard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ReadSnapshotTest
+{
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger assembleCount = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ReadSnapshot<Integer> snapshot;
+
+    @Before
+    public void setUp()
+    {
+        snapshot = new ReadSnapshot<>(generation::get);
+    }
+
+    @Test
+    public void testPublishedUntilChanged()
+    {
+        assertEquals(Integer.valueOf(1), get());
+        assertEquals(Integer.valueOf(1), get());
+        assertEquals(1, assembleCount.get());
+
+        generation.incrementAndGet();
+        assertEquals(Integer.valueOf(2), get());
+        assertEquals(Integer.valueOf(2), get());
+        assertEquals(2, assembleCount.get());
+    }
+
+    @Test
+    public void testPublishedPerAccessContext()
+    {
+        assertEquals(Integer.valueOf(1), get());
+        assertEquals(
+            Integer.valueOf(2),
+            snapshot.get(TestAccessContextProvider.ALICE_ACC_CTX, this::lock, this::assemble)
+        );
+        assertEquals(Integer.valueOf(1), get());
+        assertEquals(2, assembleCount.get());
+    }
+
+    @Test
+    public void testAssembledWhileLocked()
+    {
+        snapshot.get(
+            TestAccessContextProvider.PUBLIC_CTX,
+            this::lock,
+            () ->
+            {
+                assertEquals(1, lock.getHoldCount());
+                return assemble();
+            }
+        );
+        assertFalse(lock.isLocked());
+    }
+
+    private Integer get()
+    {
+        return snapshot.get(TestAccessContextProvider.PUBLIC_CTX, this::lock, this::assemble);
+    }
+
+    private LockGuard lock()
+    {
+        return LockGuard.createLocked(lock);
+    }
+
+    private Integer assemble()
+    {
+        return assembleCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,214 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.dbdrivers.SatellitePropDriver;
+import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.propscon.PropsContainerFactory;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.TestAccessContextProvider;
+import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResourcePropIndexTest
+{
+    private static final AccessContext API_CTX = TestAccessContextProvider.SYS_CTX;
+    private static final String SITE_KEY = "Aux/site";
+
+    private TransactionMgr transMgr;
+    private PropsContainerFactory propsContainerFactory;
+
+    private ResourceDefinitionRepository rscDfnRepo;
+    private final List<Resource> rscDfn2Resources = new ArrayList<>();
+    private Resource rscA;
+    private Resource rscB;
+    private Resource rscC;
+
+    private ResourcePropIndex index;
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        transMgr = new SatelliteTransactionMgr();
+        propsContainerFactory = new PropsContainerFactory(new SatellitePropDriver(), () -> transMgr);
+
+        rscA = mockResource("rscA", "a");
+        rscB = mockResource("rscB", "b");
+        rscC = mockResource("rscC", null);
+        rscDfn2Resources.add(rscC);
+        transMgr.commit();
+
+        ResourceDefinition rscDfn1 = Mockito.mock(ResourceDefinition.class);
+        Mockito.when(rscDfn1.iterateResource(API_CTX)).thenAnswer(ignored -> Arrays.asList(rscA, rscB).iterator());
+        ResourceDefinition rscDfn2 = Mockito.mock(ResourceDefinition.class);
+        Mockito.when(rscDfn2.iterateResource(API_CTX)).thenAnswer(ignored -> rscDfn2Resources.iterator());
+
+        CoreModule.ResourceDefinitionMap rscDfnMap = Mockito.mock(CoreModule.ResourceDefinitionMap.class);
+        Mockito.when(rscDfnMap.values()).thenReturn(Arrays.asList(rscDfn1, rscDfn2));
+        rscDfnRepo = Mockito.mock(ResourceDefinitionRepository.class);
+        Mockito.when(rscDfnRepo.getMapForView(API_CTX)).thenReturn(rscDfnMap);
+
+        index = new ResourcePropIndex(API_CTX, rscDfnRepo, new TransactionObjectFactory(() -> transMgr));
+    }
+
+    @Test
+    public void testSelectByValue()
+    {
+        assertEquals(Arrays.asList(rscA), index.getResources(SITE_KEY + "=a"));
+        assertEquals(Arrays.asList(rscB), index.getResources(SITE_KEY + "=b"));
+        assertTrue(index.getResources(SITE_KEY + "=c").isEmpty());
+    }
+
+    @Test
+    public void testSelectByKey()
+    {
+        assertEquals(asSet(rscA, rscB), new HashSet<>(index.getResources(SITE_KEY)));
+    }
+
+    @Test
+    public void testIndexBuiltOnce()
+        throws Exception
+    {
+        index.getResources(SITE_KEY + "=a");
+        setSite(rscC, "a");
+        transMgr.commit();
+        index.getResources(SITE_KEY + "=b");
+
+        Mockito.verify(rscDfnRepo, Mockito.times(1)).getMapForView(API_CTX);
+    }
+
+    @Test
+    public void testConsistentAfterCommit()
+        throws Exception
+    {
+        index.getResources(SITE_KEY);
+
+        setSite(rscA, "b");
+        setSite(rscC, "a");
+        rscB.getProps(API_CTX).removeProp(SITE_KEY);
+        transMgr.commit();
+
+        assertEquals(Arrays.asList(rscC), index.getResources(SITE_KEY + "=a"));
+        assertEquals(Arrays.asList(rscA), index.getResources(SITE_KEY + "=b"));
+        assertEquals(asSet(rscA, rscC), new HashSet<>(index.getResources(SITE_KEY)));
+
+        // a later rollback must not revert committed modifications
+        setSite(rscA, "c");
+        transMgr.rollback();
+
+        assertEquals(Arrays.asList(rscA), index.getResources(SITE_KEY + "=b"));
+        assertTrue(index.getResources(SITE_KEY + "=c").isEmpty());
+    }
+
+    @Test
+    public void testConsistentAfterRollback()
+        throws Exception
+    {
+        index.getResources(SITE_KEY);
+
+        setSite(rscA, "b");
+        setSite(rscC, "a");
+        rscB.getProps(API_CTX).removeProp(SITE_KEY);
+
+        // modifications are visible to the modifying transaction
+        assertEquals(Arrays.asList(rscC), index.getResources(SITE_KEY + "=a"));
+        assertEquals(Arrays.asList(rscA), index.getResources(SITE_KEY + "=b"));
+
+        transMgr.rollback();
+
+        assertEquals(Arrays.asList(rscA), index.getResources(SITE_KEY + "=a"));
+        assertEquals(Arrays.asList(rscB), index.getResources(SITE_KEY + "=b"));
+        assertEquals(asSet(rscA, rscB), new HashSet<>(index.getResources(SITE_KEY)));
+    }
+
+    @Test
+    public void testDeletedProps()
+        throws Exception
+    {
+        index.getResources(SITE_KEY);
+
+        rscA.getProps(API_CTX).delete();
+        assertEquals(Arrays.asList(rscB), index.getResources(SITE_KEY));
+
+        transMgr.rollback();
+        assertEquals(asSet(rscA, rscB), new HashSet<>(index.getResources(SITE_KEY)));
+
+        rscA.getProps(API_CTX).delete();
+        transMgr.commit();
+        assertEquals(Arrays.asList(rscB), index.getResources(SITE_KEY));
+    }
+
+    @Test
+    public void testUnnormalizedKey()
+        throws Exception
+    {
+        assertEquals(Arrays.asList(rscA), index.getResources("/" + SITE_KEY + "=a"));
+
+        setSite(rscC, "a");
+        transMgr.commit();
+
+        assertEquals(asSet(rscA, rscC), new HashSet<>(index.getResources("/Aux//site=a")));
+        assertEquals(asSet(rscA, rscC), new HashSet<>(index.getResources(SITE_KEY + "=a")));
+        Mockito.verify(rscDfnRepo, Mockito.times(1)).getMapForView(API_CTX);
+    }
+
+    @Test
+    public void testTrackedResource()
+        throws Exception
+    {
+        index.getResources(SITE_KEY);
+
+        Resource rscD = mockResource("rscD", null);
+        rscDfn2Resources.add(rscD);
+        index.track(rscD);
+        setSite(rscD, "a");
+        transMgr.commit();
+
+        assertEquals(asSet(rscA, rscD), new HashSet<>(index.getResources(SITE_KEY + "=a")));
+    }
+
+    private static Set<Resource> asSet(Resource... resources)
+    {
+        Set<Resource> ret = new HashSet<>();
+        Collections.addAll(ret, resources);
+        return ret;
+    }
+
+    private static void setSite(Resource rsc, String site)
+        throws Exception
+    {
+        rsc.getProps(API_CTX).setProp(SITE_KEY, site);
+    }
+
+    private Resource mockResource(String name, String site)
+        throws Exception
+    {
+        Props props = propsContainerFactory.getInstance(name);
+        if (site != null)
+        {
+            props.setProp(SITE_KEY, site);
+        }
+
+        Resource rsc = Mockito.mock(Resource.class);
+        Mockito.when(rsc.getProps(API_CTX)).thenReturn(props);
+        return rsc;
+    }
+}
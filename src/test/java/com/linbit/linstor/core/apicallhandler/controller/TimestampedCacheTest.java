@@ -0,0 +1,195 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiCallRcImpl;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.Volume;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import reactor.util.function.Tuples;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(JUnitParamsRunner.class)
+public class TimestampedCacheTest
+{
+    private static final long MAX_AGE = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @Parameters(method = "cacheConfigurations")
+    public void testFresh(CacheConfiguration cacheCfg)
+    {
+        TimestampedCache<Object, Object> cache = cacheCfg.create(MAX_AGE, clock::get);
+        cache.put(cacheCfg.node1Key1, cacheCfg.value);
+        clock.set(MAX_AGE);
+
+        List<Object> keys = Collections.singletonList(cacheCfg.node1Key1);
+        Map<Object, Object> fresh = cache.getFresh(keys, (value, ageNanos) -> value);
+        assertNotNull(fresh);
+        assertSame(cacheCfg.value, fresh.get(cacheCfg.node1Key1));
+        assertEquals(Long.valueOf(MAX_AGE), cache.getFresh(keys, (value, ageNanos) -> ageNanos).get(keys.get(0)));
+
+        clock.set(MAX_AGE + 1);
+        assertNull(cache.getFresh(keys, (value, ageNanos) -> value));
+    }
+
+    @Test
+    @Parameters(method = "cacheConfigurations")
+    public void testMissingKey(CacheConfiguration cacheCfg)
+    {
+        TimestampedCache<Object, Object> cache = cacheCfg.create(MAX_AGE, clock::get);
+        cache.put(cacheCfg.node1Key1, cacheCfg.value);
+
+        assertNull(cache.getFresh(Arrays.asList(cacheCfg.node1Key1, cacheCfg.node1Key2), (value, ageNanos) -> value));
+    }
+
+    @Test
+    @Parameters(method = "cacheConfigurations")
+    public void testInvalidateNode(CacheConfiguration cacheCfg) throws Exception
+    {
+        TimestampedCache<Object, Object> cache = cacheCfg.create(MAX_AGE, clock::get);
+        cache.put(cacheCfg.node1Key1, cacheCfg.value);
+        cache.put(cacheCfg.node1Key2, cacheCfg.value);
+        cache.put(cacheCfg.node2Key1, cacheCfg.value);
+
+        cache.invalidate(new NodeName("node1"));
+
+        assertNull(cache.getFresh(Collections.singletonList(cacheCfg.node1Key1), (value, ageNanos) -> value));
+        assertNull(cache.getFresh(Collections.singletonList(cacheCfg.node1Key2), (value, ageNanos) -> value));
+        assertNotNull(cache.getFresh(Collections.singletonList(cacheCfg.node2Key1), (value, ageNanos) -> value));
+    }
+
+    @Test
+    @Parameters(method = "cacheConfigurations")
+    public void testExpiredValuesDropped(CacheConfiguration cacheCfg)
+    {
+        TimestampedCache<Object, Object> cache = cacheCfg.create(MAX_AGE, clock::get);
+        cache.put(cacheCfg.node1Key1, cacheCfg.value);
+        clock.set(MAX_AGE / 2);
+        cache.put(cacheCfg.node1Key2, cacheCfg.value);
+        assertEquals(2, cache.size());
+
+        // node1Key1 is never updated again, e.g. because its storage pool or volume was deleted
+        clock.set(MAX_AGE + 1);
+        cache.put(cacheCfg.node2Key1, cacheCfg.value);
+        assertEquals(2, cache.size());
+        assertNull(cache.getFresh(Collections.singletonList(cacheCfg.node1Key1), (value, ageNanos) -> value));
+        assertNotNull(cache.getFresh(Collections.singletonList(cacheCfg.node1Key2), (value, ageNanos) -> value));
+
+        clock.set(2 * MAX_AGE + 2);
+        cache.put(cacheCfg.node2Key1, cacheCfg.value);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @Parameters(method = "cacheConfigurations")
+    public void testDisabled(CacheConfiguration cacheCfg)
+    {
+        TimestampedCache<Object, Object> cache = cacheCfg.create(0, clock::get);
+        cache.put(cacheCfg.node1Key1, cacheCfg.value);
+
+        assertNull(cache.getFresh(Collections.singletonList(cacheCfg.node1Key1), (value, ageNanos) -> value));
+    }
+
+    @Test
+    public void testVlmAllocatedAge() throws Exception
+    {
+        VlmAllocatedCache cache = new VlmAllocatedCache(MAX_AGE, clock::get);
+        Volume.Key vlmKey = new Volume.Key(new NodeName("node1"), new ResourceName("rsc"), new VolumeNumber(0));
+        cache.update(vlmKey, new VlmAllocatedResult(1024L, new ApiCallRcImpl()));
+        clock.set(MAX_AGE);
+
+        VlmAllocatedResult fresh = cache.getFresh(Collections.singletonList(vlmKey)).get(vlmKey);
+        assertEquals(1024L, fresh.getAllocatedSize());
+        assertEquals(TimeUnit.NANOSECONDS.toMillis(MAX_AGE), fresh.getAgeMillis());
+    }
+
+    @SuppressWarnings("unused")
+    private List<CacheConfiguration> cacheConfigurations() throws Exception
+    {
+        ResourceName rscName = new ResourceName("rsc");
+        return Arrays.asList(
+            new CacheConfiguration(
+                "FreeCapacityCache",
+                FreeCapacityCache::new,
+                new StorPool.Key(new NodeName("node1"), new StorPoolName("pool1")),
+                new StorPool.Key(new NodeName("node1"), new StorPoolName("pool2")),
+                new StorPool.Key(new NodeName("node2"), new StorPoolName("pool1")),
+                Tuples.of(new SpaceInfo(100L, 40L), Collections.emptyList())
+            ),
+            new CacheConfiguration(
+                "VlmAllocatedCache",
+                VlmAllocatedCache::new,
+                new Volume.Key(new NodeName("node1"), rscName, new VolumeNumber(0)),
+                new Volume.Key(new NodeName("node1"), rscName, new VolumeNumber(1)),
+                new Volume.Key(new NodeName("node2"), rscName, new VolumeNumber(0)),
+                new VlmAllocatedResult(1024L, new ApiCallRcImpl())
+            )
+        );
+    }
+
+    @FunctionalInterface
+    private interface CacheFactory
+    {
+        TimestampedCache<?, ?> create(long maxAgeNanos, LongSupplier nanoClock);
+    }
+
+    private static class CacheConfiguration
+    {
+        private final String name;
+        private final CacheFactory factory;
+        private final Object node1Key1;
+        private final Object node1Key2;
+        private final Object node2Key1;
+        private final Object value;
+
+        CacheConfiguration(
+            String nameRef,
+            CacheFactory factoryRef,
+            Object node1Key1Ref,
+            Object node1Key2Ref,
+            Object node2Key1Ref,
+            Object valueRef
+        )
+        {
+            name = nameRef;
+            factory = factoryRef;
+            node1Key1 = node1Key1Ref;
+            node1Key2 = node1Key2Ref;
+            node2Key1 = node2Key1Ref;
+            value = valueRef;
+        }
+
+        @SuppressWarnings("unchecked")
+        TimestampedCache<Object, Object> create(long maxAgeNanos, LongSupplier nanoClock)
+        {
+            return (TimestampedCache<Object, Object>) factory.create(maxAgeNanos, nanoClock);
+        }
+
+        @Override
+        public String toString()
+        {
+            return name;
+        }
+    }
+}
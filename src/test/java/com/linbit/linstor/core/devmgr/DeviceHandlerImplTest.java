@@ -0,0 +1,267 @@
+package com.linbit.linstor.core.devmgr;
+
+import com.linbit.extproc.ExtCmdFactory;
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.LinStorScope;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.SysFsHandler;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.event.common.ResourceStateEvent;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.stateflags.StateFlags;
+import com.linbit.linstor.storage.LayerFactory;
+import com.linbit.linstor.storage.StorageException;
+import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.storage.layer.DeviceLayer;
+import com.linbit.linstor.storage.layer.DeviceLayer.NotificationListener;
+import com.linbit.linstor.storage.layer.adapter.nvme.OpenflexLayer;
+import com.linbit.linstor.storage.layer.provider.StorageLayer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class DeviceHandlerImplTest
+{
+    private static final int RSC_COUNT = 8;
+    private static final int PARALLELISM = 4;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private StltConfig stltCfg;
+    private LinStorScope devMgrScope;
+    private DeviceHandlerImpl deviceHandler;
+
+    private List<Resource> rscs;
+    private final Set<String> failingRscs = ConcurrentHashMap.newKeySet();
+    private final Set<String> fatalRscs = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, AtomicInteger> processCounts = new ConcurrentHashMap<>();
+    private final Set<String> processThreads = ConcurrentHashMap.newKeySet();
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() throws Exception
+    {
+        stltCfg = Mockito.mock(StltConfig.class);
+        Mockito.when(stltCfg.getDevMgrStorPoolConcurrency()).thenReturn(1);
+        devMgrScope = new LinStorScope();
+
+        ErrorReporter errorReporter = Mockito.mock(ErrorReporter.class);
+        Mockito.when(errorReporter.reportError(any(Throwable.class), any(), any(), anyString())).thenReturn("ErrorId");
+
+        DeviceLayer layer = Mockito.mock(DeviceLayer.class);
+        Mockito.when(layer.process(any(), any(), any())).thenAnswer(this::process);
+        LayerFactory layerFactory = Mockito.mock(LayerFactory.class);
+        Mockito.when(layerFactory.getDeviceLayer(any())).thenReturn(layer);
+
+        NotificationListener listener = Mockito.mock(NotificationListener.class, recordEvent());
+        deviceHandler = new DeviceHandlerImpl(
+            null,
+            errorReporter,
+            Mockito.mock(ControllerPeerConnector.class),
+            Mockito.mock(CtrlStltSerializer.class),
+            () -> listener,
+            layerFactory,
+            Mockito.mock(OpenflexLayer.class),
+            Mockito.mock(StorageLayer.class),
+            Mockito.mock(ResourceStateEvent.class),
+            Mockito.mock(ExtCmdFactory.class),
+            Mockito.mock(SysFsHandler.class, recordEvent()),
+            stltCfg,
+            devMgrScope
+        );
+
+        rscs = new ArrayList<>();
+        for (int idx = 0; idx < RSC_COUNT; ++idx)
+        {
+            rscs.add(createResource("Rsc" + idx));
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void parallelDispatchProcessesEveryResourceOnce()
+    {
+        dispatch(PARALLELISM);
+
+        assertProcessedOnce();
+        assertTrue(processThreads.stream().allMatch(name -> name.startsWith("DevMgrDispatch-")));
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void parallelDispatchMatchesSequentialDispatch()
+    {
+        failingRscs.add("Rsc3");
+
+        List<String> sequentialEvents = dispatch(1);
+        assertProcessedOnce();
+        assertFalse(processThreads.stream().anyMatch(name -> name.startsWith("DevMgrDispatch-")));
+
+        List<String> parallelEvents = dispatch(PARALLELISM);
+        assertProcessedOnce();
+
+        assertEquals(sequentialEvents, parallelEvents);
+        assertTrue(parallelEvents.stream().anyMatch(event -> event.startsWith("notifyResourceFailed(Rsc3,")));
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void fatalErrorDoesNotBlockDispatch()
+    {
+        fatalRscs.add("Rsc2");
+
+        try
+        {
+            dispatch(PARALLELISM);
+            fail("Error of the dispatch thread was not rethrown");
+        }
+        catch (TestError expected)
+        {
+            // expected
+        }
+        // the other resources were still processed before the error was rethrown
+        assertProcessedOnce();
+
+        // the dispatch threads are still usable
+        fatalRscs.clear();
+        dispatch(PARALLELISM);
+        assertProcessedOnce();
+    }
+
+    private List<String> dispatch(int parallelism)
+    {
+        Mockito.when(stltCfg.getDevMgrDispatchParallelism()).thenReturn(parallelism);
+        processCounts.clear();
+        processThreads.clear();
+        events.clear();
+
+        devMgrScope.enter();
+        try
+        {
+            deviceHandler.dispatchResources(rscs, Collections.emptyList());
+        }
+        finally
+        {
+            devMgrScope.exit();
+        }
+        return new ArrayList<>(events);
+    }
+
+    private void assertProcessedOnce()
+    {
+        for (Resource rsc : rscs)
+        {
+            AtomicInteger count = processCounts.get(rsc.toString());
+            assertEquals(rsc.toString(), 1, count == null ? 0 : count.get());
+        }
+    }
+
+    private Object process(InvocationOnMock invocation) throws Exception
+    {
+        AbsRscLayerObject<?> rscData = invocation.getArgument(0);
+        String rscName = rscData.getSuffixedResourceName();
+        processCounts.computeIfAbsent(rscName, ignored -> new AtomicInteger()).incrementAndGet();
+        processThreads.add(Thread.currentThread().getName());
+        if (failingRscs.contains(rscName))
+        {
+            throw new StorageException("Test failure of " + rscName);
+        }
+        if (fatalRscs.contains(rscName))
+        {
+            throw new TestError();
+        }
+        return null;
+    }
+
+    /**
+     * Records the calls of the notification listener and sysfs handler, which are the results of a
+     * dispatch run that are reported to the rest of the satellite
+     */
+    private Answer<Object> recordEvent()
+    {
+        return invocation ->
+        {
+            List<String> args = new ArrayList<>();
+            for (Object arg : invocation.getArguments())
+            {
+                args.add(describe(arg));
+            }
+            events.add(invocation.getMethod().getName() + "(" + String.join(", ", args) + ")");
+            return null;
+        };
+    }
+
+    private static String describe(Object arg)
+    {
+        String ret;
+        if (arg instanceof ApiCallRc)
+        {
+            ret = ((ApiCallRc) arg).getEntries().stream()
+                .map(entry -> Long.toString(entry.getReturnCode()))
+                .collect(Collectors.joining(",", "rc[", "]"));
+        }
+        else
+        if (arg instanceof Collection)
+        {
+            ret = ((Collection<?>) arg).stream()
+                .map(DeviceHandlerImplTest::describe)
+                .collect(Collectors.joining(",", "[", "]"));
+        }
+        else
+        {
+            ret = String.valueOf(arg);
+        }
+        return ret;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Resource createResource(String name) throws Exception
+    {
+        ResourceName rscName = new ResourceName(name);
+        ResourceDefinition rscDfn = Mockito.mock(ResourceDefinition.class);
+        Mockito.when(rscDfn.getName()).thenReturn(rscName);
+
+        AbsRscLayerObject<Resource> rscData = Mockito.mock(AbsRscLayerObject.class);
+        Mockito.when(rscData.getLayerKind()).thenReturn(DeviceLayerKind.DRBD);
+        Mockito.when(rscData.getSuffixedResourceName()).thenReturn(name);
+        Mockito.when(rscData.getResourceName()).thenReturn(rscName);
+
+        StateFlags<Resource.Flags> flags = Mockito.mock(StateFlags.class);
+        Mockito.when(flags.isSet(any(), Mockito.<Resource.Flags>any())).thenReturn(false);
+        Mockito.when(flags.isUnset(any(), Mockito.<Resource.Flags>any())).thenReturn(true);
+
+        Resource rsc = Mockito.mock(Resource.class, name);
+        Mockito.when(rsc.getDefinition()).thenReturn(rscDfn);
+        Mockito.when(rsc.getLayerData(any())).thenReturn(rscData);
+        Mockito.when(rsc.getStateFlags()).thenReturn(flags);
+        Mockito.when(rsc.iterateVolumes()).thenAnswer(ignored -> Collections.emptyIterator());
+        return rsc;
+    }
+
+    private static class TestError extends Error
+    {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,81 @@
+package com.linbit.linstor.drbdstate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class Events2ParserTest
+{
+    @Test
+    public void testParse() throws Exception
+    {
+        Events2Parser parser = new Events2Parser();
+        byte[] line = bytes(
+            "xxchange peer-device name:rsc1 peer-node-id:1 conn-name:node2 volume:0 " +
+                "replication:SyncSource peer-disk:Inconsistent done:12.34 unknown:value xx"
+        );
+
+        assertThat(parser.parse(line, 2, line.length - 5)).isTrue();
+        assertThat(parser.getAction()).isSameAs(DrbdEventsMonitor.ACTION_CHANGE);
+        assertThat(parser.getObjType()).isSameAs(DrbdEventsMonitor.OBJ_PEER_VOLUME);
+        assertThat(parser.getProps()).containsOnly(
+            entry(DrbdResource.PROP_KEY_RES_NAME, "rsc1"),
+            entry(DrbdConnection.PROP_KEY_PEER_NODE_ID, "1"),
+            entry(DrbdConnection.PROP_KEY_CONN_NAME, "node2"),
+            entry(DrbdVolume.PROP_KEY_VOL_NR, "0"),
+            entry(DrbdVolume.PROP_KEY_REPLICATION, "SyncSource"),
+            entry(DrbdVolume.PROP_KEY_PEER_DISK, "Inconsistent"),
+            entry(DrbdVolume.PROP_KEY_DONE, "12.34")
+        );
+    }
+
+    @Test
+    public void testValuesArePooled() throws Exception
+    {
+        Events2Parser parser = new Events2Parser();
+        byte[] line = bytes("change resource name:rsc1 role:Primary suspended:no");
+
+        parser.parse(line, 0, line.length);
+        Map<String, String> props = parser.getProps();
+        String name = props.get(DrbdResource.PROP_KEY_RES_NAME);
+        String role = props.get(DrbdResource.PROP_KEY_ROLE);
+
+        parser.parse(line, 0, line.length);
+        assertThat(parser.getProps().get(DrbdResource.PROP_KEY_RES_NAME)).isSameAs(name);
+        assertThat(parser.getProps().get(DrbdResource.PROP_KEY_ROLE)).isSameAs(role);
+    }
+
+    @Test
+    public void testSpecialLines() throws Exception
+    {
+        Events2Parser parser = new Events2Parser();
+
+        assertThat(parser.parse(new byte[0], 0, 0)).isFalse();
+
+        byte[] endOfInit = bytes("exists  -");
+        assertThat(parser.parse(endOfInit, 0, endOfInit.length)).isTrue();
+        assertThat(parser.getAction()).isEqualTo(DrbdEventsMonitor.ACTION_EXISTS);
+        assertThat(parser.getObjType()).isEqualTo(DrbdEventsMonitor.OBJ_END_OF_INIT);
+        assertThat(parser.getProps()).isEmpty();
+
+        byte[] helper = bytes("call helper name:rsc1 helper:before-resync-target");
+        assertThat(parser.parse(helper, 0, helper.length)).isTrue();
+        assertThat(parser.getAction()).isEqualTo("call");
+    }
+
+    @Test(expected = EventsSourceException.class)
+    public void testMissingObjectType() throws Exception
+    {
+        byte[] line = bytes("change ");
+        new Events2Parser().parse(line, 0, line.length);
+    }
+
+    private static byte[] bytes(String str)
+    {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+}
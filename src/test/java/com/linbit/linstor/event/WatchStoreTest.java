@@ -5,12 +5,15 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import reactor.core.Disposable;
 
+import com.linbit.linstor.LinStorDataAlreadyExistsException;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 
 import java.util.UUID;
 
+import static org.junit.Assert.assertEquals;
+
 
 public class WatchStoreTest
 {
@@ -92,6 +95,36 @@ public class WatchStoreTest
         Mockito.verify(otherPeerDisposable, Mockito.never()).dispose();
     }
 
+    @Test(expected = LinStorDataAlreadyExistsException.class)
+    public void addDuplicateWatch()
+        throws Exception
+    {
+        watchStore.addWatch(new Watch(UUID.randomUUID(), "TestPeer", 3, resourceEventIdentifier),
+            Mockito.mock(Disposable.class));
+        watchStore.addWatch(new Watch(UUID.randomUUID(), "TestPeer", 3, volumeEventIdentifier),
+            Mockito.mock(Disposable.class));
+    }
+
+    @Test
+    public void getWatchCount()
+        throws Exception
+    {
+        watchStore.addWatch(new Watch(UUID.randomUUID(), "TestPeer", 1, resourceEventIdentifier),
+            Mockito.mock(Disposable.class));
+        watchStore.addWatch(new Watch(UUID.randomUUID(), "TestPeer", 2, volumeEventIdentifier),
+            Mockito.mock(Disposable.class));
+        watchStore.addWatch(new Watch(UUID.randomUUID(), "OtherPeer", 1, globalEventIdentifier),
+            Mockito.mock(Disposable.class));
+        assertEquals(3, watchStore.getWatchCount());
+
+        watchStore.removeWatchForPeerAndId("TestPeer", 1);
+        watchStore.removeWatchForPeerAndId("TestPeer", 2);
+        assertEquals(1, watchStore.getWatchCount());
+
+        watchStore.removeWatchesForPeer("OtherPeer");
+        assertEquals(0, watchStore.getWatchCount());
+    }
+
     private Watch makeWatch(EventIdentifier resourceEventIdentifier)
     {
         return new Watch(UUID.randomUUID(), null, 0, resourceEventIdentifier);
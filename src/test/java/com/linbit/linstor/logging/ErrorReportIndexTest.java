@@ -0,0 +1,76 @@
+package com.linbit.linstor.logging;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorReportIndexTest
+{
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void testFind() throws Exception
+    {
+        Path logDir = tmpFolder.newFolder().toPath();
+        ErrorReportIndex index = ErrorReportIndex.forDirectory(logDir);
+        addReport(logDir, index, "AAAA-000000", 1000);
+        addReport(logDir, index, "AAAA-000001", 2000);
+        addReport(logDir, index, "BBBB-000000", 3000);
+
+        assertThat(ids(index.find(null, null, Collections.emptySet())))
+            .containsExactly("AAAA-000000", "AAAA-000001", "BBBB-000000");
+        assertThat(ids(index.find(1000L, null, Collections.emptySet())))
+            .containsExactly("AAAA-000001", "BBBB-000000");
+        assertThat(ids(index.find(null, 3000L, Collections.emptySet())))
+            .containsExactly("AAAA-000000", "AAAA-000001");
+        assertThat(ids(index.find(null, null, Collections.singleton("AAAA"))))
+            .containsExactlyInAnyOrder("AAAA-000000", "AAAA-000001");
+        assertThat(ids(index.find(1500L, null, Arrays.asList("AAAA", "BBBB-000000"))))
+            .containsExactlyInAnyOrder("AAAA-000001", "BBBB-000000");
+        assertThat(ids(index.findOlderThan(2000))).containsExactly("AAAA-000000");
+    }
+
+    @Test
+    public void testReloadAndCompaction() throws Exception
+    {
+        Path logDir = tmpFolder.newFolder().toPath();
+        ErrorReportIndex index = ErrorReportIndex.forDirectory(logDir);
+        addReport(logDir, index, "AAAA-000000", 1000);
+        addReport(logDir, index, "AAAA-000001", 2000);
+        // report that was written without index, e.g. by an older version
+        Files.createFile(logDir.resolve(StdErrorReporter.RPT_PREFIX + "CCCC-000000" + StdErrorReporter.RPT_SUFFIX));
+
+        // archived report
+        Files.delete(logDir.resolve(StdErrorReporter.RPT_PREFIX + "AAAA-000000" + StdErrorReporter.RPT_SUFFIX));
+        index.remove(Collections.singleton("AAAA-000000"));
+        // manually deleted report
+        Files.delete(logDir.resolve(StdErrorReporter.RPT_PREFIX + "AAAA-000001" + StdErrorReporter.RPT_SUFFIX));
+
+        ErrorReportIndex.clearCache();
+        ErrorReportIndex reloaded = ErrorReportIndex.forDirectory(logDir);
+        assertThat(ids(reloaded.find(null, null, Collections.emptySet()))).containsExactly("CCCC-000000");
+        assertThat(Files.readAllLines(logDir.resolve(ErrorReportIndex.INDEX_FILE_NAME))).hasSize(1);
+    }
+
+    private static void addReport(Path logDir, ErrorReportIndex index, String reportId, long timestamp)
+        throws Exception
+    {
+        Files.createFile(logDir.resolve(StdErrorReporter.RPT_PREFIX + reportId + StdErrorReporter.RPT_SUFFIX));
+        index.add(new ErrorReportIndex.Entry(reportId, timestamp, "node", "SATELLITE", "java.lang.Exception"));
+    }
+
+    private static List<String> ids(List<ErrorReportIndex.Entry> entries)
+    {
+        return entries.stream().map(ErrorReportIndex.Entry::getReportId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,84 @@
+package com.linbit.linstor.metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountingSchedulerTest
+{
+    private CountingScheduler scheduler;
+    private CountDownLatch blockLatch;
+    private CountDownLatch startedLatch;
+
+    @Before
+    public void setUp()
+    {
+        scheduler = new CountingScheduler(Schedulers.newSingle("CountingSchedulerTest"));
+        blockLatch = new CountDownLatch(1);
+        startedLatch = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown()
+    {
+        blockLatch.countDown();
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testPendingTasks() throws Exception
+    {
+        scheduler.schedule(this::block);
+        assertTrue(startedLatch.await(10, TimeUnit.SECONDS));
+        CountDownLatch doneLatch = new CountDownLatch(2);
+        scheduler.schedule(doneLatch::countDown);
+        scheduler.schedule(doneLatch::countDown);
+
+        // the running task is not pending anymore
+        assertEquals(2, scheduler.getPendingTaskCount());
+
+        blockLatch.countDown();
+        assertTrue(doneLatch.await(10, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    public void testDisposedTasks() throws Exception
+    {
+        Scheduler.Worker worker = scheduler.createWorker();
+        worker.schedule(this::block);
+        assertTrue(startedLatch.await(10, TimeUnit.SECONDS));
+        Disposable disposedTask = scheduler.schedule(() -> { });
+        worker.schedule(() -> { });
+        worker.schedule(() -> { });
+        assertEquals(3, scheduler.getPendingTaskCount());
+
+        disposedTask.dispose();
+        assertEquals(2, scheduler.getPendingTaskCount());
+
+        worker.dispose();
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    private void block()
+    {
+        startedLatch.countDown();
+        try
+        {
+            blockLatch.await();
+        }
+        catch (InterruptedException ignored)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
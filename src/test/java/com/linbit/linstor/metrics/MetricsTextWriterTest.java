@@ -0,0 +1,93 @@
+package com.linbit.linstor.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsTextWriterTest
+{
+    @Test
+    public void testHistogram()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(50_000L);
+        histogram.record(3_000_000L);
+        histogram.record(60_000_000_000L);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(60_003_050_000L, histogram.getDurationSumNanos());
+        assertEquals(60_000_000_000L, histogram.getDurationMaxNanos());
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[5]);
+        assertEquals(1, counts[counts.length - 1]);
+    }
+
+    @Test
+    public void testWriteHistograms()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(200_000L);
+        histogram.record(2_000_000_000L);
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        histograms.put("CrtNode", histogram);
+
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.latencyHistograms("test_seconds", "Test", "api_call", histograms);
+        String output = writer.toString();
+
+        assertTrue(output.startsWith("# HELP test_seconds Test\n# TYPE test_seconds histogram\n"));
+        assertTrue(output.contains("test_seconds_bucket{api_call=\"CrtNode\",le=\"0.0001\"} 0\n"));
+        assertTrue(output.contains("test_seconds_bucket{api_call=\"CrtNode\",le=\"0.00025\"} 1\n"));
+        assertTrue(output.contains("test_seconds_bucket{api_call=\"CrtNode\",le=\"2.5\"} 2\n"));
+        assertTrue(output.contains("test_seconds_bucket{api_call=\"CrtNode\",le=\"+Inf\"} 2\n"));
+        assertTrue(output.contains("test_seconds_sum{api_call=\"CrtNode\"} 2.0002\n"));
+        assertTrue(output.contains("test_seconds_count{api_call=\"CrtNode\"} 2\n"));
+    }
+
+    @Test
+    public void testWriteUnlabeled()
+    {
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.latencyHistograms("test_seconds", "Test", null, Collections.singletonMap(null, new LatencyHistogram()));
+        writer.gauges("test_depth", "Depth", null, Collections.singletonMap(null, 7L));
+        String output = writer.toString();
+
+        assertTrue(output.contains("test_seconds_bucket{le=\"30\"} 0\n"));
+        assertTrue(output.contains("test_seconds_sum 0\n"));
+        assertTrue(output.contains("test_seconds_count 0\n"));
+        assertTrue(output.contains("# TYPE test_depth gauge\ntest_depth 7\n"));
+    }
+
+    @Test
+    public void testMillisecondBuckets()
+    {
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.header("test_seconds", "Test", "histogram");
+        writer.histogram(
+            "test_seconds",
+            "command",
+            "drbdadm adjust",
+            MetricsTextWriter.bucketLabels(new long[] {1, 500}, 3),
+            new long[] {1, 0, 2},
+            MetricsTextWriter.toSeconds(1501, 3)
+        );
+        String output = writer.toString();
+
+        assertTrue(output.contains("test_seconds_bucket{command=\"drbdadm adjust\",le=\"0.001\"} 1\n"));
+        assertTrue(output.contains("test_seconds_bucket{command=\"drbdadm adjust\",le=\"0.5\"} 1\n"));
+        assertTrue(output.contains("test_seconds_bucket{command=\"drbdadm adjust\",le=\"+Inf\"} 3\n"));
+        assertTrue(output.contains("test_seconds_sum{command=\"drbdadm adjust\"} 1.501\n"));
+    }
+
+    @Test
+    public void testEscape()
+    {
+        assertEquals("a\\\"b\\\\c\\n", MetricsTextWriter.escape("a\"b\\c\n"));
+    }
+}
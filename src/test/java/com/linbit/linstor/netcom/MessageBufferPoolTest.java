@@ -0,0 +1,65 @@
+package com.linbit.linstor.netcom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class MessageBufferPoolTest
+{
+    private static final int KIB = 1024;
+    private static final int MIB = 1024 * KIB;
+
+    private MessageBufferPool pool;
+
+    @Before
+    public void setUp()
+    {
+        pool = new MessageBufferPool();
+    }
+
+    @Test
+    public void testSmallBuffersExactSize()
+    {
+        byte[] buffer = pool.acquire(100);
+        assertEquals(100, buffer.length);
+
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(100));
+    }
+
+    @Test
+    public void testSizeClasses()
+    {
+        assertEquals(64 * KIB, pool.acquire(64 * KIB).length);
+        assertEquals(128 * KIB, pool.acquire(64 * KIB + 1).length);
+        assertEquals(4 * MIB, pool.acquire(3 * MIB).length);
+        assertEquals(Message.DEFAULT_MAX_DATA_SIZE, pool.acquire(Message.DEFAULT_MAX_DATA_SIZE).length);
+    }
+
+    @Test
+    public void testReuse()
+    {
+        byte[] buffer = pool.acquire(5 * MIB);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(6 * MIB));
+        assertNotSame(buffer, pool.acquire(6 * MIB));
+    }
+
+    @Test
+    public void testPooledMessageData() throws Exception
+    {
+        MessageData msg = new MessageData(false);
+        msg.setPooledData(pool, 100 * KIB);
+        byte[] buffer = msg.getData();
+
+        assertEquals(100 * KIB, msg.getDataLength());
+        assertEquals(100 * KIB, msg.getDataBuffer().remaining());
+        assertEquals(128 * KIB, buffer.length);
+
+        msg.release();
+        assertSame(buffer, pool.acquire(128 * KIB));
+    }
+}
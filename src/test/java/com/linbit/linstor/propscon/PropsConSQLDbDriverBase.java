@@ -38,7 +38,7 @@ public class PropsConSQLDbDriverBase extends GenericDbBase
     public void setUp() throws Exception
     {
         super.setUpAndEnterScope();
-        dbDriver = new PropsConSQLDbDriver(errorReporter, transMgrProvider);
+        dbDriver = new PropsConSQLDbDriver(errorReporter, transMgrProvider, dbConnPool);
     }
 
     protected String debugGetAllProps() throws SQLException
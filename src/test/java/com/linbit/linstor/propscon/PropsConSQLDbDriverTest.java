@@ -3,7 +3,9 @@ package com.linbit.linstor.propscon;
 import org.junit.Test;
 
 import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -205,4 +207,78 @@ public class PropsConSQLDbDriverTest extends PropsConSQLDbDriverBase
         checkExpectedMap(map1, props1);
         checkExpectedMap(map2, props2);
     }
+
+    @Test
+    public void testPrefetchMatchesLoadAll() throws Throwable
+    {
+        truncate();
+        Map<String, String> map1 = new HashMap<>();
+        map1.put("a", "b");
+        map1.put("a/c", "d");
+        Map<String, String> map2 = new HashMap<>();
+        map2.put("g", "h");
+        map2.put("g/j", "k");
+        insert("INSTANCE_1", map1);
+        insert("INSTANCE_2", map2);
+
+        // "Instance_3" has no props at all, the lower case name must be found like in loadAll
+        List<String> instanceNames = Arrays.asList("INSTANCE_1", "instance_2", "Instance_3");
+        checkPrefetchMatchesLoadAll(instanceNames);
+        assertEquals(map1, dbDriver.loadAll("INSTANCE_1"));
+        assertEquals(map2, dbDriver.loadAll("INSTANCE_2"));
+        assertTrue(dbDriver.loadAll("INSTANCE_3").isEmpty());
+    }
+
+    @Test
+    public void testPrefetchEmptyTable() throws Throwable
+    {
+        truncate();
+        checkPrefetchMatchesLoadAll(Arrays.asList(DEFAULT_INSTANCE_NAME, "INSTANCE_1"));
+        assertTrue(dbDriver.loadAll(DEFAULT_INSTANCE_NAME).isEmpty());
+    }
+
+    @Test
+    public void testPrefetchReturnsIndependentMaps() throws Throwable
+    {
+        truncate();
+        insert(DEFAULT_INSTANCE_NAME, "a", "b");
+
+        dbDriver.prefetchAll();
+        try
+        {
+            // the props container takes ownership of the returned map, so every call must return a new one
+            dbDriver.loadAll(DEFAULT_INSTANCE_NAME).put("x", "y");
+            Map<String, String> expected = new HashMap<>();
+            expected.put("a", "b");
+            assertEquals(expected, dbDriver.loadAll(DEFAULT_INSTANCE_NAME));
+        }
+        finally
+        {
+            dbDriver.clearPrefetched();
+        }
+    }
+
+    private void checkPrefetchMatchesLoadAll(List<String> instanceNames) throws Throwable
+    {
+        Map<String, Map<String, String>> loaded = new HashMap<>();
+        for (String instanceName : instanceNames)
+        {
+            loaded.put(instanceName, dbDriver.loadAll(instanceName));
+        }
+
+        Map<String, Map<String, String>> prefetched = new HashMap<>();
+        dbDriver.prefetchAll();
+        try
+        {
+            for (String instanceName : instanceNames)
+            {
+                prefetched.put(instanceName, dbDriver.loadAll(instanceName));
+            }
+        }
+        finally
+        {
+            dbDriver.clearPrefetched();
+        }
+        assertEquals(loaded, prefetched);
+    }
 }
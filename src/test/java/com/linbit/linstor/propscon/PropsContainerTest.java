@@ -369,6 +369,44 @@ public class PropsContainerTest extends GenericDbBase
         assertTrue("Missing expected entries", map.isEmpty());
     }
 
+    @Test
+    public void testCommittedLookups() throws Throwable
+    {
+        root.clear();
+        root.setProp("a", "a");
+        root.setProp("x/y/z", "xyz");
+        root.setProp("w", "xw", "x");
+
+        transMgrProvider.get().commit();
+
+        assertEquals("xyz", root.getProp("x/y/z"));
+        assertEquals("xyz", root.getProp("z", "x/y"));
+        assertEquals("xyz", root.getProp("z", "/x/y"));
+        assertEquals("xyz", root.getProp("/x//y/z/"));
+        assertEquals("xyz", root.getNamespace("x").get().getProp("y/z"));
+        assertEquals("xyz", root.getNamespace("x").get().getProp("z", "/x/y"));
+        assertNull(root.getProp("y/z"));
+
+        Map<String, String> expectedNamespace = new HashMap<>();
+        expectedNamespace.put("x/y/z", "xyz");
+        expectedNamespace.put("x/w", "xw");
+        assertEquals(expectedNamespace, root.getNamespaceEntries("x"));
+        assertEquals(expectedNamespace, root.getNamespaceEntries("/x/"));
+        assertTrue(root.getNamespaceEntries("y").isEmpty());
+
+        root.setProp("x/y/z", "changed");
+        assertEquals("changed", root.getProp("z", "x/y"));
+
+        transMgrProvider.get().rollback();
+        assertEquals("xyz", root.getProp("z", "x/y"));
+
+        root.removeProp("x/w");
+        assertNull(root.getProp("w", "x"));
+        transMgrProvider.get().commit();
+        assertNull(root.getProp("w", "x"));
+        assertEquals(1, root.getNamespaceEntries("x").size());
+    }
+
     @Test
     public void testSetAllPropsWithNamespace() throws Throwable
     {
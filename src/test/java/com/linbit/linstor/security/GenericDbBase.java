@@ -6,6 +6,7 @@ import com.linbit.linstor.ControllerDatabase;
 import com.linbit.linstor.ControllerLinstorModule;
 import com.linbit.linstor.InitializationException;
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.annotation.ErrorReporterContext;
 import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.LinStorScope;
@@ -369,7 +370,24 @@ public abstract class GenericDbBase implements GenericDbTestConstants
 
     protected Connection getConnection()
     {
-        return transMgrProvider.get().getConnection();
+        return getConnection(transMgrProvider.get());
+    }
+
+    /**
+     * Returns the connection of the transaction after executing the writes that the drivers queued so far, so
+     * that the statements of the tests see them and are executed after them
+     */
+    protected static Connection getConnection(TransactionMgrSQL transMgr)
+    {
+        try
+        {
+            transMgr.getWriteBatch().flush();
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new LinStorDBRuntimeException("Executing the pending writes failed", sqlExc);
+        }
+        return transMgr.getConnection();
     }
 
     protected Connection getNewConnection() throws SQLException
@@ -464,7 +482,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     @SuppressWarnings("checkstyle:magicnumber")
     public void insertIdentity(TransactionMgrSQL transMgr, IdentityName name) throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(
             "INSERT INTO " + TBL_SEC_IDENTITIES +
                 " (" + IDENTITY_NAME + ", " + IDENTITY_DSP_NAME + ") " +
                 " VALUES (?, ?)"
@@ -478,7 +496,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     @SuppressWarnings("checkstyle:magicnumber")
     public void insertSecType(TransactionMgrSQL transMgr, SecTypeName name) throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(
             "INSERT INTO " + TBL_SEC_TYPES +
                 " (" + TYPE_NAME + ", " + TYPE_DSP_NAME + ") " +
                 " VALUES (?, ?)"
@@ -492,7 +510,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     @SuppressWarnings("checkstyle:magicnumber")
     public void insertRole(TransactionMgrSQL transMgr, RoleName name, SecTypeName domain) throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(
             "INSERT INTO " + TBL_SEC_ROLES +
                 " (" + ROLE_NAME + ", " + ROLE_DSP_NAME + ", " + DOMAIN_NAME + ") " +
                 " VALUES (?, ?, ?)"
@@ -512,7 +530,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_SEC_OBJECT_PROTECTION);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_SEC_OBJECT_PROTECTION);
         stmt.setString(1, objPath);
         stmt.setString(2, accCtx.subjectId.name.value);
         stmt.setString(3, accCtx.subjectRole.name.value);
@@ -557,7 +575,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_NODE_NET_INTERFACES);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_NODE_NET_INTERFACES);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, nodeName.value);
         stmt.setString(3, netName.value);
@@ -577,7 +595,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_NODE_CONNECTIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_NODE_CONNECTIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, sourceNodeName.value);
         stmt.setString(3, targetNodeName.value);
@@ -595,7 +613,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_RESOURCE_CONNECTIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_RESOURCE_CONNECTIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, sourceNodeName.value);
         stmt.setString(3, targetNodeName.value);
@@ -615,7 +633,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_VOLUME_CONNECTIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_VOLUME_CONNECTIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, sourceNodeName.value);
         stmt.setString(3, targetNodeName.value);
@@ -634,7 +652,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_RESOURCE_DEFINITIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_RESOURCE_DEFINITIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, resName.value);
         stmt.setString(3, resName.displayValue);
@@ -654,7 +672,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_RESOURCES);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_RESOURCES);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, nodeName.value);
         stmt.setString(3, resName.value);
@@ -676,7 +694,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_VOLUME_DEFINITIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_VOLUME_DEFINITIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, resName.value);
         stmt.setInt(3, volId.value);
@@ -701,7 +719,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_VOLUMES);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_VOLUMES);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, nodeName.value);
         stmt.setString(3, resName.value);
@@ -722,7 +740,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_STOR_POOL_DEFINITIONS);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_STOR_POOL_DEFINITIONS);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, poolName.value);
         stmt.setString(3, poolName.displayValue);
@@ -740,7 +758,7 @@ public abstract class GenericDbBase implements GenericDbTestConstants
     )
         throws SQLException
     {
-        PreparedStatement stmt = transMgr.getConnection().prepareStatement(INSERT_NODE_STOR_POOL);
+        PreparedStatement stmt = getConnection(transMgr).prepareStatement(INSERT_NODE_STOR_POOL);
         stmt.setString(1, uuid.toString());
         stmt.setString(2, nodeName.value);
         stmt.setString(3, poolName.value);
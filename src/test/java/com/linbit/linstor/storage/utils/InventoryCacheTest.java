@@ -0,0 +1,44 @@
+package com.linbit.linstor.storage.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InventoryCacheTest
+{
+    @Test
+    public void testCachedUntilInvalidated() throws Exception
+    {
+        InventoryCache<Integer> cache = new InventoryCache<>("test");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(new HashSet<>(Arrays.asList("vg1", "vg2")), loads::incrementAndGet)).isEqualTo(1);
+        // the order of the pools must not matter
+        assertThat(cache.get(new HashSet<>(Arrays.asList("vg2", "vg1")), loads::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.get(Collections.singleton("vg3"), loads::incrementAndGet)).isEqualTo(2);
+
+        cache.invalidateIf("vg1"::equals);
+        assertThat(cache.get(new HashSet<>(Arrays.asList("vg1", "vg2")), loads::incrementAndGet)).isEqualTo(3);
+        assertThat(cache.get(Collections.singleton("vg3"), loads::incrementAndGet)).isEqualTo(2);
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getLoadCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testExpired() throws Exception
+    {
+        InventoryCache<Integer> cache = new InventoryCache<>("test", 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Collections.singleton("vg1"), loads::incrementAndGet);
+        cache.get(Collections.singleton("vg1"), loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -67,6 +67,13 @@ public class DummyTxObj implements TransactionObject, Comparable<DummyTxObj>
         call("commit");
     }
 
+    @Override
+    public long getLastChangeId()
+    {
+        call("getLastChangeId");
+        return 0;
+    }
+
     @Override
     public int compareTo(DummyTxObj oRef)
     {
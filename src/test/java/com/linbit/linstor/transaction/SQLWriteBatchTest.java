@@ -0,0 +1,291 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgr;
+import com.linbit.linstor.transaction.manager.SQLTableDependencies;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SQLWriteBatchTest
+{
+    private static final String INSERT = "INSERT INTO A VALUES(?)";
+    private static final String DELETE = "DELETE FROM A WHERE X = ?";
+
+    // RSC <- LAYER_IDS <- STOR_VLMS, PROPS has no foreign keys
+    private static final String INSERT_RSC = " INSERT INTO RSC (NAME) VALUES (?)";
+    private static final String INSERT_LAYER_ID = " INSERT INTO LAYER_IDS (ID, RSC_NAME) VALUES (?, ?)";
+    private static final String INSERT_STOR_VLM = " INSERT INTO STOR_VLMS (LAYER_ID, VLM_NR) VALUES (?, ?)";
+    private static final String INSERT_PROP = " INSERT INTO PROPS (INSTANCE, KEY, VALUE) VALUES (?, ?, ?)";
+    private static final String DELETE_RSC = " DELETE FROM RSC WHERE NAME = ?";
+    private static final String DELETE_LAYER_ID = " DELETE FROM LAYER_IDS WHERE ID = ?";
+    private static final String UPDATE_RSC = " UPDATE RSC SET FLAGS = ? WHERE NAME = ?";
+
+    private Connection dbCon;
+    private PreparedStatement insertStmt;
+    private PreparedStatement deleteStmt;
+    private SQLWriteBatch batch;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        dbCon = mock(Connection.class);
+        insertStmt = mock(PreparedStatement.class);
+        deleteStmt = mock(PreparedStatement.class);
+        when(dbCon.prepareStatement(INSERT)).thenReturn(insertStmt);
+        when(dbCon.prepareStatement(DELETE)).thenReturn(deleteStmt);
+        batch = new SQLWriteBatch(dbCon, SQLTableDependencies.UNKNOWN);
+    }
+
+    @Test
+    public void testSameStatementIsBatched() throws Exception
+    {
+        assertSame(insertStmt, batch.prepare(INSERT));
+        batch.addBatch();
+        assertSame(insertStmt, batch.prepare(INSERT));
+        batch.addBatch();
+
+        verify(dbCon, times(1)).prepareStatement(INSERT);
+        verify(insertStmt, never()).executeBatch();
+
+        batch.flush();
+        verify(insertStmt, times(1)).executeBatch();
+        verify(insertStmt).close();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void testOrderIsKept() throws Exception
+    {
+        batch.prepare(INSERT);
+        batch.addBatch();
+        batch.prepare(DELETE);
+        batch.addBatch();
+        batch.prepare(INSERT);
+        batch.addBatch();
+        batch.flush();
+
+        InOrder order = inOrder(insertStmt, deleteStmt);
+        order.verify(insertStmt).executeBatch();
+        order.verify(deleteStmt).executeBatch();
+        order.verify(insertStmt).executeBatch();
+    }
+
+    @Test
+    public void testDiscard() throws Exception
+    {
+        batch.prepare(INSERT);
+        batch.addBatch();
+        batch.discard();
+
+        verify(insertStmt, never()).executeBatch();
+        verify(insertStmt).close();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void testMaxBatchSize() throws Exception
+    {
+        batch.prepare(INSERT);
+        for (int idx = 0; idx < SQLWriteBatch.MAX_BATCH_SIZE; ++idx)
+        {
+            batch.addBatch();
+        }
+        verify(insertStmt, times(1)).executeBatch();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void testRoundTripsOfCreatingResources() throws Exception
+    {
+        Map<String, PreparedStatement> stmts = mockStatements();
+        batch = new SQLWriteBatch(dbCon, resourceSchema());
+
+        int rscCount = 100;
+        for (int rscIdx = 0; rscIdx < rscCount; ++rscIdx)
+        {
+            // similar to creating a resource with its properties and layer data
+            write(INSERT_RSC);
+            write(INSERT_PROP);
+            write(INSERT_LAYER_ID);
+            write(INSERT_STOR_VLM);
+            write(INSERT_PROP);
+        }
+
+        // one round trip per statement instead of one per written row (500)
+        assertEquals(4, batch.getPendingBatchCount());
+        batch.flush();
+
+        for (PreparedStatement stmt : stmts.values())
+        {
+            verify(stmt, Mockito.atMost(1)).executeBatch();
+        }
+        verify(stmts.get(INSERT_PROP), times(2 * rscCount)).addBatch();
+        verify(dbCon, times(4)).prepareStatement(anyString());
+
+        // referenced rows are still written first
+        InOrder order = inOrder(stmts.get(INSERT_RSC), stmts.get(INSERT_LAYER_ID), stmts.get(INSERT_STOR_VLM));
+        order.verify(stmts.get(INSERT_RSC)).executeBatch();
+        order.verify(stmts.get(INSERT_LAYER_ID)).executeBatch();
+        order.verify(stmts.get(INSERT_STOR_VLM)).executeBatch();
+    }
+
+    @Test
+    public void testInsertIsNotMovedBeforeReferencedTable() throws Exception
+    {
+        mockStatements();
+        batch = new SQLWriteBatch(dbCon, resourceSchema());
+
+        write(INSERT_LAYER_ID);
+        write(INSERT_RSC);
+        // might reference the resource inserted above
+        write(INSERT_LAYER_ID);
+
+        assertEquals(3, batch.getPendingBatchCount());
+    }
+
+    @Test
+    public void testDeleteIsNotMovedBeforeReferencingTable() throws Exception
+    {
+        mockStatements();
+        batch = new SQLWriteBatch(dbCon, resourceSchema());
+
+        write(DELETE_RSC);
+        write(DELETE_LAYER_ID);
+        // the deleted layer id might have referenced this resource
+        write(DELETE_RSC);
+        assertEquals(3, batch.getPendingBatchCount());
+
+        batch.discard();
+        // children first, as the drivers delete them
+        write(DELETE_LAYER_ID);
+        write(DELETE_RSC);
+        write(DELETE_LAYER_ID);
+        write(DELETE_RSC);
+        assertEquals(2, batch.getPendingBatchCount());
+    }
+
+    @Test
+    public void testSameTableIsNotReordered() throws Exception
+    {
+        mockStatements();
+        batch = new SQLWriteBatch(dbCon, resourceSchema());
+
+        write(INSERT_RSC);
+        write(UPDATE_RSC);
+        write(INSERT_RSC);
+
+        assertEquals(3, batch.getPendingBatchCount());
+    }
+
+    @Test
+    public void testUnknownDependenciesOnlyBatchConsecutiveWrites() throws Exception
+    {
+        mockStatements();
+
+        write(INSERT_RSC);
+        write(INSERT_PROP);
+        write(INSERT_RSC);
+        write(INSERT_RSC);
+
+        assertEquals(3, batch.getPendingBatchCount());
+    }
+
+    @Test
+    public void testPendingRowKeys() throws Exception
+    {
+        batch.prepare(INSERT);
+        batch.addBatch("A:1");
+
+        assertTrue(batch.isPending("A:1"));
+        assertFalse(batch.isPending("A:2"));
+
+        batch.flush();
+        assertFalse(batch.isPending("A:1"));
+    }
+
+    @Test
+    public void testFailedBatchIsReportedOnCommit() throws Exception
+    {
+        ControllerSQLDatabase ctrlDb = mock(ControllerSQLDatabase.class);
+        when(ctrlDb.getConnection()).thenReturn(dbCon);
+        when(ctrlDb.getTableDependencies()).thenReturn(SQLTableDependencies.UNKNOWN);
+        when(insertStmt.executeBatch()).thenThrow(new BatchUpdateException());
+
+        ControllerSQLTransactionMgr transMgr = new ControllerSQLTransactionMgr(ctrlDb);
+        transMgr.getWriteBatch().prepare(INSERT);
+        transMgr.getWriteBatch().addBatch();
+
+        // reads do not execute the pending writes
+        assertSame(dbCon, transMgr.getConnection());
+        verify(insertStmt, never()).executeBatch();
+
+        try
+        {
+            transMgr.commit();
+            fail("commit must fail");
+        }
+        catch (TransactionException expected)
+        {
+            assertTrue(expected.getCause() instanceof DatabaseException);
+        }
+        verify(dbCon, never()).commit();
+    }
+
+    private void write(String sql) throws Exception
+    {
+        batch.prepare(sql);
+        batch.addBatch();
+    }
+
+    private Map<String, PreparedStatement> mockStatements() throws Exception
+    {
+        Map<String, PreparedStatement> stmts = new HashMap<>();
+        for (String sql : Arrays.asList(
+            INSERT_RSC, INSERT_LAYER_ID, INSERT_STOR_VLM, INSERT_PROP, DELETE_RSC, DELETE_LAYER_ID, UPDATE_RSC
+        ))
+        {
+            PreparedStatement stmt = mock(PreparedStatement.class);
+            when(dbCon.prepareStatement(sql)).thenReturn(stmt);
+            stmts.put(sql, stmt);
+        }
+        return stmts;
+    }
+
+    private static SQLTableDependencies resourceSchema()
+    {
+        Map<String, Set<String>> references = new HashMap<>();
+        references.put("RSC", Collections.emptySet());
+        references.put("LAYER_IDS", Collections.singleton("RSC"));
+        references.put("STOR_VLMS", new HashSet<>(Collections.singletonList("LAYER_IDS")));
+        references.put("PROPS", Collections.emptySet());
+        return new SQLTableDependencies(references);
+    }
+}
@@ -2,6 +2,7 @@ package com.linbit.linstor.transaction;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import com.linbit.linstor.dbdrivers.DatabaseException;
 
@@ -111,4 +112,21 @@ public class TransactionSimpleObjectTest
         dummyTxMgr.rollback();
         assertNull(txObj.get());
     }
+
+    @Test
+    public void lastChangeId() throws DatabaseException
+    {
+        assertEquals(0, txObj.getLastChangeId());
+
+        txObj.set(new DummyTxObj());
+        assertEquals(0, txObj.getLastChangeId());
+
+        dummyTxMgr.commit();
+        long committedId = txObj.getLastChangeId();
+        assertTrue(committedId > 0);
+
+        txObj.set(new DummyTxObj());
+        dummyTxMgr.rollback();
+        assertTrue(txObj.getLastChangeId() > committedId);
+    }
 }
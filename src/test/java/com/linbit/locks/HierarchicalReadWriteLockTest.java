@@ -0,0 +1,136 @@
+package com.linbit.locks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HierarchicalReadWriteLockTest
+{
+    private HierarchicalReadWriteLock lock;
+    private ExecutorService otherThread;
+
+    @Before
+    public void setUp()
+    {
+        lock = new HierarchicalReadWriteLock();
+        otherThread = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown()
+    {
+        otherThread.shutdownNow();
+    }
+
+    private boolean tryLockInOtherThread(Lock otherLock) throws Exception
+    {
+        return otherThread.submit(() ->
+        {
+            boolean acquired = otherLock.tryLock();
+            if (acquired)
+            {
+                otherLock.unlock();
+            }
+            return acquired;
+        }).get();
+    }
+
+    @Test
+    public void testIntentionWriteLocksAreCompatible() throws Exception
+    {
+        lock.intentionWriteLock().lock();
+        lock.objectWriteLock("RSC1").lock();
+
+        assertTrue(tryLockInOtherThread(lock.intentionWriteLock()));
+        assertTrue(tryLockInOtherThread(lock.intentionReadLock()));
+        assertTrue(tryLockInOtherThread(lock.objectWriteLock("RSC2")));
+        assertFalse(tryLockInOtherThread(lock.objectReadLock("RSC1")));
+        assertFalse(tryLockInOtherThread(lock.readLock()));
+        assertFalse(tryLockInOtherThread(lock.writeLock()));
+
+        lock.objectWriteLock("RSC1").unlock();
+        lock.intentionWriteLock().unlock();
+        assertTrue(tryLockInOtherThread(lock.writeLock()));
+        assertEquals(0, lock.getObjectLockCount());
+    }
+
+    @Test
+    public void testReadLock() throws Exception
+    {
+        lock.readLock().lock();
+
+        assertTrue(tryLockInOtherThread(lock.readLock()));
+        assertTrue(tryLockInOtherThread(lock.intentionReadLock()));
+        assertFalse(tryLockInOtherThread(lock.intentionWriteLock()));
+        assertFalse(tryLockInOtherThread(lock.writeLock()));
+
+        lock.readLock().unlock();
+    }
+
+    @Test
+    public void testWriteLockIsReentrant() throws Exception
+    {
+        lock.writeLock().lock();
+        lock.readLock().lock();
+        lock.intentionWriteLock().lock();
+        assertTrue(lock.isWriteLocked());
+        assertFalse(tryLockInOtherThread(lock.intentionReadLock()));
+
+        lock.intentionWriteLock().unlock();
+        lock.readLock().unlock();
+        lock.writeLock().unlock();
+        assertFalse(lock.isWriteLocked());
+        assertTrue(tryLockInOtherThread(lock.intentionReadLock()));
+    }
+
+    @Test
+    public void testWaitingWriterBlocksNewIntentionLocks() throws Exception
+    {
+        lock.intentionWriteLock().lock();
+
+        ExecutorService writerThread = Executors.newSingleThreadExecutor();
+        try
+        {
+            writerThread.submit(() ->
+            {
+                lock.writeLock().lock();
+                lock.writeLock().unlock();
+            });
+            while (!lock.hasQueuedThreads())
+            {
+                Thread.sleep(1);
+            }
+
+            boolean acquired = otherThread.submit(
+                () -> lock.intentionWriteLock().tryLock(10, TimeUnit.MILLISECONDS)
+            ).get();
+            assertFalse(acquired);
+
+            // the current thread already holds an intention lock and may still acquire further ones
+            assertTrue(lock.intentionReadLock().tryLock(10, TimeUnit.MILLISECONDS));
+            lock.intentionReadLock().unlock();
+        }
+        finally
+        {
+            lock.intentionWriteLock().unlock();
+            writerThread.shutdown();
+            assertTrue(writerThread.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertFalse(lock.isWriteLocked());
+    }
+
+    @Test(expected = IllegalMonitorStateException.class)
+    public void testUnlockWithoutLock()
+    {
+        lock.intentionReadLock().unlock();
+    }
+}
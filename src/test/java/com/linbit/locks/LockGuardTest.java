@@ -0,0 +1,140 @@
+package com.linbit.locks;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.metrics.LatencyHistogram;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class LockGuardTest
+{
+    private LatencyHistogram waitTimes1;
+    private LatencyHistogram holdTimes1;
+    private LatencyHistogram waitTimes2;
+    private LatencyHistogram holdTimes2;
+
+    private Lock lock1;
+    private Lock lock2;
+    private Lock lock3;
+
+    @Before
+    public void setUp()
+    {
+        waitTimes1 = new LatencyHistogram();
+        holdTimes1 = new LatencyHistogram();
+        waitTimes2 = new LatencyHistogram();
+        holdTimes2 = new LatencyHistogram();
+
+        lock1 = new ReentrantLock();
+        lock2 = new ReentrantLock();
+        lock3 = new ReentrantLock();
+    }
+
+    private LockGuard createGuard(boolean deferred, Lock... locks)
+    {
+        // lock1 forms the first group, the remaining locks the second one
+        LatencyHistogram[] waitTimes = new LatencyHistogram[locks.length];
+        LatencyHistogram[] holdTimes = new LatencyHistogram[locks.length];
+        for (int idx = 0; idx < locks.length; ++idx)
+        {
+            waitTimes[idx] = idx == 0 ? waitTimes1 : waitTimes2;
+            holdTimes[idx] = idx == 0 ? holdTimes1 : holdTimes2;
+        }
+        return new LockGuard(deferred, locks, waitTimes, holdTimes);
+    }
+
+    @Test
+    public void testOneSamplePerGroup()
+    {
+        try (LockGuard ignored = createGuard(false, lock1, lock2, lock3))
+        {
+            assertEquals(1, waitTimes1.getCount());
+            assertEquals(1, waitTimes2.getCount());
+            assertEquals(0, holdTimes1.getCount());
+            assertEquals(0, holdTimes2.getCount());
+        }
+        assertEquals(1, holdTimes1.getCount());
+        assertEquals(1, holdTimes2.getCount());
+    }
+
+    @Test
+    public void testNoHoldTimeWithoutLock()
+    {
+        LockGuard guard = createGuard(true, lock1, lock2, lock3);
+        guard.close();
+
+        assertEquals(0, waitTimes1.getCount());
+        assertEquals(0, holdTimes1.getCount());
+        assertEquals(0, holdTimes2.getCount());
+    }
+
+    @Test
+    public void testHoldTimeRecordedOncePerLock()
+    {
+        LockGuard guard = createGuard(true, lock1, lock2);
+        guard.lock();
+        guard.unlock();
+        guard.close();
+        guard.lock();
+        guard.close();
+
+        assertEquals(2, waitTimes1.getCount());
+        assertEquals(2, holdTimes1.getCount());
+        assertEquals(2, holdTimes2.getCount());
+    }
+
+    @Test
+    public void testNoHoldTimeAfterFailedLock()
+    {
+        Lock failingLock = new ReentrantLock()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void lock()
+            {
+                throw new IllegalStateException("lock failed");
+            }
+        };
+        LockGuard guard = createGuard(true, lock1, lock2, failingLock);
+        try
+        {
+            guard.lock();
+            fail("lock() should have failed");
+        }
+        catch (IllegalStateException expected)
+        {
+            // expected
+        }
+        guard.close();
+
+        assertEquals(1, waitTimes1.getCount());
+        assertEquals(0, holdTimes1.getCount());
+        assertEquals(0, holdTimes2.getCount());
+        assertFalse(((ReentrantLock) lock1).isLocked());
+        assertFalse(((ReentrantLock) lock2).isLocked());
+    }
+
+    @Test(expected = ImplementationError.class)
+    public void testHoldTimesRequireWaitTimes()
+    {
+        new LockGuard(true, new Lock[] {lock1}, null, new LatencyHistogram[] {holdTimes1});
+    }
+
+    @Test
+    public void testWithoutHistograms()
+    {
+        try (LockGuard ignored = LockGuard.createLocked(lock1, lock2))
+        {
+            assertEquals(0, waitTimes1.getCount());
+        }
+        assertFalse(((ReentrantLock) lock1).isLocked());
+    }
+}